@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import org.apache.ignite.Ignition;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.benchmarks.jmh.JmhAbstractBenchmark;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.benchmarks.model.IntValue;
+import org.apache.ignite.internal.benchmarks.model.Order;
+import org.apache.ignite.internal.benchmarks.model.Person;
+import org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi;
+import org.apache.ignite.spi.discovery.tcp.ipfinder.vm.TcpDiscoveryVmIpFinder;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.profile.GCProfiler;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+/**
+ * Base class for benchmarks of marshalling of values. Values of several shapes are benchmarked: a tiny
+ * {@link IntValue}, a {@link Person} with many fields of different types and a nested object and an {@link Order}
+ * with a list of nested objects, a map and an array.
+ * <p>
+ * A single node is started to get binary and marshaller contexts set up the same way as in a real cluster.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(NANOSECONDS)
+@BenchmarkMode(AverageTime)
+public abstract class JmhBinaryAbstractBenchmark extends JmhAbstractBenchmark {
+    /** Number of distinct values of the shape. */
+    protected static final int CNT = 1024;
+
+    /** Cache name. */
+    protected static final String CACHE_NAME = "default";
+
+    /** Shape of values. */
+    @Param({"IntValue", "Person", "Order"})
+    protected String shape;
+
+    /** Node. */
+    protected IgniteEx node;
+
+    /** Values. */
+    protected Object[] vals;
+
+    /**
+     * Setup routine. Child classes must invoke this method first.
+     *
+     * @throws Exception If failed.
+     */
+    @Setup
+    public void setup() throws Exception {
+        node = (IgniteEx)Ignition.start(configuration());
+
+        vals = new Object[CNT];
+
+        for (int i = 0; i < CNT; i++)
+            vals[i] = value(i);
+    }
+
+    /**
+     * Tear down routine.
+     */
+    @TearDown
+    public void tearDown() {
+        Ignition.stopAll(true);
+    }
+
+    /**
+     * @param id ID.
+     * @return Value of the benchmarked shape.
+     */
+    private Object value(int id) {
+        switch (shape) {
+            case "IntValue":
+                return new IntValue(id);
+
+            case "Person":
+                return new Person(id);
+
+            case "Order":
+                return new Order(id);
+
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    /**
+     * @return Name of a string or int field of values of the benchmarked shape.
+     */
+    protected String fieldName() {
+        switch (shape) {
+            case "IntValue":
+                return "id";
+
+            case "Person":
+                return "email";
+
+            case "Order":
+                return "status";
+
+            default:
+                throw new IllegalArgumentException("Unknown shape: " + shape);
+        }
+    }
+
+    /**
+     * @return Index of a random value.
+     */
+    protected static int randomIdx() {
+        return randomInt(CNT);
+    }
+
+    /**
+     * @return Configuration.
+     */
+    private static IgniteConfiguration configuration() {
+        TcpDiscoverySpi discoSpi = new TcpDiscoverySpi();
+
+        discoSpi.setIpFinder(new TcpDiscoveryVmIpFinder(true));
+
+        return new IgniteConfiguration()
+            .setIgniteInstanceName("node0")
+            .setLocalHost("127.0.0.1")
+            .setDiscoverySpi(discoSpi)
+            .setCacheConfiguration(new CacheConfiguration<>(CACHE_NAME));
+    }
+
+    /**
+     * Runs benchmarks of the class with the GC profiler, which reports allocation rates.
+     *
+     * @param cls Benchmark class.
+     * @throws Exception If failed.
+     */
+    protected static void run(Class<? extends JmhBinaryAbstractBenchmark> cls) throws Exception {
+        JmhIdeBenchmarkRunner.create()
+            .forks(1)
+            .threads(1)
+            .warmupIterations(5)
+            .measurementIterations(10)
+            .benchmarks(cls.getSimpleName())
+            .profilers(GCProfiler.class)
+            .jvmArguments("-Xms2g", "-Xmx2g")
+            .run();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.internal.binary.GridBinaryMarshaller;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Marshalling of values to and from the binary format. Values are marshalled with {@link GridBinaryMarshaller},
+ * which only wraps {@code BinaryWriterExImpl} and {@code BinaryReaderExImpl}.
+ */
+public class JmhBinaryMarshallerBenchmark extends JmhBinaryAbstractBenchmark {
+    /** Marshaller. */
+    private GridBinaryMarshaller marsh;
+
+    /** Marshalled values. */
+    private byte[][] bytes;
+
+    /** Binary objects of values. */
+    private BinaryObject[] objs;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        super.setup();
+
+        marsh = ((CacheObjectBinaryProcessorImpl)node.context().cacheObjects()).marshaller();
+
+        bytes = new byte[CNT][];
+        objs = new BinaryObject[CNT];
+
+        for (int i = 0; i < CNT; i++) {
+            bytes[i] = marsh.marshal(vals[i], false);
+            objs[i] = node.binary().toBinary(vals[i]);
+        }
+    }
+
+    /**
+     * Marshals a value.
+     *
+     * @return Marshalled value.
+     */
+    @Benchmark
+    public byte[] marshal() {
+        return marsh.marshal(vals[randomIdx()], false);
+    }
+
+    /**
+     * Unmarshals a value.
+     *
+     * @return Value.
+     */
+    @Benchmark
+    public Object unmarshal() {
+        return marsh.deserialize(bytes[randomIdx()], null);
+    }
+
+    /**
+     * Converts a value to a binary object.
+     *
+     * @return Binary object.
+     */
+    @Benchmark
+    public BinaryObject toBinary() {
+        return node.binary().toBinary(vals[randomIdx()]);
+    }
+
+    /**
+     * Deserializes a binary object.
+     *
+     * @return Value.
+     */
+    @Benchmark
+    public Object deserialize() {
+        return objs[randomIdx()].deserialize();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        run(JmhBinaryMarshallerBenchmark.class);
+    }
+}
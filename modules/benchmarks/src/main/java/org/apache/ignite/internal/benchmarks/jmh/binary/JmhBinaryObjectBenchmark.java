@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import org.apache.ignite.binary.BinaryField;
+import org.apache.ignite.binary.BinaryObject;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Access to fields of binary objects and their modification with builders.
+ */
+public class JmhBinaryObjectBenchmark extends JmhBinaryAbstractBenchmark {
+    /** Binary objects of values. */
+    private BinaryObject[] objs;
+
+    /** Name of the accessed field. */
+    private String fldName;
+
+    /** Accessed field. */
+    private BinaryField fld;
+
+    /** Value set to the field by builders. */
+    private Object fldVal;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        super.setup();
+
+        objs = new BinaryObject[CNT];
+
+        for (int i = 0; i < CNT; i++)
+            objs[i] = node.binary().toBinary(vals[i]);
+
+        fldName = fieldName();
+        fld = objs[0].type().field(fldName);
+        fldVal = objs[0].field(fldName);
+    }
+
+    /**
+     * Reads a field by name.
+     *
+     * @return Field value.
+     */
+    @Benchmark
+    public Object field() {
+        return objs[randomIdx()].field(fldName);
+    }
+
+    /**
+     * Reads a field with a cached {@link BinaryField}.
+     *
+     * @return Field value.
+     */
+    @Benchmark
+    public Object binaryField() {
+        return fld.value(objs[randomIdx()]);
+    }
+
+    /**
+     * Rebuilds a binary object without changes.
+     *
+     * @return Binary object.
+     */
+    @Benchmark
+    public BinaryObject rebuild() {
+        return objs[randomIdx()].toBuilder().build();
+    }
+
+    /**
+     * Sets a field of a binary object with a builder.
+     *
+     * @return Binary object.
+     */
+    @Benchmark
+    public BinaryObject setField() {
+        return objs[randomIdx()].toBuilder().setField(fldName, fldVal).build();
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        run(JmhBinaryObjectBenchmark.class);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Conversion of values to and from cache objects as done by cache updates and reads.
+ */
+public class JmhCacheObjectBenchmark extends JmhBinaryAbstractBenchmark {
+    /** Cache object processor. */
+    private IgniteCacheObjectProcessor proc;
+
+    /** Cache object context. */
+    private CacheObjectContext coCtx;
+
+    /** Bytes of cache objects of values. */
+    private byte[][] bytes;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        super.setup();
+
+        proc = node.context().cacheObjects();
+        coCtx = node.cachex(CACHE_NAME).context().cacheObjectContext();
+
+        bytes = new byte[CNT][];
+
+        for (int i = 0; i < CNT; i++)
+            bytes[i] = toBytes(vals[i]);
+    }
+
+    /**
+     * Converts a value to a cache object and marshals it, as done on update.
+     *
+     * @return Bytes of the cache object.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public byte[] toCacheObject() throws IgniteCheckedException {
+        return toBytes(vals[randomIdx()]);
+    }
+
+    /**
+     * Creates a cache object from bytes and gets its value, as done on read.
+     *
+     * @return Value.
+     */
+    @Benchmark
+    public Object fromCacheObject() {
+        CacheObject obj = proc.toCacheObject(coCtx, CacheObject.TYPE_BINARY, bytes[randomIdx()]);
+
+        return obj.value(coCtx, false);
+    }
+
+    /**
+     * @param val Value.
+     * @return Bytes of the cache object.
+     * @throws IgniteCheckedException If failed.
+     */
+    private byte[] toBytes(Object val) throws IgniteCheckedException {
+        CacheObject obj = proc.toCacheObject(coCtx, val, true);
+
+        obj.prepareMarshal(coCtx);
+
+        return obj.valueBytes(coCtx);
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        run(JmhCacheObjectBenchmark.class);
+    }
+}
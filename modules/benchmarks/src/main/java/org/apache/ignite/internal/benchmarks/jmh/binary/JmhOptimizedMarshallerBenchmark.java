@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.jmh.binary;
+
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.marshaller.optimized.OptimizedMarshaller;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Marshalling of values with {@link OptimizedMarshaller}, which is used for values not supported by
+ * the binary format. Results are comparable with {@link JmhBinaryMarshallerBenchmark}.
+ */
+public class JmhOptimizedMarshallerBenchmark extends JmhBinaryAbstractBenchmark {
+    /** Marshaller. */
+    private OptimizedMarshaller marsh;
+
+    /** Marshalled values. */
+    private byte[][] bytes;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        super.setup();
+
+        marsh = new OptimizedMarshaller();
+
+        marsh.setContext(node.context().marshallerContext());
+
+        bytes = new byte[CNT][];
+
+        for (int i = 0; i < CNT; i++)
+            bytes[i] = marsh.marshal(vals[i]);
+    }
+
+    /**
+     * @return Marshalled value.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public byte[] marshal() throws IgniteCheckedException {
+        return marsh.marshal(vals[randomIdx()]);
+    }
+
+    /**
+     * @return Value.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Benchmark
+    public Object unmarshal() throws IgniteCheckedException {
+        return marsh.unmarshal(bytes[randomIdx()], U.gridClassLoader());
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        run(JmhOptimizedMarshallerBenchmark.class);
+    }
+}
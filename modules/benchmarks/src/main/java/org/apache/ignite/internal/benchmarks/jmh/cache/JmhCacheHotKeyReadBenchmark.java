@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.benchmarks.jmh.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.benchmarks.jmh.runner.JmhIdeBenchmarkRunner;
+import org.apache.ignite.internal.benchmarks.model.IntValue;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Reads of a few hot keys of an on-heap cache by many threads. Shows how reads of the same entries scale with
+ * the number of threads, since such reads do not acquire the entry lock.
+ */
+@SuppressWarnings("unchecked")
+public class JmhCacheHotKeyReadBenchmark extends JmhCacheAbstractBenchmark {
+    /** Number of hot keys. */
+    private static final int HOT_KEYS = 4;
+
+    /** {@inheritDoc} */
+    @Override public void setup() throws Exception {
+        super.setup();
+
+        for (int i = 0; i < HOT_KEYS; i++)
+            cache.put(i, new IntValue(i));
+
+        System.out.println("Cache populated.");
+    }
+
+    /** {@inheritDoc} */
+    @Override protected CacheConfiguration cacheConfiguration() {
+        return super.cacheConfiguration().setOnheapCacheEnabled(true);
+    }
+
+    /**
+     * Test GET operation.
+     *
+     * @return Value.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object get() throws Exception {
+        return cache.get(ThreadLocalRandom.current().nextInt(HOT_KEYS));
+    }
+
+    /**
+     * Test on-heap local peek operation.
+     *
+     * @return Value.
+     * @throws Exception If failed.
+     */
+    @Benchmark
+    public Object localPeek() throws Exception {
+        return cache.localPeek(ThreadLocalRandom.current().nextInt(HOT_KEYS), CachePeekMode.ONHEAP);
+    }
+
+    /**
+     * Run benchmarks.
+     *
+     * @param args Arguments.
+     * @throws Exception If failed.
+     */
+    public static void main(String[] args) throws Exception {
+        for (int threads : new int[] {1, 2, 4, 8, 16}) {
+            run("get", threads, CacheAtomicityMode.ATOMIC);
+            run("get", threads, CacheAtomicityMode.TRANSACTIONAL);
+            run("localPeek", threads, CacheAtomicityMode.ATOMIC);
+        }
+    }
+
+    /**
+     * Run benchmark.
+     *
+     * @param benchmark Benchmark to run.
+     * @param threads Amount of threads.
+     * @param atomicityMode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private static void run(String benchmark, int threads, CacheAtomicityMode atomicityMode) throws Exception {
+        String simpleClsName = JmhCacheHotKeyReadBenchmark.class.getSimpleName();
+
+        String output = simpleClsName + "-" + benchmark +
+            "-" + threads + "-threads" +
+            "-" + atomicityMode;
+
+        JmhIdeBenchmarkRunner.create()
+            .forks(1)
+            .threads(threads)
+            .warmupIterations(10)
+            .measurementIterations(20)
+            .benchmarks(simpleClsName + "." + benchmark)
+            .output(output + ".jmh.log")
+            .jvmArguments(
+                "-Xms2g",
+                "-Xmx2g",
+                JmhIdeBenchmarkRunner.createProperty(PROP_ATOMICITY_MODE, atomicityMode),
+                JmhIdeBenchmarkRunner.createProperty(PROP_DATA_NODES, 1))
+            .run();
+    }
+}
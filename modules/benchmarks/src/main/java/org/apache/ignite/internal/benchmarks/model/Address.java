@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.model;
+
+import java.io.Serializable;
+
+/**
+ * Address, nested into {@link Person}.
+ */
+public class Address implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Street. */
+    private String street;
+
+    /** City. */
+    private String city;
+
+    /** Zip code. */
+    private int zip;
+
+    /**
+     * @param street Street.
+     * @param city City.
+     * @param zip Zip code.
+     */
+    public Address(String street, String city, int zip) {
+        this.street = street;
+        this.city = city;
+        this.zip = zip;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Order with a collection of nested lines and a map of attributes.
+ */
+public class Order implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Number of lines. */
+    public static final int LINES = 10;
+
+    /** ID. */
+    private long id;
+
+    /** Customer ID. */
+    private long customerId;
+
+    /** Status. */
+    private String status;
+
+    /** Lines. */
+    private List<OrderLine> lines;
+
+    /** Attributes. */
+    private Map<String, String> attrs;
+
+    /** Tags. */
+    private String[] tags;
+
+    /**
+     * @param id ID.
+     */
+    public Order(long id) {
+        this.id = id;
+
+        customerId = id % 1000;
+        status = "NEW";
+
+        lines = new ArrayList<>(LINES);
+
+        for (int i = 0; i < LINES; i++)
+            lines.add(new OrderLine("SKU-" + (id + i) % 10000, 1 + i, 9.99 * (i + 1)));
+
+        attrs = new HashMap<>();
+
+        attrs.put("channel", "web");
+        attrs.put("currency", "USD");
+        attrs.put("coupon", "C" + id % 100);
+        attrs.put("warehouse", "W" + id % 7);
+
+        tags = new String[] {"priority", "gift"};
+    }
+}
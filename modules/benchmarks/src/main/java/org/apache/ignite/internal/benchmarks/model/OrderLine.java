@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.model;
+
+import java.io.Serializable;
+
+/**
+ * Line of an {@link Order}.
+ */
+public class OrderLine implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Product code. */
+    private String product;
+
+    /** Quantity. */
+    private int qty;
+
+    /** Price. */
+    private double price;
+
+    /**
+     * @param product Product code.
+     * @param qty Quantity.
+     * @param price Price.
+     */
+    public OrderLine(String product, int qty, double price) {
+        this.product = product;
+        this.qty = qty;
+        this.price = price;
+    }
+}
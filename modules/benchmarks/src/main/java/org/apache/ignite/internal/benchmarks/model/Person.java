@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.benchmarks.model;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Person with many fields of different types and a nested address.
+ */
+public class Person implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** ID. */
+    private long id;
+
+    /** Organization ID. */
+    private UUID orgId;
+
+    /** First name. */
+    private String firstName;
+
+    /** Last name. */
+    private String lastName;
+
+    /** Email. */
+    private String email;
+
+    /** Phone. */
+    private String phone;
+
+    /** Age. */
+    private int age;
+
+    /** Salary. */
+    private double salary;
+
+    /** Rating. */
+    private float rating;
+
+    /** Active flag. */
+    private boolean active;
+
+    /** Department code. */
+    private short dept;
+
+    /** Level. */
+    private byte level;
+
+    /** Registration date. */
+    private Date registered;
+
+    /** Last login timestamp. */
+    private long lastLogin;
+
+    /** Login count. */
+    private int logins;
+
+    /** Title. */
+    private String title;
+
+    /** Address. */
+    private Address addr;
+
+    /**
+     * @param id ID.
+     */
+    public Person(long id) {
+        this.id = id;
+
+        orgId = new UUID(id, id * 31);
+        firstName = "First" + id;
+        lastName = "Last" + id;
+        email = "person" + id + "@example.com";
+        phone = "+1-555-" + (1000000 + id % 1000000);
+        age = 20 + (int)(id % 50);
+        salary = 1000.0 + id;
+        rating = id % 10 / 2f;
+        active = id % 2 == 0;
+        dept = (short)(id % 100);
+        level = (byte)(id % 8);
+        registered = new Date(1_500_000_000_000L + id * 1000);
+        lastLogin = 1_600_000_000_000L + id;
+        logins = (int)id * 3;
+        title = "Senior software engineer";
+        addr = new Address(id + " Main street", "City" + id % 100, 10000 + (int)(id % 90000));
+    }
+}
@@ -0,0 +1,474 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.exec;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.query.calcite.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheColumnDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.schema.CacheTableDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.schema.ColumnDescriptor;
+import org.apache.ignite.internal.processors.query.calcite.util.TypeUtils;
+import org.apache.ignite.internal.util.lang.GridCursor;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * On-heap columnar cache of numeric and boolean columns of a table.
+ * <p>
+ * Values of the cached columns are kept per partition in primitive arrays with null bitmaps, so a table scan which
+ * needs only these columns does not read and deserialize cache rows. Partition data is built by the first scan of
+ * the partition and is dropped by any update of a row of the table in the partition, so the next scan rebuilds it.
+ *
+ * @see org.apache.ignite.IgniteSystemProperties#IGNITE_CALCITE_COLUMNAR_CACHE_TABLES
+ */
+public class ColumnarCache {
+    /** Initial capacity of columns of a partition. */
+    private static final int INIT_CAP = 1024;
+
+    /** */
+    private final CacheTableDescriptor desc;
+
+    /** Columns of the table by indexes in the table row. */
+    private final CacheColumnDescriptor[] colDescs;
+
+    /** Indexes of cached columns in the table row. */
+    private final ImmutableBitSet cols;
+
+    /** Numbers of updates of rows of the table per partition. */
+    private final AtomicLongArray updates;
+
+    /** Cached columns per partition. */
+    private final AtomicReferenceArray<PartitionColumns> parts;
+
+    /**
+     * @param desc Table descriptor.
+     * @param partsCnt Number of partitions of the cache.
+     */
+    public ColumnarCache(CacheTableDescriptor desc, int partsCnt) {
+        this.desc = desc;
+
+        colDescs = new CacheColumnDescriptor[desc.columnDescriptors().size()];
+
+        ImmutableBitSet.Builder b = ImmutableBitSet.builder();
+
+        for (ColumnDescriptor col : desc.columnDescriptors()) {
+            colDescs[col.fieldIndex()] = (CacheColumnDescriptor)col;
+
+            if (supported(col.storageType()))
+                b.set(col.fieldIndex());
+        }
+
+        cols = b.build();
+        updates = new AtomicLongArray(partsCnt);
+        parts = new AtomicReferenceArray<>(partsCnt);
+    }
+
+    /**
+     * @param requiredCols Required columns or {@code null} if all columns are required.
+     * @return {@code True} if all required columns are cached.
+     */
+    public boolean covers(@Nullable ImmutableBitSet requiredCols) {
+        return requiredCols == null ? cols.cardinality() == colDescs.length : cols.contains(requiredCols);
+    }
+
+    /**
+     * Drops cached columns of the partition.
+     *
+     * @param part Partition.
+     */
+    public void onRowUpdated(int part) {
+        if (part < 0 || part >= parts.length()) {
+            for (int i = 0; i < parts.length(); i++)
+                onRowUpdated(i);
+
+            return;
+        }
+
+        updates.incrementAndGet(part);
+
+        parts.set(part, null);
+    }
+
+    /**
+     * Gets cached columns of the partition, building them if needed.
+     *
+     * @param ectx Execution context.
+     * @param part Reserved partition.
+     * @return Columns of the partition.
+     * @throws IgniteCheckedException If failed.
+     */
+    public PartitionColumns columns(ExecutionContext<?> ectx, GridDhtLocalPartition part) throws IgniteCheckedException {
+        int p = part.id();
+
+        PartitionColumns res = parts.get(p);
+
+        if (res != null && res.updates == updates.get(p))
+            return res;
+
+        long updates0 = updates.get(p);
+
+        res = build(ectx, part, updates0);
+
+        // Rows updated during the build may be missed, such columns are used only by the current scan.
+        if (updates.get(p) == updates0)
+            parts.set(p, res);
+
+        return res;
+    }
+
+    /**
+     * @param ectx Execution context.
+     * @param part Partition.
+     * @param updates0 Number of updates of the partition before the build.
+     * @return Columns of the partition.
+     * @throws IgniteCheckedException If failed.
+     */
+    private PartitionColumns build(ExecutionContext<?> ectx, GridDhtLocalPartition part, long updates0)
+        throws IgniteCheckedException {
+        GridCacheContext<?, ?> cctx = desc.cacheContext();
+
+        PartitionColumns res = new PartitionColumns(updates0, colDescs.length);
+
+        for (int i = cols.nextSetBit(0); i != -1; i = cols.nextSetBit(i + 1))
+            res.cols[i] = column(colDescs[i].storageType());
+
+        GridCursor<? extends CacheDataRow> cur = part.dataStore().cursor(cctx.cacheId());
+
+        while (cur.next()) {
+            CacheDataRow row = cur.get();
+
+            if (!desc.match(row))
+                continue;
+
+            int idx = res.add(row.expireTime());
+
+            for (int i = cols.nextSetBit(0); i != -1; i = cols.nextSetBit(i + 1)) {
+                CacheColumnDescriptor col = colDescs[i];
+
+                res.cols[i].set(idx, TypeUtils.toInternal(ectx, col.value(ectx, cctx, row), col.storageType()));
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * @param type Storage type.
+     * @return {@code True} if columns of the type can be cached.
+     */
+    private static boolean supported(Class<?> type) {
+        return type == Long.class || type == long.class || type == Integer.class || type == int.class ||
+            type == Short.class || type == short.class || type == Byte.class || type == byte.class ||
+            type == Double.class || type == double.class || type == Float.class || type == float.class ||
+            type == Boolean.class || type == boolean.class;
+    }
+
+    /**
+     * @param type Storage type.
+     * @return Empty column.
+     */
+    private static Column column(Class<?> type) {
+        type = U.box(type);
+
+        if (type == Long.class)
+            return new LongColumn();
+        else if (type == Double.class || type == Float.class)
+            return new DoubleColumn(type == Float.class);
+        else if (type == Boolean.class)
+            return new BooleanColumn();
+        else
+            return new IntColumn(type);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ColumnarCache.class, this);
+    }
+
+    /**
+     * Cached columns of a partition.
+     */
+    public static class PartitionColumns {
+        /** Number of updates of the partition the columns are built for. */
+        private final long updates;
+
+        /** Columns by indexes in the table row, {@code null} for columns which are not cached. */
+        private final Column[] cols;
+
+        /** Expire times of rows or {@code null} if no row expires. */
+        private long[] expireTimes;
+
+        /** Number of rows. */
+        private int size;
+
+        /** Capacity of columns. */
+        private int cap;
+
+        /**
+         * @param updates Number of updates of the partition.
+         * @param colsCnt Number of columns of the table.
+         */
+        private PartitionColumns(long updates, int colsCnt) {
+            this.updates = updates;
+
+            cols = new Column[colsCnt];
+        }
+
+        /**
+         * Adds a row.
+         *
+         * @param expireTime Expire time of the row.
+         * @return Index of the row.
+         */
+        private int add(long expireTime) {
+            if (size == cap) {
+                cap = cap == 0 ? INIT_CAP : cap << 1;
+
+                for (Column col : cols) {
+                    if (col != null)
+                        col.capacity(cap);
+                }
+
+                if (expireTimes != null)
+                    expireTimes = Arrays.copyOf(expireTimes, cap);
+            }
+
+            if (expireTime > 0) {
+                if (expireTimes == null)
+                    expireTimes = new long[cap];
+
+                expireTimes[size] = expireTime;
+            }
+
+            return size++;
+        }
+
+        /**
+         * @return Number of rows.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @param idx Row index.
+         * @param now Current time.
+         * @return {@code True} if the row is expired.
+         */
+        public boolean expired(int idx, long now) {
+            return expireTimes != null && expireTimes[idx] > 0 && expireTimes[idx] <= now;
+        }
+
+        /**
+         * @param idx Row index.
+         * @param factory Row factory.
+         * @param requiredCols Required columns or {@code null} if all columns are required.
+         * @return Row.
+         */
+        public <Row> Row toRow(int idx, RowFactory<Row> factory, @Nullable ImmutableBitSet requiredCols) {
+            RowHandler<Row> hnd = factory.handler();
+
+            Row res = factory.create();
+
+            if (requiredCols == null) {
+                for (int i = 0; i < cols.length; i++)
+                    hnd.set(i, res, cols[i].get(idx));
+            }
+            else {
+                for (int i = 0, j = requiredCols.nextSetBit(0); j != -1; j = requiredCols.nextSetBit(j + 1), i++)
+                    hnd.set(i, res, cols[j].get(idx));
+            }
+
+            return res;
+        }
+    }
+
+    /**
+     * Column of primitive values with a null bitmap.
+     */
+    private abstract static class Column {
+        /** Null bitmap. */
+        long[] nulls = new long[0];
+
+        /**
+         * @param idx Row index.
+         * @param val Value.
+         */
+        void set(int idx, @Nullable Object val) {
+            if (val == null)
+                nulls[idx >>> 6] |= 1L << idx;
+            else
+                set0(idx, val);
+        }
+
+        /**
+         * @param idx Row index.
+         * @return Value.
+         */
+        @Nullable Object get(int idx) {
+            return (nulls[idx >>> 6] & (1L << idx)) != 0 ? null : get0(idx);
+        }
+
+        /**
+         * @param cap New capacity.
+         */
+        void capacity(int cap) {
+            nulls = Arrays.copyOf(nulls, (cap + 63) >>> 6);
+        }
+
+        /**
+         * @param idx Row index.
+         * @param val Non-null value.
+         */
+        abstract void set0(int idx, Object val);
+
+        /**
+         * @param idx Row index.
+         * @return Non-null value.
+         */
+        abstract Object get0(int idx);
+    }
+
+    /** */
+    private static class LongColumn extends Column {
+        /** */
+        private long[] vals = new long[0];
+
+        /** {@inheritDoc} */
+        @Override void capacity(int cap) {
+            super.capacity(cap);
+
+            vals = Arrays.copyOf(vals, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override void set0(int idx, Object val) {
+            vals[idx] = ((Number)val).longValue();
+        }
+
+        /** {@inheritDoc} */
+        @Override Object get0(int idx) {
+            return vals[idx];
+        }
+    }
+
+    /** Column of int, short or byte values. */
+    private static class IntColumn extends Column {
+        /** */
+        private final Class<?> type;
+
+        /** */
+        private int[] vals = new int[0];
+
+        /**
+         * @param type Boxed storage type.
+         */
+        IntColumn(Class<?> type) {
+            this.type = type;
+        }
+
+        /** {@inheritDoc} */
+        @Override void capacity(int cap) {
+            super.capacity(cap);
+
+            vals = Arrays.copyOf(vals, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override void set0(int idx, Object val) {
+            vals[idx] = ((Number)val).intValue();
+        }
+
+        /** {@inheritDoc} */
+        @Override Object get0(int idx) {
+            int val = vals[idx];
+
+            if (type == Short.class)
+                return (short)val;
+            else if (type == Byte.class)
+                return (byte)val;
+
+            return val;
+        }
+    }
+
+    /** Column of double or float values. */
+    private static class DoubleColumn extends Column {
+        /** */
+        private final boolean isFloat;
+
+        /** */
+        private double[] vals = new double[0];
+
+        /**
+         * @param isFloat Whether values are floats.
+         */
+        DoubleColumn(boolean isFloat) {
+            this.isFloat = isFloat;
+        }
+
+        /** {@inheritDoc} */
+        @Override void capacity(int cap) {
+            super.capacity(cap);
+
+            vals = Arrays.copyOf(vals, cap);
+        }
+
+        /** {@inheritDoc} */
+        @Override void set0(int idx, Object val) {
+            vals[idx] = ((Number)val).doubleValue();
+        }
+
+        /** {@inheritDoc} */
+        @Override Object get0(int idx) {
+            return isFloat ? (Object)(float)vals[idx] : (Object)vals[idx];
+        }
+    }
+
+    /** */
+    private static class BooleanColumn extends Column {
+        /** Bitmap of values. */
+        private long[] vals = new long[0];
+
+        /** {@inheritDoc} */
+        @Override void capacity(int cap) {
+            super.capacity(cap);
+
+            vals = Arrays.copyOf(vals, (cap + 63) >>> 6);
+        }
+
+        /** {@inheritDoc} */
+        @Override void set0(int idx, Object val) {
+            if ((Boolean)val)
+                vals[idx >>> 6] |= 1L << idx;
+        }
+
+        /** {@inheritDoc} */
+        @Override Object get0(int idx) {
+            return (vals[idx >>> 6] & (1L << idx)) != 0;
+        }
+    }
+}
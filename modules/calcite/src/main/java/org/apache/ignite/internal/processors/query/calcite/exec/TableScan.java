@@ -73,12 +73,26 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
     /** Participating colunms. */
     private final ImmutableBitSet requiredColunms;
 
+    /** Columnar cache covering the participating columns or {@code null} if rows are read from the cache. */
+    private final ColumnarCache colCache;
+
     /** */
     public TableScan(
         ExecutionContext<Row> ectx,
         CacheTableDescriptor desc,
         int[] parts,
         @Nullable ImmutableBitSet requiredColunms
+    ) {
+        this(ectx, desc, parts, requiredColunms, null);
+    }
+
+    /** */
+    public TableScan(
+        ExecutionContext<Row> ectx,
+        CacheTableDescriptor desc,
+        int[] parts,
+        @Nullable ImmutableBitSet requiredColunms,
+        @Nullable ColumnarCache colCache
     ) {
         this.ectx = ectx;
         cctx = desc.cacheContext();
@@ -91,6 +105,8 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
         factory = this.ectx.rowHandler().factory(this.ectx.getTypeFactory(), rowType);
         topVer = ectx.topologyVersion();
         mvccSnapshot = ectx.mvccSnapshot();
+
+        this.colCache = colCache != null && mvccSnapshot == null && colCache.covers(requiredColunms) ? colCache : null;
     }
 
     /** {@inheritDoc} */
@@ -192,6 +208,12 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
         /** */
         private GridCursor<? extends CacheDataRow> cur;
 
+        /** Cached columns of the current partition. */
+        private ColumnarCache.PartitionColumns curCols;
+
+        /** Index of the next row in the cached columns of the current partition. */
+        private int curColsIdx;
+
         /** */
         private Row next;
 
@@ -235,6 +257,12 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
             if (next != null)
                 return;
 
+            if (colCache != null) {
+                advanceColumnar();
+
+                return;
+            }
+
             while (true) {
                 if (cur == null) {
                     GridDhtLocalPartition part = parts.poll();
@@ -261,5 +289,32 @@ public class TableScan<Row> implements Iterable<Row>, AutoCloseable {
                     cur = null;
             }
         }
+
+        /** */
+        private void advanceColumnar() throws IgniteCheckedException {
+            while (true) {
+                if (curCols == null) {
+                    GridDhtLocalPartition part = parts.poll();
+                    if (part == null)
+                        break;
+
+                    curCols = colCache.columns(ectx, part);
+                    curColsIdx = 0;
+                }
+
+                if (curColsIdx < curCols.size()) {
+                    int idx = curColsIdx++;
+
+                    if (curCols.expired(idx, U.currentTimeMillis()))
+                        continue;
+
+                    next = curCols.toRow(idx, factory, requiredColunms);
+
+                    break;
+                }
+                else
+                    curCols = null;
+            }
+        }
     }
 }
@@ -32,6 +32,7 @@ import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.processors.query.calcite.exec.ColumnarCache;
 import org.apache.ignite.internal.processors.query.calcite.exec.ExecutionContext;
 import org.apache.ignite.internal.processors.query.calcite.exec.TableScan;
 import org.apache.ignite.internal.processors.query.calcite.metadata.ColocationGroup;
@@ -60,13 +61,26 @@ public class CacheTableImpl extends AbstractTable implements IgniteCacheTable {
     /** */
     private volatile boolean idxRebuildInProgress;
 
+    /** Columnar cache of the table or {@code null} if it is disabled. */
+    private final ColumnarCache colCache;
+
     /**
      * @param ctx Kernal context.
      * @param desc Table descriptor.
      */
     public CacheTableImpl(GridKernalContext ctx, CacheTableDescriptor desc) {
+        this(ctx, desc, null);
+    }
+
+    /**
+     * @param ctx Kernal context.
+     * @param desc Table descriptor.
+     * @param colCache Columnar cache of the table or {@code null} if it is disabled.
+     */
+    public CacheTableImpl(GridKernalContext ctx, CacheTableDescriptor desc, @Nullable ColumnarCache colCache) {
         this.ctx = ctx;
         this.desc = desc;
+        this.colCache = colCache;
     }
 
     /** {@inheritDoc} */
@@ -114,7 +128,7 @@ public class CacheTableImpl extends AbstractTable implements IgniteCacheTable {
         UUID locNodeId = execCtx.localNodeId();
 
         if (grp.nodeIds().contains(locNodeId))
-            return new TableScan<>(execCtx, desc, grp.partitions(locNodeId), usedColumns);
+            return new TableScan<>(execCtx, desc, grp.partitions(locNodeId), usedColumns, colCache);
 
         return Collections.emptyList();
     }
@@ -20,9 +20,12 @@ package org.apache.ignite.internal.processors.query.calcite.schema;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.RelFieldCollation;
@@ -30,6 +33,7 @@ import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.calcite.util.mapping.Mappings;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.affinity.AffinityFunction;
 import org.apache.ignite.cluster.ClusterNode;
@@ -40,6 +44,8 @@ import org.apache.ignite.internal.cache.query.index.sorted.IndexKeyDefinition;
 import org.apache.ignite.internal.processors.cache.GridCacheContextInfo;
 import org.apache.ignite.internal.processors.query.GridQueryTypeDescriptor;
 import org.apache.ignite.internal.processors.query.QueryField;
+import org.apache.ignite.internal.processors.query.QueryRowUpdateListener;
+import org.apache.ignite.internal.processors.query.calcite.exec.ColumnarCache;
 import org.apache.ignite.internal.processors.query.calcite.exec.exp.IgniteScalarFunction;
 import org.apache.ignite.internal.processors.query.calcite.trait.TraitUtils;
 import org.apache.ignite.internal.processors.query.calcite.type.IgniteTypeFactory;
@@ -48,16 +54,20 @@ import org.apache.ignite.internal.processors.query.calcite.util.Commons;
 import org.apache.ignite.internal.processors.query.schema.SchemaChangeListener;
 import org.apache.ignite.internal.processors.query.schema.management.IndexDescriptor;
 import org.apache.ignite.internal.processors.subscription.GridInternalSubscriptionProcessor;
+import org.apache.ignite.internal.util.typedef.F;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.lang.IgnitePredicate;
 import org.apache.ignite.spi.systemview.view.SystemView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_COLUMNAR_CACHE_TABLES;
+
 /**
  * Holds actual schema and mutates it on schema change, requested by Ignite.
  */
-public class SchemaHolderImpl extends AbstractService implements SchemaHolder, SchemaChangeListener {
+public class SchemaHolderImpl extends AbstractService implements SchemaHolder, SchemaChangeListener,
+    QueryRowUpdateListener {
     /** */
     private final Map<String, IgniteSchema> igniteSchemas = new HashMap<>();
 
@@ -70,6 +80,12 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
     /** */
     private volatile SchemaPlus calciteSchema;
 
+    /** Tables with columnar cache in {@code SCHEMA.TABLE} format. */
+    private final Set<String> colCacheTbls = new HashSet<>();
+
+    /** Columnar caches of tables by type descriptors. */
+    private final Map<GridQueryTypeDescriptor, ColumnarCache> colCaches = new ConcurrentHashMap<>();
+
     /** */
     private static class AffinityIdentity {
         /** */
@@ -140,6 +156,15 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
 
         this.ctx = ctx;
 
+        String tbls = IgniteSystemProperties.getString(IGNITE_CALCITE_COLUMNAR_CACHE_TABLES);
+
+        if (!F.isEmpty(tbls)) {
+            for (String tbl : tbls.split(",")) {
+                if (!tbl.trim().isEmpty())
+                    colCacheTbls.add(tbl.trim());
+            }
+        }
+
         subscriptionProcessor(ctx.internalSubscriptionProcessor());
 
         init();
@@ -155,6 +180,9 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
     /** {@inheritDoc} */
     @Override public void init() {
         subscriptionProcessor.registerSchemaChangeListener(this);
+
+        if (!colCacheTbls.isEmpty())
+            subscriptionProcessor.registerQueryRowUpdateListener(this);
     }
 
     /** {@inheritDoc} */
@@ -245,7 +273,15 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
         CacheTableDescriptorImpl desc =
             new CacheTableDescriptorImpl(cacheInfo, typeDesc, affinityIdentity(cacheInfo.config()));
 
-        return new CacheTableImpl(ctx, desc);
+        ColumnarCache colCache = null;
+
+        if (colCacheTbls.contains(typeDesc.schemaName() + '.' + typeDesc.tableName())) {
+            colCache = new ColumnarCache(desc, cacheInfo.config().getAffinity().partitions());
+
+            colCaches.put(typeDesc, colCache);
+        }
+
+        return new CacheTableImpl(ctx, desc, colCache);
     }
 
     /** */
@@ -278,9 +314,19 @@ public class SchemaHolderImpl extends AbstractService implements SchemaHolder, S
 
         schema.removeTable(typeDesc.tableName());
 
+        colCaches.remove(typeDesc);
+
         rebuild();
     }
 
+    /** {@inheritDoc} */
+    @Override public void onRowUpdated(GridQueryTypeDescriptor typeDesc, int part) {
+        ColumnarCache colCache = colCaches.get(typeDesc);
+
+        if (colCache != null)
+            colCache.onRowUpdated(part);
+    }
+
     /** {@inheritDoc} */
     @Override public void onIndexCreated(
         String schemaName,
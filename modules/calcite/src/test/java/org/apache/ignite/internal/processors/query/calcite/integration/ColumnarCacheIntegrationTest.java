@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query.calcite.integration;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.apache.ignite.internal.processors.query.calcite.exec.ColumnarCache;
+import org.apache.ignite.internal.processors.query.calcite.schema.IgniteTable;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CALCITE_COLUMNAR_CACHE_TABLES;
+
+/**
+ * Tests scans of tables with columnar cache of numeric columns.
+ */
+@WithSystemProperty(key = IGNITE_CALCITE_COLUMNAR_CACHE_TABLES, value = "PUBLIC.T1")
+public class ColumnarCacheIntegrationTest extends AbstractBasicIntegrationTest {
+    /** */
+    private static final int ROWS = 1000;
+
+    /** */
+    @Test
+    public void testScanAfterUpdates() {
+        sql("CREATE TABLE t1 (id INT PRIMARY KEY, i INT, l BIGINT, d DOUBLE, b BOOLEAN, s VARCHAR)");
+
+        for (int i = 0; i < ROWS; i++) {
+            sql("INSERT INTO t1 VALUES (?, ?, ?, ?, ?, ?)", i, i % 10 == 0 ? null : i, (long)i * 2,
+                i % 7 == 0 ? null : i / 2.0, i % 2 == 0, "s" + i);
+        }
+
+        checkAggregates();
+
+        assertTrue(columnsCached());
+
+        sql("UPDATE t1 SET i = i + 1, b = NOT b WHERE id < 100");
+        sql("DELETE FROM t1 WHERE id >= 900");
+        sql("INSERT INTO t1 VALUES (?, ?, ?, ?, ?, ?)", ROWS, null, null, null, null, null);
+
+        checkAggregates();
+
+        // Queries with columns that are not cached.
+        assertQuery("SELECT s FROM t1 WHERE id = 5").returns("s5").check();
+        assertQuery("SELECT i, s FROM t1 WHERE id = 50").returns(null, "s50").check();
+    }
+
+    /**
+     * Compares aggregates of the cached columns with aggregates of rows read together with the column that is not cached.
+     */
+    private void checkAggregates() {
+        long sumI = 0;
+        long cntI = 0;
+        long sumL = 0;
+        double sumD = 0;
+        long cntD = 0;
+        long cntB = 0;
+        long cnt = 0;
+
+        for (List<?> row : sql("SELECT i, l, d, b, s FROM t1")) {
+            cnt++;
+
+            if (row.get(0) != null) {
+                sumI += ((Number)row.get(0)).longValue();
+                cntI++;
+            }
+
+            if (row.get(1) != null)
+                sumL += ((Number)row.get(1)).longValue();
+
+            if (row.get(2) != null) {
+                sumD += ((Number)row.get(2)).doubleValue();
+                cntD++;
+            }
+
+            if (Boolean.TRUE.equals(row.get(3)))
+                cntB++;
+        }
+
+        List<?> res = sql("SELECT SUM(i), COUNT(i), SUM(l), SUM(d), COUNT(d), COUNT(*) FROM t1").get(0);
+
+        assertEquals(sumI, ((Number)res.get(0)).longValue());
+        assertEquals(cntI, ((Number)res.get(1)).longValue());
+        assertEquals(sumL, ((Number)res.get(2)).longValue());
+        assertEquals(sumD, ((Number)res.get(3)).doubleValue(), 1e-6);
+        assertEquals(cntD, ((Number)res.get(4)).longValue());
+        assertEquals(cnt, ((Number)res.get(5)).longValue());
+
+        assertEquals(cntB, ((Number)sql("SELECT COUNT(*) FROM t1 WHERE b").get(0).get(0)).longValue());
+    }
+
+    /**
+     * @return {@code true} if columns of some partition are cached on any server node.
+     */
+    private boolean columnsCached() {
+        for (int i = 0; i < nodeCount(); i++) {
+            IgniteTable tbl = (IgniteTable)queryProcessor(grid(i)).schemaHolder().schema("PUBLIC").getTable("T1");
+
+            ColumnarCache colCache = GridTestUtils.getFieldValue(tbl, "colCache");
+
+            assertNotNull(colCache);
+
+            AtomicReferenceArray<?> parts = GridTestUtils.getFieldValue(colCache, "parts");
+
+            for (int p = 0; p < parts.length(); p++) {
+                if (parts.get(p) != null)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.ignite.internal.processors.query.calcite.UnstableTopologyTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.AggregatesIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.CalciteBasicSecondaryIndexIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.CalciteErrorHandlilngIntegrationTest;
+import org.apache.ignite.internal.processors.query.calcite.integration.ColumnarCacheIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.CorrelatesIntegrationTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.DataTypesTest;
 import org.apache.ignite.internal.processors.query.calcite.integration.DynamicParametersIntegrationTest;
@@ -131,6 +132,7 @@ import org.junit.runners.Suite;
     PartitionPruneTest.class,
     JoinRehashIntegrationTest.class,
     IndexWithSameNameCalciteTest.class,
+    ColumnarCacheIntegrationTest.class,
 })
 public class IntegrationTestSuite {
 }
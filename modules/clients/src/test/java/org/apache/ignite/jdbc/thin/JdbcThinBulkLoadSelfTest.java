@@ -17,19 +17,23 @@
 
 package org.apache.ignite.jdbc.thin;
 
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CodingErrorAction;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
 import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import org.apache.ignite.cache.CacheAtomicityMode;
@@ -41,6 +45,7 @@ import org.apache.ignite.internal.IgniteEx;
 import org.apache.ignite.internal.processors.bulkload.BulkLoadCsvFormat;
 import org.apache.ignite.internal.processors.bulkload.BulkLoadCsvParser;
 import org.apache.ignite.internal.processors.query.QueryUtils;
+import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.lang.IgniteClosure;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.ComparisonFailure;
@@ -436,6 +441,83 @@ public class JdbcThinBulkLoadSelfTest extends JdbcThinAbstractDmlStatementSelfTe
         }, ComparisonFailure.class, "expected:<[ ]FirstName104");
     }
 
+    /**
+     * Imports CSV file, records of which are split into several chunks parsed concurrently.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLargeFile() throws Exception {
+        int recCnt = 10_000;
+
+        File file = largeCsvFile(recCnt, -1);
+
+        try {
+            int updatesCnt = stmt.executeUpdate(
+                "copy from '" + file.getAbsolutePath() + "' into " + TBL_NAME +
+                    " (_key, age, firstName, lastName)" +
+                    " format csv");
+
+            assertEquals(recCnt, updatesCnt);
+
+            ResultSet rs = stmt.executeQuery("select count(*), sum(age) from " + TBL_NAME +
+                " where firstName = concat('FirstName', _key)");
+
+            assertTrue(rs.next());
+
+            assertEquals(recCnt, rs.getInt(1));
+            assertEquals((long)recCnt * (recCnt - 1) / 2, rs.getLong(2));
+        }
+        finally {
+            U.delete(file);
+        }
+    }
+
+    /**
+     * Verifies the number of a line with unmatched quote in the error message if records are parsed by chunks.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testLargeFileWithUnmatchedQuote() throws Exception {
+        File file = largeCsvFile(10_000, 7_000);
+
+        try {
+            GridTestUtils.assertThrows(log, new Callable<Object>() {
+                @Override public Object call() throws Exception {
+                    stmt.executeUpdate(
+                        "copy from '" + file.getAbsolutePath() + "' into " + TBL_NAME +
+                            " (_key, age, firstName, lastName)" +
+                            " format csv");
+
+                    return null;
+                }
+            }, SQLException.class, "Unmatched quote found at the end of line 7001");
+        }
+        finally {
+            U.delete(file);
+        }
+    }
+
+    /**
+     * @param recCnt Number of records.
+     * @param unmatchedQuoteIdx Index of a record with unmatched quote, or {@code -1}.
+     * @return CSV file.
+     * @throws Exception If failed.
+     */
+    private File largeCsvFile(int recCnt, int unmatchedQuoteIdx) throws Exception {
+        File file = File.createTempFile("bulkload", ".csv");
+
+        List<String> lines = new ArrayList<>(recCnt);
+
+        for (int i = 0; i < recCnt; i++)
+            lines.add(i + "," + i + ",FirstName" + i + ",\"LastName" + i + (i == unmatchedQuoteIdx ? "" : "\""));
+
+        Files.write(file.toPath(), lines);
+
+        return file;
+    }
+
     /**
      * Verifies exception thrown if CSV row contains unmatched quote at the beginning of the field content.
      *
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.Serializable;
+import java.util.UUID;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.plugin.CachePluginContext;
+import org.apache.ignite.plugin.CachePluginProvider;
+import org.apache.ignite.plugin.ExtensionRegistry;
+import org.apache.ignite.plugin.IgnitePlugin;
+import org.apache.ignite.plugin.PluginContext;
+import org.apache.ignite.plugin.PluginProvider;
+import org.apache.ignite.plugin.PluginValidationException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Plugin provider enabling compression of cache entry values with Zstd dictionaries, see
+ * {@link ZstdDictionaryTransformer}. The plugin must be configured on all nodes of the cluster:
+ * <pre name="code" class="java">
+ * cfg.setPluginProviders(new ZstdDictionaryCompressionPluginProvider().setDictionarySize(32 * 1024));
+ * </pre>
+ */
+public class ZstdDictionaryCompressionPluginProvider implements PluginProvider {
+    /** Default dictionary size. */
+    public static final int DFLT_DICT_SIZE = 16 * 1024;
+
+    /** Default number of samples to train a dictionary. */
+    public static final int DFLT_SAMPLES_CNT = 1024;
+
+    /** Default minimal size of a value to compress. */
+    public static final int DFLT_MIN_VAL_SIZE = 64;
+
+    /** Dictionary size. */
+    private int dictSize = DFLT_DICT_SIZE;
+
+    /** Number of samples to train a dictionary. */
+    private int samplesCnt = DFLT_SAMPLES_CNT;
+
+    /** Minimal size of a value to compress. */
+    private int minValSize = DFLT_MIN_VAL_SIZE;
+
+    /** Compression level. */
+    private int level = CompressionProcessor.ZSTD_DEFAULT_LEVEL;
+
+    /**
+     * @param dictSize Dictionary size.
+     * @return {@code this} for chaining.
+     */
+    public ZstdDictionaryCompressionPluginProvider setDictionarySize(int dictSize) {
+        this.dictSize = dictSize;
+
+        return this;
+    }
+
+    /**
+     * @param samplesCnt Number of values of a binary type sampled to train a dictionary of the type.
+     * @return {@code this} for chaining.
+     */
+    public ZstdDictionaryCompressionPluginProvider setSamplesCount(int samplesCnt) {
+        this.samplesCnt = samplesCnt;
+
+        return this;
+    }
+
+    /**
+     * @param minValSize Minimal size of a value to compress, smaller values are stored as is.
+     * @return {@code this} for chaining.
+     */
+    public ZstdDictionaryCompressionPluginProvider setMinValueSize(int minValSize) {
+        this.minValSize = minValSize;
+
+        return this;
+    }
+
+    /**
+     * @param level Zstd compression level.
+     * @return {@code this} for chaining.
+     */
+    public ZstdDictionaryCompressionPluginProvider setCompressionLevel(int level) {
+        this.level = level;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String name() {
+        return "Zstd dictionary compression";
+    }
+
+    /** {@inheritDoc} */
+    @Override public String version() {
+        return "";
+    }
+
+    /** {@inheritDoc} */
+    @Override public String copyright() {
+        return "Copyright(C) Apache Software Foundation";
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgnitePlugin plugin() {
+        return new IgnitePlugin() {
+            // No-op.
+        };
+    }
+
+    /** {@inheritDoc} */
+    @Override public void initExtensions(PluginContext ctx, ExtensionRegistry registry) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public Object createComponent(PluginContext ctx, Class cls) {
+        if (CacheObjectTransformerProcessor.class.equals(cls))
+            return new ZstdDictionaryTransformer(((IgniteEx)ctx.grid()).context(), dictSize, samplesCnt, minValSize, level);
+
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public CachePluginProvider createCacheProvider(CachePluginContext ctx) {
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start(PluginContext ctx) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void stop(boolean cancel) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onIgniteStart() {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void onIgniteStop(boolean cancel) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public Serializable provideDiscoveryData(UUID nodeId) {
+        // Marks nodes with the plugin configured, see validateNewNode(ClusterNode, Serializable).
+        return name();
+    }
+
+    /** {@inheritDoc} */
+    @Override public void receiveDiscoveryData(UUID nodeId, Serializable data) {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void validateNewNode(ClusterNode node) throws PluginValidationException {
+        // No-op.
+    }
+
+    /** {@inheritDoc} */
+    @Override public void validateNewNode(ClusterNode node, Serializable data) {
+        // A node without the plugin can not restore values compressed by other nodes.
+        if (data == null) {
+            String msg = "Failed to join the node, the '" + name() + "' plugin is not configured on it " +
+                "[nodeId=" + node.id() + ']';
+
+            throw new PluginValidationException(msg, msg, node.id());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ZstdDictionaryCompressionPluginProvider.class, this);
+    }
+}
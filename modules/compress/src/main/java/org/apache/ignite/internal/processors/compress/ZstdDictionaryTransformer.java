@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.configuration.DiskPageCompression;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.binary.BinaryPrimitives;
+import org.apache.ignite.internal.cache.transform.CacheObjectTransformerProcessor;
+import org.apache.ignite.internal.processors.GridProcessorAdapter;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetaStorage;
+import org.apache.ignite.internal.processors.metastorage.DistributedMetastorageLifecycleListener;
+import org.apache.ignite.internal.processors.metastorage.ReadableDistributedMetaStorage;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.OBJ;
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TYPE_ID_POS;
+
+/**
+ * Compresses values of cache entries with Zstd dictionaries trained per binary type.
+ * <p>
+ * Values of a binary type are sampled until enough samples are collected, then a dictionary is trained and
+ * distributed in two phases, so every node is able to restore values compressed by any other node: compressed values
+ * are stored in page memory and WAL and sent in messages. First the dictionary is published to the distributed
+ * metastorage under its dictionary ID, the publication is completed when all nodes have processed it. Then the
+ * dictionary is activated for the binary type with another metastorage update, and only an active dictionary is used
+ * for compression. A published dictionary never replaces a different dictionary with the same ID, such a dictionary
+ * is dropped and the type is sampled again. Dictionaries are never removed, a value refers to its dictionary by
+ * the dictionary ID.
+ * <p>
+ * Format of a compressed value: {@link org.apache.ignite.internal.binary.GridBinaryMarshaller#TRANSFORMED},
+ * dictionary ID (int), original length (int), Zstd frame.
+ *
+ * @see ZstdDictionaryCompressionPluginProvider
+ */
+public class ZstdDictionaryTransformer extends GridProcessorAdapter implements CacheObjectTransformerProcessor {
+    /** Metastorage key prefix of dictionaries by dictionary ID. */
+    static final String DICT_KEY_PREFIX = "zstd.dict.";
+
+    /** Metastorage key prefix of IDs of active dictionaries by type ID. */
+    static final String ACTIVE_KEY_PREFIX = "zstd.active.";
+
+    /** Header size: transformed flag, dictionary ID and original length. */
+    private static final int HEADER_SIZE = 9;
+
+    /** Dictionary size. */
+    private final int dictSize;
+
+    /** Number of samples to train a dictionary. */
+    private final int samplesCnt;
+
+    /** Minimal size of a value to compress. */
+    private final int minValSize;
+
+    /** Compression level. */
+    private final int level;
+
+    /** Compression dictionaries by type ID. */
+    private final ConcurrentMap<Integer, CompressDictionary> compressDicts = new ConcurrentHashMap<>();
+
+    /** Decompression dictionaries by dictionary ID. */
+    private final ConcurrentMap<Integer, ZstdDictDecompress> decompressDicts = new ConcurrentHashMap<>();
+
+    /** Published dictionaries by dictionary ID. */
+    private final ConcurrentMap<Integer, byte[]> dicts = new ConcurrentHashMap<>();
+
+    /** Samples by type ID. */
+    private final ConcurrentMap<Integer, Samples> samples = new ConcurrentHashMap<>();
+
+    /** Metastorage, {@code null} if it is not ready for write. */
+    private volatile DistributedMetaStorage metastorage;
+
+    /**
+     * @param ctx Kernal context.
+     * @param dictSize Dictionary size.
+     * @param samplesCnt Number of samples to train a dictionary.
+     * @param minValSize Minimal size of a value to compress.
+     * @param level Compression level.
+     */
+    public ZstdDictionaryTransformer(GridKernalContext ctx, int dictSize, int samplesCnt, int minValSize, int level) {
+        super(ctx);
+
+        A.ensure(dictSize > 0, "dictSize > 0");
+        A.ensure(samplesCnt > 0, "samplesCnt > 0");
+
+        CompressionProcessor.checkCompressionLevelBounds(level, DiskPageCompression.ZSTD);
+
+        this.dictSize = dictSize;
+        this.samplesCnt = samplesCnt;
+        this.minValSize = Math.max(minValSize, HEADER_SIZE + 1);
+        this.level = level;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void start() throws IgniteCheckedException {
+        ctx.internalSubscriptionProcessor().registerDistributedMetastorageListener(
+            new DistributedMetastorageLifecycleListener() {
+                @Override public void onReadyForRead(ReadableDistributedMetaStorage metastorage) {
+                    metastorage.listen(key -> key.startsWith(DICT_KEY_PREFIX),
+                        (key, oldVal, newVal) -> onDictionary(newVal));
+
+                    metastorage.listen(key -> key.startsWith(ACTIVE_KEY_PREFIX),
+                        (key, oldVal, newVal) -> onActivation(key, newVal));
+
+                    try {
+                        // All dictionaries are known before the active ones are chosen.
+                        metastorage.iterate(DICT_KEY_PREFIX, (key, val) -> onDictionary(val));
+                        metastorage.iterate(ACTIVE_KEY_PREFIX, ZstdDictionaryTransformer.this::onActivation);
+                    }
+                    catch (IgniteCheckedException e) {
+                        throw new IgniteException(e);
+                    }
+                }
+
+                @Override public void onReadyForWrite(DistributedMetaStorage metastorage) {
+                    ZstdDictionaryTransformer.this.metastorage = metastorage;
+                }
+            });
+    }
+
+    /** {@inheritDoc} */
+    @Override public @Nullable ByteBuffer transform(ByteBuffer original) {
+        int len = original.remaining();
+
+        if (len < minValSize || !original.hasArray())
+            return null;
+
+        byte[] src = original.array();
+        int off = original.arrayOffset() + original.position();
+
+        if (src[off] != OBJ)
+            return null;
+
+        int typeId = BinaryPrimitives.readInt(src, off + TYPE_ID_POS);
+
+        CompressDictionary dict = compressDicts.get(typeId);
+
+        if (dict == null) {
+            sample(typeId, src, off, len);
+
+            return null;
+        }
+
+        byte[] dst = new byte[HEADER_SIZE + (int)Zstd.compressBound(len)];
+
+        long size = Zstd.compressFastDict(dst, HEADER_SIZE, src, off, len, dict.dict);
+
+        if (Zstd.isError(size) || HEADER_SIZE + size >= len)
+            return null; // Compression is not profitable.
+
+        ByteBuffer.wrap(dst)
+            .put(TRANSFORMED)
+            .putInt(dict.id)
+            .putInt(len);
+
+        return ByteBuffer.wrap(Arrays.copyOf(dst, HEADER_SIZE + (int)size));
+    }
+
+    /** {@inheritDoc} */
+    @Override public ByteBuffer restore(ByteBuffer transformed) {
+        int dictId = transformed.getInt();
+        int len = transformed.getInt();
+
+        ZstdDictDecompress dict = decompressDicts.get(dictId);
+
+        if (dict == null)
+            throw new IgniteException("Compression dictionary is not found [dictId=" + dictId + ']');
+
+        byte[] src;
+        int off;
+
+        if (transformed.hasArray()) {
+            src = transformed.array();
+            off = transformed.arrayOffset() + transformed.position();
+        }
+        else {
+            src = new byte[transformed.remaining()];
+            off = 0;
+
+            transformed.duplicate().get(src);
+        }
+
+        byte[] dst = new byte[len];
+
+        long size = Zstd.decompressFastDict(dst, 0, src, off, transformed.remaining(), dict);
+
+        if (Zstd.isError(size) || size != len)
+            throw new IgniteException("Failed to decompress value [dictId=" + dictId + ", err=" + Zstd.getErrorName(size) + ']');
+
+        return ByteBuffer.wrap(dst);
+    }
+
+    /**
+     * @return Number of known dictionaries.
+     */
+    public int dictionaries() {
+        return decompressDicts.size();
+    }
+
+    /**
+     * @param typeId Type ID.
+     * @return {@code True} if values of the type are compressed.
+     */
+    public boolean compressed(int typeId) {
+        return compressDicts.containsKey(typeId);
+    }
+
+    /**
+     * Collects a sample of values of the type and trains a dictionary when enough samples are collected.
+     *
+     * @param typeId Type ID.
+     * @param src Source array.
+     * @param off Offset of the value.
+     * @param len Length of the value.
+     */
+    private void sample(int typeId, byte[] src, int off, int len) {
+        DistributedMetaStorage metastorage0 = metastorage;
+
+        // Dictionary can not be distributed yet.
+        if (metastorage0 == null)
+            return;
+
+        Samples samples0 = samples.computeIfAbsent(typeId, id -> new Samples());
+
+        List<byte[]> trainSet;
+
+        synchronized (samples0) {
+            if (samples0.done)
+                return;
+
+            samples0.vals.add(Arrays.copyOfRange(src, off, off + len));
+
+            if (samples0.vals.size() < samplesCnt)
+                return;
+
+            samples0.done = true;
+
+            trainSet = samples0.vals;
+
+            samples0.vals = null;
+        }
+
+        ctx.pools().getSystemExecutorService().execute(() -> train(metastorage0, typeId, trainSet));
+    }
+
+    /**
+     * @param metastorage Metastorage.
+     * @param typeId Type ID.
+     * @param trainSet Samples.
+     */
+    private void train(DistributedMetaStorage metastorage, int typeId, List<byte[]> trainSet) {
+        long totalSize = 0;
+
+        for (byte[] val : trainSet)
+            totalSize += val.length;
+
+        try {
+            ZstdDictTrainer trainer = new ZstdDictTrainer((int)Math.min(totalSize, Integer.MAX_VALUE), dictSize);
+
+            for (byte[] val : trainSet)
+                trainer.addSample(val);
+
+            byte[] dict = trainer.trainSamples();
+
+            int dictId = (int)Zstd.getDictIdFromDict(dict);
+
+            String dictKey = DICT_KEY_PREFIX + U.hexInt(dictId);
+
+            // The future is completed when all nodes have received the dictionary.
+            if (!metastorage.compareAndSetAsync(dictKey, null, dict).get() &&
+                !Arrays.equals(dict, metastorage.<byte[]>read(dictKey))) {
+                U.warn(log, "Trained compression dictionary is dropped, the dictionary ID is already used [typeId=" +
+                    typeId + ", dictId=" + U.hexInt(dictId) + ']');
+
+                samples.remove(typeId);
+
+                return;
+            }
+
+            metastorage.writeAsync(ACTIVE_KEY_PREFIX + typeId, dictId);
+
+            if (log.isInfoEnabled()) {
+                log.info("Compression dictionary trained [typeId=" + typeId + ", dictId=" + U.hexInt(dictId) +
+                    ", size=" + dict.length + ", samples=" + trainSet.size() + ']');
+            }
+        }
+        catch (Exception e) {
+            // Values of the type stay uncompressed, e.g. there are too few distinct samples.
+            U.warn(log, "Failed to train compression dictionary [typeId=" + typeId + ", err=" + e.getMessage() + ']');
+        }
+    }
+
+    /**
+     * @param val Published dictionary.
+     */
+    private void onDictionary(@Nullable Serializable val) {
+        if (!(val instanceof byte[]))
+            return;
+
+        byte[] dict = (byte[])val;
+
+        int dictId = (int)Zstd.getDictIdFromDict(dict);
+
+        if (dicts.putIfAbsent(dictId, dict) == null)
+            decompressDicts.put(dictId, new ZstdDictDecompress(dict));
+    }
+
+    /**
+     * @param key Metastorage key.
+     * @param val ID of the active dictionary of the type.
+     */
+    private void onActivation(String key, @Nullable Serializable val) {
+        if (!(val instanceof Integer))
+            return;
+
+        int typeId = Integer.parseInt(key.substring(ACTIVE_KEY_PREFIX.length()));
+        int dictId = (Integer)val;
+
+        byte[] dict = dicts.get(dictId);
+
+        // Dictionary is published to all nodes before it is activated, so it is missing only if the metastorage is
+        // inconsistent. Values of the type are stored uncompressed by this node then.
+        if (dict == null) {
+            U.error(log, "Active compression dictionary is not found, values of the type will not be compressed " +
+                "[typeId=" + typeId + ", dictId=" + U.hexInt(dictId) + ']');
+
+            return;
+        }
+
+        compressDicts.put(typeId, new CompressDictionary(dictId, new ZstdDictCompress(dict, level)));
+    }
+
+    /** Compression dictionary. */
+    private static class CompressDictionary {
+        /** Dictionary ID. */
+        private final int id;
+
+        /** Dictionary. */
+        private final ZstdDictCompress dict;
+
+        /**
+         * @param id Dictionary ID.
+         * @param dict Dictionary.
+         */
+        private CompressDictionary(int id, ZstdDictCompress dict) {
+            this.id = id;
+            this.dict = dict;
+        }
+    }
+
+    /** Samples of a type. */
+    private static class Samples {
+        /** Samples. */
+        private List<byte[]> vals = new ArrayList<>();
+
+        /** Whether the samples have been handed over to training. */
+        private boolean done;
+    }
+}
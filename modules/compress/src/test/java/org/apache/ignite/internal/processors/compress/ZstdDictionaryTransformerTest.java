@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.compress;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.binary.BinaryObjectImpl;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.util.typedef.X;
+import org.apache.ignite.spi.IgniteSpiException;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.internal.binary.GridBinaryMarshaller.TRANSFORMED;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Tests compression of cache values with Zstd dictionaries.
+ */
+public class ZstdDictionaryTransformerTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SAMPLES = 100;
+
+    /** */
+    private static final int KEYS = 1_000;
+
+    /** Whether nodes are started without the plugin. */
+    private boolean noPlugin;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        IgniteConfiguration cfg = super.getConfiguration(igniteInstanceName);
+
+        if (noPlugin)
+            return cfg;
+
+        return cfg.setPluginProviders(new ZstdDictionaryCompressionPluginProvider()
+            .setSamplesCount(SAMPLES)
+            .setDictionarySize(4 * 1024));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        noPlugin = false;
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCompression() throws Exception {
+        IgniteEx ignite = startGrids(2);
+
+        IgniteCache<Integer, Order> cache = ignite.createCache(new CacheConfiguration<Integer, Order>(DEFAULT_CACHE_NAME)
+            .setBackups(1));
+
+        for (int i = 0; i < SAMPLES; i++)
+            cache.put(i, new Order(i));
+
+        int typeId = ignite.binary().typeId(Order.class.getName());
+
+        assertTrue(waitForCondition(() -> transformer(0).compressed(typeId) && transformer(1).compressed(typeId),
+            getTestTimeout()));
+
+        assertEquals(transformer(0).dictionaries(), transformer(1).dictionaries());
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, new Order(i));
+
+        BinaryObject val = ignite.binary().toBinary(new Order(KEYS));
+
+        CacheObjectContext coCtx = ignite.cachex(DEFAULT_CACHE_NAME).context().cacheObjectContext();
+
+        ((BinaryObjectImpl)val).prepareMarshal(coCtx);
+
+        byte[] bytes = ((BinaryObjectImpl)val).valueBytes(coCtx);
+
+        assertEquals(TRANSFORMED, bytes[0]);
+        assertTrue(bytes.length < ((BinaryObjectImpl)val).length());
+
+        // Values are restored on both primary and backup nodes.
+        for (int n = 0; n < 2; n++) {
+            IgniteCache<Integer, Order> cache0 = grid(n).cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < KEYS; i++)
+                assertEquals(new Order(i), cache0.localPeek(i));
+        }
+
+        // The new node receives dictionaries from the metastorage and rebalanced values.
+        IgniteEx ignite2 = startGrid(2);
+
+        assertEquals(transformer(0).dictionaries(), transformer(2).dictionaries());
+        assertTrue(transformer(2).compressed(typeId));
+
+        awaitPartitionMapExchange();
+
+        IgniteCache<Integer, Order> cache2 = ignite2.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(new Order(i), cache2.get(i));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testNodeWithoutPlugin() throws Exception {
+        startGrid(0);
+
+        noPlugin = true;
+
+        try {
+            startGrid(1);
+
+            fail("Node without the plugin must not join.");
+        }
+        catch (Exception e) {
+            assertTrue(X.hasCause(e, IgniteSpiException.class));
+        }
+
+        noPlugin = false;
+
+        startGrid(1);
+
+        assertEquals(2, grid(0).cluster().nodes().size());
+    }
+
+    /**
+     * @param idx Node index.
+     * @return Transformer.
+     */
+    private ZstdDictionaryTransformer transformer(int idx) {
+        return (ZstdDictionaryTransformer)grid(idx).context().transformer();
+    }
+
+    /** */
+    private static class Order {
+        /** */
+        private final int id;
+
+        /** */
+        private final String customer;
+
+        /** */
+        private final String status;
+
+        /** */
+        private final String address;
+
+        /**
+         * @param id ID.
+         */
+        private Order(int id) {
+            this.id = id;
+
+            customer = "customer-" + (id % 37);
+            status = id % 3 == 0 ? "DELIVERED" : "PENDING_PAYMENT_CONFIRMATION";
+            address = "Main Street " + (id % 101) + ", Springfield, United States of America";
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            Order order = (Order)o;
+
+            return id == order.id && customer.equals(order.customer) && status.equals(order.status) &&
+                address.equals(order.address);
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return id;
+        }
+    }
+}
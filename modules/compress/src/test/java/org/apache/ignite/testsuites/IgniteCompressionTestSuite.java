@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionConsumptionTest;
 import org.apache.ignite.internal.processors.cache.transform.CacheObjectCompressionTest;
+import org.apache.ignite.internal.processors.compress.ZstdDictionaryTransformerTest;
 import org.apache.ignite.testframework.junits.DynamicSuite;
 import org.junit.runner.RunWith;
 
@@ -35,6 +36,7 @@ public class IgniteCompressionTestSuite {
 
         suite.add(CacheObjectCompressionTest.class);
         suite.add(CacheObjectCompressionConsumptionTest.class);
+        suite.add(ZstdDictionaryTransformerTest.class);
 
         return suite;
     }
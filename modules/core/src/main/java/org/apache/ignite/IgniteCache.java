@@ -17,6 +17,7 @@
 
 package org.apache.ignite;
 
+import java.io.InputStream;
 import java.io.Serializable;
 import java.sql.Timestamp;
 import java.util.Collection;
@@ -911,6 +912,49 @@ public interface IgniteCache<K, V> extends javax.cache.Cache<K, V>, IgniteAsyncS
      */
     public IgniteFuture<V> getAndPutAsync(K key, V val) throws TransactionException;
 
+    /**
+     * Associates the value read from the given stream with the specified key in the cache.
+     * <p>
+     * The value is split into chunks which are written one by one, so the whole value is never held
+     * in memory. Its size is only limited by the capacity of the cache. The value can be read back with
+     * {@link #getStream(Object)} and removed with {@link #removeStream(Object)}. Chunk size is set by
+     * {@link IgniteSystemProperties#IGNITE_CACHE_STREAM_CHUNK_SIZE}.
+     * <p>
+     * Streamed values are stored apart from the other values of the cache, on the same nodes as the keys. They are
+     * not seen by the other methods, iterators and queries of the cache, are not written to the cache store and
+     * do not expire. They are removed when the cache is destroyed.
+     * <p>
+     * The operation is not atomic and must not be performed within a transaction. A concurrent reader of the
+     * previous value of the key may fail with an {@link java.io.IOException}.
+     *
+     * @param key Key.
+     * @param in Stream of the value. It is read to the end but not closed.
+     * @throws CacheException If failed.
+     */
+    @IgniteExperimental
+    public void putStream(K key, InputStream in) throws CacheException;
+
+    /**
+     * Gets the value written with {@link #putStream(Object, InputStream)} as a stream which fetches the chunks
+     * of the value on demand.
+     *
+     * @param key Key.
+     * @return Stream of the value or {@code null} if no value was written for the key as a stream.
+     * @throws CacheException If failed.
+     */
+    @IgniteExperimental
+    @Nullable public InputStream getStream(K key) throws CacheException;
+
+    /**
+     * Removes the value written with {@link #putStream(Object, InputStream)} together with its chunks.
+     *
+     * @param key Key.
+     * @return {@code True} if there was a value written for the key as a stream.
+     * @throws CacheException If failed.
+     */
+    @IgniteExperimental
+    public boolean removeStream(K key) throws CacheException;
+
     /**
      * {@inheritDoc}
      * <p>
@@ -101,6 +101,10 @@ import org.jetbrains.annotations.Nullable;
  *      Data streamer will perform better if this flag is disabled, which is the default setting.
  *  </li>
  *  <li>
+ *      {@link #bulkLoad(boolean)} - Sets flag enabling batch writes of entries into partitions. Should be used
+ *      for initial loading of large volumes of data into empty caches.
+ *  </li>
+ *  <li>
  *      {@link #receiver(StreamReceiver)} - defines how cache will be updated with added entries.
  *      It allows to provide user-defined custom logic to update the cache in the most effective and flexible way.
  *  </li>
@@ -172,6 +176,28 @@ public interface IgniteDataStreamer<K, V> extends AutoCloseable {
      */
     public void allowOverwrite(boolean allowOverwrite) throws CacheException;
 
+    /**
+     * Gets flag enabling bulk loading of entries.
+     * <p>
+     * This flag is disabled by default (default is {@code false}).
+     *
+     * @return {@code True} if bulk loading is enabled.
+     */
+    public boolean bulkLoad();
+
+    /**
+     * Sets flag enabling bulk loading of entries. In this mode each batch is sorted on the receiving node in order
+     * of the partition tree and written into data pages at once, the same way as entries are written during
+     * rebalancing. Existing values are not overwritten. The mode is intended for initial loading of large volumes
+     * of data into empty caches.
+     * <p>
+     * This flag is disabled by default (default is {@code false}). Enabling the flag disables
+     * {@link #allowOverwrite()} and resets the receiver set using {@link #receiver(StreamReceiver)} method.
+     *
+     * @param bulkLoad Flag value.
+     */
+    public void bulkLoad(boolean bulkLoad);
+
     /**
      * Gets flag indicating that write-through behavior should be disabled for data streaming.
      * Default is {@code false}.
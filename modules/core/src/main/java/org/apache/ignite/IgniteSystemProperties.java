@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Properties;
 import javax.net.ssl.HostnameVerifier;
 import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.cache.CacheWriteSynchronizationMode;
 import org.apache.ignite.cluster.ClusterGroup;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.configuration.CheckpointWriteOrder;
@@ -50,6 +51,7 @@ import org.apache.ignite.mxbean.MetricsMxBean;
 import org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi;
 import org.apache.ignite.spi.metric.ReadOnlyMetricRegistry;
 import org.apache.ignite.stream.StreamTransformer;
+import org.apache.ignite.transactions.TransactionIsolation;
 import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.cache.CacheManager.DFLT_JCACHE_DEFAULT_ISOLATED;
@@ -69,6 +71,7 @@ import static org.apache.ignite.internal.processors.affinity.AffinityAssignment.
 import static org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache.DFLT_AFFINITY_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.affinity.GridAffinityAssignmentCache.DFLT_PART_DISTRIBUTION_WARN_THRESHOLD;
 import static org.apache.ignite.internal.processors.cache.CacheAffinitySharedManager.DFLT_CLIENT_CACHE_CHANGE_MESSAGE_TIMEOUT;
+import static org.apache.ignite.internal.processors.cache.CacheChunkedValues.DFLT_CHUNK_SIZE;
 import static org.apache.ignite.internal.processors.cache.CacheObjectsReleaseFuture.DFLT_IGNITE_PARTITION_RELEASE_FUTURE_WARN_LIMIT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_RETRIES_COUNT;
 import static org.apache.ignite.internal.processors.cache.GridCacheAdapter.DFLT_CACHE_START_SIZE;
@@ -78,11 +81,15 @@ import static org.apache.ignite.internal.processors.cache.GridCachePartitionExch
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_HISTORY_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCachePartitionExchangeManager.DFLT_EXCHANGE_MERGE_DELAY;
 import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.DFLT_ALLOW_START_CACHES_IN_PARALLEL;
+import static org.apache.ignite.internal.processors.cache.GridCacheSharedTtlCleanupManager.DFLT_TTL_CLEANUP_MAX_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.GridCacheTtlManager.DFLT_UNWIND_THROTTLING_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.GridCacheUtils.DFLT_TTL_EXPIRE_BATCH_SIZE;
 import static org.apache.ignite.internal.processors.cache.WalStateManager.DFLT_DISABLE_WAL_DURING_REBALANCING;
 import static org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl.DFLT_WAIT_SCHEMA_UPDATE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.CacheDistributedGetFutureAdapter.DFLT_MAX_REMAP_CNT;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.HedgedReads.DFLT_HEDGED_READS_MIN_DELAY;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.HedgedReads.DFLT_HEDGED_READS_PERCENTILE;
+import static org.apache.ignite.internal.processors.cache.distributed.dht.HotKeysTracker.DFLT_HOT_KEYS_CNT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_BUFFER_SIZE;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache.DFLT_ATOMIC_DEFERRED_ACK_TIMEOUT;
 import static org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtPartitionsExchangeFuture.DFLT_LONG_OPERATIONS_DUMP_TIMEOUT_LIMIT;
@@ -145,9 +152,14 @@ import static org.apache.ignite.internal.util.IgniteUtils.DFLT_MBEAN_APPEND_CLAS
 import static org.apache.ignite.internal.util.StripedExecutor.DFLT_DATA_STREAMING_EXECUTOR_SERVICE_TASKS_STEALING_THRESHOLD;
 import static org.apache.ignite.internal.util.nio.GridNioRecoveryDescriptor.DFLT_NIO_RECOVERY_DESCRIPTOR_RESERVATION_TIMEOUT;
 import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_IO_BALANCE_PERIOD;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_IO_WRITE_COALESCING_BYTES;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_IO_WRITE_COALESCING_WINDOW;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_NIO_BUFFER_POOL_SIZE;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_NIO_IDLE_BUFFER_RELEASE_TIMEOUT;
 import static org.apache.ignite.internal.util.tostring.GridToStringBuilder.DFLT_TO_STRING_COLLECTION_LIMIT;
 import static org.apache.ignite.internal.util.tostring.GridToStringBuilder.DFLT_TO_STRING_INCLUDE_SENSITIVE;
 import static org.apache.ignite.internal.util.tostring.GridToStringBuilder.DFLT_TO_STRING_MAX_LENGTH;
+import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCOVERY_CLIENT_RECONNECT_HISTORY_SIZE;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCOVERY_METRICS_QNT_WARN;
 import static org.apache.ignite.spi.discovery.tcp.TcpDiscoverySpi.DFLT_DISCO_FAILED_CLIENT_RECONNECT_DELAY;
@@ -448,6 +460,19 @@ public final class IgniteSystemProperties {
         type = Integer.class, defaults = "" + DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS)
     public static final String IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS = "IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS";
 
+    /**
+     * Enables deterministic lock order of transactions. Keys locked by a pessimistic transaction with a single bulk
+     * operation and keys prepared by an optimistic transaction are locked in the same order by all transactions:
+     * ordered by primary node, cache, partition and key, with a single lock round-trip per primary node. Transactions
+     * which declare their key sets with bulk operations do not deadlock with each other in this mode.
+     * <p>
+     * Default is {@code false}.
+     */
+    @SystemProperty("Enables deterministic lock order of transactions. Keys locked by a single bulk operation " +
+        "of a pessimistic transaction and keys prepared by an optimistic transaction are locked in the same order " +
+        "by all transactions, ordered by primary node, cache, partition and key")
+    public static final String IGNITE_TX_DETERMINISTIC_LOCK_ORDER = "IGNITE_TX_DETERMINISTIC_LOCK_ORDER";
+
     /**
      * Specifies timeout for deadlock detection procedure.
      */
@@ -812,6 +837,27 @@ public final class IgniteSystemProperties {
     @SystemProperty("Enables backward compatible handling of UUID through DDL")
     public static final String IGNITE_SQL_UUID_DDL_BYTE_FORMAT = "IGNITE_SQL_UUID_DDL_BYTE_FORMAT";
 
+    /**
+     * Number of threads parsing and converting records of a batch of COPY command input on the server node.
+     * <p>
+     * Default is the number of available processors.
+     */
+    @SystemProperty(value = "Number of threads parsing and converting records of a batch of COPY command " +
+        "input on the server node. Default is the number of available processors", type = Integer.class)
+    public static final String IGNITE_BULK_LOAD_THREADS = "IGNITE_BULK_LOAD_THREADS";
+
+    /**
+     * Enables applying of scan query filters to binary objects backed by a buffer the scanned rows are copied to,
+     * so values rejected by the filter are not copied to separate heap arrays. The binary object passed to the filter
+     * is valid only within the filter call, so the filter must not retain it.
+     * <p>
+     * Default is {@code false}.
+     */
+    @SystemProperty("Enables applying of scan query filters to binary objects backed by a buffer the scanned rows " +
+        "are copied to, so values rejected by the filter are not copied to separate heap arrays. The filter must not " +
+        "retain the object passed to it")
+    public static final String IGNITE_SCAN_QUERY_OFFHEAP_FILTER = "IGNITE_SCAN_QUERY_OFFHEAP_FILTER";
+
     /** Maximum size for affinity assignment history. */
     @SystemProperty(value = "Maximum size for affinity assignment history", type = Integer.class,
         defaults = "" + DFLT_AFFINITY_HISTORY_SIZE)
@@ -834,6 +880,16 @@ public final class IgniteSystemProperties {
     public static final String IGNITE_DISCOVERY_METRICS_QNT_WARN =
         "IGNITE_DISCOVERY_METRICS_QNT_WARN";
 
+    /**
+     * Number of metrics updates between full cache metrics updates sent by a server node. Other updates contain only
+     * metrics of caches changed since the previous update. {@code 1} disables delta updates.
+     */
+    @SystemProperty(value = "Number of metrics updates between full cache metrics updates sent by a server node. " +
+        "Other updates contain only metrics of caches changed since the previous update. 1 disables delta updates",
+        type = Integer.class, defaults = "" + DFLT_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY)
+    public static final String IGNITE_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY =
+        "IGNITE_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY";
+
     /** Time interval that indicates that client reconnect throttle must be reset to zero. 2 minutes by default. */
     @SystemProperty(value = "Time interval in milliseconds that indicates client reconnect throttle " +
         "must be reset to zero", type = Long.class, defaults = "" + DFLT_THROTTLE_RECONNECT_RESET_TIMEOUT_INTERVAL)
@@ -1021,6 +1077,52 @@ public final class IgniteSystemProperties {
         defaults = "" + DFLT_IO_BALANCE_PERIOD)
     public static final String IGNITE_IO_BALANCE_PERIOD = "IGNITE_IO_BALANCE_PERIOD";
 
+    /**
+     * Class name of {@link java.nio.channels.spi.SelectorProvider} used by NIO servers of communication SPI,
+     * client connector and thin client to open selectors and socket channels. Allows to plug in a native
+     * transport implementation. If not set, the JVM-wide default provider is used.
+     */
+    @SystemProperty(value = "Class name of the selector provider used by NIO servers to open selectors " +
+        "and socket channels. The JVM-wide default provider is used if not set", type = String.class)
+    public static final String IGNITE_NIO_SELECTOR_PROVIDER = "IGNITE_NIO_SELECTOR_PROVIDER";
+
+    /**
+     * Maximum total size in bytes of free session buffers kept by a NIO server for reuse. Session buffers released
+     * above this limit are freed. {@code 0} disables pooling.
+     */
+    @SystemProperty(value = "Maximum total size in bytes of free session buffers kept by a NIO server for reuse. " +
+        "0 disables pooling", type = Long.class, defaults = "" + DFLT_NIO_BUFFER_POOL_SIZE)
+    public static final String IGNITE_NIO_BUFFER_POOL_SIZE = "IGNITE_NIO_BUFFER_POOL_SIZE";
+
+    /**
+     * Time in milliseconds without reads and writes after which a NIO session returns its read and write buffers
+     * to the server buffer pool. Buffers are acquired again on the next read or write. {@code 0} disables release.
+     */
+    @SystemProperty(value = "Time in milliseconds without reads and writes after which a NIO session returns " +
+        "its buffers to the server buffer pool. 0 disables release", type = Long.class,
+        defaults = "" + DFLT_NIO_IDLE_BUFFER_RELEASE_TIMEOUT)
+    public static final String IGNITE_NIO_IDLE_BUFFER_RELEASE_TIMEOUT = "IGNITE_NIO_IDLE_BUFFER_RELEASE_TIMEOUT";
+
+    /**
+     * Time in microseconds a communication NIO worker waits for more outgoing messages to the same node before
+     * flushing a partially filled write buffer. Allows to pack messages of many concurrent small cache updates into
+     * a single socket write. The window starts with the first message of a batch. Write coalescing is disabled
+     * if {@code 0}. Writes over SSL connections are not coalesced.
+     */
+    @SystemProperty(value = "Time in microseconds a communication NIO worker waits for more outgoing messages " +
+        "to the same node before flushing a partially filled write buffer. 0 disables write coalescing",
+        type = Long.class, defaults = "" + DFLT_IO_WRITE_COALESCING_WINDOW)
+    public static final String IGNITE_IO_WRITE_COALESCING_WINDOW = "IGNITE_IO_WRITE_COALESCING_WINDOW";
+
+    /**
+     * Number of bytes in the communication write buffer after which the buffer is flushed without waiting
+     * for the coalescing window, see {@link #IGNITE_IO_WRITE_COALESCING_WINDOW}.
+     */
+    @SystemProperty(value = "Number of bytes in the communication write buffer after which the buffer is flushed " +
+        "without waiting for the write coalescing window", type = Integer.class,
+        defaults = "" + DFLT_IO_WRITE_COALESCING_BYTES)
+    public static final String IGNITE_IO_WRITE_COALESCING_BYTES = "IGNITE_IO_WRITE_COALESCING_BYTES";
+
     /**
      * When set to {@code true} fields are written by BinaryMarshaller in sorted order. Otherwise
      * the natural order is used.
@@ -1088,6 +1190,14 @@ public final class IgniteSystemProperties {
         "remove this amount of expired entries", type = Integer.class, defaults = "" + DFLT_TTL_EXPIRE_BATCH_SIZE)
     public static final String IGNITE_TTL_EXPIRE_BATCH_SIZE = "IGNITE_TTL_EXPIRE_BATCH_SIZE";
 
+    /**
+     * Maximal number of expired entries of a cache removed by the TTL cleanup worker in one pass. The worker doubles
+     * the number of entries removed in one pass up to this limit while expired entries remain after a pass.
+     */
+    @SystemProperty(value = "Maximal number of expired entries of a cache removed by the TTL cleanup worker in one " +
+        "pass", type = Integer.class, defaults = "" + DFLT_TTL_CLEANUP_MAX_BATCH_SIZE)
+    public static final String IGNITE_TTL_CLEANUP_MAX_BATCH_SIZE = "IGNITE_TTL_CLEANUP_MAX_BATCH_SIZE";
+
     /**
      * Indexing discovery history size. Protects from duplicate messages maintaining the list of IDs of recently
      * arrived discovery messages.
@@ -1427,6 +1537,71 @@ public final class IgniteSystemProperties {
         defaults = "" + DFLT_READ_LOAD_BALANCING)
     public static final String IGNITE_READ_LOAD_BALANCING = "IGNITE_READ_LOAD_BALANCING";
 
+    /**
+     * Enables hedged reads for caches with {@link CacheWriteSynchronizationMode#FULL_SYNC} write synchronization mode
+     * and at least one backup. If the primary node does not answer a single key 'get' request within an adaptive delay,
+     * the same request is sent to a backup node and the first answer is used.
+     * <p>
+     * Hedged reads are not used for gets with an expiry policy or read-through and for transactional gets with
+     * isolation other than {@link TransactionIsolation#READ_COMMITTED}.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @see #IGNITE_HEDGED_READS_PERCENTILE
+     * @see #IGNITE_HEDGED_READS_MIN_DELAY
+     */
+    @SystemProperty(value = "Enables hedged reads for caches with FULL_SYNC write synchronization mode and backups. " +
+        "If the primary node does not answer a single key 'get' request within an adaptive delay, the same request " +
+        "is sent to a backup node and the first answer is used")
+    public static final String IGNITE_HEDGED_READS_ENABLED = "IGNITE_HEDGED_READS_ENABLED";
+
+    /**
+     * Percentile of the 'get' response time of primary nodes used as the delay of hedged reads.
+     * Approximately {@code 100 - percentile} percent of gets are hedged.
+     *
+     * @see #IGNITE_HEDGED_READS_ENABLED
+     */
+    @SystemProperty(value = "Percentile of the 'get' response time of primary nodes used as the delay of hedged reads",
+        type = Integer.class, defaults = "" + DFLT_HEDGED_READS_PERCENTILE)
+    public static final String IGNITE_HEDGED_READS_PERCENTILE = "IGNITE_HEDGED_READS_PERCENTILE";
+
+    /**
+     * Minimal delay of hedged reads in milliseconds.
+     *
+     * @see #IGNITE_HEDGED_READS_ENABLED
+     */
+    @SystemProperty(value = "Minimal delay of hedged reads in milliseconds", type = Long.class,
+        defaults = "" + DFLT_HEDGED_READS_MIN_DELAY)
+    public static final String IGNITE_HEDGED_READS_MIN_DELAY = "IGNITE_HEDGED_READS_MIN_DELAY";
+
+    /**
+     * Enables tracking of keys read most frequently from the local node by other nodes. Hot keys of caches are
+     * exposed by the {@code hotKeys} system view.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @see #IGNITE_HOT_KEYS_COUNT
+     */
+    @SystemProperty(value = "Enables tracking of keys read most frequently from the local node by other nodes. " +
+        "Hot keys of caches are exposed by the 'hotKeys' system view")
+    public static final String IGNITE_HOT_KEYS_TRACKING_ENABLED = "IGNITE_HOT_KEYS_TRACKING_ENABLED";
+
+    /**
+     * Maximal number of hot keys tracked per cache.
+     *
+     * @see #IGNITE_HOT_KEYS_TRACKING_ENABLED
+     */
+    @SystemProperty(value = "Maximal number of hot keys tracked per cache", type = Integer.class,
+        defaults = "" + DFLT_HOT_KEYS_CNT)
+    public static final String IGNITE_HOT_KEYS_COUNT = "IGNITE_HOT_KEYS_COUNT";
+
+    /**
+     * Size in bytes of chunks which values written with {@link IgniteCache#putStream} are split into.
+     */
+    @SystemProperty(value = "Size in bytes of chunks which values written to caches as streams are split into",
+        type = Integer.class, defaults = "" + DFLT_CHUNK_SIZE)
+    public static final String IGNITE_CACHE_STREAM_CHUNK_SIZE = "IGNITE_CACHE_STREAM_CHUNK_SIZE";
+
     /**
      * Number of repetitions to capture a lock in the B+Tree.
      */
@@ -2057,6 +2232,14 @@ public final class IgniteSystemProperties {
         "remote nodes")
     public static final String IGNITE_CALCITE_REL_JSON_PRETTY_PRINT = "IGNITE_CALCITE_REL_JSON_PRETTY_PRINT";
 
+    /**
+     * Calcite-based SQL engine. Comma-separated list of tables in {@code SCHEMA.TABLE} format whose numeric and boolean
+     * columns are cached on heap in columnar form for table scans.
+     */
+    @SystemProperty(value = "Calcite-based SQL engine. Comma-separated list of tables in SCHEMA.TABLE format whose " +
+        "numeric and boolean columns are cached on heap in columnar form for table scans")
+    public static final String IGNITE_CALCITE_COLUMNAR_CACHE_TABLES = "IGNITE_CALCITE_COLUMNAR_CACHE_TABLES";
+
     /**
      * Count of rows, being processed within a single checkpoint lock when indexes are rebuilt.
      * The default value is {@link SchemaIndexCachePartitionWorker#DFLT_IGNITE_INDEX_REBUILD_BATCH_SIZE}.
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.cache;
+
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.binary.BinaryUtils;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+
+/**
+ * Entry processor which atomically adds a delta to an integer field of a {@link BinaryObject} value or to an integer
+ * value of an entry.
+ * <p>
+ * The processor is executed on the primary node and works directly on the serialized form of the value: the field
+ * is updated in a copy of the value bytes without deserialization of the value. Only the field name and the delta are
+ * sent to the primary node, so contended counters do not have to be read, compared and sent back entirely as with
+ * {@link org.apache.ignite.IgniteCache#replace(Object, Object, Object)}.
+ * <p>
+ * The processor returns the new value of the field or {@code null} if the entry does not exist or the value does not
+ * have the field. {@code byte}, {@code short}, {@code int} and {@code long} fields are supported, an overflow of
+ * the field fails the operation. The processor can be used with caches of both binary and deserialized values,
+ * the binary form of the value is used in any case.
+ * <p>
+ * Only {@link CacheAtomicityMode#ATOMIC} caches are supported. In transactional caches entry processors are
+ * executed on the node which started the transaction as well, against its own copy of the entry, so the result
+ * could differ from the update applied on the primary node.
+ * <pre name="code" class="java">
+ * long hits = cache.invoke(pageId, new IncrementFieldEntryProcessor&lt;&gt;("hits", 1));
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class IncrementFieldEntryProcessor<K, V> implements CacheEntryProcessor<K, V, Long> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Field name, {@code null} to increment the value itself. */
+    @Nullable private final String field;
+
+    /** Delta. */
+    private final long delta;
+
+    /**
+     * @param field Field name or {@code null} to increment an integer value of the entry.
+     * @param delta Delta.
+     */
+    public IncrementFieldEntryProcessor(@Nullable String field, long delta) {
+        this.field = field;
+        this.delta = delta;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Long process(MutableEntry<K, V> entry, Object... args) {
+        if (entry.unwrap(CacheConfiguration.class).getAtomicityMode() != ATOMIC) {
+            throw new EntryProcessorException(IncrementFieldEntryProcessor.class.getSimpleName() +
+                " is supported only by ATOMIC caches");
+        }
+
+        if (!entry.exists())
+            return null;
+
+        try {
+            if (field == null) {
+                Object val = entry.getValue();
+
+                if (val instanceof Long) {
+                    long res = Math.addExact((Long)val, delta);
+
+                    entry.setValue((V)(Long)res);
+
+                    return res;
+                }
+
+                if (val instanceof Integer) {
+                    int res = Math.toIntExact(Math.addExact((long)(Integer)val, delta));
+
+                    entry.setValue((V)(Integer)res);
+
+                    return (long)res;
+                }
+
+                throw new EntryProcessorException("Value is not an integer [key=" + entry.getKey() +
+                    ", cls=" + val.getClass().getName() + ']');
+            }
+
+            // The binary form of the value is requested regardless of the keep binary flag of the cache.
+            BinaryObject val = entry.unwrap(BinaryObject.class);
+
+            if (val == null) {
+                throw new EntryProcessorException("Value is not a binary object [key=" + entry.getKey() +
+                    ", cls=" + entry.getValue().getClass().getName() + ']');
+            }
+
+            BinaryObject res = BinaryUtils.addToField(val, field, delta);
+
+            if (res == null)
+                return null;
+
+            entry.setValue((V)res);
+
+            return ((Number)res.field(field)).longValue();
+        }
+        catch (ArithmeticException e) {
+            throw new EntryProcessorException("Value overflow [key=" + entry.getKey() + ", delta=" + delta + ']', e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(IncrementFieldEntryProcessor.class, this);
+    }
+}
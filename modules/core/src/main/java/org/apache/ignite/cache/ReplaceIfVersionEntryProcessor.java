@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.cache;
+
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+
+/**
+ * Entry processor which replaces the value of an existing entry only if the version of the entry is equal to
+ * the expected one, usually the version of an entry read before with {@link IgniteCache#getEntry(Object)}.
+ * <p>
+ * Unlike {@link IgniteCache#replace(Object, Object, Object)}, the old value is neither sent to the primary node
+ * nor deserialized and compared there: the processor is executed on the primary node and compares the versions
+ * of the entry only. The processor returns {@code true} if the value was replaced.
+ * <p>
+ * Only {@link CacheAtomicityMode#ATOMIC} caches are supported. In transactional caches entry processors are
+ * executed on the node which started the transaction as well, with the version of its own copy of the entry,
+ * so the result could differ from the decision made on the primary node.
+ * <pre name="code" class="java">
+ * CacheEntry&lt;Integer, State&gt; e = cache.getEntry(key);
+ *
+ * boolean replaced = cache.invoke(key, new ReplaceIfVersionEntryProcessor&lt;&gt;(e.version(), next(e.getValue())));
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ */
+public class ReplaceIfVersionEntryProcessor<K, V> implements CacheEntryProcessor<K, V, Boolean> {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Expected version. */
+    private final Comparable<?> ver;
+
+    /** New value. */
+    private final V val;
+
+    /**
+     * @param ver Expected version of the entry.
+     * @param val New value.
+     */
+    public ReplaceIfVersionEntryProcessor(Comparable<?> ver, V val) {
+        A.notNull(ver, "ver");
+        A.notNull(val, "val");
+
+        this.ver = ver;
+        this.val = val;
+    }
+
+    /** {@inheritDoc} */
+    @Override public Boolean process(MutableEntry<K, V> entry, Object... args) {
+        if (entry.unwrap(CacheConfiguration.class).getAtomicityMode() != ATOMIC) {
+            throw new EntryProcessorException(ReplaceIfVersionEntryProcessor.class.getSimpleName() +
+                " is supported only by ATOMIC caches");
+        }
+
+        if (!entry.exists())
+            return false;
+
+        // The value of the unwrapped entry is not deserialized unless requested.
+        Comparable<?> curVer = entry.unwrap(CacheEntry.class).version();
+
+        if (!ver.equals(curVer))
+            return false;
+
+        entry.setValue(val);
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ReplaceIfVersionEntryProcessor.class, this);
+    }
+}
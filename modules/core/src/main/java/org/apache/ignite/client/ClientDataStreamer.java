@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.util.Map;
+
+/**
+ * Thin client data streamer.
+ * <p>
+ * Entries are buffered per server node according to the partition awareness information and every full buffer is
+ * sent to its node asynchronously, so adding of the data is pipelined with the processing of the previous batches.
+ * The number of batches processed by a node concurrently is limited by
+ * {@link ClientDataStreamerConfiguration#getPerNodeParallelOperations()}.
+ * <p>
+ * Instances are thread safe.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @see IgniteClient#dataStreamer(String, ClientDataStreamerConfiguration)
+ */
+public interface ClientDataStreamer<K, V> extends AutoCloseable {
+    /**
+     * @return Cache name.
+     */
+    public String cacheName();
+
+    /**
+     * Adds an entry to the streamer. {@code null} value removes the key, which requires
+     * {@link ClientDataStreamerConfiguration#isAllowOverwrite()} flag.
+     *
+     * @param key Key.
+     * @param val Value or {@code null} to remove the key.
+     * @throws ClientException If one of the previous batches failed or the streamer is closed.
+     */
+    public void addData(K key, V val) throws ClientException;
+
+    /**
+     * Adds entries to the streamer.
+     *
+     * @param entries Entries.
+     * @throws ClientException If one of the previous batches failed or the streamer is closed.
+     */
+    public void addData(Map<? extends K, ? extends V> entries) throws ClientException;
+
+    /**
+     * Removes the key, see {@link #addData(Object, Object)}.
+     *
+     * @param key Key.
+     * @throws ClientException If one of the previous batches failed or the streamer is closed.
+     */
+    public void removeData(K key) throws ClientException;
+
+    /**
+     * Sends all buffered entries and waits for all sent batches to be processed.
+     *
+     * @throws ClientException If one of the batches failed.
+     */
+    public void flush() throws ClientException;
+
+    /**
+     * Sends all buffered entries asynchronously.
+     *
+     * @return Future completed when all sent batches are processed.
+     */
+    public IgniteClientFuture<Void> flushAsync();
+
+    /**
+     * Closes the streamer.
+     *
+     * @param cancel If {@code true}, buffered entries are discarded and sent batches are not awaited,
+     *      otherwise the streamer is flushed.
+     * @throws ClientException If one of the batches failed.
+     */
+    public void close(boolean cancel) throws ClientException;
+
+    /**
+     * Flushes and closes the streamer.
+     *
+     * @throws ClientException If one of the batches failed.
+     */
+    @Override public void close() throws ClientException;
+}
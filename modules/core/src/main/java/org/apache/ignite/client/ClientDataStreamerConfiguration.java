@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import org.apache.ignite.IgniteDataStreamer;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.stream.StreamReceiver;
+
+/**
+ * Thin client data streamer configuration.
+ */
+public class ClientDataStreamerConfiguration {
+    /** Default number of entries buffered for a node before they are sent. */
+    public static final int DFLT_PER_NODE_BUFFER_SIZE = IgniteDataStreamer.DFLT_PER_NODE_BUFFER_SIZE;
+
+    /** Default maximal number of batches sent to a node concurrently. */
+    public static final int DFLT_PER_NODE_PARALLEL_OPS = 4;
+
+    /** Number of entries buffered for a node before they are sent. */
+    private int perNodeBufSize = DFLT_PER_NODE_BUFFER_SIZE;
+
+    /** Maximal number of batches sent to a node concurrently. */
+    private int perNodeParallelOps = DFLT_PER_NODE_PARALLEL_OPS;
+
+    /** Allow overwrite flag. */
+    private boolean allowOverwrite;
+
+    /** Skip store flag. */
+    private boolean skipStore;
+
+    /** Keep binary flag. */
+    private boolean keepBinary;
+
+    /** Stream receiver. */
+    private StreamReceiver<?, ?> receiver;
+
+    /**
+     * Gets the number of entries buffered for a node before they are sent to the cluster.
+     *
+     * @return Per node buffer size.
+     */
+    public int getPerNodeBufferSize() {
+        return perNodeBufSize;
+    }
+
+    /**
+     * Sets the number of entries buffered for a node before they are sent to the cluster.
+     *
+     * @param perNodeBufSize Per node buffer size.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setPerNodeBufferSize(int perNodeBufSize) {
+        this.perNodeBufSize = perNodeBufSize;
+
+        return this;
+    }
+
+    /**
+     * Gets the maximal number of batches sent to a node concurrently. When the limit is reached,
+     * {@link ClientDataStreamer#addData(Object, Object)} blocks until one of the batches is processed.
+     *
+     * @return Per node parallel operations.
+     */
+    public int getPerNodeParallelOperations() {
+        return perNodeParallelOps;
+    }
+
+    /**
+     * Sets the maximal number of batches sent to a node concurrently.
+     *
+     * @param perNodeParallelOps Per node parallel operations.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setPerNodeParallelOperations(int perNodeParallelOps) {
+        this.perNodeParallelOps = perNodeParallelOps;
+
+        return this;
+    }
+
+    /**
+     * Gets the allow overwrite flag, see {@link IgniteDataStreamer#allowOverwrite(boolean)}.
+     *
+     * @return Allow overwrite flag.
+     */
+    public boolean isAllowOverwrite() {
+        return allowOverwrite;
+    }
+
+    /**
+     * Sets the allow overwrite flag, see {@link IgniteDataStreamer#allowOverwrite(boolean)}.
+     *
+     * @param allowOverwrite Allow overwrite flag.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setAllowOverwrite(boolean allowOverwrite) {
+        this.allowOverwrite = allowOverwrite;
+
+        return this;
+    }
+
+    /**
+     * Gets the skip store flag, see {@link IgniteDataStreamer#skipStore(boolean)}.
+     *
+     * @return Skip store flag.
+     */
+    public boolean isSkipStore() {
+        return skipStore;
+    }
+
+    /**
+     * Sets the skip store flag, see {@link IgniteDataStreamer#skipStore(boolean)}.
+     *
+     * @param skipStore Skip store flag.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setSkipStore(boolean skipStore) {
+        this.skipStore = skipStore;
+
+        return this;
+    }
+
+    /**
+     * Gets the keep binary flag, see {@link IgniteDataStreamer#keepBinary(boolean)}.
+     *
+     * @return Keep binary flag.
+     */
+    public boolean isKeepBinary() {
+        return keepBinary;
+    }
+
+    /**
+     * Sets the keep binary flag, see {@link IgniteDataStreamer#keepBinary(boolean)}.
+     *
+     * @param keepBinary Keep binary flag.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setKeepBinary(boolean keepBinary) {
+        this.keepBinary = keepBinary;
+
+        return this;
+    }
+
+    /**
+     * Gets the stream receiver, see {@link IgniteDataStreamer#receiver(StreamReceiver)}.
+     *
+     * @return Stream receiver.
+     */
+    public StreamReceiver<?, ?> getReceiver() {
+        return receiver;
+    }
+
+    /**
+     * Sets the stream receiver, see {@link IgniteDataStreamer#receiver(StreamReceiver)}. The receiver is serialized
+     * with the binary marshaller and its class must be available on the server nodes.
+     *
+     * @param receiver Stream receiver.
+     * @return {@code this} for chaining.
+     */
+    public ClientDataStreamerConfiguration setReceiver(StreamReceiver<?, ?> receiver) {
+        this.receiver = receiver;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ClientDataStreamerConfiguration.class, this);
+    }
+}
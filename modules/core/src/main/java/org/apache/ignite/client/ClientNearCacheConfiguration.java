@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.client;
+
+import java.io.Serializable;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+/**
+ * Thin client near cache configuration.
+ * <p>
+ * Near cache keeps on-heap values of the recently read entries of a cache on the client side, so repeated reads of
+ * the same keys are served locally. Near cache is kept coherent with the server by a continuous query, which is
+ * registered on the first read and invalidates entries updated on the server. Entries of a near cache are also
+ * invalidated on updates made by this client.
+ * <p>
+ * Near cache is used only by cache instances without {@link ClientCache#withKeepBinary()} and
+ * {@link ClientCache#withExpirePolicy(javax.cache.expiry.ExpiryPolicy)} and outside of transactions.
+ * Values returned from a near cache are shared between callers and must not be modified.
+ */
+public class ClientNearCacheConfiguration implements Serializable {
+    /** */
+    private static final long serialVersionUID = 0L;
+
+    /** Default maximum number of entries in a near cache. */
+    public static final int DFLT_MAX_SIZE = 10_000;
+
+    /** Cache name. */
+    private String name;
+
+    /** Maximum number of entries. */
+    private int maxSize = DFLT_MAX_SIZE;
+
+    /**
+     * Gets the name of the cache.
+     *
+     * @return Cache name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the cache.
+     *
+     * @param name Cache name.
+     * @return {@code this} for chaining.
+     */
+    public ClientNearCacheConfiguration setName(String name) {
+        this.name = name;
+
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of entries kept in the near cache. When the limit is exceeded, the least recently
+     * used entries are evicted.
+     * <p>
+     * Default value is {@link #DFLT_MAX_SIZE}.
+     *
+     * @return Maximum number of entries.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum number of entries kept in the near cache.
+     *
+     * @param maxSize Maximum number of entries.
+     * @see #getMaxSize()
+     * @return {@code this} for chaining.
+     */
+    public ClientNearCacheConfiguration setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ClientNearCacheConfiguration.class, this);
+    }
+}
@@ -221,6 +221,11 @@ public enum ClientOperationType {
      */
     SERVICE_GET_DESCRIPTOR,
 
+    /**
+     * Send entries to a data streamer ({@link ClientDataStreamer#addData(Object, Object)}, {@link ClientDataStreamer#flush()}).
+     */
+    DATA_STREAMER_ADD_DATA,
+
     /**
      * Get or create an AtomicLong ({@link IgniteClient#atomicLong(String, long, boolean)},
      * {@link IgniteClient#atomicLong(String, ClientAtomicConfiguration, long, boolean)}).
@@ -253,6 +253,27 @@ public interface IgniteClient extends AutoCloseable {
      */
     public <T> ClientIgniteSet<T> set(String name, @Nullable ClientCollectionConfiguration cfg);
 
+    /**
+     * Creates a data streamer for the cache with the default configuration.
+     *
+     * @param cacheName Cache name.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Data streamer.
+     */
+    public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName);
+
+    /**
+     * Creates a data streamer for the cache.
+     *
+     * @param cacheName Cache name.
+     * @param cfg Data streamer configuration or {@code null} to use the default one.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Data streamer.
+     */
+    public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName, @Nullable ClientDataStreamerConfiguration cfg);
+
     /**
      * Closes this client's open connections and relinquishes all underlying resources.
      */
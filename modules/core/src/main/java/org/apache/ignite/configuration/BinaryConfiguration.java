@@ -37,6 +37,9 @@ public class BinaryConfiguration implements Serializable {
     /** Default compact footer flag setting. */
     public static final boolean DFLT_COMPACT_FOOTER = true;
 
+    /** Default fixed layout flag setting. */
+    public static final boolean DFLT_FIXED_LAYOUT = false;
+
     /** ID mapper. */
     private BinaryIdMapper idMapper;
 
@@ -52,6 +55,9 @@ public class BinaryConfiguration implements Serializable {
     /** Compact footer flag. */
     private boolean compactFooter = DFLT_COMPACT_FOOTER;
 
+    /** Fixed layout flag. */
+    private boolean fixedLayout = DFLT_FIXED_LAYOUT;
+
     /**
      * Sets class names of binary objects explicitly.
      *
@@ -182,6 +188,35 @@ public class BinaryConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Get whether to write objects of classes with only primitive fields in fixed layout. Fields of such object
+     * are located at the same offsets in all objects of the class, so the object is written without footer and
+     * a field is found without offset lookup. The layout is applied only if footers are written in compact form.
+     * <p>
+     * <b>WARNING!</b> Objects written in fixed layout can not be read by .NET and C++ nodes and thin clients.
+     * <p>
+     * Defaults to {@link #DFLT_FIXED_LAYOUT}.
+     *
+     * @return Whether to write objects of classes with only primitive fields in fixed layout.
+     * @see #isCompactFooter()
+     */
+    public boolean isFixedLayout() {
+        return fixedLayout;
+    }
+
+    /**
+     * Set whether to write objects of classes with only primitive fields in fixed layout.
+     * See {@link #isFixedLayout()} for more info.
+     *
+     * @param fixedLayout Whether to write objects of classes with only primitive fields in fixed layout.
+     * @return {@code this} for chaining.
+     */
+    public BinaryConfiguration setFixedLayout(boolean fixedLayout) {
+        this.fixedLayout = fixedLayout;
+
+        return this;
+    }
+
     /** {@inheritDoc} */
     @Override public String toString() {
         return S.toString(BinaryConfiguration.class, this);
@@ -30,6 +30,7 @@ import org.apache.ignite.IgniteLogger;
 import org.apache.ignite.cache.query.IndexQuery;
 import org.apache.ignite.cache.query.ScanQuery;
 import org.apache.ignite.client.ClientAddressFinder;
+import org.apache.ignite.client.ClientNearCacheConfiguration;
 import org.apache.ignite.client.ClientPartitionAwarenessMapper;
 import org.apache.ignite.client.ClientPartitionAwarenessMapperFactory;
 import org.apache.ignite.client.ClientRetryAllPolicy;
@@ -150,6 +151,9 @@ public final class ClientConfiguration implements Serializable {
     /** Executor for async operations continuations. */
     private Executor asyncContinuationExecutor;
 
+    /** Near cache configurations. */
+    private ClientNearCacheConfiguration[] nearCacheCfgs;
+
     /** Whether heartbeats should be enabled. */
     private boolean heartbeatEnabled;
 
@@ -760,6 +764,29 @@ public final class ClientConfiguration implements Serializable {
         return this;
     }
 
+    /**
+     * Gets near cache configurations. Reads of caches with configured near cache are served locally, when possible.
+     *
+     * @return Near cache configurations.
+     * @see ClientNearCacheConfiguration
+     */
+    public ClientNearCacheConfiguration[] getNearCacheConfigurations() {
+        return nearCacheCfgs;
+    }
+
+    /**
+     * Sets near cache configurations. Reads of caches with configured near cache are served locally, when possible.
+     *
+     * @param nearCacheCfgs Near cache configurations.
+     * @return {@code this} for chaining.
+     * @see ClientNearCacheConfiguration
+     */
+    public ClientConfiguration setNearCacheConfigurations(ClientNearCacheConfiguration... nearCacheCfgs) {
+        this.nearCacheCfgs = nearCacheCfgs;
+
+        return this;
+    }
+
     /**
      * Gets a value indicating whether heartbeats are enabled.
      * <p />
@@ -142,7 +142,10 @@ public enum IgniteFeatures {
     PERFORMANCE_STATISTICS(48),
 
     /** Restore cache group from the snapshot. */
-    SNAPSHOT_RESTORE_CACHE_GROUP(49);
+    SNAPSHOT_RESTORE_CACHE_GROUP(49),
+
+    /** Delta updates of cache metrics in discovery metrics update messages. */
+    DISCOVERY_CACHE_METRICS_DELTA(50);
 
     /**
      * Unique feature identifier.
@@ -128,6 +128,9 @@ public class BinaryClassDescriptor {
     /** Whether stable schema was published. */
     private volatile boolean stableSchemaPublished;
 
+    /** Whether all fields are of primitive types, so objects can be written in fixed layout. */
+    private final boolean fixedLayout;
+
     /**
      * @param ctx Context.
      * @param cls Class.
@@ -414,6 +417,34 @@ public class BinaryClassDescriptor {
             writeReplacer0 = new BinaryMethodWriteReplacer(writeReplaceMthd);
 
         writeReplacer = writeReplacer0;
+
+        fixedLayout = mode == BinaryWriteMode.OBJECT && userType && registered && !F.isEmpty(fields) &&
+            primitiveFields(fields);
+    }
+
+    /**
+     * @param fields Field accessors.
+     * @return {@code True} if all fields are of primitive types.
+     */
+    private static boolean primitiveFields(BinaryFieldAccessor[] fields) {
+        for (BinaryFieldAccessor field : fields) {
+            switch (field.mode) {
+                case P_BYTE:
+                case P_BOOLEAN:
+                case P_SHORT:
+                case P_CHAR:
+                case P_INT:
+                case P_LONG:
+                case P_FLOAT:
+                case P_DOUBLE:
+                    break;
+
+                default:
+                    return false;
+            }
+        }
+
+        return true;
     }
 
     /**
@@ -886,7 +917,7 @@ public class BinaryClassDescriptor {
 
                             writer.schemaId(stableSchema.schemaId());
 
-                            postWrite(writer);
+                            writer.postWrite(userType, registered, fixedLayout && ctx.isFixedLayout());
                             postWriteHashCode(writer, obj);
                         }
                         finally {
@@ -180,6 +180,9 @@ public class BinaryContext {
     /** Compact footer flag. */
     private boolean compactFooter;
 
+    /** Fixed layout flag. */
+    private boolean fixedLayout;
+
     /** Object schemas. */
     private volatile Map<Integer, BinarySchemaRegistry> schemas;
 
@@ -360,6 +363,9 @@ public class BinaryContext {
         );
 
         compactFooter = binaryCfg.isCompactFooter();
+
+        // Objects with fixed layout have no footer, so their schemas are always taken from metadata.
+        fixedLayout = binaryCfg.isFixedLayout() && compactFooter;
     }
 
     /**
@@ -1366,6 +1372,13 @@ public class BinaryContext {
         return compactFooter;
     }
 
+    /**
+     * @return Whether objects of classes with only primitive fields are written in fixed layout.
+     */
+    public boolean isFixedLayout() {
+        return fixedLayout;
+    }
+
     /**
      * Get schema registry for type ID.
      *
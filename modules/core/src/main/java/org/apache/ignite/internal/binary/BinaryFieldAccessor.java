@@ -113,10 +113,181 @@ public abstract class BinaryFieldAccessor {
             case OBJECT_ARR:
             case BINARY_OBJ:
             case BINARY:
-                return new DefaultFinalClassAccessor(field, id, mode, false);
+                return fixedTypeAccessor(field, id, mode);
+
+            default:
+                if (!U.isFinal(field.getType()))
+                    return new DefaultFinalClassAccessor(field, id, mode, true);
+
+                return fixedTypeAccessor(field, id, mode);
+        }
+    }
+
+    /**
+     * Creates accessor for the field of a fixed type. Write and read operations of the type are bound to the accessor
+     * once, so the accessor does not dispatch by mode for every object.
+     *
+     * @param field Field.
+     * @param id Field ID.
+     * @param mode Mode.
+     * @return Accessor.
+     */
+    private static BinaryFieldAccessor fixedTypeAccessor(Field field, int id, BinaryWriteMode mode) {
+        Class<?> type = field.getType();
+
+        switch (mode) {
+            case BYTE:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeByteField((Byte)val), BinaryReaderExImpl::readByteNullable);
+
+            case SHORT:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeShortField((Short)val), BinaryReaderExImpl::readShortNullable);
+
+            case INT:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeIntField((Integer)val), BinaryReaderExImpl::readIntNullable);
+
+            case LONG:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeLongField((Long)val), BinaryReaderExImpl::readLongNullable);
+
+            case FLOAT:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeFloatField((Float)val), BinaryReaderExImpl::readFloatNullable);
+
+            case DOUBLE:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDoubleField((Double)val), BinaryReaderExImpl::readDoubleNullable);
+
+            case CHAR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeCharField((Character)val), BinaryReaderExImpl::readCharNullable);
+
+            case BOOLEAN:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeBooleanField((Boolean)val), BinaryReaderExImpl::readBooleanNullable);
+
+            case DECIMAL:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDecimalField((BigDecimal)val), BinaryReaderExImpl::readDecimal);
+
+            case STRING:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeStringField((String)val), BinaryReaderExImpl::readString);
+
+            case UUID:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeUuidField((UUID)val), BinaryReaderExImpl::readUuid);
+
+            case DATE:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDateField((Date)val), BinaryReaderExImpl::readDate);
+
+            case TIMESTAMP:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeTimestampField((Timestamp)val), BinaryReaderExImpl::readTimestamp);
+
+            case TIME:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeTimeField((Time)val), BinaryReaderExImpl::readTime);
+
+            case BYTE_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeByteArrayField((byte[])val), BinaryReaderExImpl::readByteArray);
+
+            case SHORT_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeShortArrayField((short[])val), BinaryReaderExImpl::readShortArray);
+
+            case INT_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeIntArrayField((int[])val), BinaryReaderExImpl::readIntArray);
+
+            case LONG_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeLongArrayField((long[])val), BinaryReaderExImpl::readLongArray);
+
+            case FLOAT_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeFloatArrayField((float[])val), BinaryReaderExImpl::readFloatArray);
+
+            case DOUBLE_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDoubleArrayField((double[])val), BinaryReaderExImpl::readDoubleArray);
+
+            case CHAR_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeCharArrayField((char[])val), BinaryReaderExImpl::readCharArray);
+
+            case BOOLEAN_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeBooleanArrayField((boolean[])val), BinaryReaderExImpl::readBooleanArray);
+
+            case DECIMAL_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDecimalArrayField((BigDecimal[])val), BinaryReaderExImpl::readDecimalArray);
+
+            case STRING_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeStringArrayField((String[])val), BinaryReaderExImpl::readStringArray);
+
+            case UUID_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeUuidArrayField((UUID[])val), BinaryReaderExImpl::readUuidArray);
+
+            case DATE_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeDateArrayField((Date[])val), BinaryReaderExImpl::readDateArray);
+
+            case TIMESTAMP_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeTimestampArrayField((Timestamp[])val), BinaryReaderExImpl::readTimestampArray);
+
+            case TIME_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeTimeArrayField((Time[])val), BinaryReaderExImpl::readTimeArray);
+
+            case OBJECT_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeObjectArrayField((Object[])val), BinaryReaderExImpl::readObjectArray);
+
+            case COL:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeCollectionField((Collection<?>)val), (r, fieldId) -> r.readCollection(fieldId, null));
+
+            case MAP:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeMapField((Map<?, ?>)val), (r, fieldId) -> r.readMap(fieldId, null));
+
+            case BINARY_OBJ:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeBinaryObjectField((BinaryObjectImpl)val), BinaryReaderExImpl::readBinaryObject);
+
+            case ENUM:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeEnumField((Enum<?>)val), (r, fieldId) -> r.readEnum(fieldId, type));
+
+            case ENUM_ARR:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeEnumArrayField((Object[])val),
+                    (r, fieldId) -> r.readEnumArray(fieldId, type.getComponentType()));
+
+            case BINARY_ENUM:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.doWriteBinaryEnum((BinaryEnumObjectImpl)val), BinaryReaderExImpl::readBinaryEnum);
+
+            case BINARY:
+            case OBJECT:
+                return new FixedTypeAccessor(field, id, mode, BinaryWriterExImpl::writeObjectField,
+                    BinaryReaderExImpl::readObject);
+
+            case CLASS:
+                return new FixedTypeAccessor(field, id, mode,
+                    (w, val) -> w.writeClassField((Class<?>)val), BinaryReaderExImpl::readClass);
 
             default:
-                return new DefaultFinalClassAccessor(field, id, mode, !U.isFinal(field.getType()));
+                return new DefaultFinalClassAccessor(field, id, mode, false);
         }
     }
 
@@ -465,6 +636,78 @@ public abstract class BinaryFieldAccessor {
         }
     }
 
+    /**
+     * Writes a field value of a fixed type.
+     */
+    private interface FieldWriter {
+        /**
+         * @param writer Writer.
+         * @param val Field value.
+         * @throws BinaryObjectException If failed.
+         */
+        void write(BinaryWriterExImpl writer, Object val) throws BinaryObjectException;
+    }
+
+    /**
+     * Reads a field value of a fixed type.
+     */
+    private interface FieldReader {
+        /**
+         * @param reader Reader.
+         * @param id Field ID.
+         * @return Field value.
+         * @throws BinaryObjectException If failed.
+         */
+        Object read(BinaryReaderExImpl reader, int id) throws BinaryObjectException;
+    }
+
+    /**
+     * Accessor of a non-primitive field of a fixed type. The field is accessed by offset instead of reflection
+     * and the value is written and read by the operations resolved on the creation.
+     */
+    private static class FixedTypeAccessor extends BinaryFieldAccessor {
+        /** Offset. */
+        private final long offset;
+
+        /** Value writer. */
+        private final FieldWriter fieldWriter;
+
+        /** Value reader. */
+        private final FieldReader fieldReader;
+
+        /**
+         * Constructor.
+         *
+         * @param field Field.
+         * @param id Field ID.
+         * @param mode Mode.
+         * @param fieldWriter Value writer.
+         * @param fieldReader Value reader.
+         */
+        FixedTypeAccessor(Field field, int id, BinaryWriteMode mode, FieldWriter fieldWriter, FieldReader fieldReader) {
+            super(field, id, mode);
+
+            assert !field.getType().isPrimitive() : field;
+
+            this.fieldWriter = fieldWriter;
+            this.fieldReader = fieldReader;
+
+            offset = GridUnsafe.objectFieldOffset(field);
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void write0(Object obj, BinaryWriterExImpl writer) throws BinaryObjectException {
+            writer.writeFieldIdNoSchemaUpdate(id);
+
+            fieldWriter.write(writer, GridUnsafe.getObjectField(obj, offset));
+        }
+
+        /** {@inheritDoc} */
+        @Override protected void read0(Object obj, BinaryReaderExImpl reader) throws BinaryObjectException {
+            GridUnsafe.putObjectField(obj, offset, fieldReader.read(reader, id));
+        }
+    }
+
     /**
      * Default accessor.
      */
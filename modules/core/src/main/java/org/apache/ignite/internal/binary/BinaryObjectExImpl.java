@@ -29,6 +29,8 @@ import org.apache.ignite.binary.BinaryObjectBuilder;
 import org.apache.ignite.binary.BinaryObjectException;
 import org.apache.ignite.binary.BinaryType;
 import org.apache.ignite.internal.binary.builder.BinaryObjectBuilderImpl;
+import org.apache.ignite.internal.binary.streams.BinaryHeapInputStream;
+import org.apache.ignite.internal.binary.streams.BinaryOffheapInputStream;
 import org.apache.ignite.internal.marshaller.optimized.OptimizedMarshallerInaccessibleClassException;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -156,6 +158,31 @@ public abstract class BinaryObjectExImpl implements BinaryObjectEx {
      */
     public abstract BinaryContext context();
 
+    /**
+     * Get offset of a field of the object with fixed layout.
+     *
+     * @param order Field order.
+     * @return Field offset relative to the object start.
+     * @see BinaryUtils#FLAG_FIXED_LAYOUT
+     */
+    int fixedLayoutFieldOffset(int order) {
+        BinarySchema schema = context().schemaRegistry(typeId()).schema(schemaId());
+
+        if (schema == null)
+            schema = createSchema();
+
+        int[] offs = schema.fixedLayoutOffsets();
+
+        if (offs == null) {
+            BinaryPositionReadable in = hasArray() ? BinaryHeapInputStream.create(array(), 0) :
+                new BinaryOffheapInputStream(offheapAddress(), start() + length());
+
+            offs = BinaryUtils.fixedLayoutOffsets(schema, in, start());
+        }
+
+        return offs[order];
+    }
+
     /** {@inheritDoc} */
     @Override public BinaryObjectBuilder toBuilder() throws BinaryObjectException {
         return BinaryObjectBuilderImpl.wrap(this);
@@ -434,23 +434,7 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
         Object val;
 
         // Calculate field position.
-        int schemaOff = BinaryPrimitives.readInt(arr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
-
-        short flags = BinaryPrimitives.readShort(arr, start + GridBinaryMarshaller.FLAGS_POS);
-
-        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
-        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
-
-        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
-
-        int fieldPos;
-
-        if (fieldOffLen == BinaryUtils.OFFSET_1)
-            fieldPos = start + ((int)BinaryPrimitives.readByte(arr, fieldOffsetPos) & 0xFF);
-        else if (fieldOffLen == BinaryUtils.OFFSET_2)
-            fieldPos = start + ((int)BinaryPrimitives.readShort(arr, fieldOffsetPos) & 0xFFFF);
-        else
-            fieldPos = start + BinaryPrimitives.readInt(arr, fieldOffsetPos);
+        int fieldPos = start + fieldOffset(order);
 
         // Read header and try performing fast lookup for well-known types (the most common types go first).
         byte hdr = BinaryPrimitives.readByte(arr, fieldPos);
@@ -577,26 +561,37 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
         return (F)val;
     }
 
-    /** {@inheritDoc} */
-    @Override public boolean writeFieldByOrder(int order, ByteBuffer buf) {
-        // Calculate field position.
-        int schemaOffset = BinaryPrimitives.readInt(arr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
-
+    /**
+     * Get offset of the field.
+     *
+     * @param order Field order.
+     * @return Field offset relative to the object start.
+     */
+    private int fieldOffset(int order) {
         short flags = BinaryPrimitives.readShort(arr, start + GridBinaryMarshaller.FLAGS_POS);
 
-        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
-        int fieldOffsetLen = BinaryUtils.fieldOffsetLength(flags);
+        if (BinaryUtils.isFixedLayout(flags))
+            return fixedLayoutFieldOffset(order);
 
-        int fieldOffsetPos = start + schemaOffset + order * (fieldIdLen + fieldOffsetLen) + fieldIdLen;
+        int schemaOff = BinaryPrimitives.readInt(arr, start + GridBinaryMarshaller.SCHEMA_OR_RAW_OFF_POS);
 
-        int fieldPos;
+        int fieldIdLen = BinaryUtils.isCompactFooter(flags) ? 0 : BinaryUtils.FIELD_ID_LEN;
+        int fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+
+        int fieldOffsetPos = start + schemaOff + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
 
-        if (fieldOffsetLen == BinaryUtils.OFFSET_1)
-            fieldPos = start + ((int)BinaryPrimitives.readByte(arr, fieldOffsetPos) & 0xFF);
-        else if (fieldOffsetLen == BinaryUtils.OFFSET_2)
-            fieldPos = start + ((int)BinaryPrimitives.readShort(arr, fieldOffsetPos) & 0xFFFF);
+        if (fieldOffLen == BinaryUtils.OFFSET_1)
+            return (int)BinaryPrimitives.readByte(arr, fieldOffsetPos) & 0xFF;
+        else if (fieldOffLen == BinaryUtils.OFFSET_2)
+            return (int)BinaryPrimitives.readShort(arr, fieldOffsetPos) & 0xFFFF;
         else
-            fieldPos = start + BinaryPrimitives.readInt(arr, fieldOffsetPos);
+            return BinaryPrimitives.readInt(arr, fieldOffsetPos);
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean writeFieldByOrder(int order, ByteBuffer buf) {
+        // Calculate field position.
+        int fieldPos = start + fieldOffset(order);
 
         // Read header and try performing fast lookup for well-known types (the most common types go first).
         byte hdr = BinaryPrimitives.readByte(arr, fieldPos);
@@ -703,6 +698,82 @@ public final class BinaryObjectImpl extends BinaryObjectExImpl implements Extern
         return reader(null, false).findFieldByName(fieldName);
     }
 
+    /**
+     * Adds a delta to an integer field of the object working directly on the serialized form: the field is updated
+     * in a copy of the object bytes and the hash code of the copy is recalculated.
+     *
+     * @param fieldName Field name.
+     * @param delta Delta.
+     * @return Object with the updated field or {@code null} if the object does not have the field.
+     * @throws BinaryObjectException If the field is not of an integer type or the new value overflows the field.
+     */
+    @Nullable public BinaryObjectImpl addToField(String fieldName, long delta) throws BinaryObjectException {
+        int order = ctx.createField(typeId(), fieldName).fieldOrder(this);
+
+        if (order == BinarySchema.ORDER_NOT_FOUND)
+            return null;
+
+        int fieldOff = fieldOffset(order);
+
+        byte hdr = BinaryPrimitives.readByte(arr, start + fieldOff);
+
+        byte[] arr0 = new byte[length()];
+
+        U.arrayCopy(arr, start, arr0, 0, arr0.length);
+
+        try {
+            switch (hdr) {
+                case GridBinaryMarshaller.BYTE: {
+                    long val = BinaryPrimitives.readByte(arr0, fieldOff + 1) + delta;
+
+                    if (val != (byte)val)
+                        throw new ArithmeticException("byte overflow");
+
+                    BinaryPrimitives.writeByte(arr0, fieldOff + 1, (byte)val);
+
+                    break;
+                }
+
+                case GridBinaryMarshaller.SHORT: {
+                    long val = BinaryPrimitives.readShort(arr0, fieldOff + 1) + delta;
+
+                    if (val != (short)val)
+                        throw new ArithmeticException("short overflow");
+
+                    BinaryPrimitives.writeShort(arr0, fieldOff + 1, (short)val);
+
+                    break;
+                }
+
+                case GridBinaryMarshaller.INT:
+                    BinaryPrimitives.writeInt(arr0, fieldOff + 1,
+                        Math.toIntExact(Math.addExact((long)BinaryPrimitives.readInt(arr0, fieldOff + 1), delta)));
+
+                    break;
+
+                case GridBinaryMarshaller.LONG:
+                    BinaryPrimitives.writeLong(arr0, fieldOff + 1,
+                        Math.addExact(BinaryPrimitives.readLong(arr0, fieldOff + 1), delta));
+
+                    break;
+
+                default:
+                    throw new BinaryObjectException("Field is not of an integer type [field=" + fieldName +
+                        ", typeId=" + typeId() + ", hdr=" + hdr + ']');
+            }
+        }
+        catch (ArithmeticException e) {
+            throw new BinaryObjectException("Field value overflow [field=" + fieldName + ", typeId=" + typeId() +
+                ", delta=" + delta + ']', e);
+        }
+
+        BinaryObjectImpl res = new BinaryObjectImpl(ctx, arr0, 0);
+
+        BinaryPrimitives.writeInt(arr0, GridBinaryMarshaller.HASH_CODE_POS, ctx.identity(typeId()).hashCode(res));
+
+        return res;
+    }
+
     /** {@inheritDoc} */
     @Nullable @Override public <T> T deserialize(@Nullable ClassLoader ldr) throws BinaryObjectException {
         if (ldr == null)
@@ -141,6 +141,9 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
     /** Offset size in bytes. */
     private final int fieldOffLen;
 
+    /** Whether object has fixed layout. */
+    private final boolean fixedLayout;
+
     /** Object schema. */
     private final BinarySchema schema;
 
@@ -234,6 +237,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
             userType = BinaryUtils.isUserType(flags);
             fieldIdLen = BinaryUtils.fieldIdLength(flags);
             fieldOffLen = BinaryUtils.fieldOffsetLength(flags);
+            fixedLayout = BinaryUtils.isFixedLayout(flags);
 
             // Calculate footer borders and raw offset.
             if (BinaryUtils.hasSchema(flags)) {
@@ -297,6 +301,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
             userType = false;
             fieldIdLen = 0;
             fieldOffLen = 0;
+            fixedLayout = false;
             schema = null;
         }
 
@@ -2095,7 +2100,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
 
         assert dataStart != start;
 
-        if (footerLen == 0)
+        if (footerLen == 0 && !fixedLayout)
             return false;
 
         if (userType) {
@@ -2169,7 +2174,7 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
         assert !raw; // Assert, not exception, because this is called only from internals for Serializable types.
         assert dataStart != start;
 
-        if (footerLen == 0)
+        if (footerLen == 0 && !fixedLayout)
             return false;
 
         if (userType) {
@@ -2211,9 +2216,15 @@ public class BinaryReaderExImpl implements BinaryReader, BinaryRawReaderEx, Bina
      */
     private boolean trySetUserFieldPosition(int order) {
         if (order != BinarySchema.ORDER_NOT_FOUND) {
-            int offsetPos = footerStart + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
+            int pos;
+
+            if (fixedLayout)
+                pos = start + BinaryUtils.fixedLayoutOffsets(schema, in, start)[order];
+            else {
+                int offsetPos = footerStart + order * (fieldIdLen + fieldOffLen) + fieldIdLen;
 
-            int pos = start + BinaryUtils.fieldOffsetRelative(in, offsetPos, fieldOffLen);
+                pos = start + BinaryUtils.fieldOffsetRelative(in, offsetPos, fieldOffLen);
+            }
 
             streamPosition(pos);
 
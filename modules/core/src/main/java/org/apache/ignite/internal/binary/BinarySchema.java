@@ -75,6 +75,9 @@ public class BinarySchema implements Externalizable {
     /** ID 4. */
     private int id3;
 
+    /** Field offsets of objects with fixed layout, calculated on the first access. */
+    private volatile int[] fixedOffs;
+
     /**
      * {@link Externalizable} support.
      */
@@ -279,6 +282,21 @@ public class BinarySchema implements Externalizable {
         return ids;
     }
 
+    /**
+     * @return Field offsets of objects with fixed layout or {@code null} if they are not calculated yet.
+     * @see BinaryUtils#fixedLayoutOffsets(BinarySchema, BinaryPositionReadable, int)
+     */
+    int[] fixedLayoutOffsets() {
+        return fixedOffs;
+    }
+
+    /**
+     * @param fixedOffs Field offsets of objects with fixed layout.
+     */
+    void fixedLayoutOffsets(int[] fixedOffs) {
+        this.fixedOffs = fixedOffs;
+    }
+
     /**
      * Parse values.
      *
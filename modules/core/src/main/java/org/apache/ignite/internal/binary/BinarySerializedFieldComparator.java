@@ -48,6 +48,9 @@ public class BinarySerializedFieldComparator {
     /** Field offset length. */
     private final int fieldOffLen;
 
+    /** Whether object has fixed layout, so field offsets are taken from schema rather than footer. */
+    private final boolean fixedLayout;
+
     /** Current field order. */
     private int curFieldOrder;
 
@@ -76,6 +79,8 @@ public class BinarySerializedFieldComparator {
         this.orderBase = orderBase;
         this.orderMultiplier = orderMultiplier;
         this.fieldOffLen = fieldOffLen;
+
+        fixedLayout = obj.isFlagSet(BinaryUtils.FLAG_FIXED_LAYOUT);
     }
 
     /**
@@ -88,6 +93,8 @@ public class BinarySerializedFieldComparator {
 
         if (order == BinarySchema.ORDER_NOT_FOUND)
             curFieldPos = POS_NOT_FOUND;
+        else if (fixedLayout)
+            curFieldPos = startOff + obj.fixedLayoutFieldOffset(order);
         else {
             int pos = orderBase + order * orderMultiplier;
 
@@ -143,6 +143,12 @@ public class BinaryUtils {
     @SuppressWarnings("unused")
     public static final short FLAG_CUSTOM_DOTNET_TYPE = 0x0040;
 
+    /**
+     * Flag: fixed layout, all fields have fixed length and follow each other in the schema order, there is no footer.
+     * Such objects always have compact footer flag set.
+     */
+    public static final short FLAG_FIXED_LAYOUT = 0x0080;
+
     /** Offset which fits into 1 byte. */
     public static final int OFFSET_1 = 1;
 
@@ -346,6 +352,16 @@ public class BinaryUtils {
         return isFlagSet(flags, FLAG_COMPACT_FOOTER);
     }
 
+    /**
+     * Check if fixed layout flag is set.
+     *
+     * @param flags Flags.
+     * @return {@code True} if set.
+     */
+    public static boolean isFixedLayout(short flags) {
+        return isFlagSet(flags, FLAG_FIXED_LAYOUT);
+    }
+
     /**
      * Check whether particular flag is set.
      *
@@ -955,6 +971,72 @@ public class BinaryUtils {
         return isCompactFooter(flags) ? 0 : FIELD_ID_LEN;
     }
 
+    /**
+     * Get length of a field of an object with fixed layout.
+     *
+     * @param type Field type.
+     * @return Field length including type byte or {@code -1} if values of the type have variable length.
+     */
+    public static int fixedLayoutFieldLength(byte type) {
+        switch (type) {
+            case GridBinaryMarshaller.BYTE:
+            case GridBinaryMarshaller.BOOLEAN:
+                return 2;
+
+            case GridBinaryMarshaller.SHORT:
+            case GridBinaryMarshaller.CHAR:
+                return 3;
+
+            case GridBinaryMarshaller.INT:
+            case GridBinaryMarshaller.FLOAT:
+                return 5;
+
+            case GridBinaryMarshaller.LONG:
+            case GridBinaryMarshaller.DOUBLE:
+                return 9;
+
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Get offsets of fields of an object with fixed layout. Offsets are the same for all objects with the schema,
+     * so they are calculated once and cached in the schema.
+     *
+     * @param schema Object schema.
+     * @param in Input stream.
+     * @param start Object start position inside the stream.
+     * @return Field offsets relative to the object start in the schema order.
+     */
+    public static int[] fixedLayoutOffsets(BinarySchema schema, BinaryPositionReadable in, int start) {
+        int[] offs = schema.fixedLayoutOffsets();
+
+        if (offs != null)
+            return offs;
+
+        offs = new int[schema.fieldIds().length];
+
+        int off = GridBinaryMarshaller.DFLT_HDR_LEN;
+
+        for (int i = 0; i < offs.length; i++) {
+            offs[i] = off;
+
+            int len = fixedLayoutFieldLength(in.readBytePositioned(start + off));
+
+            if (len < 0) {
+                throw new BinaryObjectException("Field of object with fixed layout has variable length [schemaId=" +
+                    schema.schemaId() + ", fieldId=" + schema.fieldId(i) + ']');
+            }
+
+            off += len;
+        }
+
+        schema.fixedLayoutOffsets(offs);
+
+        return offs;
+    }
+
     /**
      * Get relative field offset.
      *
@@ -2735,6 +2817,64 @@ public class BinaryUtils {
             : obj == null ? null : obj.getClass().getSimpleName();
     }
 
+    /**
+     * Adds a delta to an integer field of a binary object. The field of a heap or off-heap binary object is updated
+     * in a copy of its serialized form, other objects are rebuilt.
+     *
+     * @param obj Binary object.
+     * @param fieldName Field name.
+     * @param delta Delta.
+     * @return Object with the updated field or {@code null} if the object does not have the field.
+     * @throws BinaryObjectException If the field is not of an integer type or the new value overflows the field.
+     */
+    @Nullable public static BinaryObject addToField(BinaryObject obj, String fieldName, long delta)
+        throws BinaryObjectException {
+        if (obj instanceof BinaryObjectOffheapImpl)
+            obj = ((BinaryObjectOffheapImpl)obj).heapCopy();
+
+        if (obj instanceof BinaryObjectImpl)
+            return ((BinaryObjectImpl)obj).addToField(fieldName, delta);
+
+        if (!obj.hasField(fieldName))
+            return null;
+
+        Object val = obj.field(fieldName);
+        Object res;
+
+        try {
+            if (val instanceof Long)
+                res = Math.addExact((Long)val, delta);
+            else if (val instanceof Integer)
+                res = Math.toIntExact(Math.addExact((long)(Integer)val, delta));
+            else if (val instanceof Short) {
+                long res0 = (Short)val + delta;
+
+                if (res0 != (short)res0)
+                    throw new ArithmeticException("short overflow");
+
+                res = (short)res0;
+            }
+            else if (val instanceof Byte) {
+                long res0 = (Byte)val + delta;
+
+                if (res0 != (byte)res0)
+                    throw new ArithmeticException("byte overflow");
+
+                res = (byte)res0;
+            }
+            else {
+                throw new BinaryObjectException("Field is not of an integer type [field=" + fieldName +
+                    ", type=" + obj.type().typeName() + ']');
+            }
+        }
+        catch (ArithmeticException e) {
+            throw new BinaryObjectException("Field value overflow [field=" + fieldName + ", type=" +
+                obj.type().typeName() + ", delta=" + delta + ']', e);
+        }
+
+        return obj.toBuilder().setField(fieldName, res).build();
+    }
+
     /**
      * Enum type.
      */
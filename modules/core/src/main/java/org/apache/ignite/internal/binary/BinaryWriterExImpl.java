@@ -274,10 +274,31 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
      * @param registered Whether type is registered.
      */
     public void postWrite(boolean userType, boolean registered) {
+        postWrite(userType, registered, false);
+    }
+
+    /**
+     * Perform post-write. Fills object header.
+     *
+     * @param userType User type flag.
+     * @param registered Whether type is registered.
+     * @param fixedLayout Whether to write object in fixed layout. All fields must be of primitive types then.
+     * @see BinaryUtils#FLAG_FIXED_LAYOUT
+     */
+    public void postWrite(boolean userType, boolean registered, boolean fixedLayout) {
         short flags;
         boolean useCompactFooter;
 
-        if (userType) {
+        if (fixedLayout) {
+            assert userType && registered && ctx.isCompactFooter();
+            assert fieldCnt != 0 && rawOffPos == 0;
+
+            // Field offsets are defined by the schema, so the footer is not written.
+            flags = BinaryUtils.FLAG_USR_TYP | BinaryUtils.FLAG_COMPACT_FOOTER | BinaryUtils.FLAG_HAS_SCHEMA |
+                BinaryUtils.FLAG_FIXED_LAYOUT;
+            useCompactFooter = true;
+        }
+        else if (userType) {
             if (ctx.isCompactFooter()) {
                 flags = BinaryUtils.FLAG_USR_TYP | BinaryUtils.FLAG_COMPACT_FOOTER;
                 useCompactFooter = true;
@@ -294,7 +315,9 @@ public class BinaryWriterExImpl implements BinaryWriter, BinaryRawWriterEx, Obje
 
         int offset;
 
-        if (fieldCnt != 0) {
+        if (fixedLayout)
+            offset = out.position() - start;
+        else if (fieldCnt != 0) {
             offset = out.position() - start;
 
             // Write the schema.
@@ -251,11 +251,13 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
                 // Position reader on data.
                 reader.position(start + hdrLen);
 
+                boolean fixedLayout = BinaryUtils.isFixedLayout(flags);
+
                 int idx = 0;
 
                 while (reader.position() < rawPos) {
                     int fieldId = schema.fieldId(idx++);
-                    int fieldLen =
+                    int fieldLen = fixedLayout ? BinaryUtils.fixedLayoutFieldLength(reader.readByte(0)) :
                         fieldPositionAndLength(footerPos, footerEnd, rawPos, fieldIdLen, fieldOffsetLen).get2();
 
                     int postPos = reader.position() + fieldLen; // Position where reader will be placed afterwards.
@@ -507,6 +509,17 @@ public class BinaryObjectBuilderImpl implements BinaryObjectBuilder {
 
             int idx = 0;
 
+            if (BinaryUtils.isFixedLayout(flags)) {
+                // There is no footer, fields follow each other up to the end of the object.
+                for (int pos = start + hdrLen; pos < rawPos; ) {
+                    int fieldLen = BinaryUtils.fixedLayoutFieldLength(reader.readBytePositioned(pos));
+
+                    readCache.put(schema.fieldId(idx++), reader.getValueQuickly(pos, fieldLen));
+
+                    pos += fieldLen;
+                }
+            }
+
             while (footerPos + fieldIdLen < footerEnd) {
                 int fieldId = schema.fieldId(idx++);
 
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.ignite.client.ClientDataStreamer;
+import org.apache.ignite.client.ClientDataStreamerConfiguration;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClientFuture;
+import org.apache.ignite.internal.binary.streams.BinaryOutputStream;
+import org.apache.ignite.internal.processors.platform.client.ClientPlatform;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.stream.StreamReceiver;
+
+import static org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerFlags.ALLOW_OVERWRITE;
+import static org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerFlags.CLOSE;
+import static org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerFlags.KEEP_BINARY;
+import static org.apache.ignite.internal.processors.platform.client.streamer.ClientDataStreamerFlags.SKIP_STORE;
+
+/**
+ * Client data streamer.
+ * <p>
+ * Every batch is sent as a one-off server streamer: the {@link ClientOperation#DATA_STREAMER_START} request carries
+ * the entries along with the close flag, so the server does not keep any state between batches, and batches of
+ * different nodes and of the same node are processed concurrently.
+ */
+class ClientDataStreamerImpl<K, V> implements ClientDataStreamer<K, V> {
+    /** Buffer key for entries whose primary node is unknown. */
+    private static final UUID ANY_NODE = new UUID(0, 0);
+
+    /** Channel. */
+    private final ReliableChannel ch;
+
+    /** Serializer/deserializer. */
+    private final ClientUtils serDes;
+
+    /** Cache name. */
+    private final String cacheName;
+
+    /** Cache ID. */
+    private final int cacheId;
+
+    /** Per node buffer size. */
+    private final int perNodeBufSize;
+
+    /** Per node parallel operations. */
+    private final int perNodeParallelOps;
+
+    /** Stream receiver. */
+    private final StreamReceiver<?, ?> receiver;
+
+    /** Request flags. */
+    private final byte flags;
+
+    /** Buffers by node ID, guarded by {@code this}. */
+    private final Map<UUID, List<T2<Object, Object>>> bufs = new HashMap<>();
+
+    /** Permits of concurrent batches by node ID. */
+    private final ConcurrentMap<UUID, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /** Batches being sent or processed. */
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+
+    /** First error of a batch. */
+    private final AtomicReference<Throwable> err = new AtomicReference<>();
+
+    /** Closed flag, guarded by {@code this}. */
+    private boolean closed;
+
+    /**
+     * @param ch Channel.
+     * @param serDes Serializer/deserializer.
+     * @param cacheName Cache name.
+     * @param cfg Configuration.
+     */
+    ClientDataStreamerImpl(ReliableChannel ch, ClientUtils serDes, String cacheName, ClientDataStreamerConfiguration cfg) {
+        A.ensure(cfg.getPerNodeBufferSize() > 0, "perNodeBufferSize > 0");
+        A.ensure(cfg.getPerNodeParallelOperations() > 0, "perNodeParallelOperations > 0");
+
+        this.ch = ch;
+        this.serDes = serDes;
+        this.cacheName = cacheName;
+
+        cacheId = ClientUtils.cacheId(cacheName);
+        perNodeBufSize = cfg.getPerNodeBufferSize();
+        perNodeParallelOps = cfg.getPerNodeParallelOperations();
+        receiver = cfg.getReceiver();
+
+        byte flags = CLOSE;
+
+        if (cfg.isAllowOverwrite())
+            flags |= ALLOW_OVERWRITE;
+
+        if (cfg.isSkipStore())
+            flags |= SKIP_STORE;
+
+        if (cfg.isKeepBinary())
+            flags |= KEEP_BINARY;
+
+        this.flags = flags;
+
+        ch.registerCacheIfCustomAffinity(cacheName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String cacheName() {
+        return cacheName;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addData(K key, V val) throws ClientException {
+        A.notNull(key, "key");
+
+        checkError();
+
+        UUID nodeId = ch.affinityNode(cacheId, key);
+
+        if (nodeId == null)
+            nodeId = ANY_NODE;
+
+        List<T2<Object, Object>> batch = null;
+
+        synchronized (this) {
+            if (closed)
+                throw new ClientException("Data streamer is closed.");
+
+            List<T2<Object, Object>> buf = bufs.computeIfAbsent(nodeId, id -> new ArrayList<>(perNodeBufSize));
+
+            buf.add(new T2<>(key, val));
+
+            if (buf.size() >= perNodeBufSize)
+                batch = bufs.remove(nodeId);
+        }
+
+        if (batch != null)
+            send(nodeId, batch);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void addData(Map<? extends K, ? extends V> entries) throws ClientException {
+        A.notNull(entries, "entries");
+
+        for (Map.Entry<? extends K, ? extends V> e : entries.entrySet())
+            addData(e.getKey(), e.getValue());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void removeData(K key) throws ClientException {
+        addData(key, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void flush() throws ClientException {
+        synchronized (this) {
+            if (closed)
+                throw new ClientException("Data streamer is closed.");
+        }
+
+        await(flushAsync());
+    }
+
+    /** {@inheritDoc} */
+    @Override public IgniteClientFuture<Void> flushAsync() {
+        Map<UUID, List<T2<Object, Object>>> batches;
+
+        synchronized (this) {
+            batches = new HashMap<>(bufs);
+
+            bufs.clear();
+        }
+
+        for (Map.Entry<UUID, List<T2<Object, Object>>> e : batches.entrySet())
+            send(e.getKey(), e.getValue());
+
+        CompletableFuture<Void> fut = CompletableFuture.allOf(inFlight.toArray(new CompletableFuture[0]))
+            .handle((res, e) -> {
+                Throwable err0 = err.get();
+
+                if (err0 != null)
+                    throw new ClientException("Data streamer failed to send a batch: " + err0.getMessage(), err0);
+
+                return null;
+            });
+
+        return new IgniteClientFutureImpl<>(fut);
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close(boolean cancel) throws ClientException {
+        synchronized (this) {
+            if (closed)
+                return;
+
+            closed = true;
+
+            if (cancel)
+                bufs.clear();
+        }
+
+        if (!cancel)
+            await(flushAsync());
+    }
+
+    /** {@inheritDoc} */
+    @Override public void close() throws ClientException {
+        close(false);
+    }
+
+    /**
+     * Sends the batch to the node. Blocks while the node processes the maximal number of batches.
+     *
+     * @param nodeId Node ID or {@link #ANY_NODE}.
+     * @param batch Entries.
+     */
+    private void send(UUID nodeId, List<T2<Object, Object>> batch) {
+        Semaphore sem = permits.computeIfAbsent(nodeId, id -> new Semaphore(perNodeParallelOps));
+
+        try {
+            sem.acquire();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new ClientException("Thread has been interrupted.", e);
+        }
+
+        CompletableFuture<Void> fut = new CompletableFuture<>();
+
+        inFlight.add(fut);
+
+        try {
+            ch.nodeServiceAsync(
+                nodeId == ANY_NODE ? null : nodeId,
+                ClientOperation.DATA_STREAMER_START,
+                req -> writeBatch(req.out(), batch),
+                null
+            ).whenComplete((res, e) -> onBatchDone(sem, fut, e));
+        }
+        catch (Throwable e) {
+            onBatchDone(sem, fut, e);
+        }
+    }
+
+    /**
+     * @param sem Permits of the node.
+     * @param fut Batch future.
+     * @param e Error or {@code null} if the batch has been processed.
+     */
+    private void onBatchDone(Semaphore sem, CompletableFuture<Void> fut, Throwable e) {
+        sem.release();
+
+        if (e != null)
+            err.compareAndSet(null, e);
+
+        inFlight.remove(fut);
+
+        if (e != null)
+            fut.completeExceptionally(e);
+        else
+            fut.complete(null);
+    }
+
+    /**
+     * Writes the start request of the one-off server streamer.
+     *
+     * @param out Output stream.
+     * @param batch Entries.
+     */
+    private void writeBatch(BinaryOutputStream out, List<T2<Object, Object>> batch) {
+        out.writeInt(cacheId);
+        out.writeByte(flags);
+
+        // Server buffer sizes: the batch is sent to the cluster as is.
+        out.writeInt(-1);
+        out.writeInt(-1);
+
+        serDes.writeObject(out, receiver);
+
+        if (receiver != null)
+            out.writeByte(ClientPlatform.JAVA);
+
+        ClientUtils.collection(batch, out, (o, e) -> {
+            serDes.writeObject(o, e.get1());
+            serDes.writeObject(o, e.get2());
+        });
+    }
+
+    /**
+     * @throws ClientException If one of the batches failed.
+     */
+    private void checkError() throws ClientException {
+        Throwable err0 = err.get();
+
+        if (err0 != null)
+            throw new ClientException("Data streamer failed to send a batch: " + err0.getMessage(), err0);
+    }
+
+    /**
+     * @param fut Future.
+     * @throws ClientException If the future failed.
+     */
+    private static void await(IgniteClientFuture<Void> fut) throws ClientException {
+        try {
+            fut.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new ClientException("Thread has been interrupted.", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof ClientException)
+                throw (ClientException)cause;
+
+            throw new ClientException(cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.cache.event.CacheEntryEvent;
+import org.apache.ignite.IgniteLogger;
+import org.apache.ignite.cache.query.ContinuousQuery;
+import org.apache.ignite.cache.query.QueryCursor;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.ClientNearCacheConfiguration;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thin client near cache.
+ * <p>
+ * Values are cached only while the continuous query which invalidates entries updated on the server is active.
+ * The query is registered on the first load of a value (in the background for asynchronous loads) and is dropped
+ * with the channel it was registered on, in this case the near cache is cleared and the query is registered again
+ * on the next load.
+ * <p>
+ * A value loaded from the server may be outdated by an invalidation that is processed before the load completes.
+ * To close this race, every invalidation increments the near cache version and a loaded value is cached only if
+ * the version has not changed since the load started.
+ */
+class ClientNearCache<K, V> {
+    /** Value returned by {@link #startLoad(TcpClientCache)} if loaded value must not be cached. */
+    static final long NO_VERSION = -1L;
+
+    /** Cache name. */
+    private final String name;
+
+    /** Entries in access order, guarded by {@link #lock}. */
+    @GridToStringExclude
+    private final LinkedHashMap<K, V> entries;
+
+    /** Lock guarding {@link #entries}. Lock is used instead of monitor to avoid pinning of virtual threads. */
+    private final Lock lock = new ReentrantLock();
+
+    /** Version incremented on every invalidation. */
+    private final AtomicLong ver = new AtomicLong();
+
+    /** Continuous query cursor, {@code null} if invalidations are not received. */
+    private volatile QueryCursor<?> invalidationCur;
+
+    /** Whether the continuous query is being registered. */
+    private final AtomicBoolean activating = new AtomicBoolean();
+
+    /** Number of reads served by the near cache. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Number of reads not served by the near cache. */
+    private final LongAdder misses = new LongAdder();
+
+    /** Logger. */
+    private final IgniteLogger log;
+
+    /**
+     * @param cfg Near cache configuration.
+     * @param log Logger.
+     */
+    ClientNearCache(ClientNearCacheConfiguration cfg, IgniteLogger log) {
+        A.notNull(cfg.getName(), "name");
+        A.ensure(cfg.getMaxSize() > 0, "maxSize > 0");
+
+        name = cfg.getName();
+        this.log = log;
+
+        int maxSize = cfg.getMaxSize();
+
+        entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+            /** */
+            private static final long serialVersionUID = 0L;
+
+            /** {@inheritDoc} */
+            @Override protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param key Key.
+     * @return Cached value or {@code null} if value is not cached.
+     */
+    @Nullable V get(K key) {
+        V val = null;
+
+        if (invalidationCur != null) {
+            lock.lock();
+
+            try {
+                val = entries.get(key);
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+
+        if (val != null)
+            hits.increment();
+        else
+            misses.increment();
+
+        return val;
+    }
+
+    /**
+     * Prepares to load a value from the server. Registers the continuous query which invalidates updated entries,
+     * if it is not registered yet.
+     *
+     * @param cache Cache to register the continuous query with.
+     * @return Version to pass to {@link #onLoaded(Object, Object, long)} or {@link #NO_VERSION} if the value must
+     *      not be cached.
+     */
+    long startLoad(TcpClientCache<K, V> cache) {
+        if (invalidationCur == null && activating.compareAndSet(false, true))
+            activate(cache);
+
+        return version();
+    }
+
+    /**
+     * Prepares to load a value from the server asynchronously. Unlike {@link #startLoad(TcpClientCache)}, does not
+     * block the caller: the continuous query is registered in the background, and values loaded before it is
+     * registered are not cached.
+     *
+     * @param cache Cache to register the continuous query with.
+     * @return Version to pass to {@link #onLoaded(Object, Object, long)} or {@link #NO_VERSION} if the value must
+     *      not be cached.
+     */
+    long startLoadAsync(TcpClientCache<K, V> cache) {
+        if (invalidationCur == null && activating.compareAndSet(false, true)) {
+            try {
+                ForkJoinPool.commonPool().execute(() -> activate(cache));
+            }
+            catch (RuntimeException e) {
+                activating.set(false);
+
+                throw e;
+            }
+        }
+
+        return version();
+    }
+
+    /**
+     * Registers the continuous query which invalidates updated entries.
+     *
+     * @param cache Cache to register the continuous query with.
+     */
+    private void activate(TcpClientCache<K, V> cache) {
+        try {
+            ContinuousQuery<K, V> qry = new ContinuousQuery<K, V>()
+                .setLocalListener(evts -> {
+                    for (CacheEntryEvent<? extends K, ? extends V> evt : evts)
+                        invalidate(evt.getKey());
+                });
+
+            qry.setIncludeExpired(true);
+
+            invalidationCur = cache.query(qry, e -> onDisconnected());
+        }
+        catch (ClientException e) {
+            U.warn(log, "Failed to start invalidation of the thin client near cache, values will not be " +
+                "cached [cache=" + name + ", err=" + e.getMessage() + ']');
+        }
+        finally {
+            activating.set(false);
+        }
+    }
+
+    /**
+     * @return Current version to pass to {@link #onLoaded(Object, Object, long)} or {@link #NO_VERSION} if loaded
+     *      values must not be cached.
+     */
+    long version() {
+        return invalidationCur != null ? ver.get() : NO_VERSION;
+    }
+
+    /**
+     * Caches a value loaded from the server.
+     *
+     * @param key Key.
+     * @param val Value or {@code null} if there is no value for the key.
+     * @param loadVer Version returned by {@link #startLoad(TcpClientCache)} before the load.
+     */
+    void onLoaded(K key, @Nullable V val, long loadVer) {
+        if (val == null || loadVer == NO_VERSION || ver.get() != loadVer)
+            return;
+
+        lock.lock();
+
+        try {
+            // Checked under the lock, so concurrent invalidation either changes the version or removes the entry.
+            if (ver.get() == loadVer)
+                entries.put(key, val);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param key Key of the updated entry.
+     */
+    void invalidate(K key) {
+        lock.lock();
+
+        try {
+            ver.incrementAndGet();
+
+            entries.remove(key);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        lock.lock();
+
+        try {
+            ver.incrementAndGet();
+
+            entries.clear();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Called when the continuous query is dropped, since updates may be missed after that.
+     */
+    private void onDisconnected() {
+        invalidationCur = null;
+
+        clear();
+    }
+
+    /**
+     * @return Number of cached entries.
+     */
+    int size() {
+        lock.lock();
+
+        try {
+            return entries.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of reads served by the near cache.
+     */
+    long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return Number of reads not served by the near cache.
+     */
+    long misses() {
+        return misses.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ClientNearCache.class, this);
+    }
+}
@@ -219,6 +219,12 @@ public enum ClientOperation {
     /** Get service topology. */
     SERVICE_GET_TOPOLOGY(7003),
 
+    /** Start a data streamer. */
+    DATA_STREAMER_START(8000),
+
+    /** Add data to a data streamer. */
+    DATA_STREAMER_ADD_DATA(8001),
+
     /** Get or create an AtomicLong by name. */
     ATOMIC_LONG_CREATE(9000),
 
@@ -444,6 +450,10 @@ public enum ClientOperation {
             case SERVICE_GET_DESCRIPTOR:
                 return ClientOperationType.SERVICE_GET_DESCRIPTOR;
 
+            case DATA_STREAMER_START:
+            case DATA_STREAMER_ADD_DATA:
+                return ClientOperationType.DATA_STREAMER_ADD_DATA;
+
             case ATOMIC_LONG_CREATE:
                 return ClientOperationType.ATOMIC_LONG_CREATE;
 
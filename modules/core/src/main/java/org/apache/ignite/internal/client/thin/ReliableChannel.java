@@ -33,7 +33,9 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -113,6 +115,9 @@ final class ReliableChannel implements AutoCloseable {
     /** Guard channels and curChIdx together. */
     private final ReadWriteLock curChannelsGuard = new ReentrantReadWriteLock();
 
+    /** Guards channel holders initialization and closing, may be held during network operations. */
+    private final Lock channelsLock = new ReentrantLock();
+
     /** Connection manager. */
     private final ClientConnectionMultiplexer connMgr;
 
@@ -155,23 +160,30 @@ final class ReliableChannel implements AutoCloseable {
     }
 
     /** {@inheritDoc} */
-    @Override public synchronized void close() {
-        if (log.isDebugEnabled())
-            log.debug("ReliableChannel stopping");
+    @Override public void close() {
+        channelsLock.lock();
 
-        closed = true;
+        try {
+            if (log.isDebugEnabled())
+                log.debug("ReliableChannel stopping");
 
-        connMgr.stop();
+            closed = true;
 
-        List<ClientChannelHolder> holders = channels;
+            connMgr.stop();
 
-        if (holders != null) {
-            for (ClientChannelHolder hld: holders)
-                hld.close();
-        }
+            List<ClientChannelHolder> holders = channels;
 
-        if (log.isDebugEnabled())
-            log.debug("ReliableChannel stopped");
+            if (holders != null) {
+                for (ClientChannelHolder hld: holders)
+                    hld.close();
+            }
+
+            if (log.isDebugEnabled())
+                log.debug("ReliableChannel stopped");
+        }
+        finally {
+            channelsLock.unlock();
+        }
     }
 
     /**
@@ -388,27 +400,49 @@ final class ReliableChannel implements AutoCloseable {
         Consumer<PayloadOutputChannel> payloadWriter,
         Function<PayloadInputChannel, T> payloadReader
     ) throws ClientException, ClientError {
-        if (partitionAwarenessEnabled && affinityInfoIsUpToDate(cacheId)) {
-            UUID affNodeId = affinityCtx.affinityNode(cacheId, key);
+        return nodeServiceAsync(affinityNode(cacheId, key), op, payloadWriter, payloadReader);
+    }
 
-            if (affNodeId != null) {
-                CompletableFuture<T> fut = new CompletableFuture<>();
-                List<ClientConnectionException> failures = new ArrayList<>();
+    /**
+     * Send request to the node and handle response. Falls back to the default channel if the node is unknown or
+     * there is no connection to it.
+     */
+    public <T> IgniteClientFuture<T> nodeServiceAsync(
+        @Nullable UUID nodeId,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
+    ) throws ClientException, ClientError {
+        if (nodeId != null) {
+            CompletableFuture<T> fut = new CompletableFuture<>();
+            List<ClientConnectionException> failures = new ArrayList<>();
 
-                Object result = applyOnNodeChannel(
-                    affNodeId,
-                    channel -> applyOnClientChannelAsync(fut, channel, op, payloadWriter, payloadReader, failures),
-                    failures
-                );
+            Object result = applyOnNodeChannel(
+                nodeId,
+                channel -> applyOnClientChannelAsync(fut, channel, op, payloadWriter, payloadReader, failures),
+                failures
+            );
 
-                if (result != null)
-                    return new IgniteClientFutureImpl<>(fut);
-            }
+            if (result != null)
+                return new IgniteClientFutureImpl<>(fut);
         }
 
         return serviceAsync(op, payloadWriter, payloadReader);
     }
 
+    /**
+     * @param cacheId Cache ID.
+     * @param key Key.
+     * @return ID of the primary node of the key or {@code null} if partition awareness is disabled or
+     * affinity information for the cache is not available.
+     */
+    @Nullable public UUID affinityNode(int cacheId, Object key) {
+        if (partitionAwarenessEnabled && affinityInfoIsUpToDate(cacheId))
+            return affinityCtx.affinityNode(cacheId, key);
+
+        return null;
+    }
+
     /**
      * @param cacheName Cache name.
      */
@@ -615,114 +649,121 @@ final class ReliableChannel implements AutoCloseable {
     /**
      * Init channel holders to all nodes.
      */
-    synchronized void initChannelHolders() {
-        List<ClientChannelHolder> holders = channels;
+    void initChannelHolders() {
+        channelsLock.lock();
 
-        startChannelsReInit = System.currentTimeMillis();
+        try {
+            List<ClientChannelHolder> holders = channels;
 
-        // Enable parallel threads to schedule new init of channel holders.
-        scheduledChannelsReinit.set(false);
+            startChannelsReInit = System.currentTimeMillis();
 
-        Collection<List<InetSocketAddress>> newAddrs = discoveryCtx.getEndpoints();
+            // Enable parallel threads to schedule new init of channel holders.
+            scheduledChannelsReinit.set(false);
 
-        if (newAddrs == null) {
-            finishChannelsReInit = System.currentTimeMillis();
+            Collection<List<InetSocketAddress>> newAddrs = discoveryCtx.getEndpoints();
 
-            return;
-        }
+            if (newAddrs == null) {
+                finishChannelsReInit = System.currentTimeMillis();
+
+                return;
+            }
 
-        Map<InetSocketAddress, ClientChannelHolder> curAddrs = new HashMap<>();
+            Map<InetSocketAddress, ClientChannelHolder> curAddrs = new HashMap<>();
 
-        Set<InetSocketAddress> newAddrsSet = newAddrs.stream().flatMap(Collection::stream).collect(Collectors.toSet());
+            Set<InetSocketAddress> newAddrsSet = newAddrs.stream().flatMap(Collection::stream).collect(Collectors.toSet());
 
-        // Close obsolete holders or map old but valid addresses to holders
-        if (holders != null) {
-            for (ClientChannelHolder h : holders) {
-                boolean found = false;
+            // Close obsolete holders or map old but valid addresses to holders
+            if (holders != null) {
+                for (ClientChannelHolder h : holders) {
+                    boolean found = false;
 
-                for (InetSocketAddress addr : h.getAddresses()) {
-                    // If new endpoints contain at least one of channel addresses, don't close this channel.
-                    if (newAddrsSet.contains(addr)) {
-                        ClientChannelHolder oldHld = curAddrs.putIfAbsent(addr, h);
+                    for (InetSocketAddress addr : h.getAddresses()) {
+                        // If new endpoints contain at least one of channel addresses, don't close this channel.
+                        if (newAddrsSet.contains(addr)) {
+                            ClientChannelHolder oldHld = curAddrs.putIfAbsent(addr, h);
 
-                        if (oldHld == null || oldHld == h) // If not duplicate.
-                            found = true;
+                            if (oldHld == null || oldHld == h) // If not duplicate.
+                                found = true;
+                        }
                     }
-                }
 
-                if (!found)
-                    h.close();
+                    if (!found)
+                        h.close();
+                }
             }
-        }
 
-        List<ClientChannelHolder> reinitHolders = new ArrayList<>();
+            List<ClientChannelHolder> reinitHolders = new ArrayList<>();
 
-        // The variable holds a new index of default channel after topology change.
-        // Suppose that reuse of the channel is better than open new connection.
-        int dfltChannelIdx = -1;
+            // The variable holds a new index of default channel after topology change.
+            // Suppose that reuse of the channel is better than open new connection.
+            int dfltChannelIdx = -1;
 
-        ClientChannelHolder currDfltHolder = null;
+            ClientChannelHolder currDfltHolder = null;
 
-        int idx = curChIdx;
+            int idx = curChIdx;
 
-        if (idx != -1)
-            currDfltHolder = holders.get(idx);
+            if (idx != -1)
+                currDfltHolder = holders.get(idx);
 
-        for (List<InetSocketAddress> addrs : newAddrs) {
-            ClientChannelHolder hld = null;
+            for (List<InetSocketAddress> addrs : newAddrs) {
+                ClientChannelHolder hld = null;
 
-            // Try to find already created channel holder.
-            for (InetSocketAddress addr : addrs) {
-                hld = curAddrs.get(addr);
+                // Try to find already created channel holder.
+                for (InetSocketAddress addr : addrs) {
+                    hld = curAddrs.get(addr);
 
-                if (hld != null) {
-                    if (!hld.getAddresses().equals(addrs)) // Enrich holder addresses.
-                        hld.setConfiguration(new ClientChannelConfiguration(clientCfg, addrs));
+                    if (hld != null) {
+                        if (!hld.getAddresses().equals(addrs)) // Enrich holder addresses.
+                            hld.setConfiguration(new ClientChannelConfiguration(clientCfg, addrs));
 
-                    break;
+                        break;
+                    }
                 }
-            }
 
-            if (hld == null) { // If not found, create the new one.
-                hld = new ClientChannelHolder(new ClientChannelConfiguration(clientCfg, addrs));
+                if (hld == null) { // If not found, create the new one.
+                    hld = new ClientChannelHolder(new ClientChannelConfiguration(clientCfg, addrs));
 
-                for (InetSocketAddress addr : addrs)
-                    curAddrs.putIfAbsent(addr, hld);
-            }
+                    for (InetSocketAddress addr : addrs)
+                        curAddrs.putIfAbsent(addr, hld);
+                }
 
-            reinitHolders.add(hld);
+                reinitHolders.add(hld);
 
-            if (hld == currDfltHolder)
-                dfltChannelIdx = reinitHolders.size() - 1;
-        }
+                if (hld == currDfltHolder)
+                    dfltChannelIdx = reinitHolders.size() - 1;
+            }
 
-        if (dfltChannelIdx == -1) {
-            // If holder is not specified get the random holder from the range of holders with the same port.
-            reinitHolders.sort(Comparator.comparingInt(h -> F.first(h.getAddresses()).getPort()));
+            if (dfltChannelIdx == -1) {
+                // If holder is not specified get the random holder from the range of holders with the same port.
+                reinitHolders.sort(Comparator.comparingInt(h -> F.first(h.getAddresses()).getPort()));
 
-            int limit = 0;
-            int port = F.first(reinitHolders.get(0).getAddresses()).getPort();
+                int limit = 0;
+                int port = F.first(reinitHolders.get(0).getAddresses()).getPort();
 
-            while (limit + 1 < reinitHolders.size() && F.first(reinitHolders.get(limit + 1).getAddresses()).getPort() == port)
-                limit++;
+                while (limit + 1 < reinitHolders.size() && F.first(reinitHolders.get(limit + 1).getAddresses()).getPort() == port)
+                    limit++;
 
-            dfltChannelIdx = ThreadLocalRandom.current().nextInt(limit + 1);
-        }
+                dfltChannelIdx = ThreadLocalRandom.current().nextInt(limit + 1);
+            }
 
-        curChannelsGuard.writeLock().lock();
+            curChannelsGuard.writeLock().lock();
 
-        try {
-            channels = reinitHolders;
+            try {
+                channels = reinitHolders;
+
+                attemptsLimit = getRetryLimit();
 
-            attemptsLimit = getRetryLimit();
+                curChIdx = dfltChannelIdx;
+            }
+            finally {
+                curChannelsGuard.writeLock().unlock();
+            }
 
-            curChIdx = dfltChannelIdx;
+            finishChannelsReInit = System.currentTimeMillis();
         }
         finally {
-            curChannelsGuard.writeLock().unlock();
+            channelsLock.unlock();
         }
-
-        finishChannelsReInit = System.currentTimeMillis();
     }
 
     /**
@@ -995,6 +1036,12 @@ final class ReliableChannel implements AutoCloseable {
         /** Timestamps of reconnect retries. */
         private final long[] reconnectRetries;
 
+        /**
+         * Guards channel creation and closing. Lock is used instead of monitor, since connection may block for
+         * a long time and threads waiting on a monitor pin carrier threads if they are virtual.
+         */
+        private final Lock chLock = new ReentrantLock();
+
         /**
          * @param chCfg Channel config.
          */
@@ -1042,7 +1089,9 @@ final class ReliableChannel implements AutoCloseable {
                 throw new ClientConnectionException("Channel is closed");
 
             if (ch == null) {
-                synchronized (this) {
+                chLock.lock();
+
+                try {
                     if (close)
                         throw new ClientConnectionException("Channel is closed");
 
@@ -1075,6 +1124,9 @@ final class ReliableChannel implements AutoCloseable {
 
                     channelsCnt.incrementAndGet();
                 }
+                finally {
+                    chLock.unlock();
+                }
             }
 
             return ch;
@@ -1083,13 +1135,20 @@ final class ReliableChannel implements AutoCloseable {
         /**
          * Close channel.
          */
-        private synchronized void closeChannel() {
-            if (ch != null) {
-                U.closeQuiet(ch);
+        private void closeChannel() {
+            chLock.lock();
 
-                ch = null;
+            try {
+                if (ch != null) {
+                    U.closeQuiet(ch);
+
+                    ch = null;
 
-                channelsCnt.decrementAndGet();
+                    channelsCnt.decrementAndGet();
+                }
+            }
+            finally {
+                chLock.unlock();
             }
         }
 
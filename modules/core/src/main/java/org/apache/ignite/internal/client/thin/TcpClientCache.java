@@ -112,15 +112,19 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     /** JCache adapter. */
     private final Cache<K, V> jCacheAdapter;
 
+    /** Near cache shared by all instances of the cache, {@code null} if near cache is not configured. */
+    @Nullable private final ClientNearCache<K, V> nearCache;
+
     /** Constructor. */
     TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
-        ClientCacheEntryListenersRegistry lsnrsRegistry) {
-        this(name, ch, marsh, transactions, lsnrsRegistry, false, null);
+        ClientCacheEntryListenersRegistry lsnrsRegistry, @Nullable ClientNearCache<K, V> nearCache) {
+        this(name, ch, marsh, transactions, lsnrsRegistry, false, null, nearCache);
     }
 
     /** Constructor. */
     TcpClientCache(String name, ReliableChannel ch, ClientBinaryMarshaller marsh, TcpClientTransactions transactions,
-        ClientCacheEntryListenersRegistry lsnrsRegistry, boolean keepBinary, ExpiryPolicy expiryPlc) {
+        ClientCacheEntryListenersRegistry lsnrsRegistry, boolean keepBinary, ExpiryPolicy expiryPlc,
+        @Nullable ClientNearCache<K, V> nearCache) {
         this.name = name;
         this.cacheId = ClientUtils.cacheId(name);
         this.ch = ch;
@@ -132,6 +136,7 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
         this.keepBinary = keepBinary;
         this.expiryPlc = expiryPlc;
+        this.nearCache = nearCache;
 
         jCacheAdapter = new ClientJCacheAdapter<>(this);
 
@@ -143,12 +148,29 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         if (key == null)
             throw new NullPointerException("key");
 
-        return cacheSingleKeyOperation(
+        ClientNearCache<K, V> near = readableNearCache();
+        long nearVer = ClientNearCache.NO_VERSION;
+
+        if (near != null) {
+            V val = near.get(key);
+
+            if (val != null)
+                return val;
+
+            nearVer = near.startLoad(this);
+        }
+
+        V val = cacheSingleKeyOperation(
             key,
             ClientOperation.CACHE_GET,
             null,
             this::readObject
         );
+
+        if (near != null)
+            near.onLoaded(key, val, nearVer);
+
+        return val;
     }
 
     /** {@inheritDoc} */
@@ -156,12 +178,36 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         if (key == null)
             throw new NullPointerException("key");
 
-        return cacheSingleKeyOperationAsync(
+        ClientNearCache<K, V> near = readableNearCache();
+
+        if (near == null) {
+            return cacheSingleKeyOperationAsync(
+                    key,
+                    ClientOperation.CACHE_GET,
+                    null,
+                    this::readObject
+            );
+        }
+
+        V val = near.get(key);
+
+        if (val != null)
+            return IgniteClientFutureImpl.completedFuture(val);
+
+        long nearVer = near.startLoadAsync(this);
+
+        IgniteClientFuture<V> fut = cacheSingleKeyOperationAsync(
                 key,
                 ClientOperation.CACHE_GET,
                 null,
                 this::readObject
         );
+
+        return new IgniteClientFutureImpl<>(fut.thenApply(res -> {
+            near.onLoaded(key, res, nearVer);
+
+            return res;
+        }));
     }
 
     /** {@inheritDoc} */
@@ -540,12 +586,12 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
     /** {@inheritDoc} */
     @Override public void removeAll() throws ClientException {
-        ch.request(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
+        request(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
     }
 
     /** {@inheritDoc} */
     @Override public IgniteClientFuture<Void> removeAllAsync() throws ClientException {
-        return ch.requestAsync(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
+        return requestAsync(ClientOperation.CACHE_REMOVE_ALL, this::writeCacheInfo);
     }
 
     /** {@inheritDoc} */
@@ -704,12 +750,12 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
 
     /** {@inheritDoc} */
     @Override public void clear() throws ClientException {
-        ch.request(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
+        request(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
     }
 
     /** {@inheritDoc} */
     @Override public IgniteClientFuture<Void> clearAsync() throws ClientException {
-        return ch.requestAsync(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
+        return requestAsync(ClientOperation.CACHE_CLEAR, this::writeCacheInfo);
     }
 
     /** {@inheritDoc} */
@@ -775,12 +821,13 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     /** {@inheritDoc} */
     @Override public <K1, V1> ClientCache<K1, V1> withKeepBinary() {
         return keepBinary ? (ClientCache<K1, V1>)this :
-            new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, true, expiryPlc);
+            new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, true, expiryPlc, (ClientNearCache<K1, V1>)nearCache);
     }
 
     /** {@inheritDoc} */
     @Override public <K1, V1> ClientCache<K1, V1> withExpirePolicy(ExpiryPolicy expirePlc) {
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, keepBinary, expirePlc);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, keepBinary, expirePlc,
+            (ClientNearCache<K1, V1>)nearCache);
     }
 
     /** {@inheritDoc} */
@@ -930,7 +977,7 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     public void putAllConflict(Map<? extends K, ? extends T3<? extends V, GridCacheVersion, Long>> drMap) throws ClientException {
         A.notNull(drMap, "drMap");
 
-        ch.request(ClientOperation.CACHE_PUT_ALL_CONFLICT, req -> writePutAllConflict(drMap, req));
+        request(ClientOperation.CACHE_PUT_ALL_CONFLICT, req -> writePutAllConflict(drMap, req));
     }
 
     /**
@@ -943,7 +990,7 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         throws ClientException {
         A.notNull(drMap, "drMap");
 
-        return ch.requestAsync(ClientOperation.CACHE_PUT_ALL_CONFLICT, req -> writePutAllConflict(drMap, req));
+        return requestAsync(ClientOperation.CACHE_PUT_ALL_CONFLICT, req -> writePutAllConflict(drMap, req));
     }
 
     /**
@@ -954,7 +1001,7 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     public void removeAllConflict(Map<? extends K, GridCacheVersion> drMap) throws ClientException {
         A.notNull(drMap, "drMap");
 
-        ch.request(ClientOperation.CACHE_REMOVE_ALL_CONFLICT, req -> writeRemoveAllConflict(drMap, req));
+        request(ClientOperation.CACHE_REMOVE_ALL_CONFLICT, req -> writeRemoveAllConflict(drMap, req));
     }
 
     /**
@@ -967,7 +1014,7 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         throws ClientException {
         A.notNull(drMap, "drMap");
 
-        return ch.requestAsync(ClientOperation.CACHE_REMOVE_ALL_CONFLICT, req -> writeRemoveAllConflict(drMap, req));
+        return requestAsync(ClientOperation.CACHE_REMOVE_ALL_CONFLICT, req -> writeRemoveAllConflict(drMap, req));
     }
 
     /** Handle scan query. */
@@ -1115,7 +1162,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     }
 
     /**
-     * Execute operation on channel most suitable for transactional context.
+     * Execute operation on channel most suitable for transactional context and invalidate near cache entries
+     * updated by the operation.
      */
     private <T> T txAwareService(
         @Nullable K affKey,
@@ -1123,6 +1171,27 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         ClientOperation op,
         Consumer<PayloadOutputChannel> payloadWriter,
         Function<PayloadInputChannel, T> payloadReader
+    ) {
+        if (nearCache == null || !updatesEntries(op))
+            return txAwareService0(affKey, tx, op, payloadWriter, payloadReader);
+
+        try {
+            return txAwareService0(affKey, tx, op, payloadWriter, payloadReader);
+        }
+        finally {
+            invalidateNearCache(affKey);
+        }
+    }
+
+    /**
+     * Execute operation on channel most suitable for transactional context.
+     */
+    private <T> T txAwareService0(
+        @Nullable K affKey,
+        TcpClientTransaction tx,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
     ) {
         // Transactional operation cannot be executed on affinity node, it should be executed on node started
         // the transaction.
@@ -1142,7 +1211,8 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
     }
 
     /**
-     * Execute operation on channel most suitable for transactional context.
+     * Execute operation on channel most suitable for transactional context asynchronously and invalidate near cache
+     * entries updated by the operation.
      */
     private <T> IgniteClientFuture<T> txAwareServiceAsync(
         @Nullable K affKey,
@@ -1150,6 +1220,21 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
         ClientOperation op,
         Consumer<PayloadOutputChannel> payloadWriter,
         Function<PayloadInputChannel, T> payloadReader
+    ) {
+        IgniteClientFuture<T> fut = txAwareServiceAsync0(affKey, tx, op, payloadWriter, payloadReader);
+
+        return nearCache == null || !updatesEntries(op) ? fut : invalidateNearCacheOnComplete(fut, affKey);
+    }
+
+    /**
+     * Execute operation on channel most suitable for transactional context asynchronously.
+     */
+    private <T> IgniteClientFuture<T> txAwareServiceAsync0(
+        @Nullable K affKey,
+        TcpClientTransaction tx,
+        ClientOperation op,
+        Consumer<PayloadOutputChannel> payloadWriter,
+        Function<PayloadInputChannel, T> payloadReader
     ) {
         // Transactional operation cannot be executed on affinity node, it should be executed on node started
         // the transaction.
@@ -1176,6 +1261,93 @@ public class TcpClientCache<K, V> implements ClientCache<K, V> {
             return ch.serviceAsync(op, payloadWriter, payloadReader);
     }
 
+    /**
+     * @return Near cache to read from or {@code null} if reads of this instance must not be served by near cache.
+     */
+    @Nullable private ClientNearCache<K, V> readableNearCache() {
+        return nearCache != null && !keepBinary && expiryPlc == null && transactions.tx() == null ? nearCache : null;
+    }
+
+    /**
+     * @param op Operation.
+     * @return {@code True} if operation may update cache entries.
+     */
+    private static boolean updatesEntries(ClientOperation op) {
+        switch (op) {
+            case CACHE_GET:
+            case CACHE_GET_ALL:
+            case CACHE_CONTAINS_KEY:
+            case CACHE_CONTAINS_KEYS:
+                return false;
+
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * @param key Updated key or {@code null} if all entries must be invalidated.
+     */
+    private void invalidateNearCache(@Nullable K key) {
+        if (nearCache == null)
+            return;
+
+        // Binary keys of this instance can not be matched with deserialized keys of the near cache.
+        if (key == null || keepBinary)
+            nearCache.clear();
+        else
+            nearCache.invalidate(key);
+    }
+
+    /**
+     * @param fut Future of an update operation.
+     * @param key Updated key or {@code null} if all entries must be invalidated.
+     * @return Future completed after near cache invalidation.
+     */
+    private <T> IgniteClientFuture<T> invalidateNearCacheOnComplete(IgniteClientFuture<T> fut, @Nullable K key) {
+        CompletableFuture<T> res = new CompletableFuture<>();
+
+        fut.whenComplete((r, err) -> {
+            invalidateNearCache(key);
+
+            if (err != null)
+                res.completeExceptionally(err);
+            else
+                res.complete(r);
+        });
+
+        return new IgniteClientFutureImpl<>(res);
+    }
+
+    /**
+     * Sends a request which updates entries not known on the client side.
+     *
+     * @param op Operation.
+     * @param payloadWriter Payload writer.
+     */
+    private void request(ClientOperation op, Consumer<PayloadOutputChannel> payloadWriter) throws ClientException {
+        try {
+            ch.request(op, payloadWriter);
+        }
+        finally {
+            invalidateNearCache(null);
+        }
+    }
+
+    /**
+     * Sends a request which updates entries not known on the client side asynchronously.
+     *
+     * @param op Operation.
+     * @param payloadWriter Payload writer.
+     * @return Future.
+     */
+    private IgniteClientFuture<Void> requestAsync(ClientOperation op, Consumer<PayloadOutputChannel> payloadWriter)
+        throws ClientException {
+        IgniteClientFuture<Void> fut = ch.requestAsync(op, payloadWriter);
+
+        return nearCache == null ? fut : invalidateNearCacheOnComplete(fut, null);
+    }
+
     /**
      * Execute cache operation with a single key.
      */
@@ -132,12 +132,12 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
     /** Request id. */
     private final AtomicLong reqId = new AtomicLong(1);
 
-    /** Pending requests. */
+    /**
+     * Pending requests. Accessed without locking: a request registered concurrently with {@link #close(Exception)}
+     * is either completed by the closing thread or removed and failed by the sending thread.
+     */
     private final Map<Long, ClientRequestFuture> pendingReqs = new ConcurrentHashMap<>();
 
-    /** Lock to safely close pending requests. */
-    private final ReadWriteLock pendingReqsLock = new ReentrantReadWriteLock();
-
     /** Topology change listeners. */
     private final Collection<Consumer<ClientChannel>> topChangeLsnrs = new CopyOnWriteArrayList<>();
 
@@ -276,15 +276,8 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
 
             U.closeQuiet(sock);
 
-            pendingReqsLock.writeLock().lock();
-
-            try {
-                for (ClientRequestFuture pendingReq : pendingReqs.values())
-                    pendingReq.onDone(new ClientConnectionException("Channel is closed", cause));
-            }
-            finally {
-                pendingReqsLock.writeLock().unlock();
-            }
+            for (ClientRequestFuture pendingReq : pendingReqs.values())
+                pendingReq.onDone(new ClientConnectionException("Channel is closed", cause));
 
             notificationLsnrsGuard.readLock().lock();
 
@@ -343,26 +336,13 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
         PayloadOutputChannel payloadCh = new PayloadOutputChannel(this);
 
         try {
-            ClientRequestFuture fut;
-
-            pendingReqsLock.readLock().lock();
-
-            try {
-                if (closed()) {
-                    ClientConnectionException err = new ClientConnectionException("Channel is closed");
-
-                    eventListener.onRequestFail(connDesc, id, op.code(), op.name(), System.nanoTime() - startTimeNanos, err);
+            ClientRequestFuture fut = new ClientRequestFuture(id, op, startTimeNanos);
 
-                    throw err;
-                }
-
-                fut = new ClientRequestFuture(id, op, startTimeNanos);
+            pendingReqs.put(id, fut);
 
-                pendingReqs.put(id, fut);
-            }
-            finally {
-                pendingReqsLock.readLock().unlock();
-            }
+            // Closed flag must be checked after the request is registered, see close(Exception).
+            if (closed())
+                throw new ClientConnectionException("Channel is closed");
 
             eventListener.onRequestStart(connDesc, id, op.code(), op.name());
 
@@ -704,20 +684,14 @@ class TcpClientChannel implements ClientChannel, ClientMessageHandler, ClientCon
             new ProtocolContext(ver).toString(), null));
 
         while (true) {
-            ClientRequestFuture fut;
-
-            pendingReqsLock.readLock().lock();
+            ClientRequestFuture fut = new ClientRequestFuture(reqId, ClientOperation.HANDSHAKE);
 
-            try {
-                if (closed())
-                    throw new ClientConnectionException("Channel is closed");
+            pendingReqs.put(reqId, fut);
 
-                fut = new ClientRequestFuture(reqId, ClientOperation.HANDSHAKE);
+            if (closed()) {
+                pendingReqs.remove(reqId);
 
-                pendingReqs.put(reqId, fut);
-            }
-            finally {
-                pendingReqsLock.readLock().unlock();
+                throw new ClientConnectionException("Channel is closed");
             }
 
             handshakeReq(ver, user, pwd, userAttrs);
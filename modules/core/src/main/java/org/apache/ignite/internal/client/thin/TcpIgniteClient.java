@@ -20,6 +20,7 @@ package org.apache.ignite.internal.client.thin;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,8 +45,11 @@ import org.apache.ignite.client.ClientCluster;
 import org.apache.ignite.client.ClientClusterGroup;
 import org.apache.ignite.client.ClientCollectionConfiguration;
 import org.apache.ignite.client.ClientCompute;
+import org.apache.ignite.client.ClientDataStreamer;
+import org.apache.ignite.client.ClientDataStreamerConfiguration;
 import org.apache.ignite.client.ClientException;
 import org.apache.ignite.client.ClientIgniteSet;
+import org.apache.ignite.client.ClientNearCacheConfiguration;
 import org.apache.ignite.client.ClientServices;
 import org.apache.ignite.client.ClientTransactions;
 import org.apache.ignite.client.IgniteClient;
@@ -110,6 +114,9 @@ public class TcpIgniteClient implements IgniteClient {
     /** Logger. */
     private final IgniteLogger log;
 
+    /** Near caches by cache name. */
+    private final Map<String, ClientNearCache<?, ?>> nearCaches;
+
     /**
      * Private constructor. Use {@link TcpIgniteClient#start(ClientConfiguration)} to create an instance of
      * {@code TcpIgniteClient}.
@@ -167,6 +174,13 @@ public class TcpIgniteClient implements IgniteClient {
             services = new ClientServicesImpl(ch, marsh, cluster.defaultClusterGroup(), log);
 
             lsnrsRegistry = new ClientCacheEntryListenersRegistry();
+
+            nearCaches = new HashMap<>();
+
+            if (cfg.getNearCacheConfigurations() != null) {
+                for (ClientNearCacheConfiguration nearCfg : cfg.getNearCacheConfigurations())
+                    nearCaches.put(nearCfg.getName(), new ClientNearCache<>(nearCfg, log));
+            }
         }
         catch (Exception e) {
             ch.close();
@@ -185,7 +199,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -194,7 +208,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_GET_OR_CREATE_WITH_NAME, req -> writeString(name, req.out()))
-                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name))));
     }
 
     /** {@inheritDoc} */
@@ -205,7 +219,7 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_GET_OR_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry, nearCache(cfg.getName()));
     }
 
     /** {@inheritDoc} */
@@ -216,14 +230,15 @@ public class TcpIgniteClient implements IgniteClient {
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_GET_OR_CREATE_WITH_CONFIGURATION,
                         req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()))
-                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(cfg.getName()))));
     }
 
     /** {@inheritDoc} */
     @Override public <K, V> ClientCache<K, V> cache(String name) {
         ensureCacheName(name);
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -244,6 +259,8 @@ public class TcpIgniteClient implements IgniteClient {
 
         ch.request(ClientOperation.CACHE_DESTROY, req -> req.out().writeInt(ClientUtils.cacheId(name)));
         ch.unregisterCacheIfCustomAffinity(name);
+
+        clearNearCache(name);
     }
 
     /** {@inheritDoc} */
@@ -253,16 +270,36 @@ public class TcpIgniteClient implements IgniteClient {
         return ch.requestAsync(ClientOperation.CACHE_DESTROY, req -> {
             req.out().writeInt(ClientUtils.cacheId(name));
             ch.unregisterCacheIfCustomAffinity(name);
+            clearNearCache(name);
         });
     }
 
+    /**
+     * @param name Cache name.
+     * @return Near cache or {@code null} if near cache is not configured for the cache.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable private <K, V> ClientNearCache<K, V> nearCache(String name) {
+        return (ClientNearCache<K, V>)nearCaches.get(name);
+    }
+
+    /**
+     * @param name Cache name.
+     */
+    private void clearNearCache(String name) {
+        ClientNearCache<?, ?> nearCache = nearCaches.get(name);
+
+        if (nearCache != null)
+            nearCache.clear();
+    }
+
     /** {@inheritDoc} */
     @Override public <K, V> ClientCache<K, V> createCache(String name) throws ClientException {
         ensureCacheName(name);
 
         ch.request(ClientOperation.CACHE_CREATE_WITH_NAME, req -> writeString(name, req.out()));
 
-        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name));
     }
 
     /** {@inheritDoc} */
@@ -271,7 +308,7 @@ public class TcpIgniteClient implements IgniteClient {
 
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_CREATE_WITH_NAME, req -> writeString(name, req.out()))
-                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(name, ch, marsh, transactions, lsnrsRegistry, nearCache(name))));
     }
 
     /** {@inheritDoc} */
@@ -281,7 +318,7 @@ public class TcpIgniteClient implements IgniteClient {
         ch.request(ClientOperation.CACHE_CREATE_WITH_CONFIGURATION,
             req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()));
 
-        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry);
+        return new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry, nearCache(cfg.getName()));
     }
 
     /** {@inheritDoc} */
@@ -292,7 +329,8 @@ public class TcpIgniteClient implements IgniteClient {
         return new IgniteClientFutureImpl<>(
                 ch.requestAsync(ClientOperation.CACHE_CREATE_WITH_CONFIGURATION,
                         req -> serDes.cacheConfiguration(cfg, req.out(), req.clientChannel().protocolCtx()))
-                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry)));
+                        .thenApply(x -> new TcpClientCache<>(cfg.getName(), ch, marsh, transactions, lsnrsRegistry,
+                            nearCache(cfg.getName()))));
     }
 
     /** {@inheritDoc} */
@@ -416,6 +454,21 @@ public class TcpIgniteClient implements IgniteClient {
         });
     }
 
+    /** {@inheritDoc} */
+    @Override public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName) {
+        return dataStreamer(cacheName, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <K, V> ClientDataStreamer<K, V> dataStreamer(
+        String cacheName,
+        @Nullable ClientDataStreamerConfiguration cfg
+    ) {
+        GridArgumentCheck.notNull(cacheName, "cacheName");
+
+        return new ClientDataStreamerImpl<>(ch, serDes, cacheName, cfg == null ? new ClientDataStreamerConfiguration() : cfg);
+    }
+
     /**
      * Initializes new instance of {@link IgniteClient}.
      *
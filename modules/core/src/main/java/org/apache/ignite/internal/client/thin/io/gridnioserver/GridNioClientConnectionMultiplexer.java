@@ -148,7 +148,7 @@ public class GridNioClientConnectionMultiplexer implements ClientConnectionMulti
         try {
             SocketChannel ch = null;
             try {
-                ch = SocketChannel.open();
+                ch = srv.openSocketChannel();
                 ch.socket().connect(new InetSocketAddress(addr.getHostName(), addr.getPort()), connTimeout);
             }
             catch (Exception e) {
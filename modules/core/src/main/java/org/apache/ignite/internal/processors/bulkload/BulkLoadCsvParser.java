@@ -20,23 +20,40 @@ package org.apache.ignite.internal.processors.bulkload;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.UnsupportedCharsetException;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.internal.processors.bulkload.pipeline.CharsetDecoderBlock;
 import org.apache.ignite.internal.processors.bulkload.pipeline.CsvLineProcessorBlock;
 import org.apache.ignite.internal.processors.bulkload.pipeline.LineSplitterBlock;
 import org.apache.ignite.internal.processors.bulkload.pipeline.PipelineBlock;
+import org.apache.ignite.internal.processors.bulkload.pipeline.StrAppenderBlock;
 import org.apache.ignite.internal.processors.bulkload.pipeline.StrListAppenderBlock;
 import org.apache.ignite.internal.processors.query.IgniteSQLException;
+import org.apache.ignite.internal.util.lang.IgniteOutClosureX;
 
-/** CSV parser for COPY command. */
+/**
+ * CSV parser for COPY command.
+ *
+ * <p>The input is decoded and split into lines sequentially, while lines are split into fields by chunks, which
+ * can be done concurrently.
+ */
 public class BulkLoadCsvParser extends BulkLoadParser {
+    /** Minimal number of lines in a chunk. */
+    static final int MIN_CHUNK_SIZE = 256;
+
+    /** Format options. */
+    private final BulkLoadCsvFormat format;
+
     /** Processing pipeline input block: a decoder for the input stream of bytes */
     private final PipelineBlock<byte[], char[]> inputBlock;
 
-    /** A record collecting block that appends its input to {@code List<String>}. */
-    private final StrListAppenderBlock collectorBlock;
+    /** A line collecting block that appends its input to {@code List<String>}. */
+    private final StrAppenderBlock collectorBlock;
+
+    /** Number of lines in the previous batches. */
+    private int linesCnt;
 
     /**
      * Creates bulk load CSV parser.
@@ -44,6 +61,8 @@ public class BulkLoadCsvParser extends BulkLoadParser {
      *  @param format Format options (parsed from COPY command).
      */
     public BulkLoadCsvParser(BulkLoadCsvFormat format) {
+        this.format = format;
+
         try {
             Charset charset = format.inputCharsetName() == null ? BulkLoadFormat.DEFAULT_INPUT_CHARSET :
                 Charset.forName(format.inputCharsetName());
@@ -59,23 +78,69 @@ public class BulkLoadCsvParser extends BulkLoadParser {
                 e.getMessage());
         }
 
-        collectorBlock = new StrListAppenderBlock();
+        collectorBlock = new StrAppenderBlock();
 
         // Handling of the other options is to be implemented in IGNITE-7537.
         inputBlock.append(new LineSplitterBlock(format.lineSeparator()))
-               .append(new CsvLineProcessorBlock(format))
                .append(collectorBlock);
     }
 
     /** {@inheritDoc} */
     @Override protected Iterable<List<Object>> parseBatch(byte[] batchData, boolean isLastBatch)
         throws IgniteCheckedException {
-        List<List<Object>> res = new LinkedList<>();
+        return parseBatch(batchData, isLastBatch, 1).get(0).applyx();
+    }
 
-        collectorBlock.output(res);
+    /** {@inheritDoc} */
+    @Override protected List<IgniteOutClosureX<Iterable<List<Object>>>> parseBatch(byte[] batchData,
+        boolean isLastBatch, int maxChunks) throws IgniteCheckedException {
+        List<String> lines = new ArrayList<>();
+
+        collectorBlock.output(lines);
 
         inputBlock.accept(batchData, isLastBatch);
 
+        int firstLine = linesCnt;
+
+        linesCnt += lines.size();
+
+        if (lines.isEmpty())
+            return Collections.singletonList(chunk(lines, firstLine));
+
+        int chunks = Math.max(1, Math.min(maxChunks, lines.size() / MIN_CHUNK_SIZE));
+        int chunkSize = (lines.size() + chunks - 1) / chunks;
+
+        List<IgniteOutClosureX<Iterable<List<Object>>>> res = new ArrayList<>(chunks);
+
+        for (int from = 0; from < lines.size(); from += chunkSize)
+            res.add(chunk(lines.subList(from, Math.min(from + chunkSize, lines.size())), firstLine + from));
+
         return res;
     }
+
+    /**
+     * @param lines Lines of the chunk.
+     * @param firstLine Number of lines of the input preceding the chunk.
+     * @return Closure splitting lines of the chunk into fields.
+     */
+    private IgniteOutClosureX<Iterable<List<Object>>> chunk(List<String> lines, int firstLine) {
+        return new IgniteOutClosureX<Iterable<List<Object>>>() {
+            @Override public Iterable<List<Object>> applyx() throws IgniteCheckedException {
+                List<List<Object>> res = new ArrayList<>(lines.size());
+
+                StrListAppenderBlock recordsBlock = new StrListAppenderBlock();
+
+                recordsBlock.output(res);
+
+                PipelineBlock<String, String[]> lineProcBlock = new CsvLineProcessorBlock(format, firstLine);
+
+                lineProcBlock.append(recordsBlock);
+
+                for (String line : lines)
+                    lineProcBlock.accept(line, false);
+
+                return res;
+            }
+        };
+    }
 }
@@ -17,8 +17,10 @@
 
 package org.apache.ignite.internal.processors.bulkload;
 
+import java.util.Collections;
 import java.util.List;
 import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.util.lang.IgniteOutClosureX;
 
 /**
  * Bulk load file format parser superclass + factory of known formats.
@@ -44,6 +46,29 @@ public abstract class BulkLoadParser {
     protected abstract Iterable<List<Object>> parseBatch(byte[] batchData, boolean isLastBatch)
         throws IgniteCheckedException;
 
+    /**
+     * Splits a batch of input data into chunks of records, which can be parsed concurrently. Records of a chunk
+     * are parsed when the chunk closure is applied.
+     *
+     * <p>The default implementation parses the whole batch at once and returns a single chunk.
+     *
+     * @param batchData Data from the current batch.
+     * @param isLastBatch true if this is the last batch.
+     * @param maxChunks Maximal number of chunks.
+     * @return Closures parsing chunks of records.
+     * @throws IgniteCheckedException If any processing error occurs.
+     */
+    protected List<IgniteOutClosureX<Iterable<List<Object>>>> parseBatch(byte[] batchData, boolean isLastBatch,
+        int maxChunks) throws IgniteCheckedException {
+        Iterable<List<Object>> records = parseBatch(batchData, isLastBatch);
+
+        return Collections.singletonList(new IgniteOutClosureX<Iterable<List<Object>>>() {
+            @Override public Iterable<List<Object>> applyx() {
+                return records;
+            }
+        });
+    }
+
     /**
      * Creates a parser for a given format options.
      *
@@ -17,7 +17,9 @@
 
 package org.apache.ignite.internal.processors.bulkload;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteDataStreamer;
 import org.apache.ignite.IgniteIllegalStateException;
@@ -28,8 +30,11 @@ import org.apache.ignite.internal.processors.tracing.MTC.TraceSurroundings;
 import org.apache.ignite.internal.processors.tracing.NoopSpan;
 import org.apache.ignite.internal.processors.tracing.Span;
 import org.apache.ignite.internal.processors.tracing.Tracing;
+import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.IgniteClosureX;
+import org.apache.ignite.internal.util.lang.IgniteOutClosureX;
 import org.apache.ignite.lang.IgniteBiTuple;
+import org.jetbrains.annotations.Nullable;
 
 import static org.apache.ignite.internal.processors.tracing.SpanType.SQL_BATCH_PROCESS;
 
@@ -68,6 +73,12 @@ public class BulkLoadProcessor implements AutoCloseable {
     /** Span of the running query. */
     private final Span qrySpan;
 
+    /** Executor parsing and converting chunks of records concurrently with the calling thread, or {@code null}. */
+    @Nullable private final Executor exec;
+
+    /** Maximal number of threads processing records of a batch. */
+    private final int threads;
+
     /**
      * Creates bulk load processor.
      *
@@ -81,6 +92,29 @@ public class BulkLoadProcessor implements AutoCloseable {
      */
     public BulkLoadProcessor(BulkLoadParser inputParser, IgniteClosureX<List<?>, IgniteBiTuple<?, ?>> dataConverter,
         BulkLoadCacheWriter outputStreamer, RunningQueryManager runningQryMgr, long qryId, Tracing tracing) {
+        this(inputParser, dataConverter, outputStreamer, runningQryMgr, qryId, tracing, null, 1);
+    }
+
+    /**
+     * Creates bulk load processor parsing and converting records of a batch by several threads. Converted records
+     * are written to the streamer by the thread processing the batch in the order of the input, so the executor
+     * threads are never blocked by the streamer and updates of the same key are applied in the input order.
+     *
+     * @param inputParser Parser of the input bytes.
+     * @param dataConverter Converter, which transforms the list of strings parsed from the input stream to the
+     *     key+value entry to add to the cache.
+     * @param outputStreamer Streamer that puts actual key/value into the cache.
+     * @param runningQryMgr Running query manager.
+     * @param qryId Running query id.
+     * @param tracing Tracing processor.
+     * @param exec Executor parsing and converting chunks of records concurrently with the calling thread.
+     * @param threads Maximal number of threads processing records of a batch, including the calling thread.
+     */
+    public BulkLoadProcessor(BulkLoadParser inputParser, IgniteClosureX<List<?>, IgniteBiTuple<?, ?>> dataConverter,
+        BulkLoadCacheWriter outputStreamer, RunningQueryManager runningQryMgr, long qryId, Tracing tracing,
+        @Nullable Executor exec, int threads) {
+        this.exec = exec;
+        this.threads = exec == null ? 1 : Math.max(1, threads);
         this.inputParser = inputParser;
         this.dataConverter = dataConverter;
         this.outputStreamer = outputStreamer;
@@ -116,16 +150,98 @@ public class BulkLoadProcessor implements AutoCloseable {
             if (isClosed)
                 throw new IgniteIllegalStateException("Attempt to process a batch on a closed BulkLoadProcessor");
 
-            Iterable<List<Object>> inputRecords = inputParser.parseBatch(batchData, isLastBatch);
+            if (threads == 1) {
+                process(inputParser.parseBatch(batchData, isLastBatch));
+
+                return;
+            }
+
+            List<IgniteOutClosureX<Iterable<List<Object>>>> chunks =
+                inputParser.parseBatch(batchData, isLastBatch, threads);
+
+            List<GridFutureAdapter<List<IgniteBiTuple<?, ?>>>> futs = new ArrayList<>(chunks.size() - 1);
+
+            for (int i = 1; i < chunks.size(); i++) {
+                IgniteOutClosureX<Iterable<List<Object>>> chunk = chunks.get(i);
+
+                GridFutureAdapter<List<IgniteBiTuple<?, ?>>> chunkFut = new GridFutureAdapter<>();
+
+                futs.add(chunkFut);
+
+                exec.execute(() -> {
+                    try {
+                        chunkFut.onDone(convert(chunk.applyx()));
+                    }
+                    catch (Throwable e) {
+                        chunkFut.onDone(e);
+                    }
+                });
+            }
+
+            int done = 0;
+
+            try {
+                write(convert(chunks.get(0).applyx()));
 
-            for (List<Object> record : inputRecords) {
-                IgniteBiTuple<?, ?> kv = dataConverter.apply(record);
+                while (done < futs.size())
+                    write(futs.get(done++).get());
+            }
+            catch (IgniteCheckedException | RuntimeException e) {
+                // Chunks must not be processed concurrently with the next batch.
+                for (int i = done; i < futs.size(); i++) {
+                    try {
+                        futs.get(i).get();
+                    }
+                    catch (IgniteCheckedException e0) {
+                        e.addSuppressed(e0);
+                    }
+                }
 
-                outputStreamer.apply(kv);
+                throw e;
             }
         }
     }
 
+    /**
+     * Converts records and writes them to the cache.
+     *
+     * @param records Records.
+     * @throws IgniteCheckedException If failed.
+     */
+    private void process(Iterable<List<Object>> records) throws IgniteCheckedException {
+        for (List<Object> record : records) {
+            IgniteBiTuple<?, ?> kv = dataConverter.apply(record);
+
+            outputStreamer.apply(kv);
+        }
+    }
+
+    /**
+     * Converts records to keys and values.
+     *
+     * @param records Records.
+     * @return Keys and values.
+     * @throws IgniteCheckedException If failed.
+     */
+    private List<IgniteBiTuple<?, ?>> convert(Iterable<List<Object>> records) throws IgniteCheckedException {
+        List<IgniteBiTuple<?, ?>> res = new ArrayList<>();
+
+        for (List<Object> record : records)
+            res.add(dataConverter.apply(record));
+
+        return res;
+    }
+
+    /**
+     * Writes keys and values to the cache.
+     *
+     * @param kvs Keys and values.
+     */
+    private void write(List<IgniteBiTuple<?, ?>> kvs) {
+        for (IgniteBiTuple<?, ?> kv : kvs)
+            outputStreamer.apply(kv);
+    }
+
     /**
      * Is called to notify processor, that bulk load execution, this processor is performing, failed with specified
      * exception.
@@ -54,10 +54,21 @@ public class CsvLineProcessorBlock extends PipelineBlock<String, String[]> {
      * Creates a CSV line parser.
      */
     public CsvLineProcessorBlock(BulkLoadCsvFormat format) {
+        this(format, 0);
+    }
+
+    /**
+     * Creates a CSV line parser of a part of the input.
+     *
+     * @param format Format options.
+     * @param line Number of lines of the input preceding the lines processed by the parser, used in error messages.
+     */
+    public CsvLineProcessorBlock(BulkLoadCsvFormat format, int line) {
         this.fldDelim = format.fieldSeparator().toString().charAt(0);
         this.quoteChars = format.quoteChars().charAt(0);
         this.nullString = format.nullString();
         this.trim = format.trim();
+        this.line = line;
     }
 
     /**
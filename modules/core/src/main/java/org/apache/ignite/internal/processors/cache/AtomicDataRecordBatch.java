@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.pagemem.wal.record.DataEntry;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+
+/**
+ * Collects data entries of ATOMIC cache updates made by the current thread and logs them in the WAL with a single
+ * {@link DataRecord}.
+ * <p>
+ * A batch may be used only while the updated entries are locked by the current thread until the batch is finished,
+ * otherwise records of concurrent updates of the same key could be logged in the wrong order.
+ */
+public class AtomicDataRecordBatch {
+    /** Batch of the current thread. */
+    private static final ThreadLocal<AtomicDataRecordBatch> BATCH = new ThreadLocal<>();
+
+    /** Cache group. */
+    private final CacheGroupContext grp;
+
+    /** Data entries. */
+    private final List<DataEntry> entries;
+
+    /**
+     * @param grp Cache group.
+     * @param size Expected number of entries.
+     */
+    private AtomicDataRecordBatch(CacheGroupContext grp, int size) {
+        this.grp = grp;
+
+        entries = new ArrayList<>(size);
+    }
+
+    /**
+     * Starts a batch for the current thread.
+     *
+     * @param grp Cache group of updated entries.
+     * @param size Expected number of entries.
+     */
+    public static void start(CacheGroupContext grp, int size) {
+        assert BATCH.get() == null;
+
+        BATCH.set(new AtomicDataRecordBatch(grp, size));
+    }
+
+    /**
+     * Adds a data entry to the batch of the current thread.
+     *
+     * @param grp Cache group of the updated entry.
+     * @param entry Data entry.
+     * @return {@code False} if there is no batch for the cache group and the entry should be logged immediately.
+     */
+    static boolean add(CacheGroupContext grp, DataEntry entry) {
+        AtomicDataRecordBatch batch = BATCH.get();
+
+        if (batch == null || batch.grp != grp)
+            return false;
+
+        batch.entries.add(entry);
+
+        return true;
+    }
+
+    /**
+     * Finishes the batch of the current thread and logs collected entries.
+     *
+     * @throws IgniteCheckedException If failed to log entries.
+     */
+    public static void finish() throws IgniteCheckedException {
+        AtomicDataRecordBatch batch = BATCH.get();
+
+        assert batch != null;
+
+        BATCH.remove();
+
+        if (!batch.entries.isEmpty())
+            batch.grp.wal().log(new DataRecord(batch.entries));
+    }
+
+    /**
+     * Finishes the batch of the current thread after a failed update. Entries updated before the failure are logged
+     * as they would be without the batch, a failure to log them does not replace the update failure.
+     *
+     * @param err Update failure, a failure to log entries is added to it as suppressed.
+     */
+    public static void finish(Throwable err) {
+        try {
+            finish();
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            err.addSuppressed(e);
+        }
+    }
+}
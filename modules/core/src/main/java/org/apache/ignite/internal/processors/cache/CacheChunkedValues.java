@@ -0,0 +1,591 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.cache.affinity.AffinityKeyMapped;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.GridKernalContext;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STREAM_CHUNK_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+
+/**
+ * Stores large values of a cache as sequences of chunks, so that neither the writer nor the reader
+ * has to hold the whole value in memory.
+ * <p>
+ * Streamed values are kept apart from the other values of the cache, in an internal atomic cache named
+ * {@link #STREAMS_CACHE_NAME_PREFIX} followed by the name of the cache. The internal cache is started on the first
+ * streamed write with the cache mode, backups, affinity function, node filter and data region of the cache, and is
+ * destroyed together with the cache. It has neither a store nor an expiry policy, and its entries are not seen by
+ * the methods, iterators and queries of the cache.
+ * <p>
+ * Chunks are put under {@link ChunkKey}s carrying the affinity key of the key of the value, so they are stored on
+ * the nodes storing the key in the cache, each with a separate update. Once all the chunks are written,
+ * a {@link Header} describing them is put under the key of the value with no value ID, and the chunks of
+ * the replaced value are removed. The header is swapped by an entry processor which returns the header of
+ * the replaced value. A reader fetches chunks one by one as the stream is consumed.
+ * <p>
+ * Operations are not atomic: a value replaced or removed concurrently with a read fails the read with
+ * an {@link IOException}. The methods must not be called within a transaction.
+ * <p>
+ * Chunks of a value which failed to be written are removed by the writer. Chunks are left orphaned if
+ * the writer node fails in the middle of a write or the cleanup itself fails. Orphaned chunks are never read, but
+ * occupy space until the cache is destroyed.
+ *
+ * @see org.apache.ignite.IgniteCache#putStream
+ */
+public final class CacheChunkedValues {
+    /** @see org.apache.ignite.IgniteSystemProperties#IGNITE_CACHE_STREAM_CHUNK_SIZE */
+    public static final int DFLT_CHUNK_SIZE = 1 << 20;
+
+    /** Prefix of the name of the internal cache storing streamed values of a cache. */
+    public static final String STREAMS_CACHE_NAME_PREFIX = "ignite-sys-streams@";
+
+    /** Number of chunks removed at once. */
+    private static final int RMV_BATCH = 16;
+
+    /**
+     * Private constructor.
+     */
+    private CacheChunkedValues() {
+        // No-op.
+    }
+
+    /**
+     * Writes the value read from the stream into the cache.
+     *
+     * @param cache Cache.
+     * @param key Key.
+     * @param in Stream of the value, it is not closed by this method.
+     * @throws IgniteCheckedException If failed.
+     */
+    public static void put(IgniteInternalCache<Object, Object> cache, Object key, InputStream in)
+        throws IgniteCheckedException {
+        checkNoTx(cache);
+
+        IgniteInternalCache<Object, Object> streams = streamsCache(cache, true);
+
+        Object affKey = affinityKey(cache, key);
+
+        int chunkSize = getInteger(IGNITE_CACHE_STREAM_CHUNK_SIZE, DFLT_CHUNK_SIZE);
+
+        IgniteUuid id = IgniteUuid.randomUuid();
+
+        int cnt = 0;
+        long len = 0;
+
+        try {
+            while (true) {
+                byte[] chunk;
+
+                try {
+                    chunk = readChunk(in, chunkSize);
+                }
+                catch (IOException e) {
+                    throw new IgniteCheckedException("Failed to read value of the key from the stream: " + key, e);
+                }
+
+                if (chunk == null)
+                    break;
+
+                streams.put(new ChunkKey(affKey, key, id, cnt), chunk);
+
+                cnt++;
+                len += chunk.length;
+
+                if (chunk.length < chunkSize)
+                    break;
+            }
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            try {
+                removeChunks(streams, affKey, key, id, cnt);
+            }
+            catch (IgniteCheckedException e0) {
+                e.addSuppressed(e0);
+            }
+
+            throw e;
+        }
+
+        Header oldHdr;
+
+        try {
+            oldHdr = swapHeader(streams, affKey, key, new Header(id, cnt, len), true);
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            // The header may have been written despite the failure, the chunks are needed then.
+            try {
+                Header curHdr = swapHeader(streams, affKey, key, null, false);
+
+                if (curHdr == null || !id.equals(curHdr.id))
+                    removeChunks(streams, affKey, key, id, cnt);
+            }
+            catch (IgniteCheckedException | RuntimeException e0) {
+                e.addSuppressed(e0);
+            }
+
+            throw e;
+        }
+
+        if (oldHdr != null)
+            removeChunks(streams, affKey, key, oldHdr.id, oldHdr.cnt);
+    }
+
+    /**
+     * @param cache Cache.
+     * @param key Key.
+     * @return Stream of the value or {@code null} if there is no streamed value for the key.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable public static InputStream get(IgniteInternalCache<Object, Object> cache, Object key)
+        throws IgniteCheckedException {
+        IgniteInternalCache<Object, Object> streams = streamsCache(cache, false);
+
+        if (streams == null)
+            return null;
+
+        Object affKey = affinityKey(cache, key);
+
+        Header hdr = (Header)streams.get(new ChunkKey(affKey, key, null, -1));
+
+        return hdr == null ? null : new ChunkInputStream(streams, affKey, key, hdr);
+    }
+
+    /**
+     * @param cache Cache.
+     * @param key Key.
+     * @return {@code True} if the value was removed.
+     * @throws IgniteCheckedException If failed.
+     */
+    public static boolean remove(IgniteInternalCache<Object, Object> cache, Object key) throws IgniteCheckedException {
+        checkNoTx(cache);
+
+        IgniteInternalCache<Object, Object> streams = streamsCache(cache, false);
+
+        if (streams == null)
+            return false;
+
+        Object affKey = affinityKey(cache, key);
+
+        Header hdr = swapHeader(streams, affKey, key, null, true);
+
+        if (hdr != null)
+            removeChunks(streams, affKey, key, hdr.id, hdr.cnt);
+
+        return hdr != null;
+    }
+
+    /**
+     * @param cache Cache.
+     * @throws IgniteCheckedException If a transaction is started by the current thread.
+     */
+    private static void checkNoTx(IgniteInternalCache<Object, Object> cache) throws IgniteCheckedException {
+        if (cache.context().tm().userTx() != null)
+            throw new IgniteCheckedException("Streamed values can not be written within a transaction.");
+    }
+
+    /**
+     * @param cacheName Cache name.
+     * @return Name of the internal cache storing streamed values of the cache.
+     */
+    public static String streamsCacheName(String cacheName) {
+        return STREAMS_CACHE_NAME_PREFIX + cacheName;
+    }
+
+    /**
+     * @param cache Cache.
+     * @param create {@code True} to start the internal cache if it does not exist.
+     * @return Internal cache storing streamed values of the cache or {@code null} if it does not exist and
+     *      is not requested to be created.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private static IgniteInternalCache<Object, Object> streamsCache(
+        IgniteInternalCache<Object, Object> cache,
+        boolean create
+    ) throws IgniteCheckedException {
+        GridKernalContext ctx = cache.context().kernalContext();
+
+        String name = streamsCacheName(cache.name());
+
+        IgniteInternalCache<Object, Object> streams = ctx.cache().cache(name);
+
+        if (streams == null) {
+            if (!create && ctx.cache().cacheDescriptor(name) == null)
+                return null;
+
+            CacheConfiguration<?, ?> cfg = cache.configuration();
+
+            CacheConfiguration<Object, Object> streamsCfg = new CacheConfiguration<>(name)
+                .setAtomicityMode(ATOMIC)
+                .setCacheMode(cfg.getCacheMode())
+                .setBackups(cfg.getBackups())
+                .setAffinity(cfg.getAffinity())
+                .setNodeFilter(cfg.getNodeFilter())
+                .setDataRegionName(cfg.getDataRegionName())
+                .setWriteSynchronizationMode(cfg.getWriteSynchronizationMode())
+                .setReadFromBackup(cfg.isReadFromBackup())
+                .setPartitionLossPolicy(cfg.getPartitionLossPolicy());
+
+            // Copies the affinity function and the node filter, so that they are not shared with the cache.
+            ctx.cache().dynamicStartCache(ctx.cache().cloneCheckSerializable(streamsCfg),
+                name,
+                null,
+                CacheType.DATA_STRUCTURES,
+                false,
+                false,
+                true,
+                true).get();
+
+            streams = ctx.cache().cache(name);
+
+            assert streams != null : name;
+        }
+
+        return streams;
+    }
+
+    /**
+     * @param cache Cache.
+     * @param key Key.
+     * @return Affinity key of the key in the cache.
+     */
+    private static Object affinityKey(IgniteInternalCache<Object, Object> cache, Object key) {
+        GridCacheContext<Object, Object> cctx = cache.context();
+
+        return cctx.affinity().affinityKey(cctx.toCacheKeyObject(key));
+    }
+
+    /**
+     * @param streams Internal cache storing streamed values.
+     * @param affKey Affinity key of the key.
+     * @param key Key.
+     * @param hdr Header to put or {@code null} to remove the value.
+     * @param update {@code False} to read the header of the current value only.
+     * @return Header of the previous value, see {@link HeaderProcessor}.
+     * @throws IgniteCheckedException If failed.
+     */
+    @Nullable private static Header swapHeader(
+        IgniteInternalCache<Object, Object> streams,
+        Object affKey,
+        Object key,
+        @Nullable Header hdr,
+        boolean update
+    ) throws IgniteCheckedException {
+        EntryProcessorResult<Object> res = streams.invoke(new ChunkKey(affKey, key, null, -1),
+            new HeaderProcessor(hdr, update));
+
+        return res == null ? null : (Header)res.get();
+    }
+
+    /**
+     * Reads the next chunk of the stream.
+     *
+     * @param in Stream.
+     * @param chunkSize Chunk size.
+     * @return Chunk which is shorter than the chunk size only at the end of the stream or {@code null}
+     *      if the stream is over.
+     * @throws IOException If failed.
+     */
+    @Nullable private static byte[] readChunk(InputStream in, int chunkSize) throws IOException {
+        byte[] buf = new byte[chunkSize];
+
+        int off = 0;
+
+        while (off < chunkSize) {
+            int read = in.read(buf, off, chunkSize - off);
+
+            if (read < 0)
+                break;
+
+            off += read;
+        }
+
+        if (off == 0)
+            return null;
+
+        if (off < chunkSize) {
+            byte[] res = new byte[off];
+
+            System.arraycopy(buf, 0, res, 0, off);
+
+            return res;
+        }
+
+        return buf;
+    }
+
+    /**
+     * @param streams Internal cache storing streamed values.
+     * @param affKey Affinity key of the key.
+     * @param key Key.
+     * @param id Value ID.
+     * @param cnt Number of chunks.
+     * @throws IgniteCheckedException If failed.
+     */
+    private static void removeChunks(
+        IgniteInternalCache<Object, Object> streams,
+        Object affKey,
+        Object key,
+        IgniteUuid id,
+        int cnt
+    ) throws IgniteCheckedException {
+        List<ChunkKey> batch = new ArrayList<>(Math.min(cnt, RMV_BATCH));
+
+        for (int i = 0; i < cnt; i++) {
+            batch.add(new ChunkKey(affKey, key, id, i));
+
+            if (batch.size() == RMV_BATCH || i == cnt - 1) {
+                streams.removeAll(batch);
+
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Header of a streamed value.
+     */
+    static class Header {
+        /** Value ID. */
+        private final IgniteUuid id;
+
+        /** Number of chunks. */
+        private final int cnt;
+
+        /** Length of the value in bytes. */
+        private final long len;
+
+        /**
+         * @param id Value ID.
+         * @param cnt Number of chunks.
+         * @param len Length of the value in bytes.
+         */
+        Header(IgniteUuid id, int cnt, long len) {
+            this.id = id;
+            this.cnt = cnt;
+            this.len = len;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(Header.class, this);
+        }
+    }
+
+    /**
+     * Puts or removes the header of a value, or reads it if no update is requested, on the node storing it and
+     * returns the previous header.
+     */
+    private static class HeaderProcessor implements CacheEntryProcessor<Object, Object, Object> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Header to put or {@code null} to remove the value. */
+        @Nullable private final Header hdr;
+
+        /** {@code False} to read the header of the current value only. */
+        private final boolean update;
+
+        /**
+         * @param hdr Header to put or {@code null} to remove the value.
+         * @param update {@code False} to read the header of the current value only.
+         */
+        HeaderProcessor(@Nullable Header hdr, boolean update) {
+            this.hdr = hdr;
+            this.update = update;
+        }
+
+        /** {@inheritDoc} */
+        @Override public Object process(MutableEntry<Object, Object> entry, Object... args) {
+            Object old = entry.getValue();
+
+            if (update) {
+                if (hdr != null)
+                    entry.setValue(hdr);
+                else
+                    entry.remove();
+            }
+
+            return old;
+        }
+    }
+
+    /**
+     * Key of a chunk of a value or, with no value ID, of the header of the value.
+     */
+    static class ChunkKey {
+        /** Affinity key of the key of the value in the cache. */
+        @AffinityKeyMapped
+        private final Object affKey;
+
+        /** Key of the value. */
+        private final Object key;
+
+        /** Value ID, {@code null} for the header. */
+        @Nullable private final IgniteUuid id;
+
+        /** Index of the chunk, {@code -1} for the header. */
+        private final int idx;
+
+        /**
+         * @param affKey Affinity key of the key of the value in the cache.
+         * @param key Key of the value.
+         * @param id Value ID, {@code null} for the header.
+         * @param idx Index of the chunk, {@code -1} for the header.
+         */
+        ChunkKey(Object affKey, Object key, @Nullable IgniteUuid id, int idx) {
+            this.affKey = affKey;
+            this.key = key;
+            this.id = id;
+            this.idx = idx;
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(ChunkKey.class, this);
+        }
+    }
+
+    /**
+     * Stream fetching chunks of a value on demand.
+     */
+    private static class ChunkInputStream extends InputStream {
+        /** Internal cache storing streamed values. */
+        private final IgniteInternalCache<Object, Object> streams;
+
+        /** Affinity key of the key of the value. */
+        private final Object affKey;
+
+        /** Key of the value. */
+        private final Object key;
+
+        /** Header of the value. */
+        private final Header hdr;
+
+        /** Index of the next chunk. */
+        private int nextIdx;
+
+        /** Current chunk. */
+        private byte[] chunk;
+
+        /** Position in the current chunk. */
+        private int pos;
+
+        /** Number of bytes read. */
+        private long read;
+
+        /**
+         * @param streams Internal cache storing streamed values.
+         * @param affKey Affinity key of the key of the value.
+         * @param key Key of the value.
+         * @param hdr Header of the value.
+         */
+        ChunkInputStream(IgniteInternalCache<Object, Object> streams, Object affKey, Object key, Header hdr) {
+            this.streams = streams;
+            this.affKey = affKey;
+            this.key = key;
+            this.hdr = hdr;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read() throws IOException {
+            if (!ensureChunk())
+                return -1;
+
+            read++;
+
+            return chunk[pos++] & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0)
+                return 0;
+
+            if (!ensureChunk())
+                return -1;
+
+            int cnt = Math.min(len, chunk.length - pos);
+
+            System.arraycopy(chunk, pos, b, off, cnt);
+
+            pos += cnt;
+            read += cnt;
+
+            return cnt;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int available() {
+            return chunk == null ? 0 : chunk.length - pos;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void close() {
+            chunk = null;
+            nextIdx = hdr.cnt;
+        }
+
+        /**
+         * @return {@code False} if the stream is over.
+         * @throws IOException If failed to fetch the next chunk.
+         */
+        private boolean ensureChunk() throws IOException {
+            while (chunk == null || pos == chunk.length) {
+                if (nextIdx >= hdr.cnt) {
+                    chunk = null;
+
+                    return false;
+                }
+
+                Object val;
+
+                try {
+                    val = streams.get(new ChunkKey(affKey, key, hdr.id, nextIdx));
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IOException("Failed to fetch chunk of the value [key=" + key + ", idx=" + nextIdx + ']', e);
+                }
+
+                if (!(val instanceof byte[])) {
+                    throw new IOException("Value was concurrently updated or removed [key=" + key +
+                        ", idx=" + nextIdx + ", read=" + read + ", len=" + hdr.len + ']');
+                }
+
+                chunk = (byte[])val;
+                pos = 0;
+
+                nextIdx++;
+            }
+
+            return true;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.processors.cache;
 
+import java.io.Externalizable;
 import javax.cache.processor.EntryProcessor;
 import javax.cache.processor.MutableEntry;
 import org.apache.ignite.cache.CacheEntry;
@@ -149,7 +150,7 @@ public class CacheInvokeEntry<K, V> extends CacheLazyEntry<K, V> implements Muta
     /** {@inheritDoc} */
     @Override public <T> T unwrap(Class<T> cls) {
         if (cls.isAssignableFrom(CacheEntry.class) && ver != null)
-            return (T)new CacheEntryImplEx<>(getKey(), getValue(), ver);
+            return (T)new LazyVersionedEntry<>(new CacheLazyEntry<>(cctx, keyObj, key, valObj, val, keepBinary()), ver);
 
         final T res = cctx.plugin().unwrapCacheEntry(this, cls);
 
@@ -164,6 +165,69 @@ public class CacheInvokeEntry<K, V> extends CacheLazyEntry<K, V> implements Muta
         return S.toString(CacheInvokeEntry.class, this);
     }
 
+    /**
+     * Versioned entry with the value of the invoked entry at the moment of unwrapping. The value is deserialized on
+     * first access only, so the version can be checked without deserialization. The entry is replaced with
+     * a {@link CacheEntryImplEx} on serialization.
+     */
+    private static class LazyVersionedEntry<K, V> extends CacheEntryImplEx<K, V> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Snapshot of the invoked entry. */
+        private transient CacheLazyEntry<K, V> snapshot;
+
+        /**
+         * Required by {@link Externalizable}, the entry is never deserialized though.
+         */
+        public LazyVersionedEntry() {
+            // No-op.
+        }
+
+        /**
+         * @param snapshot Snapshot of the invoked entry.
+         * @param ver Entry version.
+         */
+        LazyVersionedEntry(CacheLazyEntry<K, V> snapshot, GridCacheVersion ver) {
+            super(null, null, ver);
+
+            this.snapshot = snapshot;
+        }
+
+        /** {@inheritDoc} */
+        @Override public K getKey() {
+            return snapshot.getKey();
+        }
+
+        /** {@inheritDoc} */
+        @Override public V getValue() {
+            return snapshot.getValue();
+        }
+
+        /** {@inheritDoc} */
+        @Override public <T> T unwrap(Class<T> cls) {
+            if (cls.isAssignableFrom(getClass()))
+                return cls.cast(this);
+
+            if (cls.isAssignableFrom(CacheEntry.class))
+                return (T)writeReplace();
+
+            throw new IllegalArgumentException("Unwrapping to class is not supported: " + cls);
+        }
+
+        /**
+         * @return Entry with the deserialized key and value to serialize instead of this entry.
+         */
+        protected Object writeReplace() {
+            return new CacheEntryImplEx<>(getKey(), getValue(), version());
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return writeReplace().toString();
+        }
+    }
+
     /**
      *
      */
@@ -18,7 +18,9 @@
 package org.apache.ignite.internal.processors.cache;
 
 import org.apache.ignite.Ignite;
+import org.apache.ignite.binary.BinaryObject;
 import org.apache.ignite.cache.CacheInterceptorEntry;
+import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
@@ -210,6 +212,14 @@ public class CacheLazyEntry<K, V> extends CacheInterceptorEntry<K, V> {
             return (T)cctx.kernalContext().grid();
         else if (cls.isAssignableFrom(GridCacheContext.class))
             return (T)cctx;
+        else if (cls == CacheConfiguration.class)
+            return (T)cctx.config();
+        else if (cls == BinaryObject.class) {
+            // Binary form of the value is not cached, so that getValue() still returns the value as configured.
+            Object val0 = val != null ? val : cctx.unwrapBinaryIfNeeded(valObj, true, false, null);
+
+            return val0 instanceof BinaryObject ? (T)val0 : null;
+        }
         else if (cls.isAssignableFrom(getClass()))
             return cls.cast(this);
 
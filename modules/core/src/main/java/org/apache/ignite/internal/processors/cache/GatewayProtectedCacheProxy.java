@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.io.Externalizable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collection;
@@ -876,6 +877,42 @@ public class GatewayProtectedCacheProxy<K, V> extends AsyncSupportAdapter<Ignite
         }
     }
 
+    /** {@inheritDoc} */
+    @Override public void putStream(K key, InputStream in) {
+        CacheOperationGate opGate = onEnter();
+
+        try {
+            delegate.putStream(key, in);
+        }
+        finally {
+            onLeave(opGate);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream getStream(K key) {
+        CacheOperationGate opGate = onEnter();
+
+        try {
+            return delegate.getStream(key);
+        }
+        finally {
+            onLeave(opGate);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean removeStream(K key) {
+        CacheOperationGate opGate = onEnter();
+
+        try {
+            return delegate.removeStream(key);
+        }
+        finally {
+            onLeave(opGate);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void putAll(Map<? extends K, ? extends V> map) throws TransactionException {
         CacheOperationGate opGate = onEnter();
@@ -4559,7 +4559,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
      * @param m Map to examine.
      */
     protected void warnIfUnordered(Map<?, ?> m, BulkOperation op) {
-        if (ctx.atomic())
+        if (ctx.atomic() || ctx.tm().deterministicLockOrder())
             return;
 
         if (m == null || m.size() <= 1)
@@ -4586,7 +4586,7 @@ public abstract class GridCacheAdapter<K, V> implements IgniteInternalCache<K, V
      * @param coll Collection to examine.
      */
     protected void warnIfUnordered(Collection<?> coll, BulkOperation op) {
-        if (ctx.atomic())
+        if (ctx.atomic() || ctx.tm().deterministicLockOrder())
             return;
 
         if (coll == null || coll.size() <= 1)
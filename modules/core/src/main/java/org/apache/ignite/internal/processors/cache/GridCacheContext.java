@@ -2106,13 +2106,17 @@ public class GridCacheContext<K, V> implements Externalizable {
     /**
      * Checks if it is possible to directly read data memory without entry creation (this
      * is optimization to avoid unnecessary blocking synchronization on cache entry).
+     * <p>
+     * An expiry policy requires the entry only if it changes TTL on access: policies like
+     * {@link javax.cache.expiry.CreatedExpiryPolicy} do not, and expired rows fall back to the entry anyway.
      *
      * @param expiryPlc Optional expiry policy for read operation.
      * @param readers {@code True} if need update near cache readers.
      * @return {@code True} if it is possible to directly read offheap instead of using {@link GridCacheEntryEx#innerGet}.
      */
     public boolean readNoEntry(@Nullable IgniteCacheExpiryPolicy expiryPlc, boolean readers) {
-        return !config().isOnheapCacheEnabled() && !readers && expiryPlc == null && config().getPlatformCacheConfiguration() == null;
+        return !config().isOnheapCacheEnabled() && !readers && config().getPlatformCacheConfiguration() == null &&
+            (expiryPlc == null || expiryPlc.forAccess() == CU.TTL_NOT_CHANGED);
     }
 
     /**
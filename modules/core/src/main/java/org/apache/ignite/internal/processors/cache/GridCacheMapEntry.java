@@ -50,6 +50,7 @@ import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
 import org.apache.ignite.internal.processors.cache.GridCacheUpdateAtomicResult.UpdateOutcome;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTxLocalAdapter;
+import org.apache.ignite.internal.processors.cache.distributed.dht.ReadSnapshots;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicAbstractUpdateFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheEntry;
@@ -85,6 +86,7 @@ import org.apache.ignite.internal.processors.query.schema.SchemaIndexCacheVisito
 import org.apache.ignite.internal.processors.security.SecurityUtils;
 import org.apache.ignite.internal.transactions.IgniteTxDuplicateKeyCheckedException;
 import org.apache.ignite.internal.transactions.IgniteTxSerializationCheckedException;
+import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.IgniteTree;
 import org.apache.ignite.internal.util.lang.GridClosureException;
 import org.apache.ignite.internal.util.lang.GridMetadataAwareAdapter;
@@ -182,6 +184,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *     </ul></li>
      *     <li>Primitive fields:<ul>
      *         <li>4 : {@link #hash}</li>
+     *         <li>4 : {@link #stamp}</li>
      *         <li>1 : {@link #flags}</li>
      *     </ul></li>
      *     <li>Extras:<ul>
@@ -204,7 +207,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
      *     </ul></li>
      * </ul>
      */
-    private static final int SIZE_OVERHEAD = 8 * 8 /* references */ + 5 /* primitives */ + 16 /* extras */
+    private static final int SIZE_OVERHEAD = 8 * 8 /* references */ + 9 /* primitives */ + 16 /* extras */
         + 16 /* version */ + 20 /* key */ + 16 /* value */;
 
     /** Static logger to avoid re-creation. Made static for test purpose. */
@@ -241,6 +244,13 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     @GridToStringExclude
     private final ReentrantLock lock = new ReentrantLock();
 
+    /**
+     * Stamp of the entry state, incremented on every outermost acquisition and release of {@link #lock}, so it is odd
+     * while the entry is locked. Used to validate reads without the lock, see {@link #optimisticRead(boolean)}.
+     */
+    @GridToStringExclude
+    private volatile int stamp;
+
     /** Read Lock for continuous query listener */
     @GridToStringExclude
     private final ReadWriteLock listenerLock;
@@ -660,6 +670,18 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         if (readThrough && !cctx.readThrough())
             readThrough = false;
 
+        if (tx == null && (expiryPlc == null || expiryPlc.forAccess() == CU.TTL_NOT_CHANGED) && readerArgs == null &&
+            !isNear() && !(evt && cctx.events().isRecordable(EVT_CACHE_OBJECT_READ))) {
+            Object optimisticRes = optimisticRead(retVer);
+
+            if (optimisticRes != null) {
+                if (updateMetrics && cctx.statisticsEnabled())
+                    cctx.cache().metrics0().onRead(true);
+
+                return optimisticRes;
+            }
+        }
+
         GridCacheVersion startVer;
         GridCacheVersion resVer = null;
 
@@ -1385,7 +1407,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                 notifyContinuousQueries() ?
                     cctx.continuousQueries().updateListeners(internal, false) : null;
 
-            if (startVer && (retval || intercept || lsnrCol != null))
+            if (startVer && (retval || intercept || lsnrCol != null || readSnapshotsOpen()))
                 unswap(retval);
 
             newVer = explicitVer != null ? explicitVer : tx == null ?
@@ -1613,7 +1635,7 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                 notifyContinuousQueries() ?
                     cctx.continuousQueries().updateListeners(internal, false) : null;
 
-            if (startVer && (retval || intercept || lsnrCol != null))
+            if (startVer && (retval || intercept || lsnrCol != null || readSnapshotsOpen()))
                 unswap();
 
             old = oldValPresent ? oldVal : val;
@@ -2493,6 +2515,21 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         // No-op.
     }
 
+    /**
+     * The previous value and version of the entry are retained for open read snapshots on update, so an entry which
+     * was not read from the off-heap storage yet must be unswapped before the storage is updated.
+     *
+     * @return {@code True} if read snapshots of the cache are open.
+     */
+    private boolean readSnapshotsOpen() {
+        if (isNear())
+            return false;
+
+        ReadSnapshots snapshots = cctx.dht().readSnapshots();
+
+        return snapshots != null && snapshots.openSnapshots() > 0;
+    }
+
     /**
      * @param val New value.
      * @param expireTime Expiration time.
@@ -2504,6 +2541,14 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         assert lock.isHeldByCurrentThread();
         assert ttl != CU.TTL_ZERO && ttl != CU.TTL_NOT_CHANGED && ttl >= 0 : ttl;
 
+        if (addTracked && !isNear()) {
+            ReadSnapshots snapshots = cctx.dht().readSnapshots();
+
+            // Entry is unswapped before the update while snapshots are open, see readSnapshotsOpen().
+            if (snapshots != null)
+                snapshots.onUpdate(key, this.val, isStartVersion() ? null : this.ver, ver);
+        }
+
         boolean trackNear = addTracked && isNear() && cctx.config().isEagerTtl();
 
         long oldExpireTime = expireTimeExtras();
@@ -2687,6 +2732,13 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         throws GridCacheEntryRemovedException, IgniteCheckedException {
         assert heap || offheap;
 
+        if (expiryPlc == null && !isNear()) {
+            CacheObject val = (CacheObject)optimisticRead(false);
+
+            if (val != null)
+                return val;
+        }
+
         boolean rmv = false;
 
         try {
@@ -2896,6 +2948,9 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
             val = cctx.kernalContext().cacheObjects().prepareForCache(val, cctx);
 
+            if ((flags & IS_UNSWAPPED_MASK) == 0 && readSnapshotsOpen())
+                unswap(null, false);
+
             final boolean unswapped = ((flags & IS_UNSWAPPED_MASK) != 0);
 
             boolean update;
@@ -3847,8 +3902,8 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
         assert cctx.atomic();
 
         try {
-            if (cctx.group().logDataRecords())
-                cctx.group().wal().log(new DataRecord(new DataEntry(
+            if (cctx.group().logDataRecords()) {
+                DataEntry entry = new DataEntry(
                     cctx.cacheId(),
                     key,
                     val,
@@ -3858,7 +3913,11 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
                     expireTime,
                     partition(),
                     updCntr,
-                    DataEntry.flags(primary))));
+                    DataEntry.flags(primary));
+
+                if (!AtomicDataRecordBatch.add(cctx.group(), entry))
+                    cctx.group().wal().log(new DataRecord(entry));
+            }
         }
         catch (StorageException e) {
             throw new IgniteCheckedException("Failed to log ATOMIC cache update [key=" + key + ", op=" + op +
@@ -4541,12 +4600,19 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
     /** {@inheritDoc} */
     @Override public void lockEntry() {
         lock.lock();
+
+        onLocked();
     }
 
     /** {@inheritDoc} */
     @Override public boolean tryLockEntry(long timeout) {
         try {
-            return lock.tryLock(timeout, TimeUnit.MILLISECONDS);
+            if (!lock.tryLock(timeout, TimeUnit.MILLISECONDS))
+                return false;
+
+            onLocked();
+
+            return true;
         }
         catch (InterruptedException ignite) {
             Thread.currentThread().interrupt();
@@ -4557,9 +4623,67 @@ public abstract class GridCacheMapEntry extends GridMetadataAwareAdapter impleme
 
     /** {@inheritDoc} */
     @Override public void unlockEntry() {
+        if (lock.getHoldCount() == 1)
+            stamp++;
+
         lock.unlock();
     }
 
+    /**
+     * Makes {@link #stamp} odd after the outermost acquisition of the entry lock.
+     */
+    private void onLocked() {
+        if (lock.getHoldCount() == 1) {
+            stamp++;
+
+            // Updates of the entry state must not become visible before the stamp.
+            GridUnsafe.storeFence();
+        }
+    }
+
+    /**
+     * Reads the on-heap value of the entry without acquiring the entry lock.
+     * <p>
+     * Entry state is read between two reads of {@link #stamp} and is discarded if the entry was locked in the meantime.
+     * Only a valid unexpired on-heap value is read this way, in all other cases {@code null} is returned and the caller
+     * must fall back to the read under the lock, which also takes care of unswap, expiration and obsolete entries.
+     *
+     * @param retVer Whether to return the value with its version.
+     * @return Value, {@link EntryGetResult} if {@code retVer} is {@code true}, or {@code null} if the value cannot be
+     *      read without the lock.
+     */
+    @Nullable private Object optimisticRead(boolean retVer) {
+        int stamp0 = stamp;
+
+        if ((stamp0 & 1) != 0)
+            return null;
+
+        CacheObject val = this.val;
+        GridCacheVersion ver = this.ver;
+        GridCacheEntryExtras extras = this.extras;
+
+        GridCacheVersion obsoleteVer = null;
+        long ttl = 0;
+        long expireTime = 0;
+
+        if (extras != null) {
+            obsoleteVer = extras.obsoleteVersion();
+            ttl = extras.ttl();
+            expireTime = extras.expireTime();
+        }
+
+        // Loads of the entry state must complete before the stamp is validated.
+        GridUnsafe.loadFence();
+
+        if (stamp != stamp0 || val == null || obsoleteVer != null || (expireTime > 0 && expireTime < U.currentTimeMillis()))
+            return null;
+
+        if (!retVer)
+            return val;
+
+        return expireTime == 0 ? new EntryGetResult(val, ver, false) : new EntryGetWithTtlResult(val, ver, false, expireTime, ttl);
+    }
+
     /**
      * This method would obtain read lock for continuous query listener setup. This
      * is to prevent race condition between entry update and continuous query setup.
@@ -89,6 +89,7 @@ import org.apache.ignite.internal.managers.discovery.IgniteDiscoverySpi;
 import org.apache.ignite.internal.managers.encryption.GroupKeyEncrypted;
 import org.apache.ignite.internal.managers.systemview.walker.CacheGroupIoViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.CachePagesListViewWalker;
+import org.apache.ignite.internal.managers.systemview.walker.HotKeyViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.PartitionStateViewWalker;
 import org.apache.ignite.internal.metric.IoStatisticsType;
 import org.apache.ignite.internal.pagemem.store.IgnitePageStoreManager;
@@ -100,6 +101,7 @@ import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProce
 import org.apache.ignite.internal.processors.cache.datastructures.CacheDataStructuresManager;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCache;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheAdapter;
+import org.apache.ignite.internal.processors.cache.distributed.dht.HotKeysTracker;
 import org.apache.ignite.internal.processors.cache.distributed.dht.IgniteClusterReadOnlyException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.atomic.GridDhtAtomicCache;
 import org.apache.ignite.internal.processors.cache.distributed.dht.colocated.GridDhtColocatedCache;
@@ -192,6 +194,7 @@ import org.apache.ignite.spi.discovery.DiscoveryDataBag.GridDiscoveryData;
 import org.apache.ignite.spi.discovery.DiscoveryDataBag.JoiningNodeDiscoveryData;
 import org.apache.ignite.spi.systemview.view.CacheGroupIoView;
 import org.apache.ignite.spi.systemview.view.CachePagesListView;
+import org.apache.ignite.spi.systemview.view.HotKeyView;
 import org.apache.ignite.spi.systemview.view.PartitionStateView;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -257,6 +260,12 @@ public class GridCacheProcessor extends GridProcessorAdapter {
     /** System view description for cache group IO. */
     public static final String CACHE_GRP_IO_VIEW_DESC = "Local node IO statistics for cache groups";
 
+    /** System view name for hot keys. */
+    public static final String HOT_KEYS_VIEW = "hotKeys";
+
+    /** System view description for hot keys. */
+    public static final String HOT_KEYS_VIEW_DESC = "Keys read most frequently from the local node by other nodes";
+
     /** @see IgniteSystemProperties#IGNITE_ALLOW_START_CACHES_IN_PARALLEL */
     public static final boolean DFLT_ALLOW_START_CACHES_IN_PARALLEL = true;
 
@@ -646,6 +655,14 @@ public class GridCacheProcessor extends GridProcessorAdapter {
                 return new CacheGroupIoView(grpCtx, mreg);
             }
         );
+
+        ctx.systemView().registerView(
+            HOT_KEYS_VIEW,
+            HOT_KEYS_VIEW_DESC,
+            new HotKeyViewWalker(),
+            this::hotKeysViewSupplier,
+            Function.identity()
+        );
     }
 
     /**
@@ -3891,7 +3908,14 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         req.restart(restart);
         req.restartId(restartId);
 
-        return F.first(initiateCacheChanges(F.asList(req)));
+        List<DynamicCacheChangeRequest> reqs = new ArrayList<>(2);
+
+        reqs.add(req);
+
+        if (!restart)
+            addStreamsCacheStopRequest(reqs, cacheName, true);
+
+        return F.first(initiateCacheChanges(reqs));
     }
 
     /**
@@ -3922,10 +3946,30 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         if (!F.isEmpty(cacheNames))
             checkReadOnlyState("dynamic destroy caches", null, cacheNames::toString);
 
-        return dynamicChangeCaches(
-            cacheNames.stream().map(cacheName -> createStopRequest(cacheName, false, null, destroy))
-                .collect(toList())
-        );
+        List<DynamicCacheChangeRequest> reqs = new ArrayList<>(cacheNames.size());
+
+        for (String cacheName : cacheNames) {
+            reqs.add(createStopRequest(cacheName, false, null, destroy));
+
+            addStreamsCacheStopRequest(reqs, cacheName, destroy);
+        }
+
+        return dynamicChangeCaches(reqs);
+    }
+
+    /**
+     * Adds the request to stop the internal cache storing streamed values of the cache, if it exists.
+     *
+     * @param reqs Cache stop requests.
+     * @param cacheName Cache name.
+     * @param destroy Cache data destroy flag.
+     * @see CacheChunkedValues
+     */
+    private void addStreamsCacheStopRequest(List<DynamicCacheChangeRequest> reqs, String cacheName, boolean destroy) {
+        String streamsCacheName = CacheChunkedValues.streamsCacheName(cacheName);
+
+        if (cacheDescriptor(streamsCacheName) != null)
+            reqs.add(createStopRequest(streamsCacheName, false, null, destroy));
     }
 
     /**
@@ -5378,6 +5422,31 @@ public class GridCacheProcessor extends GridProcessorAdapter {
         }, true, cacheDataStore -> partId == null || cacheDataStore.partId() == partId));
     }
 
+    /**
+     * @return Hot keys of local caches.
+     */
+    private Collection<HotKeyView> hotKeysViewSupplier() {
+        List<HotKeyView> res = new ArrayList<>();
+
+        for (GridCacheAdapter<?, ?> cache : caches.values()) {
+            GridCacheContext<?, ?> cctx = cache.context();
+
+            HotKeysTracker hotKeys = (cctx.isNear() ? cctx.near().dht() : cctx.dht()).hotKeys();
+
+            if (hotKeys == null)
+                continue;
+
+            for (T2<KeyCacheObject, Long> e : hotKeys.hotKeys()) {
+                KeyCacheObject key = e.get1();
+
+                res.add(new HotKeyView(cctx.name(), cctx.affinity().partition(key),
+                    key.value(cctx.cacheObjectContext(), false), e.get2()));
+            }
+        }
+
+        return res;
+    }
+
     /**
      * Partition states view supplier.
      *
@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.IgniteException;
+import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.failure.FailureContext;
 import org.apache.ignite.internal.IgniteInterruptedCheckedException;
@@ -33,6 +34,8 @@ import org.apache.ignite.internal.util.typedef.internal.U;
 import org.apache.ignite.internal.util.worker.GridWorker;
 import org.apache.ignite.thread.IgniteThread;
 
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TTL_CLEANUP_MAX_BATCH_SIZE;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.failure.FailureType.CRITICAL_ERROR;
 import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
 
@@ -40,12 +43,19 @@ import static org.apache.ignite.failure.FailureType.SYSTEM_WORKER_TERMINATION;
  * Periodically removes expired entities from caches with {@link CacheConfiguration#isEagerTtl()} flag set.
  */
 public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdapter {
+    /** @see IgniteSystemProperties#IGNITE_TTL_CLEANUP_MAX_BATCH_SIZE */
+    public static final int DFLT_TTL_CLEANUP_MAX_BATCH_SIZE = 16_000;
+
     /** Ttl cleanup worker thread sleep interval, ms. */
     private static final long CLEANUP_WORKER_SLEEP_INTERVAL = 500;
 
-    /** Limit of expired entries processed by worker for certain cache in one pass. */
+    /** Initial limit of expired entries processed by worker for certain cache in one pass. */
     private static final int CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT = 1000;
 
+    /** Maximal limit of expired entries processed by worker for certain cache in one pass. */
+    private final int maxBatchSize = Math.max(
+        getInteger(IGNITE_TTL_CLEANUP_MAX_BATCH_SIZE, DFLT_TTL_CLEANUP_MAX_BATCH_SIZE), CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT);
+
     /** Cleanup worker. */
     private CleanupWorker cleanupWorker;
 
@@ -196,7 +206,7 @@ public class GridCacheSharedTtlCleanupManager extends GridCacheSharedManagerAdap
                             // Need to be sure that the cache to be processed will not be unregistered and,
                             // therefore, stopped during the process of expiration is in progress.
                             mgrs.computeIfPresent(processedCacheID, (id, m) -> {
-                                if (m.expire(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT))
+                                if (m.expireBatch(CLEANUP_WORKER_ENTRIES_PROCESS_LIMIT, maxBatchSize))
                                     expiredRemains.set(true);
 
                                 return m;
@@ -23,10 +23,15 @@ import org.apache.ignite.IgniteException;
 import org.apache.ignite.IgniteSystemProperties;
 import org.apache.ignite.configuration.CacheConfiguration;
 import org.apache.ignite.internal.NodeStoppingException;
+import org.apache.ignite.internal.pagemem.PageMemory;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.near.GridNearCacheEntry;
+import org.apache.ignite.internal.processors.cache.persistence.DataRegion;
+import org.apache.ignite.internal.processors.cache.persistence.pagemem.PageMemoryImpl;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
 import org.apache.ignite.internal.util.GridConcurrentSkipListSet;
 import org.apache.ignite.internal.util.lang.IgniteInClosure2X;
 import org.apache.ignite.internal.util.typedef.X;
@@ -35,6 +40,9 @@ import org.apache.ignite.internal.util.typedef.internal.S;
 import org.apache.ignite.internal.util.typedef.internal.U;
 import org.jetbrains.annotations.Nullable;
 
+import static org.apache.ignite.internal.processors.cache.persistence.pagemem.PagesWriteThrottlePolicy.CP_BUF_FILL_THRESHOLD;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+
 /**
  * Eagerly removes expired entries from cache when
  * {@link CacheConfiguration#isEagerTtl()} flag is set.
@@ -65,6 +73,15 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
     /** */
     private GridCacheContext dhtCtx;
 
+    /** Limit of expired entries processed by the cleanup worker in one pass, adapts to the backlog. */
+    private volatile int cleanupBatchSize;
+
+    /** {@code True} if expired entries remained after the last pass of the cleanup worker. */
+    private volatile boolean cleanupBacklog;
+
+    /** Number of passes of the cleanup worker limited because of the checkpoint buffer pressure. */
+    private LongAdderMetric cleanupThrottled;
+
     /** */
     private final IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion> expireC =
         new IgniteInClosure2X<GridCacheEntryEx, GridCacheVersion>() {
@@ -108,6 +125,17 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
 
         eagerTtlEnabled = true;
 
+        MetricRegistry mreg = cctx.kernalContext().metric().registry(cacheMetricsRegistryName(cctx.name(), cctx.isNear()));
+
+        mreg.register("TtlCleanupBatchSize", () -> cleanupBatchSize,
+            "The current limit of expired entries removed by the TTL cleanup worker in one pass.");
+
+        mreg.register("TtlCleanupBacklog", () -> cleanupBacklog,
+            "True if expired entries remained after the last pass of the TTL cleanup worker.");
+
+        cleanupThrottled = mreg.longAdderMetric("TtlCleanupThrottled",
+            "The number of passes of the TTL cleanup worker limited because of the checkpoint buffer pressure.");
+
         cctx.shared().ttl().register(this);
 
         pendingEntries = (cctx.config().getNearConfiguration() != null) ? new GridConcurrentSkipListSetEx() : null;
@@ -278,6 +306,51 @@ public class GridCacheTtlManager extends GridCacheManagerAdapter {
         return false;
     }
 
+    /**
+     * Processes a batch of expired entries by the cleanup worker. The batch grows twice while expired entries remain
+     * after a pass and shrinks twice otherwise. Only the minimal batch is processed while the checkpoint buffer is
+     * close to overflow, so that the cleanup does not add to the pressure on the checkpoint.
+     *
+     * @param minBatchSize Minimal limit of processed entries.
+     * @param maxBatchSize Maximal limit of processed entries.
+     * @return {@code True} if unprocessed expired entries remains.
+     */
+    boolean expireBatch(int minBatchSize, int maxBatchSize) {
+        int batchSize = Math.min(Math.max(cleanupBatchSize, minBatchSize), maxBatchSize);
+
+        if (batchSize > minBatchSize && checkpointBufferPressure()) {
+            batchSize = minBatchSize;
+
+            cleanupThrottled.increment();
+        }
+
+        boolean more = expire(batchSize);
+
+        cleanupBatchSize = more ? Math.min(batchSize * 2, maxBatchSize) : Math.max(batchSize / 2, minBatchSize);
+        cleanupBacklog = more;
+
+        return more;
+    }
+
+    /**
+     * @return {@code True} if the checkpoint buffer of the data region of the cache is close to overflow.
+     */
+    private boolean checkpointBufferPressure() {
+        DataRegion region = dhtCtx.dataRegion();
+
+        if (region == null)
+            return false;
+
+        PageMemory pageMem = region.pageMemory();
+
+        if (!(pageMem instanceof PageMemoryImpl))
+            return false;
+
+        PageMemoryImpl pageMemImpl = (PageMemoryImpl)pageMem;
+
+        return pageMemImpl.checkpointBufferPagesCount() > pageMemImpl.checkpointBufferPagesSize() * CP_BUF_FILL_THRESHOLD;
+    }
+
     /**
      * @param cctx1 First cache context.
      * @param key1 Left key to compare.
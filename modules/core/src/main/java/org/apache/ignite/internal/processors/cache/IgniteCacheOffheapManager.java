@@ -36,6 +36,7 @@ import org.apache.ignite.internal.processors.cache.persistence.RootPage;
 import org.apache.ignite.internal.processors.cache.persistence.RowStore;
 import org.apache.ignite.internal.processors.cache.persistence.freelist.SimpleDataRow;
 import org.apache.ignite.internal.processors.cache.persistence.partstorage.PartitionMetaStorage;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
 import org.apache.ignite.internal.processors.cache.persistence.tree.reuse.ReuseList;
 import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
 import org.apache.ignite.internal.processors.cache.tree.PendingEntriesTree;
@@ -410,6 +411,26 @@ public interface IgniteCacheOffheapManager {
         Boolean dataPageScanEnabled
     ) throws IgniteCheckedException;
 
+    /**
+     * @param cacheId Cache ID.
+     * @param primary Primary entries flag.
+     * @param backup Backup entries flag.
+     * @param topVer Topology version.
+     * @param mvccSnapshot MVCC snapshot.
+     * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param filter Filter of rows or {@code null} if all rows are needed.
+     * @return Rows iterator.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridIterator<CacheDataRow> cacheIterator(int cacheId,
+        boolean primary,
+        boolean backup,
+        AffinityTopologyVersion topVer,
+        @Nullable MvccSnapshot mvccSnapshot,
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowFilter filter
+    ) throws IgniteCheckedException;
+
     /**
      * @param cacheId Cache ID.
      * @param part Partition.
@@ -421,6 +442,19 @@ public interface IgniteCacheOffheapManager {
     public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, final int part,
         @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled) throws IgniteCheckedException;
 
+    /**
+     * @param cacheId Cache ID.
+     * @param part Partition.
+     * @param mvccSnapshot MVCC snapshot.
+     * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param filter Filter of rows or {@code null} if all rows are needed.
+     * @return Partition data iterator.
+     * @throws IgniteCheckedException If failed.
+     */
+    public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, final int part,
+        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowFilter filter) throws IgniteCheckedException;
+
     /**
      * @param part Partition number.
      * @return Iterator for given partition.
@@ -604,6 +638,19 @@ public interface IgniteCacheOffheapManager {
         public boolean oldRowExpiredFlag();
     }
 
+    /**
+     * Filter of rows of the cache data tree. Rows are created by the filter under the read lock of the tree page,
+     * and are passed to {@link #apply(CacheDataRow)} when no page locks are held.
+     */
+    interface CacheDataRowFilter extends BPlusTree.TreeRowFactory<CacheSearchRow, CacheDataRow> {
+        /**
+         * @param row Row created by this filter. Rows are passed in the order of creation.
+         * @return Row passed the filter or {@code null} if the row is filtered out.
+         * @throws IgniteCheckedException If failed.
+         */
+        @Nullable public CacheDataRow apply(CacheDataRow row) throws IgniteCheckedException;
+    }
+
     /**
      *
      */
@@ -1007,6 +1054,15 @@ public interface IgniteCacheOffheapManager {
         public GridCursor<? extends CacheDataRow> cursor(int cacheId, MvccSnapshot mvccSnapshot)
             throws IgniteCheckedException;
 
+        /**
+         * @param cacheId Cache ID.
+         * @param filter Filter of rows.
+         * @return Data cursor of rows passed the filter.
+         * @throws IgniteCheckedException If failed.
+         */
+        public GridCursor<? extends CacheDataRow> cursor(int cacheId, CacheDataRowFilter filter)
+            throws IgniteCheckedException;
+
         /**
          * @param cacheId Cache ID.
          * @param lower Lower bound.
@@ -805,18 +805,38 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         @Nullable MvccSnapshot mvccSnapshot,
         Boolean dataPageScanEnabled
     ) {
-        return iterator(cacheId, cacheData(primary, backups, topVer), mvccSnapshot, dataPageScanEnabled);
+        return cacheIterator(cacheId, primary, backups, topVer, mvccSnapshot, dataPageScanEnabled, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridIterator<CacheDataRow> cacheIterator(
+        int cacheId,
+        boolean primary,
+        boolean backups,
+        AffinityTopologyVersion topVer,
+        @Nullable MvccSnapshot mvccSnapshot,
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowFilter filter
+    ) {
+        return iterator(cacheId, cacheData(primary, backups, topVer), mvccSnapshot, dataPageScanEnabled, filter);
     }
 
     /** {@inheritDoc} */
     @Override public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, int part,
         @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled) {
+        return cachePartitionIterator(cacheId, part, mvccSnapshot, dataPageScanEnabled, null);
+    }
+
+    /** {@inheritDoc} */
+    @Override public GridIterator<CacheDataRow> cachePartitionIterator(int cacheId, int part,
+        @Nullable MvccSnapshot mvccSnapshot, Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowFilter filter) {
         CacheDataStore data = dataStore(part, true);
 
         if (data == null)
             return new GridEmptyCloseableIterator<>();
 
-        return iterator(cacheId, singletonIterator(data), mvccSnapshot, dataPageScanEnabled);
+        return iterator(cacheId, singletonIterator(data), mvccSnapshot, dataPageScanEnabled, filter);
     }
 
     /** {@inheritDoc} */
@@ -826,7 +846,7 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
         if (data == null)
             return new GridEmptyCloseableIterator<>();
 
-        return iterator(CU.UNDEFINED_CACHE_ID, singletonIterator(data), null, null);
+        return iterator(CU.UNDEFINED_CACHE_ID, singletonIterator(data), null, null, null);
     }
 
     /**
@@ -835,12 +855,14 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
      * @param dataIt Data store iterator.
      * @param mvccSnapshot Mvcc snapshot.
      * @param dataPageScanEnabled Flag to enable data page scan.
+     * @param filter Filter of rows or {@code null} if all rows are needed.
      * @return Rows iterator
      */
     private GridCloseableIterator<CacheDataRow> iterator(int cacheId,
         Iterator<CacheDataStore> dataIt,
         MvccSnapshot mvccSnapshot,
-        Boolean dataPageScanEnabled
+        Boolean dataPageScanEnabled,
+        @Nullable CacheDataRowFilter filter
     ) {
         return new GridCloseableIteratorAdapter<CacheDataRow>() {
             /** */
@@ -877,7 +899,12 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
                                 CacheDataTree.setDataPageScanEnabled(false);
 
                                 try {
-                                    if (mvccSnapshot == null)
+                                    if (filter != null) {
+                                        assert mvccSnapshot == null && cacheId != CU.UNDEFINED_CACHE_ID;
+
+                                        cur = ds.cursor(cacheId, filter);
+                                    }
+                                    else if (mvccSnapshot == null)
                                         cur = cacheId == CU.UNDEFINED_CACHE_ID ? ds.cursor() : ds.cursor(cacheId);
                                     else {
                                         cur = cacheId == CU.UNDEFINED_CACHE_ID ?
@@ -2804,6 +2831,47 @@ public class IgniteCacheOffheapManagerImpl implements IgniteCacheOffheapManager
             return cursor(cacheId, null, null, null, mvccSnapshot);
         }
 
+        /** {@inheritDoc} */
+        @Override public GridCursor<? extends CacheDataRow> cursor(int cacheId,
+            CacheDataRowFilter filter) throws IgniteCheckedException {
+            SearchRow lowerRow = null;
+            SearchRow upperRow = null;
+
+            if (grp.sharedGroup()) {
+                assert cacheId != CU.UNDEFINED_CACHE_ID;
+
+                lowerRow = new SearchRow(cacheId);
+                upperRow = new SearchRow(cacheId);
+            }
+
+            GridCursor<CacheDataRow> cur = dataTree.find(lowerRow, upperRow, true, true, null, filter, null);
+
+            return new GridCursor<CacheDataRow>() {
+                /** */
+                private CacheDataRow row;
+
+                /** {@inheritDoc} */
+                @Override public boolean next() throws IgniteCheckedException {
+                    while (cur.next()) {
+                        // Rows are filtered out of the tree cursor, no page locks are held here.
+                        row = filter.apply(cur.get());
+
+                        if (row != null)
+                            return true;
+                    }
+
+                    row = null;
+
+                    return false;
+                }
+
+                /** {@inheritDoc} */
+                @Override public CacheDataRow get() {
+                    return row;
+                }
+            };
+        }
+
         /** {@inheritDoc} */
         @Override public GridCursor<? extends CacheDataRow> cursor(int cacheId, KeyCacheObject lower,
             KeyCacheObject upper) throws IgniteCheckedException {
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.processors.cache;
 
 import java.io.Externalizable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collection;
@@ -1376,6 +1377,36 @@ public class IgniteCacheProxyImpl<K, V> extends AsyncSupportAdapter<IgniteCache<
         return createFuture(delegate.getAndPutAsync(key, val));
     }
 
+    /** {@inheritDoc} */
+    @Override public void putStream(K key, InputStream in) {
+        try {
+            CacheChunkedValues.put((IgniteInternalCache<Object, Object>)getDelegateSafe(), key, in);
+        }
+        catch (IgniteCheckedException | IgniteException e) {
+            throw cacheException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream getStream(K key) {
+        try {
+            return CacheChunkedValues.get((IgniteInternalCache<Object, Object>)getDelegateSafe(), key);
+        }
+        catch (IgniteCheckedException | IgniteException e) {
+            throw cacheException(e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean removeStream(K key) {
+        try {
+            return CacheChunkedValues.remove((IgniteInternalCache<Object, Object>)getDelegateSafe(), key);
+        }
+        catch (IgniteCheckedException | IgniteException e) {
+            throw cacheException(e);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override public void putAll(Map<? extends K, ? extends V> map) {
         IgniteInternalCache<K, V> delegate = getDelegateSafe();
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheSharedContext;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteTxEntry;
+
+/**
+ * Deterministic order of keys locked by transactions.
+ * <p>
+ * Keys are ordered by the order of their primary node, cache, partition, hash code and serialized form. Near lock
+ * and prepare futures lock keys of one primary node at a time, so with this order every transaction acquires locks
+ * node by node in the same sequence with a single round-trip per node, and transactions which lock their key sets
+ * with bulk operations can not wait for each other in a cycle.
+ *
+ * @see org.apache.ignite.IgniteSystemProperties#IGNITE_TX_DETERMINISTIC_LOCK_ORDER
+ */
+public class DeterministicLockOrder {
+    /**
+     * Orders keys of a cache if deterministic lock order is enabled.
+     *
+     * @param cctx Cache context.
+     * @param keys Keys.
+     * @param topVer Topology version.
+     * @return Keys in lock order.
+     */
+    public static Iterable<KeyCacheObject> keys(
+        GridCacheContext<?, ?> cctx,
+        Iterable<KeyCacheObject> keys,
+        AffinityTopologyVersion topVer
+    ) {
+        if (!cctx.shared().tm().deterministicLockOrder())
+            return keys;
+
+        List<Item> items = new ArrayList<>();
+
+        for (KeyCacheObject key : keys)
+            items.add(new Item(cctx, key, topVer, key));
+
+        return items.size() > 1 ? sort(items) : keys;
+    }
+
+    /**
+     * Orders transaction entries if deterministic lock order is enabled.
+     *
+     * @param ctx Shared context.
+     * @param entries Transaction entries.
+     * @param topVer Topology version.
+     * @return Entries in lock order.
+     */
+    public static Iterable<IgniteTxEntry> entries(
+        GridCacheSharedContext<?, ?> ctx,
+        Collection<IgniteTxEntry> entries,
+        AffinityTopologyVersion topVer
+    ) {
+        if (entries.size() <= 1 || !ctx.tm().deterministicLockOrder())
+            return entries;
+
+        List<Item> items = new ArrayList<>(entries.size());
+
+        for (IgniteTxEntry e : entries)
+            items.add(new Item(e.context(), e.key(), topVer, e));
+
+        return sort(items);
+    }
+
+    /**
+     * @param items Items.
+     * @return Sorted values of the items.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> sort(List<Item> items) {
+        Collections.sort(items);
+
+        List<T> res = new ArrayList<>(items.size());
+
+        for (Item item : items)
+            res.add((T)item.val);
+
+        return res;
+    }
+
+    /**
+     * Sort key of a locked key.
+     */
+    private static class Item implements Comparable<Item> {
+        /** Cache context. */
+        private final GridCacheContext<?, ?> cctx;
+
+        /** Key. */
+        private final KeyCacheObject key;
+
+        /** Order of the primary node. */
+        private final long nodeOrder;
+
+        /** Partition. */
+        private final int part;
+
+        /** Value to sort. */
+        private final Object val;
+
+        /**
+         * @param cctx Cache context.
+         * @param key Key.
+         * @param topVer Topology version.
+         * @param val Value to sort.
+         */
+        Item(GridCacheContext<?, ?> cctx, KeyCacheObject key, AffinityTopologyVersion topVer, Object val) {
+            this.cctx = cctx;
+            this.key = key;
+            this.val = val;
+
+            part = cctx.affinity().partition(key);
+
+            ClusterNode primary = cctx.affinity().primaryByPartition(part, topVer);
+
+            nodeOrder = primary != null ? primary.order() : Long.MAX_VALUE;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int compareTo(Item o) {
+            int res = Long.compare(nodeOrder, o.nodeOrder);
+
+            if (res == 0)
+                res = Integer.compare(cctx.cacheId(), o.cctx.cacheId());
+
+            if (res == 0)
+                res = Integer.compare(part, o.part);
+
+            if (res == 0)
+                res = Integer.compare(key.hashCode(), o.key.hashCode());
+
+            if (res == 0 && !key.equals(o.key)) {
+                try {
+                    res = compareBytes(key.valueBytes(cctx.cacheObjectContext()),
+                        o.key.valueBytes(o.cctx.cacheObjectContext()));
+                }
+                catch (IgniteCheckedException e) {
+                    throw new IgniteException(e);
+                }
+            }
+
+            return res;
+        }
+
+        /**
+         * @param a First array.
+         * @param b Second array.
+         * @return Comparison result.
+         */
+        private static int compareBytes(byte[] a, byte[] b) {
+            int len = Math.min(a.length, b.length);
+
+            for (int i = 0; i < len; i++) {
+                int res = Byte.compare(a[i], b[i]);
+
+                if (res != 0)
+                    return res;
+            }
+
+            return Integer.compare(a.length, b.length);
+        }
+    }
+}
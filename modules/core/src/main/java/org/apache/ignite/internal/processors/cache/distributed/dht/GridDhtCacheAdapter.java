@@ -89,6 +89,7 @@ import org.apache.ignite.internal.util.typedef.CI1;
 import org.apache.ignite.internal.util.typedef.CI2;
 import org.apache.ignite.internal.util.typedef.CI3;
 import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.internal.util.typedef.internal.CU;
 import org.apache.ignite.internal.util.typedef.internal.GPC;
 import org.apache.ignite.internal.util.typedef.internal.S;
@@ -121,6 +122,15 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
     /** */
     private volatile boolean stopping;
 
+    /** Hedged reads, {@code null} if hedged reads are disabled for the cache. */
+    private volatile HedgedReads hedgedReads;
+
+    /** Hot keys tracker, {@code null} if tracking of hot keys is disabled. */
+    private volatile HotKeysTracker hotKeys;
+
+    /** Read-only snapshots of the local data. */
+    private volatile ReadSnapshots readSnapshots;
+
     /** Discovery listener. */
     private final GridLocalEventListener discoLsnr = new GridLocalEventListener() {
         @Override public void onEvent(Event evt) {
@@ -391,12 +401,44 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
             (CI2<UUID, GridCacheTtlUpdateRequest>)this::processTtlUpdateRequest);
 
         ctx.gridEvents().addLocalEventListener(discoLsnr, EVT_NODE_LEFT, EVT_NODE_FAILED);
+
+        hedgedReads = HedgedReads.create(ctx);
+        hotKeys = HotKeysTracker.create();
+        readSnapshots = new ReadSnapshots(ctx);
+    }
+
+    /**
+     * @return Hedged reads or {@code null} if hedged reads are disabled for the cache.
+     */
+    @Nullable public HedgedReads hedgedReads() {
+        return hedgedReads;
+    }
+
+    /**
+     * @return Hot keys tracker or {@code null} if tracking of hot keys is disabled.
+     */
+    @Nullable public HotKeysTracker hotKeys() {
+        return hotKeys;
+    }
+
+    /**
+     * @return Read-only snapshots of the local data or {@code null} if the cache is not started yet.
+     */
+    @Nullable public ReadSnapshots readSnapshots() {
+        return readSnapshots;
     }
 
     /** {@inheritDoc} */
     @Override public void printMemoryStats() {
         super.printMemoryStats();
 
+        ReadSnapshots readSnapshots0 = readSnapshots;
+
+        if (readSnapshots0 != null && readSnapshots0.openSnapshots() > 0) {
+            X.println(">>>  Read snapshots [open=" + readSnapshots0.openSnapshots() +
+                ", historyKeys=" + readSnapshots0.historySize() + ", historyRecords=" + readSnapshots0.historyRecords() + ']');
+        }
+
         ctx.group().topology().printMemoryStats(1024);
     }
 
@@ -1198,6 +1240,11 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
 
         final CacheExpiryPolicy expiryPlc = CacheExpiryPolicy.fromRemote(req.createTtl(), req.accessTtl());
 
+        HotKeysTracker hotKeys = this.hotKeys;
+
+        if (hotKeys != null)
+            hotKeys.onRead(req.key());
+
         IgniteInternalFuture<GridCacheEntryInfo> fut =
             getDhtSingleAsync(
                 nodeId,
@@ -1304,6 +1351,13 @@ public abstract class GridDhtCacheAdapter<K, V> extends GridDistributedCacheAdap
 
         final CacheExpiryPolicy expiryPlc = CacheExpiryPolicy.fromRemote(req.createTtl(), req.accessTtl());
 
+        HotKeysTracker hotKeys = this.hotKeys;
+
+        if (hotKeys != null) {
+            for (KeyCacheObject key : req.keys().keySet())
+                hotKeys.onRead(key);
+        }
+
         IgniteInternalFuture<Collection<GridCacheEntryInfo>> fut =
             getDhtAsync(nodeId,
                 req.messageId(),
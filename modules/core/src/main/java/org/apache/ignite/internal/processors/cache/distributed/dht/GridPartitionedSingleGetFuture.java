@@ -56,6 +56,8 @@ import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSing
 import org.apache.ignite.internal.processors.cache.mvcc.MvccSnapshot;
 import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutObject;
+import org.apache.ignite.internal.processors.timeout.GridTimeoutObjectAdapter;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
@@ -159,6 +161,20 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
     /** Remap count. */
     protected volatile int remapCnt;
 
+    /** Hedged reads or {@code null} if this get must not be hedged. */
+    @GridToStringExclude
+    private final HedgedReads hedgedReads;
+
+    /** Backup node the hedged request is sent to, {@code null} if there is no pending hedged request. */
+    private ClusterNode hedgeNode;
+
+    /** Time the request was sent to the primary node at, in nanoseconds. */
+    private long reqStartTime;
+
+    /** Timeout object which sends the hedged request. */
+    @GridToStringExclude
+    private volatile GridTimeoutObject hedgeTimeoutObj;
+
     /**
      * @param cctx Context.
      * @param key Key.
@@ -221,6 +237,9 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
 
         futId = IgniteUuid.randomUuid();
 
+        hedgedReads = !cctx.isNear() && !forcePrimary && expiryPlc == null && !(readThrough && cctx.readThroughConfigured())
+            && HedgedReads.allowedForCurrentTx(cctx) ? cctx.dht().hedgedReads() : null;
+
         if (log == null)
             log = U.logger(cctx.kernalContext(), logRef, GridPartitionedSingleGetFuture.class);
     }
@@ -335,6 +354,9 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
 
                 this.topVer = topVer;
                 this.node = node;
+
+                hedgeNode = null;
+                reqStartTime = System.nanoTime();
             }
 
             registrateFutureInMvccManager(this);
@@ -351,26 +373,13 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
                 postProcessingClos = postClos;
             }
 
-            GridCacheMessage req = new GridNearSingleGetRequest(
-                cctx.cacheId(),
-                futId.localId(),
-                key,
-                readThrough,
-                topVer,
-                taskName == null ? 0 : taskName.hashCode(),
-                expiryPlc != null ? expiryPlc.forCreate() : -1L,
-                expiryPlc != null ? expiryPlc.forAccess() : -1L,
-                skipVals,
-                /*add reader*/false,
-                needVer,
-                cctx.deploymentEnabled(),
-                recovery,
-                txLbl,
-                mvccSnapshot
-            );
+            GridCacheMessage req = request(topVer, needVer);
 
             try {
                 cctx.io().send(node, req, cctx.ioPolicy());
+
+                if (hedgedReads != null)
+                    scheduleHedge(topVer, node, needVer);
             }
             catch (IgniteCheckedException e) {
                 if (e instanceof ClusterTopologyCheckedException)
@@ -381,6 +390,103 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
         }
     }
 
+    /**
+     * @param topVer Topology version.
+     * @param needVer If {@code true} returns value with version.
+     * @return Get request.
+     */
+    private GridNearSingleGetRequest request(AffinityTopologyVersion topVer, boolean needVer) {
+        return new GridNearSingleGetRequest(
+            cctx.cacheId(),
+            futId.localId(),
+            key,
+            readThrough,
+            topVer,
+            taskName == null ? 0 : taskName.hashCode(),
+            expiryPlc != null ? expiryPlc.forCreate() : -1L,
+            expiryPlc != null ? expiryPlc.forAccess() : -1L,
+            skipVals,
+            /*add reader*/false,
+            needVer,
+            cctx.deploymentEnabled(),
+            recovery,
+            txLbl,
+            mvccSnapshot
+        );
+    }
+
+    /**
+     * Schedules sending of the same request to a backup node if the primary node does not answer in time.
+     *
+     * @param topVer Topology version.
+     * @param primary Primary node the request was sent to.
+     * @param needVer If {@code true} returns value with version.
+     */
+    private void scheduleHedge(AffinityTopologyVersion topVer, ClusterNode primary, boolean needVer) {
+        GridTimeoutObject timeoutObj = new GridTimeoutObjectAdapter(hedgedReads.delay()) {
+            @Override public void onTimeout() {
+                hedge(topVer, primary, needVer);
+            }
+        };
+
+        hedgeTimeoutObj = timeoutObj;
+
+        cctx.time().addTimeoutObject(timeoutObj);
+
+        if (isDone())
+            cctx.time().removeTimeoutObject(timeoutObj);
+    }
+
+    /**
+     * Sends the request to a backup node if the primary node has not answered yet.
+     *
+     * @param topVer Topology version.
+     * @param primary Primary node the request was sent to.
+     * @param needVer If {@code true} returns value with version.
+     */
+    private void hedge(AffinityTopologyVersion topVer, ClusterNode primary, boolean needVer) {
+        if (isDone())
+            return;
+
+        Set<ClusterNode> invalidNodes = getInvalidNodes();
+
+        ClusterNode backup = null;
+
+        for (ClusterNode n : cctx.affinity().nodesByPartition(cctx.affinity().partition(key), topVer)) {
+            if (!n.equals(primary) && !n.isLocal() && !invalidNodes.contains(n) && cctx.discovery().alive(n.id())) {
+                backup = n;
+
+                break;
+            }
+        }
+
+        if (backup == null)
+            return;
+
+        synchronized (this) {
+            // Primary node has already answered or the key was remapped.
+            if (!primary.equals(node) || hedgeNode != null || !topVer.equals(this.topVer))
+                return;
+
+            hedgeNode = backup;
+        }
+
+        hedgedReads.onHedged();
+
+        try {
+            cctx.io().send(backup, request(topVer, needVer), cctx.ioPolicy());
+        }
+        catch (IgniteCheckedException e) {
+            synchronized (this) {
+                if (backup.equals(hedgeNode))
+                    hedgeNode = null;
+            }
+
+            if (log.isDebugEnabled())
+                log.debug("Failed to send hedged get request [node=" + backup.id() + ", err=" + e + ']');
+        }
+    }
+
     /**
      * @param topVer Topology version.
      * @return Primary node or {@code null} if future was completed.
@@ -604,7 +710,7 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
      */
     public void onResult(UUID nodeId, GridNearSingleGetResponse res) {
         // Brake here if response from unexpected node.
-        if (!processResponse(nodeId))
+        if (!processResponse(nodeId, res.invalidPartitions(), res.error()))
             return;
 
         // Brake here if exception was throws on remote node or
@@ -647,7 +753,7 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
     /** {@inheritDoc} */
     @Override public void onResult(UUID nodeId, GridNearGetResponse res) {
         // Brake here if response from unexpected node.
-        if (!processResponse(nodeId))
+        if (!processResponse(nodeId, !F.isEmpty(res.invalidPartitions()), res.error()))
             return;
 
         // Brake here if exception was throws on remote node or
@@ -670,6 +776,7 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
         synchronized (this) {
             if (node != null && node.id().equals(nodeId)) {
                 node = null;
+                hedgeNode = null;
 
                 return true;
             }
@@ -678,6 +785,49 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
         return false;
     }
 
+    /**
+     * @param nodeId Node ID.
+     * @param invalidParts Invalid partitions error flag.
+     * @param err Error.
+     * @return {@code True} if should process received response.
+     */
+    private boolean processResponse(UUID nodeId, boolean invalidParts, @Nullable IgniteCheckedException err) {
+        if (hedgedReads == null)
+            return processResponse(nodeId);
+
+        boolean hedgeWin = false;
+        long startTime;
+
+        synchronized (this) {
+            if (node != null && node.id().equals(nodeId)) {
+                node = null;
+                hedgeNode = null;
+            }
+            else if (hedgeNode != null && hedgeNode.id().equals(nodeId)) {
+                hedgeNode = null;
+
+                // Failed hedged request is ignored, the primary node is still awaited.
+                if (node == null || invalidParts || err != null)
+                    return false;
+
+                node = null;
+                hedgeWin = true;
+            }
+            else
+                return false;
+
+            startTime = reqStartTime;
+        }
+
+        if (!invalidParts && err == null)
+            hedgedReads.onResponse(System.nanoTime() - startTime);
+
+        if (hedgeWin)
+            hedgedReads.onWin();
+
+        return true;
+    }
+
     /**
      * @param err Error.
      * @param invalidParts Invalid partitions error flag.
@@ -868,6 +1018,11 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
 
     /** {@inheritDoc} */
     @Override public boolean onNodeLeft(UUID nodeId) {
+        synchronized (this) {
+            if (hedgeNode != null && hedgeNode.id().equals(nodeId))
+                hedgeNode = null;
+        }
+
         if (!processResponse(nodeId))
             return false;
 
@@ -921,6 +1076,11 @@ public class GridPartitionedSingleGetFuture extends GridCacheFutureAdapter<Objec
             if (trackable)
                 cctx.mvcc().removeFuture(futId);
 
+            GridTimeoutObject timeoutObj = hedgeTimeoutObj;
+
+            if (timeoutObj != null)
+                cctx.time().removeTimeoutObject(timeoutObj);
+
             if (!(err instanceof NodeStoppingException))
                 cctx.dht().sendTtlUpdateRequest(expiryPlc);
 
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht;
+
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteInternalTx;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.internal.util.typedef.internal.U;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HEDGED_READS_ENABLED;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HEDGED_READS_MIN_DELAY;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HEDGED_READS_PERCENTILE;
+import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+import static org.apache.ignite.IgniteSystemProperties.getLong;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.internal.processors.metric.impl.MetricUtils.cacheMetricsRegistryName;
+import static org.apache.ignite.transactions.TransactionIsolation.READ_COMMITTED;
+
+/**
+ * Hedged reads of a cache: if the primary node does not answer a single key get within a delay, the same request
+ * is sent to a backup node and the first answer is used. Backups of {@code FULL_SYNC} caches are updated before
+ * an update completes, so the answer of a backup is as consistent as the answer of the primary node for reads which
+ * do not lock entries.
+ * <p>
+ * The delay adapts to the configured percentile of the response time of primary nodes, which is estimated with
+ * a streaming quantile estimator: the estimate is increased by a step proportional to the percentile if a response
+ * is slower than the estimate and is decreased by a step proportional to the rest otherwise. The estimate settles at
+ * the point where the configured share of responses is faster than the estimate.
+ *
+ * @see org.apache.ignite.IgniteSystemProperties#IGNITE_HEDGED_READS_ENABLED
+ */
+public class HedgedReads {
+    /** @see org.apache.ignite.IgniteSystemProperties#IGNITE_HEDGED_READS_PERCENTILE */
+    public static final int DFLT_HEDGED_READS_PERCENTILE = 95;
+
+    /** @see org.apache.ignite.IgniteSystemProperties#IGNITE_HEDGED_READS_MIN_DELAY */
+    public static final long DFLT_HEDGED_READS_MIN_DELAY = 2L;
+
+    /** Relative step of the response time estimate. */
+    private static final double STEP = 0.1;
+
+    /** Percentile of the response time as a fraction. */
+    private final double quantile;
+
+    /** Minimal delay in milliseconds. */
+    private final long minDelay;
+
+    /** Estimated percentile of the response time in nanoseconds, {@code 0} if there were no responses yet. */
+    private volatile long estimate;
+
+    /** Number of hedged requests. */
+    private final LongAdderMetric hedged;
+
+    /** Number of gets completed with the answer of a backup node. */
+    private final LongAdderMetric wins;
+
+    /**
+     * @param mreg Cache metric registry.
+     * @param percentile Percentile of the response time used as the delay.
+     * @param minDelay Minimal delay in milliseconds.
+     */
+    HedgedReads(MetricRegistry mreg, int percentile, long minDelay) {
+        quantile = Math.min(Math.max(percentile, 1), 99) / 100.0;
+        this.minDelay = Math.max(minDelay, 1L);
+
+        hedged = mreg.longAdderMetric("HedgedReads",
+            "The number of gets sent to a backup node because the primary node did not answer in time.");
+
+        wins = mreg.longAdderMetric("HedgedReadWins",
+            "The number of hedged gets completed with the answer of a backup node.");
+
+        mreg.register("HedgedReadDelay", this::delay, "The current delay of hedged reads in milliseconds.");
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @return Hedged reads of the cache or {@code null} if hedged reads are disabled or not applicable to the cache.
+     */
+    @Nullable static HedgedReads create(GridCacheContext<?, ?> cctx) {
+        if (!getBoolean(IGNITE_HEDGED_READS_ENABLED) || cctx.isReplicated() || cctx.config().getBackups() == 0 ||
+            cctx.config().getWriteSynchronizationMode() != FULL_SYNC)
+            return null;
+
+        MetricRegistry mreg = cctx.kernalContext().metric().registry(cacheMetricsRegistryName(cctx.name(), false));
+
+        return new HedgedReads(mreg,
+            getInteger(IGNITE_HEDGED_READS_PERCENTILE, DFLT_HEDGED_READS_PERCENTILE),
+            getLong(IGNITE_HEDGED_READS_MIN_DELAY, DFLT_HEDGED_READS_MIN_DELAY));
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @return {@code True} if a get started by the current thread may be hedged with respect to its transaction.
+     */
+    static boolean allowedForCurrentTx(GridCacheContext<?, ?> cctx) {
+        IgniteInternalTx tx = cctx.tm().tx();
+
+        return tx == null || tx.isolation() == READ_COMMITTED;
+    }
+
+    /**
+     * @return Delay of hedged requests in milliseconds.
+     */
+    public long delay() {
+        return Math.max(minDelay, U.nanosToMillis(estimate));
+    }
+
+    /**
+     * Updates the response time estimate. Concurrent updates may be lost, which only slows down the adaptation.
+     *
+     * @param nanos Response time in nanoseconds.
+     */
+    void onResponse(long nanos) {
+        long est = estimate;
+
+        if (est == 0)
+            estimate = Math.max(nanos, 1L);
+        else if (nanos > est)
+            estimate = est + Math.max((long)(est * STEP * quantile), 1L);
+        else if (nanos < est)
+            estimate = Math.max(est - Math.max((long)(est * STEP * (1 - quantile)), 1L), 1L);
+    }
+
+    /**
+     * Called when a request is sent to a backup node.
+     */
+    void onHedged() {
+        hedged.increment();
+    }
+
+    /**
+     * Called when a get is completed with the answer of a backup node.
+     */
+    void onWin() {
+        wins.increment();
+    }
+
+    /**
+     * @return Number of hedged requests.
+     */
+    public long hedged() {
+        return hedged.value();
+    }
+
+    /**
+     * @return Number of gets completed with the answer of a backup node.
+     */
+    public long wins() {
+        return wins.value();
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HedgedReads.class, this);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed.dht;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.T2;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_COUNT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_TRACKING_ENABLED;
+import static org.apache.ignite.IgniteSystemProperties.getBoolean;
+import static org.apache.ignite.IgniteSystemProperties.getInteger;
+
+/**
+ * Tracks keys of a cache read most frequently from the local node by other nodes.
+ * <p>
+ * Read frequency of keys is estimated with a count-min sketch: a key increments one counter in each row of the sketch
+ * and the minimum of these counters is an upper bound of the number of reads of the key. Keys with the highest
+ * estimates are kept in a small map. Every {@link #DECAY_PERIOD} recorded reads all counters are halved, so
+ * the estimates reflect the recent workload. Only every {@link #SAMPLING}-th read on average is recorded.
+ *
+ * @see org.apache.ignite.IgniteSystemProperties#IGNITE_HOT_KEYS_TRACKING_ENABLED
+ */
+public class HotKeysTracker {
+    /** @see org.apache.ignite.IgniteSystemProperties#IGNITE_HOT_KEYS_COUNT */
+    public static final int DFLT_HOT_KEYS_CNT = 16;
+
+    /** Number of rows of the sketch. */
+    private static final int DEPTH = 4;
+
+    /** Number of counters in a row of the sketch, must be a power of two. */
+    private static final int WIDTH = 4096;
+
+    /** Hash seeds of the rows. */
+    private static final int[] SEEDS = {0x5bd1e995, 0x27d4eb2f, 0x165667b1, 0x61c88647};
+
+    /** Reads are recorded with probability {@code 1 / SAMPLING}. */
+    static final int SAMPLING = 4;
+
+    /** Number of recorded reads after which the estimates are halved. */
+    static final int DECAY_PERIOD = 1 << 16;
+
+    /** Sketch counters, row by row. */
+    @GridToStringExclude
+    private final AtomicIntegerArray counters = new AtomicIntegerArray(DEPTH * WIDTH);
+
+    /** Number of recorded reads. */
+    private final AtomicLong recorded = new AtomicLong();
+
+    /** Maximal number of tracked keys. */
+    private final int maxKeys;
+
+    /** Estimates of tracked keys, guarded by itself. */
+    @GridToStringExclude
+    private final Map<KeyCacheObject, Integer> top = new HashMap<>();
+
+    /** Minimal estimate of a tracked key if the maximal number of keys is tracked, {@code 0} otherwise. */
+    private volatile int minTop;
+
+    /**
+     * @param maxKeys Maximal number of tracked keys.
+     */
+    HotKeysTracker(int maxKeys) {
+        A.ensure(maxKeys > 0, "maxKeys > 0");
+
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * @return Hot keys tracker or {@code null} if tracking of hot keys is disabled.
+     */
+    @Nullable static HotKeysTracker create() {
+        if (!getBoolean(IGNITE_HOT_KEYS_TRACKING_ENABLED))
+            return null;
+
+        return new HotKeysTracker(getInteger(IGNITE_HOT_KEYS_COUNT, DFLT_HOT_KEYS_CNT));
+    }
+
+    /**
+     * Records a read of the key.
+     *
+     * @param key Key.
+     */
+    public void onRead(KeyCacheObject key) {
+        if (ThreadLocalRandom.current().nextInt(SAMPLING) == 0)
+            record(key);
+    }
+
+    /**
+     * @param key Key.
+     */
+    void record(KeyCacheObject key) {
+        int hash = key.hashCode();
+        int est = Integer.MAX_VALUE;
+
+        for (int i = 0; i < DEPTH; i++)
+            est = Math.min(est, counters.incrementAndGet(i * WIDTH + index(hash, i)));
+
+        if (est > minTop)
+            offer(key, est);
+
+        if (recorded.incrementAndGet() % DECAY_PERIOD == 0)
+            decay();
+    }
+
+    /**
+     * @return Tracked keys with estimated number of reads in the current period, in descending order of estimates.
+     */
+    public List<T2<KeyCacheObject, Long>> hotKeys() {
+        List<T2<KeyCacheObject, Long>> res;
+
+        synchronized (top) {
+            res = new ArrayList<>(top.size());
+
+            for (Map.Entry<KeyCacheObject, Integer> e : top.entrySet())
+                res.add(new T2<>(e.getKey(), (long)e.getValue() * SAMPLING));
+        }
+
+        res.sort((e1, e2) -> Long.compare(e2.get2(), e1.get2()));
+
+        return res;
+    }
+
+    /**
+     * @param key Key.
+     * @param est Estimated number of recorded reads of the key.
+     */
+    private void offer(KeyCacheObject key, int est) {
+        synchronized (top) {
+            top.put(key, est);
+
+            if (top.size() > maxKeys) {
+                Map.Entry<KeyCacheObject, Integer> min = null;
+
+                for (Map.Entry<KeyCacheObject, Integer> e : top.entrySet()) {
+                    if (min == null || e.getValue() < min.getValue())
+                        min = e;
+                }
+
+                top.remove(min.getKey());
+            }
+
+            updateMinTop();
+        }
+    }
+
+    /**
+     * Halves all estimates.
+     */
+    private void decay() {
+        // Concurrent increments may be lost, which does not affect the estimates noticeably.
+        for (int i = 0; i < counters.length(); i++)
+            counters.set(i, counters.get(i) >>> 1);
+
+        synchronized (top) {
+            for (Iterator<Map.Entry<KeyCacheObject, Integer>> it = top.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<KeyCacheObject, Integer> e = it.next();
+
+                int est = e.getValue() >>> 1;
+
+                if (est == 0)
+                    it.remove();
+                else
+                    e.setValue(est);
+            }
+
+            updateMinTop();
+        }
+    }
+
+    /**
+     * Updates minimal estimate of tracked keys.
+     */
+    private void updateMinTop() {
+        assert Thread.holdsLock(top);
+
+        int min = 0;
+
+        if (top.size() >= maxKeys) {
+            min = Integer.MAX_VALUE;
+
+            for (int est : top.values())
+                min = Math.min(min, est);
+        }
+
+        minTop = min;
+    }
+
+    /**
+     * Computes 32-bit MurmurHash3 of the key hash with the seed of the row, so that keys colliding in one row
+     * are unlikely to collide in the others.
+     *
+     * @param hash Key hash code.
+     * @param row Row of the sketch.
+     * @return Index of the counter in the row.
+     */
+    private static int index(int hash, int row) {
+        int k = Integer.rotateLeft(hash * 0xcc9e2d51, 15) * 0x1b873593;
+
+        int h = Integer.rotateLeft(SEEDS[row] ^ k, 13) * 5 + 0xe6546b64;
+
+        return fmix32(h ^ Integer.BYTES) & (WIDTH - 1);
+    }
+
+    /**
+     * MurmurHash3 finalization step.
+     *
+     * @param h Hash.
+     * @return Mixed hash.
+     */
+    private static int fmix32(int h) {
+        h = (h ^ (h >>> 16)) * 0x85ebca6b;
+        h = (h ^ (h >>> 13)) * 0xc2b2ae35;
+
+        return h ^ (h >>> 16);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(HotKeysTracker.class, this);
+    }
+}
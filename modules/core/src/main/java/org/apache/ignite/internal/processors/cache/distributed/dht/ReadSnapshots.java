@@ -0,0 +1,377 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.distributed.dht;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryRemovedException;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.transactions.IgniteInternalTx;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.util.GridConcurrentHashSet;
+import org.apache.ignite.internal.util.StripedCompositeReadWriteLock;
+import org.apache.ignite.internal.util.tostring.GridToStringExclude;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.transactions.TransactionState;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.transactions.TransactionState.COMMITTING;
+import static org.apache.ignite.transactions.TransactionState.PREPARED;
+import static org.apache.ignite.transactions.TransactionState.PREPARING;
+
+/**
+ * Read-only snapshots of the data of a cache stored on the local node.
+ * <p>
+ * A snapshot is identified by a version: it sees an entry as of the last update with a version not greater than
+ * the version of the snapshot. While at least one snapshot is open, every update of an entry retains the previous
+ * value and version of the entry in an on-heap history of the key, so snapshot reads neither acquire transaction
+ * locks nor are affected by concurrent updates. History records which are not needed by any open snapshot, that is
+ * records older than the newest record visible to the oldest open snapshot (the low watermark) and the whole history
+ * of keys not updated since the low watermark, are removed when a snapshot is closed. The history is not bounded
+ * while a snapshot is open, its size is reported by {@link #historyRecords()} and by the cache memory statistics.
+ * <p>
+ * The version of a snapshot is greater than the versions of all updates known to the local node when the snapshot
+ * is opened. The version is chosen when no atomic update of primary entries is in progress, and the snapshot waits
+ * for transactions which are being prepared or committed with a lower version to finish, so a snapshot sees either
+ * all or none of the local updates of a transaction or an atomic update. Keys must be stored on the local node.
+ */
+public class ReadSnapshots {
+    /** Cache context. */
+    private final GridCacheContext<?, ?> cctx;
+
+    /** Open snapshots. */
+    private final Set<ReadSnapshot> snapshots = new GridConcurrentHashSet<>();
+
+    /** Previous versions of keys updated while snapshots are open, the newest first. */
+    @GridToStringExclude
+    private final ConcurrentMap<KeyCacheObject, Record> history = new ConcurrentHashMap<>();
+
+    /** Number of history records. */
+    private final LongAdder records = new LongAdder();
+
+    /** Held for read by atomic updates of primary entries and for write while the version of a snapshot is chosen. */
+    private final StripedCompositeReadWriteLock atomicUpdLock = new StripedCompositeReadWriteLock(16);
+
+    /**
+     * @param cctx Cache context.
+     */
+    ReadSnapshots(GridCacheContext<?, ?> cctx) {
+        this.cctx = cctx;
+    }
+
+    /**
+     * Opens a snapshot of the current state of the cache. The snapshot must be closed after use.
+     *
+     * @return Snapshot.
+     * @throws IgniteCheckedException If failed to wait for transactions being committed.
+     */
+    public ReadSnapshot open() throws IgniteCheckedException {
+        // Reserve the history before the version is chosen so that no update with a greater version is lost.
+        ReadSnapshot snapshot = new ReadSnapshot();
+
+        snapshots.add(snapshot);
+
+        try {
+            atomicUpdLock.writeLock().lock();
+
+            try {
+                snapshot.ver = cctx.versions().next(cctx.kernalContext().discovery().topologyVersion());
+            }
+            finally {
+                atomicUpdLock.writeLock().unlock();
+            }
+
+            // Write version of a transaction is assigned while it is being prepared, an unassigned one falls back
+            // to a lower version, so such transactions are awaited too.
+            for (IgniteInternalTx tx : cctx.tm().activeTransactions()) {
+                TransactionState state = tx.state();
+
+                if ((state == PREPARING || state == PREPARED || state == COMMITTING) &&
+                    tx.writeVersion().compareTo(snapshot.ver) < 0)
+                    tx.finishFuture().get();
+            }
+        }
+        catch (IgniteCheckedException | RuntimeException e) {
+            snapshot.close();
+
+            throw e;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Called by an atomic update of primary entries before the update version is chosen. The version of a snapshot
+     * is not chosen until {@link #afterAtomicUpdate()} is called, so the update is either completed before a snapshot
+     * is opened or has a greater version.
+     */
+    public void beforeAtomicUpdate() {
+        atomicUpdLock.readLock().lock();
+    }
+
+    /**
+     * Called by an atomic update of primary entries after the entries are updated.
+     */
+    public void afterAtomicUpdate() {
+        atomicUpdLock.readLock().unlock();
+    }
+
+    /**
+     * @return Number of open snapshots.
+     */
+    public int openSnapshots() {
+        return snapshots.size();
+    }
+
+    /**
+     * @return Number of keys with retained previous versions.
+     */
+    public int historySize() {
+        return history.size();
+    }
+
+    /**
+     * @return Number of retained previous versions of all keys.
+     */
+    public long historyRecords() {
+        return records.sum();
+    }
+
+    /**
+     * Called under the lock of the entry before the entry is updated.
+     *
+     * @param key Key.
+     * @param oldVal Value before the update.
+     * @param oldVer Version before the update or {@code null} if the entry did not exist.
+     * @param newVer Update version.
+     */
+    public void onUpdate(
+        KeyCacheObject key,
+        @Nullable CacheObject oldVal,
+        @Nullable GridCacheVersion oldVer,
+        GridCacheVersion newVer
+    ) {
+        if (snapshots.isEmpty())
+            return;
+
+        history.compute(key, (k, head) -> new Record(oldVer, newVer, oldVal, head));
+
+        records.increment();
+    }
+
+    /**
+     * Removes history records not needed by open snapshots.
+     */
+    private synchronized void vacuum() {
+        GridCacheVersion lowWatermark = null;
+
+        for (ReadSnapshot snapshot : snapshots) {
+            GridCacheVersion ver = snapshot.ver;
+
+            // Snapshot is being opened.
+            if (ver == null)
+                return;
+
+            if (lowWatermark == null || ver.compareTo(lowWatermark) < 0)
+                lowWatermark = ver;
+        }
+
+        for (Map.Entry<KeyCacheObject, Record> e : history.entrySet()) {
+            Record head = e.getValue();
+
+            // The key was not updated since the oldest open snapshot, so all snapshots see the current value.
+            if (lowWatermark == null || head.newVer.compareTo(lowWatermark) <= 0) {
+                if (history.remove(e.getKey(), head))
+                    records.add(-length(head));
+
+                continue;
+            }
+
+            for (Record rec = head; rec != null; rec = rec.next) {
+                if (rec.visible(lowWatermark)) {
+                    Record tail = rec.next;
+
+                    // Concurrent updates only prepend records, so the tail can be cut safely.
+                    rec.next = null;
+
+                    records.add(-length(tail));
+
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param rec First record.
+     * @return Number of records in the chain.
+     */
+    private static int length(@Nullable Record rec) {
+        int len = 0;
+
+        for (; rec != null; rec = rec.next)
+            len++;
+
+        return len;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(ReadSnapshots.class, this, "openSnapshots", snapshots.size(), "historySize", history.size(),
+            "historyRecords", records.sum());
+    }
+
+    /**
+     * Previous version of a key.
+     */
+    private static class Record {
+        /** Version or {@code null} if the entry did not exist. */
+        @Nullable private final GridCacheVersion ver;
+
+        /** Version of the update which replaced the record. */
+        private final GridCacheVersion newVer;
+
+        /** Value. */
+        @Nullable private final CacheObject val;
+
+        /** Older record. */
+        @Nullable private volatile Record next;
+
+        /**
+         * @param ver Version or {@code null} if the entry did not exist.
+         * @param newVer Version of the update which replaced the record.
+         * @param val Value.
+         * @param next Older record.
+         */
+        Record(@Nullable GridCacheVersion ver, GridCacheVersion newVer, @Nullable CacheObject val, @Nullable Record next) {
+            this.ver = ver;
+            this.newVer = newVer;
+            this.val = val;
+            this.next = next;
+        }
+
+        /**
+         * @param snapshotVer Snapshot version.
+         * @return {@code True} if the record is visible to the snapshot.
+         */
+        boolean visible(GridCacheVersion snapshotVer) {
+            return ver == null || ver.compareTo(snapshotVer) <= 0;
+        }
+    }
+
+    /**
+     * Snapshot of the data of the cache stored on the local node.
+     */
+    public class ReadSnapshot implements AutoCloseable {
+        /** Version, {@code null} while the snapshot is being opened. */
+        private volatile GridCacheVersion ver;
+
+        /**
+         * @return Snapshot version.
+         */
+        public GridCacheVersion version() {
+            return ver;
+        }
+
+        /**
+         * @param key Key.
+         * @return Value of the key in the snapshot or {@code null} if the key did not exist.
+         * @throws IgniteCheckedException If failed.
+         */
+        @Nullable public CacheObject get(KeyCacheObject key) throws IgniteCheckedException {
+            while (true) {
+                GridCacheEntryEx entry = cctx.dht().entryEx(key);
+
+                // The lock is held only to read the entry and its history consistently.
+                entry.lockEntry();
+
+                try {
+                    // Unswap returns the value only if it is read from the storage now.
+                    entry.unswap();
+
+                    CacheObject val = entry.rawGet();
+
+                    GridCacheVersion curVer = entry.version();
+
+                    if (cctx.versions().isStartVersion(curVer) || curVer.compareTo(ver) <= 0)
+                        return val;
+
+                    Record rec = history.get(key);
+
+                    for (; rec != null; rec = rec.next) {
+                        if (rec.visible(ver))
+                            return rec.val;
+
+                        val = rec.val;
+                    }
+
+                    // All retained versions are newer than the snapshot, which can only happen for keys updated with
+                    // versions of remote nodes, the oldest known value is the closest one.
+                    return val;
+                }
+                catch (GridCacheEntryRemovedException ignored) {
+                    // Retry.
+                }
+                finally {
+                    entry.unlockEntry();
+
+                    entry.touch();
+                }
+            }
+        }
+
+        /**
+         * @param keys Keys.
+         * @return Values of existing keys in the snapshot.
+         * @throws IgniteCheckedException If failed.
+         */
+        public Map<KeyCacheObject, CacheObject> getAll(Collection<KeyCacheObject> keys) throws IgniteCheckedException {
+            Map<KeyCacheObject, CacheObject> res = new LinkedHashMap<>();
+
+            for (KeyCacheObject key : keys) {
+                CacheObject val = get(key);
+
+                if (val != null)
+                    res.put(key, val);
+            }
+
+            return res;
+        }
+
+        /**
+         * Closes the snapshot and removes history records not needed anymore.
+         */
+        @Override public void close() {
+            if (snapshots.remove(this))
+                vacuum();
+        }
+
+        /** {@inheritDoc} */
+        @Override public String toString() {
+            return S.toString(ReadSnapshot.class, this);
+        }
+    }
+}
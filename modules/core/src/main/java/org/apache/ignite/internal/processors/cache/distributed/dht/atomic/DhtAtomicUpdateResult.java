@@ -50,6 +50,9 @@ class DhtAtomicUpdateResult {
      */
     private int processedEntriesCount;
 
+    /** Indexes of request keys in update order, {@code null} if keys are updated in request order. */
+    private int[] updateOrder;
+
     /**
      * @param expiry Expiry policy.
      */
@@ -139,4 +142,18 @@ class DhtAtomicUpdateResult {
     public int processedEntriesCount() {
         return processedEntriesCount;
     }
+
+    /**
+     * @param updateOrder Indexes of request keys in update order, {@code null} to update keys in request order.
+     */
+    void updateOrder(@Nullable int[] updateOrder) {
+        this.updateOrder = updateOrder;
+    }
+
+    /**
+     * @return Indexes of request keys in update order, {@code null} if keys are updated in request order.
+     */
+    @Nullable int[] updateOrder() {
+        return updateOrder;
+    }
 }
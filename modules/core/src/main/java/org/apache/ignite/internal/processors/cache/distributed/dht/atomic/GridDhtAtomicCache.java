@@ -50,6 +50,7 @@ import org.apache.ignite.internal.cluster.ClusterTopologyCheckedException;
 import org.apache.ignite.internal.mem.IgniteOutOfMemoryException;
 import org.apache.ignite.internal.processors.affinity.AffinityAssignment;
 import org.apache.ignite.internal.processors.affinity.AffinityTopologyVersion;
+import org.apache.ignite.internal.processors.cache.AtomicDataRecordBatch;
 import org.apache.ignite.internal.processors.cache.CacheEntryPredicate;
 import org.apache.ignite.internal.processors.cache.CacheInvokeEntry;
 import org.apache.ignite.internal.processors.cache.CacheInvokeResult;
@@ -76,6 +77,7 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheE
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartitionedGetFuture;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridPartitionedSingleGetFuture;
+import org.apache.ignite.internal.processors.cache.distributed.dht.ReadSnapshots;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtForceKeysRequest;
 import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.GridDhtForceKeysResponse;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
@@ -1806,7 +1808,33 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                             }
 
                             if (!remap) {
-                                update(node, locked, req, res, updDhtRes, taskName);
+                                // Entries are locked until the batch is logged, see AtomicDataRecordBatch.
+                                boolean batchWal = req.size() > 1 && ctx.group().logDataRecords();
+
+                                if (batchWal)
+                                    AtomicDataRecordBatch.start(ctx.group(), req.size());
+
+                                ReadSnapshots snapshots = readSnapshots();
+
+                                if (snapshots != null)
+                                    snapshots.beforeAtomicUpdate();
+
+                                try {
+                                    update(node, locked, req, res, updDhtRes, taskName);
+                                }
+                                catch (Throwable e) {
+                                    if (batchWal)
+                                        AtomicDataRecordBatch.finish(e);
+
+                                    throw e;
+                                }
+                                finally {
+                                    if (snapshots != null)
+                                        snapshots.afterAtomicUpdate();
+                                }
+
+                                if (batchWal)
+                                    AtomicDataRecordBatch.finish();
 
                                 dhtFut = updDhtRes.dhtFuture();
                                 deleted = updDhtRes.deleted();
@@ -1960,6 +1988,10 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         if (dhtUpdRes.dhtFuture() == null)
             dhtUpdRes.dhtFuture(createDhtFuture(ver, req));
 
+        // Near cache updates in the response must be ordered by key index.
+        if (!hasNear && dhtUpdRes.processedEntriesCount() == 0)
+            dhtUpdRes.updateOrder(updateOrder(req));
+
         IgniteCacheExpiryPolicy expiry = expiryPolicy(req.expiry());
 
         GridCacheReturn retVal = null;
@@ -2503,8 +2535,12 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
 
         AffinityAssignment affAssignment = ctx.affinity().assignment(topVer);
 
+        int[] order = dhtUpdRes.updateOrder();
+
         // Avoid iterator creation.
-        for (int i = dhtUpdRes.processedEntriesCount(); i < req.size(); i++) {
+        for (int n = dhtUpdRes.processedEntriesCount(); n < req.size(); n++) {
+            int i = order == null ? n : order[n];
+
             KeyCacheObject k = req.key(i);
 
             GridCacheOperation op = req.operation();
@@ -2674,7 +2710,7 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
                 res.addFailedKey(k, e);
             }
 
-            dhtUpdRes.processedEntriesCount(i + 1);
+            dhtUpdRes.processedEntriesCount(n + 1);
         }
 
         dhtUpdRes.returnValue(retVal);
@@ -2947,6 +2983,54 @@ public class GridDhtAtomicCache<K, V> extends GridDhtCacheAdapter<K, V> {
         }
     }
 
+    /**
+     * Orders keys of a multi-key update by partition and hash code, which is the order of keys in the data trees.
+     * Updating keys in this order makes consecutive tree lookups of a partition descend to the same or adjacent
+     * pages, so a large batch is applied in a single ordered pass over each tree.
+     *
+     * @param req Update request.
+     * @return Indexes of request keys in update order or {@code null} if keys are already ordered.
+     */
+    @Nullable private int[] updateOrder(GridNearAtomicAbstractUpdateRequest req) {
+        int size = req.size();
+
+        if (size == 1)
+            return null;
+
+        int[] parts = new int[size];
+        int[] hashes = new int[size];
+
+        boolean ordered = true;
+
+        for (int i = 0; i < size; i++) {
+            KeyCacheObject key = req.key(i);
+
+            parts[i] = ctx.affinity().partition(key);
+            hashes[i] = key.hashCode();
+
+            if (ordered && i > 0)
+                ordered = parts[i - 1] < parts[i] || parts[i - 1] == parts[i] && hashes[i - 1] <= hashes[i];
+        }
+
+        if (ordered)
+            return null;
+
+        Integer[] idxs = new Integer[size];
+
+        for (int i = 0; i < size; i++)
+            idxs[i] = i;
+
+        Arrays.sort(idxs, (i1, i2) -> parts[i1] != parts[i2] ?
+            Integer.compare(parts[i1], parts[i2]) : Integer.compare(hashes[i1], hashes[i2]));
+
+        int[] order = new int[size];
+
+        for (int i = 0; i < size; i++)
+            order[i] = idxs[i];
+
+        return order;
+    }
+
     /**
      * Acquires java-level locks on cache entries. Returns collection of locked entries.
      *
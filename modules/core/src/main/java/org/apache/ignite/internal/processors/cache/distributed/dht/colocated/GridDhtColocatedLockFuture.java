@@ -52,6 +52,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheLockTimeoutException
 import org.apache.ignite.internal.processors.cache.GridCacheMvccCandidate;
 import org.apache.ignite.internal.processors.cache.GridCacheVersionedFuture;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.distributed.DeterministicLockOrder;
 import org.apache.ignite.internal.processors.cache.distributed.GridDistributedCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheEntry;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtTopologyFuture;
@@ -968,7 +969,7 @@ public final class GridDhtColocatedLockFuture extends GridCacheCompoundIdentityF
             // Assign keys to primary nodes.
             GridNearLockMapping map = null;
 
-            for (KeyCacheObject key : keys) {
+            for (KeyCacheObject key : DeterministicLockOrder.keys(cctx, keys, topVer)) {
                 GridNearLockMapping updated = map(key, map, topVer);
 
                 // If new mapping was created, add to collection.
@@ -2848,6 +2848,17 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
             return EMPTY_CURSOR;
         }
 
+        /** {@inheritDoc} */
+        @Override public GridCursor<? extends CacheDataRow> cursor(int cacheId,
+            CacheDataRowFilter filter) throws IgniteCheckedException {
+            CacheDataStore delegate = init0(true);
+
+            if (delegate != null)
+                return delegate.cursor(cacheId, filter);
+
+            return EMPTY_CURSOR;
+        }
+
         /** {@inheritDoc} */
         @Override public void clear(int cacheId) throws IgniteCheckedException {
             assert grp.shared().database().checkpointLockIsHeldByThread();
@@ -2959,43 +2970,29 @@ public class GridCacheOffheapManager extends IgniteCacheOffheapManagerImpl imple
 
                     long now = U.currentTimeMillis();
 
-                    GridCursor<PendingRow> cur;
+                    int cacheId = grp.sharedGroup() ? cctx.cacheId() : CU.UNDEFINED_CACHE_ID;
 
-                    if (grp.sharedGroup())
-                        cur = pendingTree.find(new PendingRow(cctx.cacheId()), new PendingRow(cctx.cacheId(), now, 0));
-                    else
-                        cur = pendingTree.find(null, new PendingRow(CU.UNDEFINED_CACHE_ID, now, 0));
-
-                    if (!cur.next())
-                        return 0;
+                    // Expired rows are removed from the pending tree as one range, page by page.
+                    List<PendingRow> rows = pendingTree.remove(new PendingRow(cacheId, Long.MIN_VALUE, 0),
+                        new PendingRow(cacheId, now, 0), amount == -1 ? 0 : amount);
 
                     GridCacheVersion obsoleteVer = null;
 
-                    int cleared = 0;
-
-                    do {
-                        PendingRow row = cur.get();
-
-                        if (amount != -1 && cleared > amount)
-                            return cleared;
-
+                    for (PendingRow row : rows) {
                         assert row.key != null && row.link != 0 && row.expireTime != 0 : row;
 
                         row.key.partition(partId);
 
-                        if (pendingTree.removex(row)) {
-                            if (obsoleteVer == null)
-                                obsoleteVer = cctx.cache().nextVersion();
-
-                            GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
+                        if (obsoleteVer == null)
+                            obsoleteVer = cctx.cache().nextVersion();
 
-                            if (e1 != null)
-                                c.apply(e1, obsoleteVer);
-                        }
+                        GridCacheEntryEx e1 = cctx.cache().entryEx(row.key);
 
-                        cleared++;
+                        if (e1 != null)
+                            c.apply(e1, obsoleteVer);
                     }
-                    while (cur.next());
+
+                    int cleared = rows.size();
 
                     return cleared;
                 }
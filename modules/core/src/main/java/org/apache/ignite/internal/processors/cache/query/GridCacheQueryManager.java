@@ -82,6 +82,7 @@ import org.apache.ignite.internal.processors.cache.GridCacheManagerAdapter;
 import org.apache.ignite.internal.processors.cache.IgniteCacheExpiryPolicy;
 import org.apache.ignite.internal.processors.cache.IgniteInternalCache;
 import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtCacheAdapter;
 import org.apache.ignite.internal.processors.cache.distributed.dht.GridDhtUnreservedPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
@@ -191,6 +192,10 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
     private final boolean isIndexingSpiAllowsBinary =
         !IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_UNWRAP_BINARY_FOR_INDEXING_SPI);
 
+    /** Whether scan query filters are applied to rows copied to a buffer, see {@link ScanQueryOffheapFilter}. */
+    private final boolean offheapScanFilter =
+        IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_SCAN_QUERY_OFFHEAP_FILTER);
+
     /** */
     private GridQueryProcessor qryProc;
 
@@ -838,6 +843,11 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
 
             final GridIterator<CacheDataRow> it;
 
+            IgniteBiPredicate<K, V> scanFilter = SecurityUtils.sandboxedProxy(cctx.kernalContext(), IgniteBiPredicate.class,
+                keyValFilter);
+
+            ScanQueryOffheapFilter offheapFilter = offheapFilter(qry, scanFilter);
+
             if (part != null) {
                 final GridDhtCacheAdapter dht = cctx.isNear() ? cctx.near().dht() : cctx.dht();
 
@@ -854,7 +864,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 locPart = locPart0;
 
                 it = cctx.offheap().cachePartitionIterator(cctx.cacheId(), part, qry.mvccSnapshot(),
-                    qry.isDataPageScanEnabled());
+                    qry.isDataPageScanEnabled(), offheapFilter);
             }
             else {
                 locPart = null;
@@ -869,11 +879,10 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                 }
 
                 it = cctx.offheap().cacheIterator(cctx.cacheId(), true, backups, topVer,
-                    qry.mvccSnapshot(), qry.isDataPageScanEnabled());
+                    qry.mvccSnapshot(), qry.isDataPageScanEnabled(), offheapFilter);
             }
 
-            ScanQueryIterator iter = new ScanQueryIterator(it, qry, topVer, locPart,
-                SecurityUtils.sandboxedProxy(cctx.kernalContext(), IgniteBiPredicate.class, keyValFilter),
+            ScanQueryIterator iter = new ScanQueryIterator(it, qry, topVer, locPart, scanFilter, offheapFilter != null,
                 SecurityUtils.sandboxedProxy(cctx.kernalContext(), IgniteClosure.class, transformer),
                 locNode, locNode ? locIters : null, cctx, log);
 
@@ -893,6 +902,26 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
         }
     }
 
+    /**
+     * @param qry Query.
+     * @param scanFilter Scan filter.
+     * @return Filter applied to rows of the cache data tree copied to a buffer or {@code null} if the scan filter is applied to
+     *      rows read to the heap.
+     */
+    @Nullable private ScanQueryOffheapFilter offheapFilter(GridCacheQueryAdapter<?> qry,
+        @Nullable IgniteBiPredicate<K, V> scanFilter) {
+        if (!offheapScanFilter || scanFilter == null || qry.scanFilter() instanceof PlatformCacheEntryFilter)
+            return null;
+
+        // Expiry policy and MVCC need the entries to be read to the heap anyway.
+        if (qry.mvccSnapshot() != null || cctx.cache().expiryPolicy(null) != null ||
+            !(cctx.kernalContext().cacheObjects() instanceof CacheObjectBinaryProcessorImpl))
+            return null;
+
+        // Filter is applied to values with keep binary flag of the query, the same as in ScanQueryIterator.
+        return new ScanQueryOffheapFilter(cctx, new InternalScanFilter<>(scanFilter), qry.keepBinary());
+    }
+
     /**
      * @param o Object to inject resources to.
      * @throws IgniteCheckedException If failure occurred while injecting resources.
@@ -3020,6 +3049,9 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
         /** */
         private final InternalScanFilter<K, V> intScanFilter;
 
+        /** Whether the scan filter is already applied by the rows iterator. */
+        private final boolean filtered;
+
         /** */
         private final boolean statsEnabled;
 
@@ -3089,6 +3121,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
          * @param topVer Topology version.
          * @param locPart Local partition.
          * @param scanFilter Scan filter.
+         * @param filtered Whether the scan filter is already applied by the rows iterator.
          * @param transformer Transformer.
          * @param locNode Local node flag.
          * @param locIters Local iterators set.
@@ -3101,6 +3134,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             AffinityTopologyVersion topVer,
             GridDhtLocalPartition locPart,
             IgniteBiPredicate<K, V> scanFilter,
+            boolean filtered,
             IgniteClosure transformer,
             boolean locNode,
             @Nullable GridConcurrentHashSet<ScanQueryIterator> locIters,
@@ -3112,6 +3146,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
             this.topVer = topVer;
             this.locPart = locPart;
             this.intScanFilter = scanFilter != null ? new InternalScanFilter<>(scanFilter) : null;
+            this.filtered = filtered;
             this.cctx = cctx;
 
             this.log = log;
@@ -3270,7 +3305,7 @@ public abstract class GridCacheQueryManager<K, V> extends GridCacheManagerAdapte
                         metrics.addGetTimeNanos(System.nanoTime() - start);
                     }
 
-                    if (intScanFilter == null || intScanFilter.apply(key0, val0)) {
+                    if (intScanFilter == null || filtered || intScanFilter.apply(key0, val0)) {
                         if (readEvt) {
                             cctx.gridEvents().record(new CacheQueryReadEvent<>(
                                 cctx.localNode(),
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import org.apache.ignite.IgniteCheckedException;
+import org.apache.ignite.internal.binary.BinaryContext;
+import org.apache.ignite.internal.binary.BinaryObjectImpl;
+import org.apache.ignite.internal.binary.GridBinaryMarshaller;
+import org.apache.ignite.internal.pagemem.PageMemory;
+import org.apache.ignite.internal.pagemem.PageUtils;
+import org.apache.ignite.internal.processors.cache.CacheGroupContext;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.CacheObjectContext;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManager.CacheDataRowFilter;
+import org.apache.ignite.internal.processors.cache.KeyCacheObject;
+import org.apache.ignite.internal.processors.cache.binary.CacheObjectBinaryProcessorImpl;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.CacheSearchRow;
+import org.apache.ignite.internal.processors.cache.persistence.tree.BPlusTree;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.BPlusIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.CacheVersionIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPageIO;
+import org.apache.ignite.internal.processors.cache.persistence.tree.io.DataPagePayload;
+import org.apache.ignite.internal.processors.cache.tree.CacheDataTree;
+import org.apache.ignite.internal.processors.cache.tree.DataRow;
+import org.apache.ignite.internal.processors.cache.tree.RowLinkIO;
+import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
+import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.lang.IgniteBiPredicate;
+import org.jetbrains.annotations.Nullable;
+
+import static org.apache.ignite.internal.pagemem.PageIdUtils.itemId;
+import static org.apache.ignite.internal.pagemem.PageIdUtils.pageId;
+import static org.apache.ignite.internal.processors.cache.CacheObjectUtils.unwrapBinaryIfNeeded;
+
+/**
+ * Scan query filter of rows of the cache data tree.
+ * <p>
+ * Under the read lock of the tree page, a row stored in a single data page is only copied to a buffer reused for the
+ * rows of the tree page. The filter is applied when the page locks are released: the value is passed to it as a binary
+ * object backed by the buffer, so the value bytes of rows rejected by the filter are not copied to separate heap
+ * arrays. Rows accepted by the filter are read from the buffer. Rows spanning several data pages are read to the heap
+ * under the lock of the tree page, as by the tree cursor.
+ * <p>
+ * The binary object passed to the filter is valid only within the filter call.
+ *
+ * @see org.apache.ignite.IgniteSystemProperties#IGNITE_SCAN_QUERY_OFFHEAP_FILTER
+ */
+class ScanQueryOffheapFilter implements CacheDataRowFilter {
+    /** */
+    private final CacheGroupContext grp;
+
+    /** */
+    private final CacheObjectContext coCtx;
+
+    /** */
+    private final IgniteCacheObjectProcessor cacheObjects;
+
+    /** */
+    private final BinaryContext binCtx;
+
+    /** */
+    private final ClassLoader ldr;
+
+    /** Scan filter. */
+    private final IgniteBiPredicate<Object, Object> filter;
+
+    /** */
+    private final boolean keepBinary;
+
+    /** Rows copied from data pages. */
+    private ByteBuffer buf = ByteBuffer.allocate(0).order(ByteOrder.nativeOrder());
+
+    /** Position in the buffer to copy the next row to. */
+    private int bufPos;
+
+    /**
+     * Whether a row was filtered since the buffer was filled. The tree cursor creates new rows only when all the
+     * created rows are filtered, so the buffer is reused then.
+     */
+    private boolean filtered;
+
+    /**
+     * @param cctx Cache context.
+     * @param filter Scan filter.
+     * @param keepBinary Keep binary flag.
+     */
+    ScanQueryOffheapFilter(GridCacheContext<?, ?> cctx, IgniteBiPredicate<?, ?> filter, boolean keepBinary) {
+        grp = cctx.group();
+        coCtx = cctx.cacheObjectContext();
+        cacheObjects = cctx.kernalContext().cacheObjects();
+        binCtx = ((CacheObjectBinaryProcessorImpl)cacheObjects).binaryContext();
+        ldr = cctx.kernalContext().config().getClassLoader();
+
+        this.filter = (IgniteBiPredicate<Object, Object>)filter;
+        this.keepBinary = keepBinary;
+    }
+
+    /** {@inheritDoc} */
+    @Override public CacheDataRow create(
+        BPlusTree<CacheSearchRow, CacheDataRow> tree,
+        BPlusIO<CacheSearchRow> io,
+        long pageAddr,
+        int idx
+    ) throws IgniteCheckedException {
+        RowLinkIO rowIo = (RowLinkIO)io;
+
+        long link = rowIo.getLink(pageAddr, idx);
+
+        PageMemory pageMem = grp.dataRegion().pageMemory();
+        int grpId = grp.groupId();
+        long pageId = pageId(link);
+
+        long page = pageMem.acquirePage(grpId, pageId, grp.statisticsHolderData());
+
+        try {
+            long dataAddr = pageMem.readLock(grpId, pageId, page);
+
+            assert dataAddr != 0L : link;
+
+            try {
+                DataPageIO dataIo = DataPageIO.VERSIONS.forPage(dataAddr);
+
+                DataPagePayload data = dataIo.readPayload(dataAddr, itemId(link), pageMem.realPageSize(grpId));
+
+                if (data.nextLink() == 0) {
+                    int off = copy(dataAddr, data.offset(), data.payloadSize());
+
+                    return new ScanRow(
+                        rowIo.getHash(pageAddr, idx),
+                        link,
+                        ((CacheDataTree)tree).rowStore().getPartitionId(),
+                        grp.sharedGroup() ? rowIo.getCacheId(pageAddr, idx) : CU.UNDEFINED_CACHE_ID,
+                        off
+                    );
+                }
+            }
+            finally {
+                pageMem.readUnlock(grpId, pageId, page);
+            }
+        }
+        finally {
+            pageMem.releasePage(grpId, pageId, page);
+        }
+
+        return tree.getRow(io, pageAddr, idx, null);
+    }
+
+    /**
+     * Copies a row to the buffer.
+     *
+     * @param addr Data page address.
+     * @param off Offset of the row in the page.
+     * @param len Length of the row.
+     * @return Offset of the row in the buffer.
+     */
+    private int copy(long addr, int off, int len) {
+        if (filtered) {
+            bufPos = 0;
+            filtered = false;
+        }
+
+        if (buf.capacity() - bufPos < len) {
+            ByteBuffer buf0 = ByteBuffer.allocate(Math.max(buf.capacity() * 2, bufPos + len)).order(ByteOrder.nativeOrder());
+
+            buf0.put(buf.array(), 0, bufPos);
+
+            buf = buf0;
+        }
+
+        PageUtils.getBytes(addr, off, buf.array(), bufPos, len);
+
+        int res = bufPos;
+
+        bufPos += len;
+
+        return res;
+    }
+
+    /** {@inheritDoc} */
+    @Nullable @Override public CacheDataRow apply(CacheDataRow row) throws IgniteCheckedException {
+        filtered = true;
+
+        if (!(row instanceof ScanRow))
+            return filter.apply(unwrap(row.key()), unwrap(row.value())) ? row : null;
+
+        ScanRow row0 = (ScanRow)row;
+
+        byte[] arr = buf.array();
+
+        int off = row0.off + (grp.storeCacheIdInDataPage() ? 4 : 0);
+
+        int len = buf.getInt(off);
+        off += 4;
+
+        byte type = buf.get(off);
+        off++;
+
+        KeyCacheObject key = cacheObjects.toKeyCacheObject(coCtx, type, Arrays.copyOfRange(arr, off, off + len));
+        off += len;
+
+        // Rejected rows need the key too, the tree cursor continues from the last created row after a page merge.
+        row0.key(key);
+
+        len = buf.getInt(off);
+        off += 4;
+
+        type = buf.get(off);
+        off++;
+
+        CacheObject val = null;
+
+        Object val0;
+
+        if (type == CacheObject.TYPE_BINARY && arr[off] == GridBinaryMarshaller.OBJ) {
+            BinaryObjectImpl obj = new BinaryObjectImpl(binCtx, arr, off);
+
+            val0 = keepBinary ? obj : obj.deserialize(ldr);
+        }
+        else
+            val0 = unwrap(val = cacheObjects.toCacheObject(coCtx, type, Arrays.copyOfRange(arr, off, off + len)));
+
+        if (!filter.apply(unwrap(key), val0))
+            return null;
+
+        if (val == null)
+            val = cacheObjects.toCacheObject(coCtx, type, Arrays.copyOfRange(arr, off, off + len));
+
+        off += len;
+
+        buf.position(off);
+
+        GridCacheVersion ver = CacheVersionIO.read(buf, false);
+
+        row0.init(val, ver, buf.getLong(buf.position()));
+
+        return row0;
+    }
+
+    /**
+     * @param obj Cache object.
+     * @return Object passed to the filter.
+     */
+    private Object unwrap(@Nullable CacheObject obj) {
+        return unwrapBinaryIfNeeded(coCtx, obj, keepBinary, false);
+    }
+
+    /**
+     * Row copied to the buffer. The key is set when the row is filtered, the value, version and expire time are set
+     * when the row passes the filter.
+     */
+    private static class ScanRow extends DataRow {
+        /** Offset of the row in the buffer. */
+        private final int off;
+
+        /**
+         * @param hash Hash code.
+         * @param link Link.
+         * @param part Partition.
+         * @param cacheId Cache ID.
+         * @param off Offset of the row in the buffer.
+         */
+        ScanRow(int hash, long link, int part, int cacheId, int off) {
+            super(link);
+
+            this.hash = hash;
+            this.part = part;
+            this.cacheId = cacheId;
+            this.off = off;
+        }
+
+        /**
+         * @param val Value.
+         * @param ver Version.
+         * @param expireTime Expire time.
+         */
+        void init(CacheObject val, GridCacheVersion ver, long expireTime) {
+            this.val = val;
+            this.ver = ver;
+            this.expireTime = expireTime;
+
+            verReady = true;
+        }
+    }
+}
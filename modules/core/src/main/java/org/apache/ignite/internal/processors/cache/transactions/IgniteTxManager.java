@@ -130,6 +130,7 @@ import static org.apache.ignite.IgniteSystemProperties.IGNITE_LONG_OPERATIONS_DU
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_MAX_COMPLETED_TX_COUNT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_SLOW_TX_WARN_TIMEOUT;
 import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DETERMINISTIC_LOCK_ORDER;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_JOINED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
@@ -221,6 +222,9 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
     final int deadlockMaxIters =
         IgniteSystemProperties.getInteger(IGNITE_TX_DEADLOCK_DETECTION_MAX_ITERS, DFLT_TX_DEADLOCK_DETECTION_MAX_ITERS);
 
+    /** @see IgniteSystemProperties#IGNITE_TX_DETERMINISTIC_LOCK_ORDER */
+    private final boolean deterministicLockOrder = IgniteSystemProperties.getBoolean(IGNITE_TX_DETERMINISTIC_LOCK_ORDER);
+
     /** Committing transactions. */
     private final ThreadLocal<IgniteInternalTx> threadCtx = new ThreadLocal<>();
 
@@ -2424,6 +2428,14 @@ public class IgniteTxManager extends GridCacheSharedManagerAdapter {
         return deadlockMaxIters > 0;
     }
 
+    /**
+     * @return {@code True} if transactions lock keys in deterministic order.
+     * @see IgniteSystemProperties#IGNITE_TX_DETERMINISTIC_LOCK_ORDER
+     */
+    public boolean deterministicLockOrder() {
+        return deterministicLockOrder;
+    }
+
     /**
      * Performs deadlock detection for given keys.
      *
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -92,6 +93,9 @@ import org.apache.ignite.internal.processors.cache.distributed.dht.preloader.Gri
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtInvalidPartitionException;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtLocalPartition;
 import org.apache.ignite.internal.processors.cache.distributed.dht.topology.GridDhtPartitionState;
+import org.apache.ignite.internal.processors.cache.mvcc.txlog.TxState;
+import org.apache.ignite.internal.processors.cache.persistence.CacheDataRow;
+import org.apache.ignite.internal.processors.cache.persistence.DataRowCacheAware;
 import org.apache.ignite.internal.processors.cache.version.GridCacheVersion;
 import org.apache.ignite.internal.processors.cacheobject.IgniteCacheObjectProcessor;
 import org.apache.ignite.internal.processors.dr.GridDrType;
@@ -101,6 +105,7 @@ import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.future.GridFutureAdapter;
 import org.apache.ignite.internal.util.lang.GridPeerDeployAware;
 import org.apache.ignite.internal.util.lang.GridPlainRunnable;
+import org.apache.ignite.internal.util.lang.IgnitePredicateX;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
 import org.apache.ignite.internal.util.tostring.GridToStringInclude;
 import org.apache.ignite.internal.util.typedef.CI1;
@@ -123,6 +128,7 @@ import org.jetbrains.annotations.Nullable;
 import static org.apache.ignite.events.EventType.EVT_NODE_FAILED;
 import static org.apache.ignite.events.EventType.EVT_NODE_LEFT;
 import static org.apache.ignite.internal.GridTopic.TOPIC_DATASTREAM;
+import static org.apache.ignite.internal.processors.cache.IgniteCacheOffheapManagerImpl.PRELOAD_SIZE_UNDER_CHECKPOINT_LOCK;
 
 /**
  * Data streamer implementation.
@@ -147,6 +153,9 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
     /** Isolated receiver. */
     private static final StreamReceiver ISOLATED_UPDATER = new IsolatedUpdater();
 
+    /** Isolated receiver writing entries in batches. */
+    private static final StreamReceiver ISOLATED_BATCH_UPDATER = new IsolatedBatchUpdater();
+
     /** Amount of permissions should be available to continue new data processing. */
     private static final int REMAP_SEMAPHORE_PERMISSIONS_COUNT = Integer.MAX_VALUE;
 
@@ -490,7 +499,7 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
 
     /** {@inheritDoc} */
     @Override public boolean allowOverwrite() {
-        return rcvr != ISOLATED_UPDATER;
+        return !isolated();
     }
 
     /** {@inheritDoc} */
@@ -506,6 +515,26 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
         rcvr = allow ? DataStreamerCacheUpdaters.<K, V>individual() : ISOLATED_UPDATER;
     }
 
+    /** {@inheritDoc} */
+    @Override public boolean bulkLoad() {
+        return rcvr == ISOLATED_BATCH_UPDATER;
+    }
+
+    /** {@inheritDoc} */
+    @Override public void bulkLoad(boolean bulkLoad) {
+        if (bulkLoad)
+            rcvr = ISOLATED_BATCH_UPDATER;
+        else if (rcvr == ISOLATED_BATCH_UPDATER)
+            rcvr = ISOLATED_UPDATER;
+    }
+
+    /**
+     * @return {@code True} if entries are loaded by an isolated receiver.
+     */
+    private boolean isolated() {
+        return rcvr == ISOLATED_UPDATER || rcvr == ISOLATED_BATCH_UPDATER;
+    }
+
     /** {@inheritDoc} */
     @Override public boolean skipStore() {
         return skipStore;
@@ -2006,7 +2035,7 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
                     dep != null ? dep.classLoaderId() : null,
                     dep == null,
                     topVer,
-                    (rcvr == ISOLATED_UPDATER) ?
+                    isolated() ?
                         partId : GridIoMessage.STRIPE_DISABLED_PART);
 
                 try {
@@ -2367,15 +2396,34 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
                     locPart.release();
                 }
 
-                try {
-                    if (!cctx.isNear() && cctx.shared().wal() != null)
-                        cctx.shared().wal().flush(null, false);
-                }
-                catch (IgniteCheckedException e) {
-                    U.error(log, "Failed to write preloaded entries into write-ahead log.", e);
+                flushWal(cctx);
+            }
+        }
 
-                    throw new IgniteException("Failed to write preloaded entries into write-ahead log.", e);
-                }
+        /**
+         * @param cache Cache.
+         * @return Context of DHT cache.
+         */
+        protected static GridCacheContext<?, ?> dhtContext(IgniteCache<KeyCacheObject, CacheObject> cache) {
+            GridCacheContext<?, ?> cctx = ((IgniteCacheProxy<KeyCacheObject, CacheObject>)cache).context();
+
+            return cctx.isNear() ? cctx.near().dht().context() : cctx;
+        }
+
+        /**
+         * Flushes write-ahead log.
+         *
+         * @param cctx Cache context.
+         */
+        protected static void flushWal(GridCacheContext<?, ?> cctx) {
+            try {
+                if (!cctx.isNear() && cctx.shared().wal() != null)
+                    cctx.shared().wal().flush(null, false);
+            }
+            catch (IgniteCheckedException e) {
+                U.error(log, "Failed to write preloaded entries into write-ahead log.", e);
+
+                throw new IgniteException("Failed to write preloaded entries into write-ahead log.", e);
             }
         }
 
@@ -2384,12 +2432,230 @@ public class DataStreamerImpl<K, V> implements IgniteDataStreamer<K, V>, Delayed
          *
          * @param cctx Cache context.
          */
-        private static void snapshotWarning(GridCacheContext<?, ?> cctx) {
+        protected static void snapshotWarning(GridCacheContext<?, ?> cctx) {
             if (cctx.group().persistenceEnabled())
                 cctx.kernalContext().cache().context().snapshotMgr().streamerWarning();
         }
     }
 
+    /**
+     * Isolated receiver which loads entries of a batch partition by partition. Entries of a partition are sorted in
+     * order of the partition tree and written into data pages at once, then the tree and indexes are updated entry by
+     * entry with already written rows, the same way as rebalanced entries are stored.
+     */
+    protected static class IsolatedBatchUpdater extends IsolatedUpdater {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** Order of entries in partition tree. */
+        private static final Comparator<Entry<KeyCacheObject, CacheObject>> TREE_ORDER =
+            Comparator.comparingInt(e -> e.getKey().hashCode());
+
+        /** {@inheritDoc} */
+        @Override public void receive(
+            IgniteCache<KeyCacheObject, CacheObject> cache,
+            Collection<Map.Entry<KeyCacheObject, CacheObject>> entries
+        ) {
+            GridCacheContext<?, ?> cctx = dhtContext(cache);
+
+            GridDhtTopologyFuture topFut = cctx.shared().exchange().lastFinishedFuture();
+
+            AffinityTopologyVersion topVer = topFut.topologyVersion();
+
+            long ttl = CU.TTL_ETERNAL;
+
+            ExpiryPolicy plc = cctx.expiry();
+
+            if (plc != null) {
+                ttl = CU.toTtl(plc.getExpiryForCreation());
+
+                if (ttl == CU.TTL_ZERO)
+                    return;
+                else if (ttl == CU.TTL_NOT_CHANGED)
+                    ttl = 0;
+            }
+
+            Map<Integer, List<Entry<KeyCacheObject, CacheObject>>> parts = new HashMap<>();
+
+            try {
+                for (Entry<KeyCacheObject, CacheObject> e : entries) {
+                    e.getKey().finishUnmarshal(cctx.cacheObjectContext(), cctx.deploy().globalLoader());
+
+                    parts.computeIfAbsent(cctx.affinity().partition(e.getKey()), p -> new ArrayList<>()).add(e);
+                }
+
+                snapshotWarning(cctx);
+
+                for (Map.Entry<Integer, List<Entry<KeyCacheObject, CacheObject>>> e : parts.entrySet()) {
+                    GridDhtLocalPartition part;
+
+                    try {
+                        part = cctx.topology().localPartition(e.getKey(), topVer, true);
+                    }
+                    catch (GridDhtInvalidPartitionException ignored) {
+                        continue;
+                    }
+
+                    if (!part.reserve())
+                        continue;
+
+                    try {
+                        // We must not allow to read from RENTING partitions.
+                        if (part.state() == GridDhtPartitionState.RENTING)
+                            continue;
+
+                        List<Entry<KeyCacheObject, CacheObject>> partEntries = e.getValue();
+
+                        partEntries.sort(TREE_ORDER);
+
+                        load(cctx, part, partEntries, topFut, ttl);
+                    }
+                    finally {
+                        part.release();
+                    }
+                }
+            }
+            catch (IgniteCheckedException ex) {
+                U.error(log, "Failed to load entries into cache: " + cctx.name(), ex);
+
+                throw new IgniteException("Failed to load entries into cache.", ex);
+            }
+            finally {
+                flushWal(cctx);
+            }
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param part Reserved partition.
+         * @param entries Entries of the partition sorted in order of the partition tree.
+         * @param topFut Topology future.
+         * @param ttl Time to live.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void load(
+            GridCacheContext<?, ?> cctx,
+            GridDhtLocalPartition part,
+            List<Entry<KeyCacheObject, CacheObject>> entries,
+            GridDhtTopologyFuture topFut,
+            long ttl
+        ) throws IgniteCheckedException {
+            AffinityTopologyVersion topVer = topFut.topologyVersion();
+
+            GridCacheVersion ver = cctx.versions().isolatedStreamerVersion();
+
+            long expireTime = ttl == CU.TTL_ETERNAL ? CU.EXPIRE_TIME_ETERNAL : CU.toExpireTime(ttl);
+
+            boolean primary = cctx.affinity().primaryByPartition(cctx.localNode(), part.id(), topVer);
+
+            IgnitePredicateX<CacheDataRow> initPred = new IgnitePredicateX<CacheDataRow>() {
+                /** {@inheritDoc} */
+                @Override public boolean applyx(CacheDataRow row) throws IgniteCheckedException {
+                    return initialValue(cctx, row, ttl, topVer, primary);
+                }
+            };
+
+            List<DataRowCacheAware> batch = new ArrayList<>(PRELOAD_SIZE_UNDER_CHECKPOINT_LOCK);
+
+            for (Entry<KeyCacheObject, CacheObject> e : entries) {
+                KeyCacheObject key = e.getKey();
+
+                Throwable err = topFut.validateCache(cctx, false, false, key, null);
+
+                if (err != null)
+                    throw new IgniteCheckedException(err);
+
+                if (key.partition() == -1)
+                    key.partition(part.id());
+
+                CacheObject val = e.getValue() == null ? null :
+                    cctx.kernalContext().cacheObjects().prepareForCache(e.getValue(), cctx);
+
+                batch.add(new DataRowCacheAware(key, val, ver, part.id(), expireTime, cctx.cacheId(),
+                    cctx.group().storeCacheIdInDataPage()));
+
+                if (batch.size() == PRELOAD_SIZE_UNDER_CHECKPOINT_LOCK) {
+                    insert(cctx, part, batch, initPred);
+
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty())
+                insert(cctx, part, batch, initPred);
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param part Partition.
+         * @param batch Rows.
+         * @param initPred Predicate setting initial values of entries.
+         * @throws IgniteCheckedException If failed.
+         */
+        private void insert(
+            GridCacheContext<?, ?> cctx,
+            GridDhtLocalPartition part,
+            List<DataRowCacheAware> batch,
+            IgnitePredicateX<CacheDataRow> initPred
+        ) throws IgniteCheckedException {
+            cctx.shared().database().checkpointReadLock();
+
+            try {
+                part.dataStore().insertRows(batch, initPred);
+            }
+            finally {
+                cctx.shared().database().checkpointReadUnlock();
+            }
+        }
+
+        /**
+         * @param cctx Cache context.
+         * @param row Row, already written to data pages if its value is not {@code null}.
+         * @param ttl Time to live.
+         * @param topVer Topology version.
+         * @param primary {@code True} if local node is primary for the partition.
+         * @return {@code True} if the initial value was set.
+         * @throws IgniteCheckedException If failed.
+         */
+        private boolean initialValue(
+            GridCacheContext<?, ?> cctx,
+            CacheDataRow row,
+            long ttl,
+            AffinityTopologyVersion topVer,
+            boolean primary
+        ) throws IgniteCheckedException {
+            GridCacheEntryEx entry = cctx.cache().entryEx(row.key(), topVer);
+
+            try {
+                boolean res = entry.initialValue(row.value(),
+                    row.version(),
+                    null,
+                    null,
+                    TxState.NA,
+                    TxState.NA,
+                    ttl,
+                    row.expireTime(),
+                    false,
+                    topVer,
+                    primary ? GridDrType.DR_LOAD : GridDrType.DR_PRELOAD,
+                    false,
+                    primary,
+                    row.value() != null ? row : null);
+
+                entry.touch();
+
+                CU.unwindEvicts(cctx);
+
+                entry.onUnlock();
+
+                return res;
+            }
+            catch (GridCacheEntryRemovedException ignored) {
+                return false;
+            }
+        }
+    }
+
     /**
      * Key object wrapper. Using identity equals prevents slow down in case of hash code collision.
      */
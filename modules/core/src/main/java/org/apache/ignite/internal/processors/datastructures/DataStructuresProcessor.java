@@ -66,6 +66,7 @@ import org.apache.ignite.internal.managers.systemview.walker.ReentrantLockViewWa
 import org.apache.ignite.internal.managers.systemview.walker.SemaphoreViewWalker;
 import org.apache.ignite.internal.managers.systemview.walker.SetViewWalker;
 import org.apache.ignite.internal.processors.GridProcessorAdapter;
+import org.apache.ignite.internal.processors.cache.CacheChunkedValues;
 import org.apache.ignite.internal.processors.cache.CacheType;
 import org.apache.ignite.internal.processors.cache.DynamicCacheDescriptor;
 import org.apache.ignite.internal.processors.cache.GridCacheAdapter;
@@ -520,6 +521,7 @@ public final class DataStructuresProcessor extends GridProcessorAdapter implemen
     public static boolean isDataStructureCache(String cacheName) {
         return cacheName != null && (cacheName.startsWith(ATOMICS_CACHE_NAME) ||
             cacheName.startsWith(DS_CACHE_NAME_PREFIX) ||
+            cacheName.startsWith(CacheChunkedValues.STREAMS_CACHE_NAME_PREFIX) ||
             cacheName.equals(DEFAULT_DS_GROUP_NAME) ||
             cacheName.equals(DEFAULT_VOLATILE_DS_GROUP_NAME));
     }
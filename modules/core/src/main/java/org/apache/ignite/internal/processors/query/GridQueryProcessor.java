@@ -2715,6 +2715,8 @@ public class GridQueryProcessor extends GridProcessorAdapter {
 
                     if (idx != null)
                         idx.remove(cctx, prevValDesc, prevRow);
+
+                    onRowUpdated(prevValDesc, prevRow.partition());
                 }
 
                 // Row has already been removed from another table indexes
@@ -2748,6 +2750,19 @@ public class GridQueryProcessor extends GridProcessorAdapter {
 
         if (idx != null)
             idx.store(cctx, desc, newRow, prevRow, prevRowAvailable);
+
+        onRowUpdated(desc, newRow.partition());
+    }
+
+    /**
+     * Notifies listeners of row updates.
+     *
+     * @param desc Type descriptor of the updated row.
+     * @param part Partition of the updated row.
+     */
+    private void onRowUpdated(QueryTypeDescriptorImpl desc, int part) {
+        for (QueryRowUpdateListener lsnr : ctx.internalSubscriptionProcessor().getQueryRowUpdateListeners())
+            lsnr.onRowUpdated(desc, part);
     }
 
     /**
@@ -3661,6 +3676,8 @@ public class GridQueryProcessor extends GridProcessorAdapter {
 
         if (indexingEnabled())
             idx.remove(cctx, desc, row);
+
+        onRowUpdated(desc, row.partition());
     }
 
     /**
@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.query;
+
+/**
+ * Listener of updates of SQL table rows stored on the local node.
+ */
+public interface QueryRowUpdateListener {
+    /**
+     * Callback invoked after a row of the table is stored or removed, under the lock of the cache entry.
+     *
+     * @param typeDesc Type descriptor of the table.
+     * @param part Partition of the row.
+     */
+    public void onRowUpdated(GridQueryTypeDescriptor typeDesc, int part);
+}
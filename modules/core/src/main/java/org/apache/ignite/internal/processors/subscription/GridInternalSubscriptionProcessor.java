@@ -24,6 +24,7 @@ import org.apache.ignite.internal.processors.cache.persistence.DatabaseLifecycle
 import org.apache.ignite.internal.processors.cache.persistence.metastorage.MetastorageLifecycleListener;
 import org.apache.ignite.internal.processors.configuration.distributed.DistributedConfigurationLifecycleListener;
 import org.apache.ignite.internal.processors.metastorage.DistributedMetastorageLifecycleListener;
+import org.apache.ignite.internal.processors.query.QueryRowUpdateListener;
 import org.apache.ignite.internal.processors.query.schema.SchemaChangeListener;
 import org.jetbrains.annotations.NotNull;
 
@@ -43,6 +44,9 @@ public class GridInternalSubscriptionProcessor extends GridProcessorAdapter {
     /** */
     private final List<SchemaChangeListener> schemaChangeListeners = new ArrayList<>();
 
+    /** */
+    private final List<QueryRowUpdateListener> qryRowUpdateListeners = new ArrayList<>();
+
     /** */
     private final List<DistributedMetastorageLifecycleListener> distributedMetastorageListeners = new ArrayList<>();
 
@@ -86,6 +90,18 @@ public class GridInternalSubscriptionProcessor extends GridProcessorAdapter {
         return schemaChangeListeners;
     }
 
+    /** */
+    public void registerQueryRowUpdateListener(@NotNull QueryRowUpdateListener lsnr) {
+        requireNonNull(lsnr, "Query row update subscriber should be not-null.");
+
+        qryRowUpdateListeners.add(lsnr);
+    }
+
+    /** */
+    public List<QueryRowUpdateListener> getQueryRowUpdateListeners() {
+        return qryRowUpdateListeners;
+    }
+
     /** */
     public void registerDistributedMetastorageListener(@NotNull DistributedMetastorageLifecycleListener lsnr) {
         requireNonNull(lsnr, "Global metastorage subscriber should be not-null.");
@@ -1512,6 +1512,20 @@ public abstract class GridUnsafe {
         UNSAFE.putObjectVolatile(obj, off, val);
     }
 
+    /**
+     * Ensures that loads before the fence are not reordered with loads and stores after the fence.
+     */
+    public static void loadFence() {
+        UNSAFE.loadFence();
+    }
+
+    /**
+     * Ensures that loads and stores before the fence are not reordered with stores after the fence.
+     */
+    public static void storeFence() {
+        UNSAFE.storeFence();
+    }
+
     /**
      * Returns page size.
      *
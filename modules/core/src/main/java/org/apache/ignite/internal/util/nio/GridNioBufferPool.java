@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.processors.metric.MetricRegistry;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Pool of session read and write buffers shared by all workers of a {@link GridNioServer}.
+ * <p>
+ * Requested sizes are rounded up to a power of two, so buffers of the same size class can be reused by
+ * any session. Buffers of size classes larger than {@link #MAX_SLAB_SIZE} are never pooled. Released buffers
+ * are kept until the total pooled size reaches the configured limit, after that direct buffers are freed.
+ */
+public class GridNioBufferPool {
+    /** */
+    public static final String BUF_POOL_ALLOCATED_METRIC_NAME = "BufferPoolAllocatedCount";
+
+    /** */
+    public static final String BUF_POOL_REUSED_METRIC_NAME = "BufferPoolReusedCount";
+
+    /** */
+    public static final String BUF_POOL_ACQUIRED_BYTES_METRIC_NAME = "BufferPoolAcquiredBytes";
+
+    /** */
+    public static final String BUF_POOL_POOLED_BYTES_METRIC_NAME = "BufferPoolPooledBytes";
+
+    /** Smallest size class. */
+    static final int MIN_SLAB_SIZE = 4 << 10;
+
+    /** Largest pooled size class. */
+    static final int MAX_SLAB_SIZE = 4 << 20;
+
+    /** Free buffers per size class, index is {@code log2(size) - log2(MIN_SLAB_SIZE)}. */
+    private final ConcurrentLinkedDeque<ByteBuffer>[] slabs;
+
+    /** Direct buffer flag. */
+    private final boolean direct;
+
+    /** Byte order of the buffers. */
+    private final ByteOrder order;
+
+    /** Maximum total size of free buffers kept in the pool. */
+    private final long maxPooledBytes;
+
+    /** Total size of free buffers kept in the pool. */
+    private final AtomicLong pooledBytes = new AtomicLong();
+
+    /** Total size of buffers handed out and not released yet. */
+    private final AtomicLong acquiredBytes = new AtomicLong();
+
+    /** Number of allocated buffers. */
+    @Nullable private final LongAdderMetric allocatedCntMetric;
+
+    /** Number of buffers taken from the pool instead of being allocated. */
+    @Nullable private final LongAdderMetric reusedCntMetric;
+
+    /**
+     * @param direct Direct buffer flag.
+     * @param order Byte order.
+     * @param maxPooledBytes Maximum total size of free buffers kept in the pool, {@code 0} disables pooling.
+     * @param mreg Metric registry.
+     */
+    @SuppressWarnings("unchecked")
+    public GridNioBufferPool(boolean direct, ByteOrder order, long maxPooledBytes, @Nullable MetricRegistry mreg) {
+        A.notNull(order, "order");
+        A.ensure(maxPooledBytes >= 0, "maxPooledBytes >= 0");
+
+        this.direct = direct;
+        this.order = order;
+        this.maxPooledBytes = maxPooledBytes;
+
+        slabs = new ConcurrentLinkedDeque[slabIndex(MAX_SLAB_SIZE) + 1];
+
+        for (int i = 0; i < slabs.length; i++)
+            slabs[i] = new ConcurrentLinkedDeque<>();
+
+        if (mreg != null) {
+            allocatedCntMetric = mreg.longAdderMetric(BUF_POOL_ALLOCATED_METRIC_NAME,
+                "Number of session buffers allocated by the NIO server");
+            reusedCntMetric = mreg.longAdderMetric(BUF_POOL_REUSED_METRIC_NAME,
+                "Number of session buffers reused from the NIO server buffer pool");
+
+            mreg.register(BUF_POOL_ACQUIRED_BYTES_METRIC_NAME, acquiredBytes::get,
+                "Total size in bytes of buffers used by the NIO server sessions");
+            mreg.register(BUF_POOL_POOLED_BYTES_METRIC_NAME, pooledBytes::get,
+                "Total size in bytes of free buffers kept in the NIO server buffer pool");
+        }
+        else {
+            allocatedCntMetric = null;
+            reusedCntMetric = null;
+        }
+    }
+
+    /**
+     * Acquires a cleared buffer with capacity not less than the requested size.
+     *
+     * @param size Requested size.
+     * @return Buffer.
+     */
+    public ByteBuffer acquire(int size) {
+        A.ensure(size > 0, "size > 0");
+
+        int cap = slabSize(size);
+
+        ByteBuffer buf = null;
+
+        if (cap <= MAX_SLAB_SIZE) {
+            buf = slabs[slabIndex(cap)].pollFirst();
+
+            if (buf != null) {
+                pooledBytes.addAndGet(-cap);
+
+                if (reusedCntMetric != null)
+                    reusedCntMetric.increment();
+            }
+        }
+
+        if (buf == null) {
+            buf = direct ? ByteBuffer.allocateDirect(cap) : ByteBuffer.allocate(cap);
+
+            buf.order(order);
+
+            if (allocatedCntMetric != null)
+                allocatedCntMetric.increment();
+        }
+
+        buf.clear();
+
+        acquiredBytes.addAndGet(buf.capacity());
+
+        return buf;
+    }
+
+    /**
+     * Returns the buffer to the pool. The buffer must not be used by the caller after this call.
+     *
+     * @param buf Buffer acquired from this pool.
+     */
+    public void release(ByteBuffer buf) {
+        assert buf.isDirect() == direct : buf;
+
+        int cap = buf.capacity();
+
+        acquiredBytes.addAndGet(-cap);
+
+        if (cap >= MIN_SLAB_SIZE && cap <= MAX_SLAB_SIZE && Integer.bitCount(cap) == 1) {
+            long pooled = pooledBytes.addAndGet(cap);
+
+            if (pooled <= maxPooledBytes) {
+                slabs[slabIndex(cap)].offerFirst(buf);
+
+                return;
+            }
+
+            pooledBytes.addAndGet(-cap);
+        }
+
+        if (direct)
+            GridUnsafe.cleanDirectBuffer(buf);
+    }
+
+    /**
+     * Frees all pooled buffers.
+     */
+    public void clear() {
+        for (ConcurrentLinkedDeque<ByteBuffer> slab : slabs) {
+            ByteBuffer buf;
+
+            while ((buf = slab.pollFirst()) != null) {
+                pooledBytes.addAndGet(-buf.capacity());
+
+                if (direct)
+                    GridUnsafe.cleanDirectBuffer(buf);
+            }
+        }
+    }
+
+    /**
+     * @return Total size of free buffers kept in the pool.
+     */
+    public long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    /**
+     * @return Total size of buffers acquired and not released yet.
+     */
+    public long acquiredBytes() {
+        return acquiredBytes.get();
+    }
+
+    /**
+     * @param size Requested size.
+     * @return Size class for the requested size or the size itself if it is not pooled.
+     */
+    static int slabSize(int size) {
+        if (size <= MIN_SLAB_SIZE)
+            return MIN_SLAB_SIZE;
+
+        if (size > MAX_SLAB_SIZE)
+            return size;
+
+        int cap = Integer.highestOneBit(size);
+
+        return cap == size ? cap : cap << 1;
+    }
+
+    /**
+     * @param slabSize Size class.
+     * @return Index of the size class.
+     */
+    private static int slabIndex(int slabSize) {
+        return Integer.numberOfTrailingZeros(slabSize) - Integer.numberOfTrailingZeros(MIN_SLAB_SIZE);
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(GridNioBufferPool.class, this);
+    }
+}
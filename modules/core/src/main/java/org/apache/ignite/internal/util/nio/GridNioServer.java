@@ -39,6 +39,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -66,7 +68,6 @@ import org.apache.ignite.internal.processors.tracing.SpanTags;
 import org.apache.ignite.internal.processors.tracing.SpanType;
 import org.apache.ignite.internal.processors.tracing.Tracing;
 import org.apache.ignite.internal.util.GridConcurrentHashSet;
-import org.apache.ignite.internal.util.GridUnsafe;
 import org.apache.ignite.internal.util.future.GridCompoundFuture;
 import org.apache.ignite.internal.util.nio.ssl.GridNioSslFilter;
 import org.apache.ignite.internal.util.tostring.GridToStringExclude;
@@ -138,6 +139,9 @@ public class GridNioServer<T> {
     /** Meta key for pending requests to be written. */
     private static final int REQUESTS_META_KEY = GridNioSessionMetaKey.nextUniqueKey();
 
+    /** Selector providers instantiated by class names, see {@link #configuredSelectorProvider()}. */
+    private static final Map<String, SelectorProvider> SELECTOR_PROVIDERS = new HashMap<>();
+
     /** */
     private static final boolean DISABLE_KEYSET_OPTIMIZATION =
         IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_NO_SELECTOR_OPTS);
@@ -145,6 +149,18 @@ public class GridNioServer<T> {
     /** @see IgniteSystemProperties#IGNITE_IO_BALANCE_PERIOD */
     public static final int DFLT_IO_BALANCE_PERIOD = 5000;
 
+    /** @see IgniteSystemProperties#IGNITE_NIO_BUFFER_POOL_SIZE */
+    public static final long DFLT_NIO_BUFFER_POOL_SIZE = 64L << 20;
+
+    /** @see IgniteSystemProperties#IGNITE_NIO_IDLE_BUFFER_RELEASE_TIMEOUT */
+    public static final long DFLT_NIO_IDLE_BUFFER_RELEASE_TIMEOUT = 30_000;
+
+    /** @see IgniteSystemProperties#IGNITE_IO_WRITE_COALESCING_WINDOW */
+    public static final long DFLT_IO_WRITE_COALESCING_WINDOW = 0;
+
+    /** @see IgniteSystemProperties#IGNITE_IO_WRITE_COALESCING_BYTES */
+    public static final int DFLT_IO_WRITE_COALESCING_BYTES = 16 * 1024;
+
     /** */
     public static final String OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME = "outboundMessagesQueueSize";
 
@@ -169,6 +185,14 @@ public class GridNioServer<T> {
     /** The name of the metric that provides the active TCP sessions count. */
     public static final String SESSIONS_CNT_METRIC_NAME = "ActiveSessionsCount";
 
+    /** */
+    public static final String COALESCED_MESSAGES_METRIC_NAME = "CoalescedMessagesCount";
+
+    /** */
+    public static final String COALESCED_MESSAGES_METRIC_DESC =
+        "Number of messages which were written to the socket together with a preceding message " +
+            "thanks to the write coalescing window";
+
     /** Defines how many times selector should do {@code selectNow()} before doing {@code select(long)}. */
     private long selectorSpins;
 
@@ -221,6 +245,18 @@ public class GridNioServer<T> {
     /** Idle timeout. */
     private volatile long idleTimeout = ConnectorConfiguration.DFLT_IDLE_TIMEOUT;
 
+    /**
+     * Time in nanoseconds a worker waits for more outgoing messages of the same session before flushing
+     * a partially filled write buffer. Write coalescing is disabled if {@code 0}.
+     */
+    private long writeCoalescingWindow;
+
+    /** Write buffer fill level in bytes after which the coalescing window is not applied anymore. */
+    private int writeCoalescingBytes;
+
+    /** Coalesced messages count metric. */
+    @Nullable private LongAdderMetric coalescedMsgsCntMetric;
+
     /** For test purposes only. */
     private boolean skipWrite;
 
@@ -254,6 +290,12 @@ public class GridNioServer<T> {
     /** Sessions. */
     private final GridConcurrentHashSet<GridSelectorNioSessionImpl> sessions = new GridConcurrentHashSet<>();
 
+    /** Pool of session buffers, {@code null} if sessions do not have own buffers. */
+    @Nullable private final GridNioBufferPool bufPool;
+
+    /** Time in milliseconds after which buffers of an idle session are returned to the pool, {@code 0} to never return. */
+    private final long idleBufReleaseTimeout;
+
     /** */
     private GridNioSslFilter sslFilter;
 
@@ -286,6 +328,10 @@ public class GridNioServer<T> {
     /** Tracing processor. */
     private Tracing tracing;
 
+    /** Provider of selectors and channels used by this server. */
+    @GridToStringExclude
+    private final SelectorProvider selectorProvider;
+
     /**
      * @param addr Address.
      * @param port Port.
@@ -311,6 +357,8 @@ public class GridNioServer<T> {
      * @param readWriteSelectorsAssign If {@code true} then in/out connections are assigned to even/odd workers.
      * @param workerLsnr Worker lifecycle listener.
      * @param mreg Metrics registry.
+     * @param tracing Tracing processor.
+     * @param selectorProvider Provider of selectors and channels.
      * @param filters Filters for this server.
      * @throws IgniteCheckedException If failed.
      */
@@ -338,6 +386,7 @@ public class GridNioServer<T> {
         @Nullable GridWorkerListener workerLsnr,
         @Nullable MetricRegistry mreg,
         Tracing tracing,
+        SelectorProvider selectorProvider,
         GridNioFilter... filters
     ) throws IgniteCheckedException {
         if (port != -1)
@@ -346,6 +395,7 @@ public class GridNioServer<T> {
         A.notNull(lsnr, "lsnr");
         A.notNull(log, "log");
         A.notNull(order, "order");
+        A.notNull(selectorProvider, "selectorProvider");
 
         A.ensure(port == -1 || (port > 0 && port < 0xffff), "port");
         A.ensure(selectorCnt > 0, "selectorCnt");
@@ -365,6 +415,7 @@ public class GridNioServer<T> {
         this.readWriteSelectorsAssign = readWriteSelectorsAssign;
         this.lsnr = lsnr;
         this.tracing = tracing == null ? new NoopTracing() : tracing;
+        this.selectorProvider = selectorProvider;
 
         filterChain = new GridNioFilterChain<>(log, lsnr, new HeadFilter(), filters);
 
@@ -447,6 +498,16 @@ public class GridNioServer<T> {
 
         this.mreg = mreg;
 
+        bufPool = directMode ? new GridNioBufferPool(
+            directBuf,
+            order,
+            IgniteSystemProperties.getLong(IgniteSystemProperties.IGNITE_NIO_BUFFER_POOL_SIZE, DFLT_NIO_BUFFER_POOL_SIZE),
+            mreg
+        ) : null;
+
+        idleBufReleaseTimeout = IgniteSystemProperties.getLong(
+            IgniteSystemProperties.IGNITE_NIO_IDLE_BUFFER_RELEASE_TIMEOUT, DFLT_NIO_IDLE_BUFFER_RELEASE_TIMEOUT);
+
         rcvdBytesCntMetric = mreg == null ?
             null : mreg.longAdderMetric(RECEIVED_BYTES_METRIC_NAME, RECEIVED_BYTES_METRIC_DESC);
 
@@ -528,6 +589,9 @@ public class GridNioServer<T> {
 
             for (GridSelectorNioSessionImpl ses : sessions)
                 ses.onServerStopped();
+
+            if (bufPool != null)
+                bufPool.clear();
         }
     }
 
@@ -1008,6 +1072,85 @@ public class GridNioServer<T> {
         this.idleTimeout = idleTimeout;
     }
 
+    /**
+     * @return Provider of selectors and channels used by this server.
+     */
+    public SelectorProvider selectorProvider() {
+        return selectorProvider;
+    }
+
+    /**
+     * Opens a socket channel which can be registered within this server by {@link #createSession}.
+     *
+     * @return New socket channel.
+     * @throws IOException If failed.
+     */
+    public SocketChannel openSocketChannel() throws IOException {
+        return selectorProvider.openSocketChannel();
+    }
+
+    /**
+     * Gets selector provider configured by {@link IgniteSystemProperties#IGNITE_NIO_SELECTOR_PROVIDER}
+     * or the JVM-wide default provider if the property is not set.
+     *
+     * @return Selector provider.
+     * @throws IgniteCheckedException If configured provider could not be instantiated.
+     */
+    public static SelectorProvider configuredSelectorProvider() throws IgniteCheckedException {
+        String clsName = IgniteSystemProperties.getString(IgniteSystemProperties.IGNITE_NIO_SELECTOR_PROVIDER);
+
+        if (F.isEmpty(clsName))
+            return SelectorProvider.provider();
+
+        synchronized (SELECTOR_PROVIDERS) {
+            SelectorProvider provider = SELECTOR_PROVIDERS.get(clsName);
+
+            if (provider == null) {
+                provider = U.newInstance(clsName);
+
+                if (provider == null)
+                    throw new IgniteCheckedException("Selector provider must have a no-arg constructor: " + clsName);
+
+                SELECTOR_PROVIDERS.put(clsName, provider);
+            }
+
+            return provider;
+        }
+    }
+
+    /**
+     * @return Write coalescing window in nanoseconds, {@code 0} if write coalescing is disabled.
+     */
+    public long writeCoalescingWindow() {
+        return writeCoalescingWindow;
+    }
+
+    /**
+     * Enables write coalescing for direct mode sessions. When the outbound queue of a session is drained but the
+     * write buffer contains less than {@code maxBytes} bytes, the write is delayed for up to {@code window}
+     * nanoseconds since the first message of the batch was written to the buffer, so messages offered to the session
+     * meanwhile are sent with the same socket write. The worker keeps serving other sessions while the write is
+     * delayed. Windows shorter than a millisecond, the resolution of the selector timeout, are awaited with
+     * non-blocking selects.
+     * <p>
+     * Writes of SSL sessions and of sessions in byte buffer mode are not coalesced.
+     * <p>
+     * Must be called before the server is started.
+     *
+     * @param window Coalescing window in nanoseconds, {@code 0} disables coalescing.
+     * @param maxBytes Write buffer fill level after which the buffer is flushed immediately.
+     */
+    public void writeCoalescing(long window, int maxBytes) {
+        A.ensure(window >= 0, "window >= 0");
+        A.ensure(maxBytes >= 0, "maxBytes >= 0");
+
+        writeCoalescingWindow = window;
+        writeCoalescingBytes = maxBytes;
+
+        if (window > 0 && mreg != null && coalescedMsgsCntMetric == null)
+            coalescedMsgsCntMetric = mreg.longAdderMetric(COALESCED_MESSAGES_METRIC_NAME, COALESCED_MESSAGES_METRIC_DESC);
+    }
+
     /**
      * Creates selector and binds server socket to a given address and port. If address is null
      * then will not bind any address and just creates a selector.
@@ -1023,11 +1166,11 @@ public class GridNioServer<T> {
 
         try {
             // Create a new selector
-            selector = SelectorProvider.provider().openSelector();
+            selector = selectorProvider.openSelector();
 
             if (addr != null) {
                 // Create a new non-blocking server socket channel
-                srvrCh = ServerSocketChannel.open();
+                srvrCh = selectorProvider.openServerSocketChannel();
 
                 srvrCh.configureBlocking(false);
 
@@ -1347,6 +1490,10 @@ public class GridNioServer<T> {
 
             ByteBuffer readBuf = ses.readBuffer();
 
+            // Session has been closed while processing selected keys.
+            if (readBuf == null)
+                return;
+
             // Attempt to read off the channel.
             int cnt = sockCh.read(readBuf);
 
@@ -1458,6 +1605,10 @@ public class GridNioServer<T> {
 
                 ByteBuffer buf = ses.writeBuffer();
 
+                // Session has been closed while processing selected keys.
+                if (buf == null)
+                    return;
+
                 if (ses.meta(WRITE_BUF_LIMIT) != null)
                     buf.limit(ses.meta(WRITE_BUF_LIMIT));
 
@@ -1508,6 +1659,9 @@ public class GridNioServer<T> {
 
                     ByteBuffer sesBuf = ses.writeBuffer();
 
+                    if (sesBuf == null)
+                        return;
+
                     sesBuf.clear();
 
                     if (sesCap - buf.limit() < 0) {
@@ -1555,6 +1709,9 @@ public class GridNioServer<T> {
 
                         buf = ses.writeBuffer();
 
+                        if (buf == null)
+                            return;
+
                         if (ses.meta(WRITE_BUF_LIMIT) != null)
                             buf.limit(ses.meta(WRITE_BUF_LIMIT));
                     }
@@ -1670,6 +1827,11 @@ public class GridNioServer<T> {
 
             GridSelectorNioSessionImpl ses = (GridSelectorNioSessionImpl)key.attachment();
             ByteBuffer buf = ses.writeBuffer();
+
+            // Session has been closed while processing selected keys.
+            if (buf == null)
+                return;
+
             SessionWriteRequest req = ses.removeMeta(NIO_OPERATION.ordinal());
 
             MessageWriter writer = messageWriter(ses);
@@ -1686,6 +1848,9 @@ public class GridNioServer<T> {
                         return;
                     }
                 }
+
+                if (req != null)
+                    onCoalescedMessage(ses);
             }
 
             boolean finished = false;
@@ -1705,9 +1870,16 @@ public class GridNioServer<T> {
                 if (req == null)
                     break;
 
+                onCoalescedMessage(ses);
+
                 finished = writeToBuffer(ses, buf, req, writer);
             }
 
+            if (req == null && delayWrite(key, ses, buf))
+                return;
+
+            ses.writeCoalescingDeadline(0);
+
             buf.flip();
 
             assert buf.hasRemaining();
@@ -1743,6 +1915,48 @@ public class GridNioServer<T> {
                 buf.clear();
         }
 
+        /**
+         * Delays the write of a partially filled write buffer until the end of the write coalescing window of the
+         * batch. The window starts when the outbound queue of the session is drained for the first time since
+         * the previous write. The session stops polling for write meanwhile and is woken up by
+         * {@link #processDelayedWrites()}.
+         *
+         * @param key Selection key.
+         * @param ses Session.
+         * @param buf Write buffer.
+         * @return {@code True} if the write is delayed.
+         */
+        private boolean delayWrite(SelectionKey key, GridSelectorNioSessionImpl ses, ByteBuffer buf) {
+            if (writeCoalescingWindow == 0 || buf.position() == 0 || buf.position() >= writeCoalescingBytes)
+                return false;
+
+            long deadline = ses.writeCoalescingDeadline();
+
+            long now = System.nanoTime();
+
+            if (deadline == 0)
+                ses.writeCoalescingDeadline(deadline = now + writeCoalescingWindow);
+            else if (now - deadline >= 0)
+                return false;
+
+            if ((key.interestOps() & SelectionKey.OP_WRITE) != 0)
+                key.interestOps(key.interestOps() & (~SelectionKey.OP_WRITE));
+
+            delayedWrites.add(ses);
+
+            return true;
+        }
+
+        /**
+         * Counts a message written to the buffer of a session whose write was delayed by write coalescing.
+         *
+         * @param ses Session.
+         */
+        private void onCoalescedMessage(GridSelectorNioSessionImpl ses) {
+            if (ses.writeCoalescingDeadline() != 0 && coalescedMsgsCntMetric != null)
+                coalescedMsgsCntMetric.increment();
+        }
+
         /** */
         @Nullable private MessageWriter messageWriter(GridSelectorNioSessionImpl ses) throws IOException {
             if (writerFactory == null)
@@ -1872,6 +2086,10 @@ public class GridNioServer<T> {
         /** {@code True} if worker has called or is about to call {@code Selector.select()}. */
         private volatile boolean select;
 
+        /** Sessions whose writes are delayed by write coalescing. Accessed from the worker thread only. */
+        @GridToStringExclude
+        protected final Set<GridSelectorNioSessionImpl> delayedWrites = new HashSet<>();
+
         /**
          * @param idx Index of this worker in server's array.
          * @param igniteInstanceName Ignite instance name.
@@ -2242,6 +2460,8 @@ public class GridNioServer<T> {
                         if (!changeReqs.isEmpty())
                             continue mainLoop;
 
+                        processDelayedWrites();
+
                         // Just in case we do busy selects.
                         long now = U.currentTimeMillis();
 
@@ -2262,6 +2482,8 @@ public class GridNioServer<T> {
                         if (!changeReqs.isEmpty())
                             continue;
 
+                        long writeDelay = processDelayedWrites();
+
                         blockingSectionBegin();
 
                         // Wake up every 2 seconds to check if closed.
@@ -2270,7 +2492,12 @@ public class GridNioServer<T> {
                         // call a selectNow() during session migration (to make sure the selector is deregistered
                         // before trying to re-register it again), and in such a case our select() could return 0,
                         // even though the selection set is not empty.
-                        selector.select(2000);
+                        if (writeDelay < 0)
+                            selector.select(2000);
+                        else if (writeDelay < U.millisToNanos(1))
+                            selector.selectNow();
+                        else
+                            selector.select(Math.min(2000, U.nanosToMillis(writeDelay - 1) + 1));
 
                         blockingSectionEnd();
 
@@ -2333,6 +2560,43 @@ public class GridNioServer<T> {
             }
         }
 
+        /**
+         * Resumes polling for write of the sessions whose write coalescing window is over.
+         *
+         * @return Time in nanoseconds until the nearest end of a write coalescing window or {@code -1} if no writes
+         *      are delayed.
+         */
+        private long processDelayedWrites() {
+            if (delayedWrites.isEmpty())
+                return -1;
+
+            long now = System.nanoTime();
+
+            long delay = Long.MAX_VALUE;
+
+            for (Iterator<GridSelectorNioSessionImpl> it = delayedWrites.iterator(); it.hasNext(); ) {
+                GridSelectorNioSessionImpl ses = it.next();
+
+                long rem = ses.writeCoalescingDeadline() - now;
+
+                if (ses.writeCoalescingDeadline() != 0 && rem > 0 && ses.worker() == this && !ses.closed()) {
+                    delay = Math.min(delay, rem);
+
+                    continue;
+                }
+
+                it.remove();
+
+                SelectionKey key = ses.key();
+
+                // Moved sessions are polled for write by the new worker.
+                if (ses.worker() == this && key.isValid() && (key.interestOps() & SelectionKey.OP_WRITE) == 0)
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+
+            return delay == Long.MAX_VALUE ? -1 : delay;
+        }
+
         /**
          * Makes sure that pending key cancellations are executed and the corresponding channels can be
          * re-registered with our selector without causing {@link java.nio.channels.CancelledKeyException}s.
@@ -2660,6 +2924,15 @@ public class GridNioServer<T> {
                         ses.resetSendScheduleTime();
                         ses.bytesReceived(0);
                     }
+
+                    if (!opWrite &&
+                        idleBufReleaseTimeout > 0 &&
+                        now - ses.lastReceiveTime() > idleBufReleaseTimeout &&
+                        now - ses.lastSendTime() > idleBufReleaseTimeout) {
+                        ses.releaseIdleBuffers(ses.procWrite.get() ||
+                            ses.meta(NIO_OPERATION.ordinal()) != null ||
+                            ses.meta(BUF_META_KEY) != null);
+                    }
                 }
                 catch (IgniteCheckedException e) {
                     close(ses, e);
@@ -2682,19 +2955,6 @@ public class GridNioServer<T> {
             Socket sock = sockCh.socket();
 
             try {
-                ByteBuffer writeBuf = null;
-                ByteBuffer readBuf = null;
-
-                if (directMode) {
-                    writeBuf = directBuf ? ByteBuffer.allocateDirect(sock.getSendBufferSize()) :
-                        ByteBuffer.allocate(sock.getSendBufferSize());
-                    readBuf = directBuf ? ByteBuffer.allocateDirect(sock.getReceiveBufferSize()) :
-                        ByteBuffer.allocate(sock.getReceiveBufferSize());
-
-                    writeBuf.order(order);
-                    readBuf.order(order);
-                }
-
                 final GridSelectorNioSessionImpl ses = new GridSelectorNioSessionImpl(
                     log,
                     this,
@@ -2704,8 +2964,9 @@ public class GridNioServer<T> {
                     fut.accepted(),
                     sndQueueLimit,
                     mreg,
-                    writeBuf,
-                    readBuf);
+                    bufPool,
+                    directMode ? sock.getSendBufferSize() : 0,
+                    directMode ? sock.getReceiveBufferSize() : 0);
 
                 Map<Integer, ?> meta = fut.meta();
 
@@ -2842,13 +3103,7 @@ public class GridNioServer<T> {
             if (ses.setClosed()) {
                 ses.onClosed();
 
-                if (directBuf) {
-                    if (ses.writeBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.writeBuffer());
-
-                    if (ses.readBuffer() != null)
-                        GridUnsafe.cleanDirectBuffer(ses.readBuffer());
-                }
+                ses.releaseBuffers();
 
                 if (closeSock)
                     closeKey(ses.key());
@@ -3865,6 +4120,15 @@ public class GridNioServer<T> {
         /** Tracing processor */
         private Tracing tracing;
 
+        /** Provider of selectors and channels. */
+        private SelectorProvider selectorProvider;
+
+        /** Write coalescing window in nanoseconds. */
+        private long writeCoalescingWindow;
+
+        /** Write buffer fill level which disables the coalescing window. */
+        private int writeCoalescingBytes;
+
         /**
          * Finishes building the instance.
          *
@@ -3896,6 +4160,7 @@ public class GridNioServer<T> {
                 workerLsnr,
                 mreg,
                 tracing,
+                selectorProvider != null ? selectorProvider : configuredSelectorProvider(),
                 filters != null ? Arrays.copyOf(filters, filters.length) : EMPTY_FILTERS
             );
 
@@ -3905,6 +4170,9 @@ public class GridNioServer<T> {
             if (writeTimeout >= 0)
                 ret.writeTimeout(writeTimeout);
 
+            if (writeCoalescingWindow > 0)
+                ret.writeCoalescing(writeCoalescingWindow, writeCoalescingBytes);
+
             return ret;
         }
 
@@ -4170,6 +4438,30 @@ public class GridNioServer<T> {
 
             return this;
         }
+
+        /**
+         * @param selectorProvider Provider of selectors and channels. If not set, the provider configured by
+         *      {@link IgniteSystemProperties#IGNITE_NIO_SELECTOR_PROVIDER} is used.
+         * @return This for chaining.
+         */
+        public Builder<T> selectorProvider(SelectorProvider selectorProvider) {
+            this.selectorProvider = selectorProvider;
+
+            return this;
+        }
+
+        /**
+         * @param window Write coalescing window in nanoseconds, {@code 0} disables coalescing.
+         * @param maxBytes Write buffer fill level after which the buffer is flushed without waiting.
+         * @return This for chaining.
+         * @see GridNioServer#writeCoalescing(long, int)
+         */
+        public Builder<T> writeCoalescing(long window, int maxBytes) {
+            writeCoalescingWindow = window;
+            writeCoalescingBytes = maxBytes;
+
+            return this;
+        }
     }
 
     /**
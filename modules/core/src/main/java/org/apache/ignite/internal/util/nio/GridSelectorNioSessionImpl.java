@@ -61,12 +61,28 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     @GridToStringExclude
     private final Semaphore sem;
 
-    /** Write buffer. */
+    /** Pool of read and write buffers, {@code null} if session does not have own buffers. */
+    @GridToStringExclude
+    @Nullable private final GridNioBufferPool bufPool;
+
+    /** Write buffer size. */
+    private final int writeBufSize;
+
+    /** Read buffer size. */
+    private final int readBufSize;
+
+    /** Write buffer, acquired from the pool on demand. */
     private ByteBuffer writeBuf;
 
-    /** Read buffer. */
+    /** Read buffer, acquired from the pool on demand. */
     private ByteBuffer readBuf;
 
+    /**
+     * Time ({@link System#nanoTime()}) until which the write of a partially filled write buffer is delayed
+     * to coalesce more messages, {@code 0} if the write is not delayed.
+     */
+    private long writeCoalescingDeadline;
+
     /** Incoming recovery data. */
     private GridNioRecoveryDescriptor inRecovery;
 
@@ -101,8 +117,10 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
      * @param rmtAddr Remote address.
      * @param accepted Accepted flag.
      * @param sndQueueLimit Send queue limit.
-     * @param writeBuf Write buffer.
-     * @param readBuf Read buffer.
+     * @param mreg Metric registry.
+     * @param bufPool Pool of read and write buffers, {@code null} if session does not need own buffers.
+     * @param writeBufSize Write buffer size.
+     * @param readBufSize Read buffer size.
      */
     GridSelectorNioSessionImpl(
         IgniteLogger log,
@@ -113,8 +131,9 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
         boolean accepted,
         int sndQueueLimit,
         @Nullable MetricRegistry mreg,
-        @Nullable ByteBuffer writeBuf,
-        @Nullable ByteBuffer readBuf
+        @Nullable GridNioBufferPool bufPool,
+        int writeBufSize,
+        int readBufSize
     ) {
         super(filterChain, locAddr, rmtAddr, accepted);
 
@@ -132,17 +151,11 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
 
         sem = sndQueueLimit > 0 ? new Semaphore(sndQueueLimit) : null;
 
-        if (writeBuf != null) {
-            writeBuf.clear();
+        assert bufPool == null || (writeBufSize > 0 && readBufSize > 0);
 
-            this.writeBuf = writeBuf;
-        }
-
-        if (readBuf != null) {
-            readBuf.clear();
-
-            this.readBuf = readBuf;
-        }
+        this.bufPool = bufPool;
+        this.writeBufSize = writeBufSize;
+        this.readBufSize = readBufSize;
 
         outboundMessagesQueueSizeMetric = mreg == null ? null : mreg.longAdderMetric(
             OUTBOUND_MESSAGES_QUEUE_SIZE_METRIC_NAME,
@@ -179,19 +192,111 @@ public class GridSelectorNioSessionImpl extends GridNioSessionImpl implements Gr
     }
 
     /**
-     * @return Write buffer.
+     * Gets write buffer acquiring it from the pool if the session does not hold one.
+     * Must be called from the worker thread only.
+     *
+     * @return Write buffer or {@code null} if the session is closed and its buffers have been released.
      */
-    public ByteBuffer writeBuffer() {
+    @Nullable public ByteBuffer writeBuffer() {
+        if (writeBuf == null && bufPool != null) {
+            writeBuf = bufPool.acquire(writeBufSize);
+
+            // Buffers of a closed session have already been released, do not keep the acquired one.
+            if (closed()) {
+                bufPool.release(writeBuf);
+
+                writeBuf = null;
+            }
+        }
+
         return writeBuf;
     }
 
     /**
-     * @return Read buffer.
+     * Gets read buffer acquiring it from the pool if the session does not hold one.
+     * Must be called from the worker thread only.
+     *
+     * @return Read buffer or {@code null} if the session is closed and its buffers have been released.
      */
-    public ByteBuffer readBuffer() {
+    @Nullable public ByteBuffer readBuffer() {
+        if (readBuf == null && bufPool != null) {
+            readBuf = bufPool.acquire(readBufSize);
+
+            // Buffers of a closed session have already been released, do not keep the acquired one.
+            if (closed()) {
+                bufPool.release(readBuf);
+
+                readBuf = null;
+            }
+        }
+
         return readBuf;
     }
 
+    /**
+     * Must be called from the worker thread only.
+     *
+     * @return Time until which the write is delayed to coalesce more messages, {@code 0} if the write is not delayed.
+     */
+    long writeCoalescingDeadline() {
+        return writeCoalescingDeadline;
+    }
+
+    /**
+     * Must be called from the worker thread only.
+     *
+     * @param writeCoalescingDeadline Time until which the write is delayed to coalesce more messages,
+     *      {@code 0} if the write is not delayed.
+     */
+    void writeCoalescingDeadline(long writeCoalescingDeadline) {
+        this.writeCoalescingDeadline = writeCoalescingDeadline;
+    }
+
+    /**
+     * Returns buffers which do not contain any pending data to the pool. Buffers are acquired again on
+     * the next read or write. Must be called from the worker thread only.
+     *
+     * @param writePending {@code True} if the write buffer is referenced by a write in progress.
+     */
+    void releaseIdleBuffers(boolean writePending) {
+        if (bufPool == null)
+            return;
+
+        if (readBuf != null && readBuf.position() == 0) {
+            bufPool.release(readBuf);
+
+            readBuf = null;
+        }
+
+        if (writeBuf != null && !writePending && writeBuf.position() == 0) {
+            bufPool.release(writeBuf);
+
+            writeBuf = null;
+        }
+    }
+
+    /**
+     * Returns all session buffers to the pool. Must be called from the worker thread only when session is closed.
+     */
+    void releaseBuffers() {
+        assert closed();
+
+        if (bufPool == null)
+            return;
+
+        if (readBuf != null) {
+            bufPool.release(readBuf);
+
+            readBuf = null;
+        }
+
+        if (writeBuf != null) {
+            bufPool.release(writeBuf);
+
+            writeBuf = null;
+        }
+    }
+
     /**
      * @return Registered selection key for this session.
      */
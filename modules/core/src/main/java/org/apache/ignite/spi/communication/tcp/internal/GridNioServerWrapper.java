@@ -103,6 +103,8 @@ import org.jetbrains.annotations.Nullable;
 import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
 import static org.apache.ignite.internal.IgniteFeatures.CHANNEL_COMMUNICATION;
 import static org.apache.ignite.internal.IgniteFeatures.nodeSupports;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_IO_WRITE_COALESCING_BYTES;
+import static org.apache.ignite.internal.util.nio.GridNioServer.DFLT_IO_WRITE_COALESCING_WINDOW;
 import static org.apache.ignite.internal.util.nio.GridNioSessionMetaKey.SSL_META;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
 import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.CONN_IDX_META;
@@ -200,7 +202,11 @@ public class GridNioServerWrapper {
     private volatile CommunicationWorker commWorker;
 
     /** Socket channel factory. */
-    private volatile ThrowableSupplier<SocketChannel, IOException> socketChannelFactory = SocketChannel::open;
+    private volatile ThrowableSupplier<SocketChannel, IOException> socketChannelFactory = () -> {
+        GridNioServer<Message> srv = this.nioSrv;
+
+        return srv != null ? srv.openSocketChannel() : SocketChannel.open();
+    };
 
     /** Enable forcible node kill. */
     private boolean forcibleNodeKillEnabled = IgniteSystemProperties
@@ -923,6 +929,16 @@ public class GridNioServerWrapper {
                         .metricRegistry(metricMgr.registry(COMMUNICATION_METRICS_GROUP_NAME));
                 }
 
+                long coalescingWindow = IgniteSystemProperties.getLong(
+                    IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_WINDOW, DFLT_IO_WRITE_COALESCING_WINDOW);
+
+                if (coalescingWindow > 0) {
+                    builder.writeCoalescing(
+                        TimeUnit.MICROSECONDS.toNanos(coalescingWindow),
+                        IgniteSystemProperties.getInteger(
+                            IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_BYTES, DFLT_IO_WRITE_COALESCING_BYTES));
+                }
+
                 GridNioServer<Message> srvr = builder.build();
 
                 cfg.boundTcpPort(port);
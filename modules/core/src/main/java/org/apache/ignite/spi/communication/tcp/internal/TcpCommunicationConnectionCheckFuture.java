@@ -300,7 +300,7 @@ public class TcpCommunicationConnectionCheckFuture
             boolean connect;
 
             try {
-                ch = SocketChannel.open();
+                ch = nioSrvr.openSocketChannel();
 
                 ch.configureBlocking(false);
 
@@ -46,6 +46,7 @@ import org.apache.ignite.spi.IgniteSpiContext;
 import org.apache.ignite.spi.IgniteSpiException;
 import org.apache.ignite.spi.IgniteSpiThread;
 import org.apache.ignite.spi.discovery.DiscoverySpiCustomMessage;
+import org.apache.ignite.spi.discovery.tcp.internal.CacheMetricsUpdateTracker;
 import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
 import org.apache.ignite.spi.discovery.tcp.messages.TcpDiscoveryAbstractMessage;
 import org.apache.ignite.spi.discovery.tcp.messages.TcpDiscoveryMetricsUpdateMessage;
@@ -462,6 +463,13 @@ abstract class TcpDiscoveryImpl {
             Map<Integer, CacheMetrics> cacheMetrics = msg.hasCacheMetrics(nodeId) ?
                 msg.cacheMetrics().get(nodeId) : Collections.emptyMap();
 
+            if (msg.cacheMetricsDelta(nodeId)) {
+                ClusterNode node = getNode(nodeId);
+
+                if (node instanceof TcpDiscoveryNode)
+                    cacheMetrics = CacheMetricsUpdateTracker.merge(((TcpDiscoveryNode)node).cacheMetrics(), cacheMetrics);
+            }
+
             if (endTimeMetricsSizeProcessWait <= U.currentTimeMillis()
                 && cacheMetrics.size() >= METRICS_QNT_WARN) {
                 log.warning("The Discovery message has metrics for " + cacheMetrics.size() + " caches.\n" +
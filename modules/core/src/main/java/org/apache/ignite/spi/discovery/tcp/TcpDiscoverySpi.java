@@ -308,6 +308,9 @@ public class TcpDiscoverySpi extends IgniteSpiAdapter implements IgniteDiscovery
     /** @see IgniteSystemProperties#IGNITE_DISCOVERY_METRICS_QNT_WARN */
     public static final int DFLT_DISCOVERY_METRICS_QNT_WARN = 500;
 
+    /** @see IgniteSystemProperties#IGNITE_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY */
+    public static final int DFLT_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY = 10;
+
     /** Ssl message pattern for StreamCorruptedException. */
     private static Pattern sslMsgPattern = Pattern.compile("invalid stream header: 150\\d0\\d00");
 
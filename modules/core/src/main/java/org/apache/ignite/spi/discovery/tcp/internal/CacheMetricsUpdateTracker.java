@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.discovery.tcp.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.internal.util.typedef.F;
+import org.apache.ignite.internal.util.typedef.internal.A;
+import org.apache.ignite.internal.util.typedef.internal.S;
+import org.apache.ignite.lang.IgniteUuid;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks cache metrics of the local node sent with metrics update messages and computes delta updates,
+ * which contain only metrics of caches changed since the previous update.
+ * <p>
+ * Receivers merge delta updates with previously received metrics. Metrics update messages may be dropped
+ * in favour of the more recent ones, so the tracker is notified when a message completes its first ring lap
+ * (see {@link #onDelivered(IgniteUuid)}) and the next update is full if an earlier message was lost. Besides,
+ * full update is sent once per configured number of updates to clean up metrics of destroyed caches.
+ * <p>
+ * Not thread safe, must be used by discovery message worker only.
+ */
+public class CacheMetricsUpdateTracker {
+    /** Number of updates between full updates, {@code 1} disables delta updates. */
+    private final int fullUpdateFreq;
+
+    /** Metrics sent with the previous update by cache ID. */
+    private Map<Integer, CacheMetrics> prev = new HashMap<>();
+
+    /** IDs of messages with updates sent since the last full update, which have not been delivered yet. */
+    private final Deque<IgniteUuid> pending = new ArrayDeque<>();
+
+    /** Whether the next update must be full because a previous update has been lost. */
+    private boolean fullRequired;
+
+    /** Number of updates since the last full update. */
+    private int updatesSinceFull;
+
+    /** Whether the last computed update is a delta update. */
+    private boolean lastDelta;
+
+    /**
+     * @param fullUpdateFreq Number of updates between full updates, {@code 1} disables delta updates.
+     */
+    public CacheMetricsUpdateTracker(int fullUpdateFreq) {
+        A.ensure(fullUpdateFreq > 0, "fullUpdateFreq > 0");
+
+        this.fullUpdateFreq = fullUpdateFreq;
+    }
+
+    /**
+     * Computes cache metrics to be sent with the next metrics update.
+     *
+     * @param metrics Current cache metrics of the local node.
+     * @param deltaAllowed {@code False} if full update must be sent, e.g. if some nodes do not support delta updates.
+     * @param msgId ID of the message the update is sent with.
+     * @return All metrics if the update is full, metrics of changed caches otherwise.
+     * @see #lastUpdateDelta()
+     */
+    public Map<Integer, CacheMetrics> update(Map<Integer, CacheMetrics> metrics, boolean deltaAllowed, IgniteUuid msgId) {
+        boolean full = !deltaAllowed || fullRequired || prev.isEmpty() || ++updatesSinceFull >= fullUpdateFreq;
+
+        Map<Integer, CacheMetrics> res = metrics;
+
+        if (full) {
+            // Metrics of destroyed caches are cleaned up on receivers with the next full update.
+            updatesSinceFull = 0;
+            fullRequired = false;
+
+            pending.clear();
+        }
+        else {
+            res = new HashMap<>();
+
+            for (Map.Entry<Integer, CacheMetrics> e : metrics.entrySet()) {
+                CacheMetrics prevMetrics = prev.get(e.getKey());
+
+                if (prevMetrics == null || !equal(e.getValue(), prevMetrics))
+                    res.put(e.getKey(), e.getValue());
+            }
+        }
+
+        pending.add(msgId);
+
+        prev = metrics;
+        lastDelta = !full;
+
+        return res;
+    }
+
+    /**
+     * Handles a message with an update of the local node which has passed all nodes of the ring. Since messages
+     * are delivered in order, updates sent with the preceding undelivered messages have been lost and the next
+     * update will be full.
+     *
+     * @param msgId Message ID.
+     */
+    public void onDelivered(IgniteUuid msgId) {
+        if (!pending.contains(msgId))
+            return;
+
+        while (!msgId.equals(pending.poll()))
+            fullRequired = true;
+    }
+
+    /**
+     * @return {@code True} if the last update returned by {@link #update(Map, boolean)} is a delta update.
+     */
+    public boolean lastUpdateDelta() {
+        return lastDelta;
+    }
+
+    /**
+     * Merges delta update into the previously received metrics.
+     *
+     * @param prev Previously received metrics.
+     * @param delta Delta update.
+     * @return Merged metrics.
+     */
+    public static Map<Integer, CacheMetrics> merge(@Nullable Map<Integer, CacheMetrics> prev,
+        Map<Integer, CacheMetrics> delta) {
+        if (prev == null || prev.isEmpty())
+            return delta;
+
+        if (delta.isEmpty())
+            return prev;
+
+        Map<Integer, CacheMetrics> res = new HashMap<>(prev);
+
+        res.putAll(delta);
+
+        return res;
+    }
+
+    /**
+     * Compares metrics sent to remote nodes.
+     *
+     * @param m1 Cache metrics.
+     * @param m2 Cache metrics.
+     * @return {@code True} if metrics are equal.
+     */
+    private static boolean equal(CacheMetrics m1, CacheMetrics m2) {
+        return m1.getCacheGets() == m2.getCacheGets()
+            && m1.getCachePuts() == m2.getCachePuts()
+            && m1.getCacheHits() == m2.getCacheHits()
+            && m1.getCacheMisses() == m2.getCacheMisses()
+            && m1.getCacheTxCommits() == m2.getCacheTxCommits()
+            && m1.getCacheTxRollbacks() == m2.getCacheTxRollbacks()
+            && m1.getCacheEvictions() == m2.getCacheEvictions()
+            && m1.getCacheRemovals() == m2.getCacheRemovals()
+            && equal(m1.getAveragePutTime(), m2.getAveragePutTime())
+            && equal(m1.getAverageGetTime(), m2.getAverageGetTime())
+            && equal(m1.getAverageRemoveTime(), m2.getAverageRemoveTime())
+            && equal(m1.getAverageTxCommitTime(), m2.getAverageTxCommitTime())
+            && equal(m1.getAverageTxRollbackTime(), m2.getAverageTxRollbackTime())
+            && m1.getOffHeapGets() == m2.getOffHeapGets()
+            && m1.getOffHeapPuts() == m2.getOffHeapPuts()
+            && m1.getOffHeapRemovals() == m2.getOffHeapRemovals()
+            && m1.getOffHeapEvictions() == m2.getOffHeapEvictions()
+            && m1.getOffHeapHits() == m2.getOffHeapHits()
+            && m1.getOffHeapMisses() == m2.getOffHeapMisses()
+            && m1.getOffHeapEntriesCount() == m2.getOffHeapEntriesCount()
+            && m1.getHeapEntriesCount() == m2.getHeapEntriesCount()
+            && m1.getOffHeapPrimaryEntriesCount() == m2.getOffHeapPrimaryEntriesCount()
+            && m1.getOffHeapBackupEntriesCount() == m2.getOffHeapBackupEntriesCount()
+            && m1.getOffHeapAllocatedSize() == m2.getOffHeapAllocatedSize()
+            && m1.getDhtEvictQueueCurrentSize() == m2.getDhtEvictQueueCurrentSize()
+            && m1.getTxThreadMapSize() == m2.getTxThreadMapSize()
+            && m1.getTxXidMapSize() == m2.getTxXidMapSize()
+            && m1.getTxCommitQueueSize() == m2.getTxCommitQueueSize()
+            && m1.getTxPrepareQueueSize() == m2.getTxPrepareQueueSize()
+            && m1.getTxStartVersionCountsSize() == m2.getTxStartVersionCountsSize()
+            && m1.getTxCommittedVersionsSize() == m2.getTxCommittedVersionsSize()
+            && m1.getTxRolledbackVersionsSize() == m2.getTxRolledbackVersionsSize()
+            && m1.getTxDhtThreadMapSize() == m2.getTxDhtThreadMapSize()
+            && m1.getTxDhtXidMapSize() == m2.getTxDhtXidMapSize()
+            && m1.getTxDhtCommitQueueSize() == m2.getTxDhtCommitQueueSize()
+            && m1.getTxDhtPrepareQueueSize() == m2.getTxDhtPrepareQueueSize()
+            && m1.getTxDhtStartVersionCountsSize() == m2.getTxDhtStartVersionCountsSize()
+            && m1.getTxDhtCommittedVersionsSize() == m2.getTxDhtCommittedVersionsSize()
+            && m1.getTxDhtRolledbackVersionsSize() == m2.getTxDhtRolledbackVersionsSize()
+            && m1.getWriteBehindTotalCriticalOverflowCount() == m2.getWriteBehindTotalCriticalOverflowCount()
+            && m1.getWriteBehindCriticalOverflowCount() == m2.getWriteBehindCriticalOverflowCount()
+            && m1.getWriteBehindErrorRetryCount() == m2.getWriteBehindErrorRetryCount()
+            && m1.getTotalPartitionsCount() == m2.getTotalPartitionsCount()
+            && m1.getRebalancingPartitionsCount() == m2.getRebalancingPartitionsCount()
+            && m1.getKeysToRebalanceLeft() == m2.getKeysToRebalanceLeft()
+            && m1.getRebalancingBytesRate() == m2.getRebalancingBytesRate()
+            && m1.getRebalancingKeysRate() == m2.getRebalancingKeysRate()
+            && m1.getRebalancedKeys() == m2.getRebalancedKeys()
+            && m1.getEstimatedRebalancingKeys() == m2.getEstimatedRebalancingKeys()
+            && m1.getRebalancingStartTime() == m2.getRebalancingStartTime()
+            && m1.getEstimatedRebalancingFinishTime() == m2.getEstimatedRebalancingFinishTime()
+            && m1.getRebalanceClearingPartitionsLeft() == m2.getRebalanceClearingPartitionsLeft()
+            && m1.getEntryProcessorPuts() == m2.getEntryProcessorPuts()
+            && equal(m1.getEntryProcessorAverageInvocationTime(), m2.getEntryProcessorAverageInvocationTime())
+            && m1.getEntryProcessorInvocations() == m2.getEntryProcessorInvocations()
+            && equal(m1.getEntryProcessorMaxInvocationTime(), m2.getEntryProcessorMaxInvocationTime())
+            && equal(m1.getEntryProcessorMinInvocationTime(), m2.getEntryProcessorMinInvocationTime())
+            && m1.getEntryProcessorReadOnlyInvocations() == m2.getEntryProcessorReadOnlyInvocations()
+            && m1.getEntryProcessorHits() == m2.getEntryProcessorHits()
+            && equal(m1.getEntryProcessorHitPercentage(), m2.getEntryProcessorHitPercentage())
+            && m1.getEntryProcessorMisses() == m2.getEntryProcessorMisses()
+            && equal(m1.getEntryProcessorMissPercentage(), m2.getEntryProcessorMissPercentage())
+            && m1.getEntryProcessorRemovals() == m2.getEntryProcessorRemovals()
+            && m1.getCacheSize() == m2.getCacheSize()
+            && m1.isEmpty() == m2.isEmpty()
+            && m1.getSize() == m2.getSize()
+            && m1.getKeySize() == m2.getKeySize()
+            && m1.getIndexBuildPartitionsLeftCount() == m2.getIndexBuildPartitionsLeftCount()
+            && F.eq(m1.getTxKeyCollisions(), m2.getTxKeyCollisions());
+    }
+
+    /**
+     * @param f1 Metric value.
+     * @param f2 Metric value.
+     * @return {@code True} if values are equal, including {@code NaN} values.
+     */
+    private static boolean equal(float f1, float f2) {
+        return Float.compare(f1, f2) == 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override public String toString() {
+        return S.toString(CacheMetricsUpdateTracker.class, this);
+    }
+}
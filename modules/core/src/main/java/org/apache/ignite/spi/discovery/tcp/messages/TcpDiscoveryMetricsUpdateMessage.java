@@ -67,6 +67,9 @@ public class TcpDiscoveryMetricsUpdateMessage extends TcpDiscoveryAbstractMessag
     @GridToStringExclude
     private final Map<UUID, Map<Integer, CacheMetrics>> cacheMetrics = new HashMap<>();
 
+    /** IDs of nodes which cache metrics contain only caches changed since the previous update. */
+    private Collection<UUID> cacheMetricsDeltaNodeIds;
+
     /**
      * Constructor.
      *
@@ -105,6 +108,24 @@ public class TcpDiscoveryMetricsUpdateMessage extends TcpDiscoveryAbstractMessag
             this.cacheMetrics.put(nodeId, metrics);
     }
 
+    /**
+     * Sets cache metrics for particular node.
+     *
+     * @param nodeId Node ID.
+     * @param metrics Node cache metrics.
+     * @param delta {@code True} if metrics contain only caches changed since the previous update.
+     */
+    public void setCacheMetrics(UUID nodeId, Map<Integer, CacheMetrics> metrics, boolean delta) {
+        setCacheMetrics(nodeId, metrics);
+
+        if (delta) {
+            if (cacheMetricsDeltaNodeIds == null)
+                cacheMetricsDeltaNodeIds = new HashSet<>();
+
+            cacheMetricsDeltaNodeIds.add(nodeId);
+        }
+    }
+
     /**
      * Sets metrics for a client node.
      *
@@ -141,6 +162,9 @@ public class TcpDiscoveryMetricsUpdateMessage extends TcpDiscoveryAbstractMessag
         assert nodeId != null;
 
         cacheMetrics.remove(nodeId);
+
+        if (cacheMetricsDeltaNodeIds != null)
+            cacheMetricsDeltaNodeIds.remove(nodeId);
     }
 
     /**
@@ -196,6 +220,17 @@ public class TcpDiscoveryMetricsUpdateMessage extends TcpDiscoveryAbstractMessag
         return cacheMetrics.get(nodeId) != null;
     }
 
+    /**
+     * @param nodeId Node ID.
+     * @return {@code True} if cache metrics of particular node contain only caches changed since the previous update
+     *      and must be merged with the previously received metrics.
+     */
+    public boolean cacheMetricsDelta(UUID nodeId) {
+        assert nodeId != null;
+
+        return cacheMetricsDeltaNodeIds != null && cacheMetricsDeltaNodeIds.contains(nodeId);
+    }
+
     /**
      * Gets client node IDs for  particular node.
      *
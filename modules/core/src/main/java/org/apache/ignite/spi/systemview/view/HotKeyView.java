@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.spi.systemview.view;
+
+import org.apache.ignite.internal.managers.systemview.walker.Order;
+import org.apache.ignite.internal.util.typedef.internal.S;
+
+import static org.apache.ignite.internal.util.IgniteUtils.toStringSafe;
+
+/**
+ * Hot key of a cache representation for a {@link SystemView}.
+ */
+public class HotKeyView {
+    /** Cache name. */
+    private final String cacheName;
+
+    /** Partition id. */
+    private final int partId;
+
+    /** Key value. */
+    private final Object key;
+
+    /** Estimated number of reads. */
+    private final long reads;
+
+    /**
+     * @param cacheName Cache name.
+     * @param partId Partition id.
+     * @param key Key value.
+     * @param reads Estimated number of reads.
+     */
+    public HotKeyView(String cacheName, int partId, Object key, long reads) {
+        this.cacheName = cacheName;
+        this.partId = partId;
+        this.key = key;
+        this.reads = reads;
+    }
+
+    /** @return Cache name. */
+    @Order
+    public String cacheName() {
+        return cacheName;
+    }
+
+    /** @return Partition id. */
+    @Order(1)
+    public int partitionId() {
+        return partId;
+    }
+
+    /** @return Key hash code. */
+    @Order(2)
+    public int keyHashCode() {
+        return key.hashCode();
+    }
+
+    /** @return Key, {@code null} if sensitive data is hidden. */
+    @Order(3)
+    public String key() {
+        return S.includeSensitive() ? toStringSafe(key) : null;
+    }
+
+    /** @return Estimated number of reads of the key from other nodes in the current period. */
+    @Order(4)
+    public long reads() {
+        return reads;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.binary;
+
+import java.util.Arrays;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.binary.BinaryObjectBuilder;
+import org.apache.ignite.binary.BinaryTypeConfiguration;
+import org.apache.ignite.configuration.BinaryConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.util.GridUnsafe;
+import org.apache.ignite.logger.NullLogger;
+import org.apache.ignite.marshaller.MarshallerContextTestImpl;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests objects written in fixed layout.
+ */
+public class BinaryFixedLayoutSelfTest extends GridCommonAbstractTest {
+    /** Length of fields of {@link FixedObject} including type bytes. */
+    private static final int FIXED_FIELDS_LEN = 5 + 9 + 9 + 2 + 2 + 3 + 3 + 5;
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFixedLayout() throws Exception {
+        BinaryMarshaller marsh = marshaller(true);
+
+        FixedObject obj = new FixedObject(1);
+
+        byte[] arr = marsh.marshal(obj);
+
+        BinaryObjectImpl heapObj = new BinaryObjectImpl(binaryContext(marsh), arr, 0);
+
+        assertTrue(heapObj.isFlagSet(BinaryUtils.FLAG_FIXED_LAYOUT));
+        assertEquals(GridBinaryMarshaller.DFLT_HDR_LEN + FIXED_FIELDS_LEN, heapObj.length());
+
+        checkFields(obj, heapObj);
+
+        long ptr = GridUnsafe.allocateMemory(arr.length);
+
+        try {
+            GridUnsafe.copyHeapOffheap(arr, GridUnsafe.BYTE_ARR_OFF, ptr, arr.length);
+
+            checkFields(obj, new BinaryObjectOffheapImpl(binaryContext(marsh), ptr, 0, arr.length));
+        }
+        finally {
+            GridUnsafe.freeMemory(ptr);
+        }
+
+        // Footer is written if fixed layout is disabled.
+        BinaryObjectImpl footerObj = new BinaryObjectImpl(binaryContext(marsh), marshaller(false).marshal(obj), 0);
+
+        assertFalse(footerObj.isFlagSet(BinaryUtils.FLAG_FIXED_LAYOUT));
+        assertTrue(footerObj.length() > heapObj.length());
+
+        checkFields(obj, footerObj);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testVariableLengthField() throws Exception {
+        BinaryMarshaller marsh = marshaller(true);
+
+        MixedObject obj = new MixedObject();
+
+        obj.a = 1;
+        obj.s = "str";
+
+        BinaryObjectImpl binObj = new BinaryObjectImpl(binaryContext(marsh), marsh.marshal(obj), 0);
+
+        assertFalse(binObj.isFlagSet(BinaryUtils.FLAG_FIXED_LAYOUT));
+
+        assertEquals(1, (int)binObj.field("a"));
+        assertEquals("str", binObj.field("s"));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBuilder() throws Exception {
+        BinaryMarshaller marsh = marshaller(true);
+
+        FixedObject obj = new FixedObject(1);
+
+        BinaryObjectImpl binObj = new BinaryObjectImpl(binaryContext(marsh), marsh.marshal(obj), 0);
+
+        BinaryObjectBuilder builder = binObj.toBuilder();
+
+        assertEquals(obj.b, (long)builder.getField("b"));
+
+        BinaryObject res = builder.setField("a", 10).build();
+
+        obj.a = 10;
+
+        checkFields(obj, (BinaryObjectExImpl)res);
+
+        // Comparison of serialized fields.
+        BinaryObjectExImpl other = new BinaryObjectImpl(binaryContext(marsh), marsh.marshal(obj), 0);
+
+        assertTrue(other.isFlagSet(BinaryUtils.FLAG_FIXED_LAYOUT));
+
+        for (int order = 0; order < FixedObject.FIELDS_CNT; order++) {
+            BinarySerializedFieldComparator c1 = ((BinaryObjectExImpl)res).createFieldComparator();
+            BinarySerializedFieldComparator c2 = other.createFieldComparator();
+
+            c1.findField(order);
+            c2.findField(order);
+
+            assertTrue(BinarySerializedFieldComparator.equals(c1, c2));
+        }
+    }
+
+    /**
+     * @param exp Expected object.
+     * @param binObj Binary object.
+     */
+    private void checkFields(FixedObject exp, BinaryObjectExImpl binObj) {
+        assertEquals(exp.a, (int)binObj.field("a"));
+        assertEquals(exp.b, (long)binObj.field("b"));
+        assertEquals(exp.c, (double)binObj.field("c"), 0d);
+        assertEquals(exp.d, (boolean)binObj.field("d"));
+        assertEquals(exp.e, (byte)binObj.field("e"));
+        assertEquals(exp.f, (short)binObj.field("f"));
+        assertEquals(exp.g, (char)binObj.field("g"));
+        assertEquals(exp.h, (float)binObj.field("h"), 0f);
+
+        assertTrue(binObj.hasField("h"));
+        assertFalse(binObj.hasField("x"));
+
+        assertEquals(exp.b, (long)binObj.type().field("b").value(binObj));
+        assertEquals(exp.h, (float)binObj.type().field("h").value(binObj), 0f);
+
+        assertEquals(exp, binObj.deserialize());
+    }
+
+    /**
+     * @param marsh Marshaller.
+     * @return Binary context.
+     */
+    private static BinaryContext binaryContext(BinaryMarshaller marsh) {
+        return marsh.binaryMarshaller().context();
+    }
+
+    /**
+     * @param fixedLayout Fixed layout flag.
+     * @return Marshaller.
+     * @throws Exception If failed.
+     */
+    private BinaryMarshaller marshaller(boolean fixedLayout) throws Exception {
+        BinaryContext ctx = new BinaryContext(BinaryCachingMetadataHandler.create(), new IgniteConfiguration(),
+            new NullLogger());
+
+        BinaryMarshaller marsh = new BinaryMarshaller();
+
+        BinaryConfiguration bCfg = new BinaryConfiguration()
+            .setFixedLayout(fixedLayout)
+            .setTypeConfigurations(Arrays.asList(
+                new BinaryTypeConfiguration(FixedObject.class.getName()),
+                new BinaryTypeConfiguration(MixedObject.class.getName())));
+
+        marsh.setContext(new MarshallerContextTestImpl(null));
+
+        marsh.setBinaryContext(ctx, new IgniteConfiguration().setBinaryConfiguration(bCfg));
+
+        return marsh;
+    }
+
+    /**
+     * Object with primitive fields only.
+     */
+    private static class FixedObject {
+        /** */
+        private static final int FIELDS_CNT = 8;
+
+        /** */
+        private int a;
+
+        /** */
+        private long b;
+
+        /** */
+        private double c;
+
+        /** */
+        private boolean d;
+
+        /** */
+        private byte e;
+
+        /** */
+        private short f;
+
+        /** */
+        private char g;
+
+        /** */
+        private float h;
+
+        /**
+         * @param seed Seed of field values.
+         */
+        private FixedObject(int seed) {
+            a = seed;
+            b = seed + 1L;
+            c = seed + 2.5d;
+            d = true;
+            e = (byte)(seed + 3);
+            f = (short)(seed + 4);
+            g = (char)('a' + seed);
+            h = seed + 5.5f;
+        }
+
+        /** {@inheritDoc} */
+        @Override public boolean equals(Object o) {
+            if (this == o)
+                return true;
+
+            if (o == null || getClass() != o.getClass())
+                return false;
+
+            FixedObject obj = (FixedObject)o;
+
+            return a == obj.a && b == obj.b && Double.compare(c, obj.c) == 0 && d == obj.d && e == obj.e &&
+                f == obj.f && g == obj.g && Float.compare(h, obj.h) == 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override public int hashCode() {
+            return a;
+        }
+    }
+
+    /**
+     * Object with field of variable length.
+     */
+    private static class MixedObject {
+        /** */
+        private int a;
+
+        /** */
+        private String s;
+    }
+}
@@ -3009,6 +3009,44 @@ public class BinaryMarshallerSelfTest extends AbstractBinaryArraysTest {
         assertEquals(obj.time, po0.time);
     }
 
+    /**
+     * @throws IgniteCheckedException If failed.
+     */
+    @Test
+    public void testFixedTypeFields() throws IgniteCheckedException {
+        BinaryMarshaller marsh = binaryMarshaller();
+
+        FixedTypeFieldsObject obj = new FixedTypeFieldsObject();
+
+        FixedTypeFieldsObject res = marshalUnmarshal(obj, marsh);
+
+        assertNull(res.i);
+        assertNull(res.str);
+        assertNull(res.uuid);
+        assertNull(res.arr);
+        assertNull(res.e);
+
+        obj.i = 1;
+        obj.str = "str";
+        obj.uuid = UUID.randomUUID();
+        obj.arr = new long[] {1, 2};
+        obj.e = TestEnum.B;
+
+        res = marshalUnmarshal(obj, marsh);
+
+        assertEquals(obj.i, res.i);
+        assertEquals(obj.str, res.str);
+        assertEquals(obj.uuid, res.uuid);
+        assertTrue(Arrays.equals(obj.arr, res.arr));
+        assertEquals(obj.e, res.e);
+        assertEquals(obj.fin, res.fin);
+
+        BinaryObject po = marshal(obj, marsh);
+
+        assertEquals(obj.str, po.field("str"));
+        assertEquals(obj.fin, po.field("fin"));
+    }
+
     /**
      * @throws IgniteCheckedException If failed.
      */
@@ -4264,6 +4302,28 @@ public class BinaryMarshallerSelfTest extends AbstractBinaryArraysTest {
         private final long time = System.currentTimeMillis();
     }
 
+    /**
+     */
+    private static class FixedTypeFieldsObject {
+        /** */
+        private Integer i;
+
+        /** */
+        private String str;
+
+        /** */
+        private UUID uuid;
+
+        /** */
+        private long[] arr;
+
+        /** */
+        private TestEnum e;
+
+        /** */
+        private final String fin = "fin" + System.nanoTime();
+    }
+
     /**
      * @return Simple object.
      */
@@ -22,6 +22,10 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import com.google.common.collect.ImmutableMap;
@@ -36,6 +40,7 @@ import org.apache.ignite.client.IgniteClient;
 import org.apache.ignite.client.IgniteClientFuture;
 import org.apache.ignite.client.Person;
 import org.apache.ignite.client.PersonBinarylizable;
+import org.apache.ignite.internal.IgniteInternalFuture;
 import org.apache.ignite.internal.util.typedef.X;
 import org.apache.ignite.testframework.GridTestUtils;
 import org.junit.Test;
@@ -483,4 +488,46 @@ public class CacheAsyncTest extends AbstractThinClientTest {
         strCache.clearAllAsync(ImmutableSet.of(2, 3, 4)).get();
         assertEquals(0, strCache.size());
     }
+
+    /**
+     * Tests that closing the client completes all pending requests issued concurrently from many threads.
+     */
+    @Test
+    public void testClientCloseCompletesConcurrentPendingRequests() throws Exception {
+        IgniteClient client0 = startClient(0);
+
+        ClientCache<Integer, String> cache = client0.cache(strCache.getName());
+
+        Collection<IgniteClientFuture<String>> futs = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch started = new CountDownLatch(1);
+
+        IgniteInternalFuture<Long> sndFut = GridTestUtils.runMultiThreadedAsync(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                try {
+                    futs.add(cache.getAndPutAsync(i, String.valueOf(i)));
+                }
+                catch (ClientException ignored) {
+                    break; // Client is closed.
+                }
+
+                started.countDown();
+            }
+        }, 8, "thin-client-sender");
+
+        assertTrue(started.await(TIMEOUT, TimeUnit.MILLISECONDS));
+
+        client0.close();
+
+        sndFut.get(TIMEOUT);
+
+        for (IgniteClientFuture<String> fut : futs) {
+            try {
+                fut.toCompletableFuture().get(TIMEOUT, TimeUnit.MILLISECONDS);
+            }
+            catch (ExecutionException ignored) {
+                // Expected for requests failed on close.
+            }
+        }
+    }
 }
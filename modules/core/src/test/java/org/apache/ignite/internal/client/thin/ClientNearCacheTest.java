@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.ClientNearCacheConfiguration;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.junit.Test;
+
+/**
+ * Thin client near cache tests.
+ */
+public class ClientNearCacheTest extends AbstractThinClientTest {
+    /** */
+    private static final int MAX_SIZE = 10;
+
+    /** */
+    private static final long TIMEOUT = 10_000L;
+
+    /** {@inheritDoc} */
+    @Override protected ClientConfiguration getClientConfiguration() {
+        return super.getClientConfiguration().setNearCacheConfigurations(
+            new ClientNearCacheConfiguration().setName(DEFAULT_CACHE_NAME).setMaxSize(MAX_SIZE));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0).getOrCreateCache(DEFAULT_CACHE_NAME);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).cache(DEFAULT_CACHE_NAME).removeAll();
+
+        super.afterTest();
+    }
+
+    /**
+     * Tests that repeated reads are served by the near cache and the number of cached entries is bounded.
+     */
+    @Test
+    public void testReadsServedByNearCache() throws Exception {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            for (int i = 0; i < MAX_SIZE * 2; i++)
+                cache.put(i, i);
+
+            ClientNearCache<Integer, Integer> near = nearCache(cache);
+
+            for (int i = 0; i < MAX_SIZE * 2; i++)
+                assertEquals(i, (int)cache.get(i));
+
+            assertEquals(MAX_SIZE, near.size());
+
+            long hits = near.hits();
+
+            for (int i = MAX_SIZE; i < MAX_SIZE * 2; i++) {
+                assertEquals(i, (int)cache.get(i));
+                assertEquals(i, (int)cache.getAsync(i).get());
+            }
+
+            assertEquals(hits + MAX_SIZE * 2, near.hits());
+
+            // Binary reads bypass the near cache.
+            cache.withKeepBinary().get(MAX_SIZE);
+
+            assertEquals(hits + MAX_SIZE * 2, near.hits());
+        }
+    }
+
+    /**
+     * Tests that values are cached for a client which reads only asynchronously.
+     */
+    @Test
+    public void testAsyncReadsServedByNearCache() throws Exception {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            cache.put(0, 0);
+
+            ClientNearCache<Integer, Integer> near = nearCache(cache);
+
+            // Invalidation query is registered in the background by the first asynchronous read.
+            assertTrue(GridTestUtils.waitForCondition(() -> {
+                try {
+                    assertEquals(0, (int)cache.getAsync(0).get());
+                }
+                catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                return near.size() == 1;
+            }, TIMEOUT));
+
+            long hits = near.hits();
+
+            assertEquals(0, (int)cache.getAsync(0).get());
+
+            assertEquals(hits + 1, near.hits());
+        }
+    }
+
+    /**
+     * Tests that entries updated by this client are invalidated before the update operation completes.
+     */
+    @Test
+    public void testLocalUpdateInvalidatesEntry() throws Exception {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            cache.put(0, 0);
+            cache.put(1, 1);
+
+            assertEquals(0, (int)cache.get(0));
+            assertEquals(1, (int)cache.get(1));
+
+            cache.put(0, 1);
+            assertEquals(1, (int)cache.get(0));
+
+            cache.putAsync(0, 2).get();
+            assertEquals(2, (int)cache.get(0));
+
+            cache.withKeepBinary().put(0, 3);
+            assertEquals(3, (int)cache.get(0));
+
+            cache.remove(1);
+            assertNull(cache.get(1));
+
+            cache.clear();
+            assertNull(cache.get(0));
+        }
+    }
+
+    /**
+     * Tests that entries updated on the server are invalidated.
+     */
+    @Test
+    public void testRemoteUpdateInvalidatesEntry() throws Exception {
+        IgniteCache<Integer, Integer> srvCache = grid(0).cache(DEFAULT_CACHE_NAME);
+
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.cache(DEFAULT_CACHE_NAME);
+
+            srvCache.put(0, 0);
+
+            assertEquals(0, (int)cache.get(0));
+            assertEquals(0, (int)cache.get(0));
+            assertEquals(1, nearCache(cache).size());
+
+            srvCache.put(0, 1);
+
+            assertTrue(GridTestUtils.waitForCondition(() -> cache.get(0) == 1, TIMEOUT));
+
+            srvCache.remove(0);
+
+            assertTrue(GridTestUtils.waitForCondition(() -> cache.get(0) == null, TIMEOUT));
+        }
+    }
+
+    /**
+     * @param cache Cache.
+     * @return Near cache of the cache.
+     */
+    private static ClientNearCache<Integer, Integer> nearCache(ClientCache<Integer, Integer> cache) {
+        ClientNearCache<Integer, Integer> near = GridTestUtils.getFieldValue(cache, "nearCache");
+
+        assertNotNull(near);
+
+        return near;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.client.thin;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.IgniteException;
+import org.apache.ignite.client.ClientCache;
+import org.apache.ignite.client.ClientDataStreamer;
+import org.apache.ignite.client.ClientDataStreamerConfiguration;
+import org.apache.ignite.client.ClientException;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.configuration.ClientConfiguration;
+import org.apache.ignite.stream.StreamReceiver;
+import org.junit.Test;
+
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+
+/**
+ * Tests thin client data streamer.
+ */
+public class DataStreamerTest extends AbstractThinClientTest {
+    /** */
+    private static final int GRIDS = 3;
+
+    /** */
+    private static final int KEYS = 10_000;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(GRIDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected ClientConfiguration getClientConfiguration() {
+        return super.getClientConfiguration().setPartitionAwarenessEnabled(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTestsStopped() throws Exception {
+        stopAllGrids();
+
+        super.afterTestsStopped();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * Tests streaming of entries to all server nodes.
+     */
+    @Test
+    public void testAddData() {
+        try (IgniteClient client = startClient(0, 1, 2)) {
+            ClientCache<Integer, Integer> cache = client.createCache(DEFAULT_CACHE_NAME);
+
+            ClientDataStreamerConfiguration cfg = new ClientDataStreamerConfiguration()
+                .setPerNodeBufferSize(100)
+                .setPerNodeParallelOperations(2);
+
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME, cfg)) {
+                for (int i = 0; i < KEYS; i++)
+                    streamer.addData(i, i);
+            }
+
+            assertEquals(KEYS, cache.size());
+
+            for (int i = 0; i < KEYS; i += 97)
+                assertEquals(i, (int)cache.get(i));
+        }
+    }
+
+    /**
+     * Tests flush and overwrite flag.
+     */
+    @Test
+    public void testFlushAndAllowOverwrite() throws Exception {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.createCache(DEFAULT_CACHE_NAME);
+
+            cache.put(1, 1);
+
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME)) {
+                streamer.addData(1, 2);
+                streamer.addData(2, 2);
+
+                streamer.flushAsync().get();
+
+                // Existing entries are not overwritten by default.
+                assertEquals(1, (int)cache.get(1));
+                assertEquals(2, (int)cache.get(2));
+            }
+
+            ClientDataStreamerConfiguration cfg = new ClientDataStreamerConfiguration().setAllowOverwrite(true);
+
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME, cfg)) {
+                Map<Integer, Integer> entries = new HashMap<>();
+
+                entries.put(1, 3);
+                entries.put(3, 3);
+
+                streamer.addData(entries);
+                streamer.removeData(2);
+
+                streamer.flush();
+
+                assertEquals(3, (int)cache.get(1));
+                assertNull(cache.get(2));
+                assertEquals(3, (int)cache.get(3));
+            }
+        }
+    }
+
+    /**
+     * Tests stream receiver.
+     */
+    @Test
+    public void testReceiver() {
+        try (IgniteClient client = startClient(0)) {
+            ClientCache<Integer, Integer> cache = client.createCache(DEFAULT_CACHE_NAME);
+
+            ClientDataStreamerConfiguration cfg = new ClientDataStreamerConfiguration().setReceiver(new DoublingReceiver());
+
+            try (ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME, cfg)) {
+                for (int i = 0; i < 100; i++)
+                    streamer.addData(i, i);
+            }
+
+            for (int i = 0; i < 100; i++)
+                assertEquals(i * 2, (int)cache.get(i));
+        }
+    }
+
+    /**
+     * Tests that the closed streamer and the streamer of a missing cache report errors.
+     */
+    @Test
+    public void testErrors() {
+        try (IgniteClient client = startClient(0)) {
+            client.createCache(DEFAULT_CACHE_NAME);
+
+            ClientDataStreamer<Integer, Integer> streamer = client.dataStreamer(DEFAULT_CACHE_NAME);
+
+            streamer.close();
+
+            assertThrows(null, () -> streamer.addData(1, 1), ClientException.class, "Data streamer is closed");
+
+            ClientDataStreamer<Integer, Integer> missing = client.dataStreamer("missing-cache");
+
+            missing.addData(1, 1);
+
+            assertThrows(null, missing::flush, ClientException.class, "Data streamer failed to send a batch");
+            assertThrows(null, () -> missing.addData(2, 2), ClientException.class, null);
+
+            missing.close(true);
+        }
+    }
+
+    /**
+     * Doubles values of entries.
+     */
+    private static class DoublingReceiver implements StreamReceiver<Integer, Integer> {
+        /** */
+        private static final long serialVersionUID = 0L;
+
+        /** {@inheritDoc} */
+        @Override public void receive(IgniteCache<Integer, Integer> cache, Collection<Entry<Integer, Integer>> entries)
+            throws IgniteException {
+            for (Entry<Integer, Integer> e : entries)
+                cache.put(e.getKey(), e.getValue() * 2);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Tests reads of on-heap entries without the entry lock.
+ */
+public class GridCacheEntryOptimisticReadTest extends GridCommonAbstractTest {
+    /** */
+    private static final int READERS = 4;
+
+    /** */
+    private static final int UPDATES = 50_000;
+
+    /** */
+    private IgniteCache<Integer, Integer> cache;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        cache = grid(0).getOrCreateCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setOnheapCacheEnabled(true));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * Checks that concurrent readers never see a value older than the one they have already seen.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadsAreMonotonicWithConcurrentUpdates() throws Exception {
+        cache.put(0, 0);
+
+        AtomicBoolean done = new AtomicBoolean();
+
+        IgniteInternalFuture<?> readFut = GridTestUtils.runMultiThreadedAsync(() -> {
+            int prev = 0;
+
+            while (!done.get()) {
+                Integer val = cache.get(0);
+                Integer peeked = cache.localPeek(0, CachePeekMode.ONHEAP);
+
+                assertNotNull(val);
+                assertNotNull(peeked);
+                assertTrue("Read outdated value [prev=" + prev + ", val=" + val + ']', val >= prev);
+                assertTrue("Peeked outdated value [val=" + val + ", peeked=" + peeked + ']', peeked >= val);
+
+                prev = peeked;
+            }
+        }, READERS, "reader");
+
+        try {
+            for (int i = 1; i <= UPDATES; i++)
+                cache.put(0, i);
+        }
+        finally {
+            done.set(true);
+        }
+
+        readFut.get();
+
+        assertEquals(UPDATES, (int)cache.get(0));
+    }
+
+    /**
+     * Checks that removed and expired values are not read.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRemovedAndExpiredValuesNotRead() throws Exception {
+        cache.put(0, 0);
+
+        assertEquals(0, (int)cache.get(0));
+
+        cache.remove(0);
+
+        assertNull(cache.get(0));
+        assertNull(cache.localPeek(0, CachePeekMode.ONHEAP));
+
+        cache.withExpiryPolicy(new CreatedExpiryPolicy(new Duration(TimeUnit.MILLISECONDS, 500))).put(1, 1);
+
+        assertEquals(1, (int)cache.get(1));
+
+        assertTrue(GridTestUtils.waitForCondition(() -> cache.get(1) == null, getTestTimeout()));
+        assertNull(cache.localPeek(1, CachePeekMode.ONHEAP));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import javax.cache.processor.EntryProcessorException;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntry;
+import org.apache.ignite.cache.IncrementFieldEntryProcessor;
+import org.apache.ignite.cache.ReplaceIfVersionEntryProcessor;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+
+/**
+ * Tests version based replace and field increment entry processors.
+ */
+public class IgniteCacheCasEntryProcessorTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** */
+    private static final int THREADS = 4;
+
+    /** */
+    private static final int INCREMENTS = 100;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrids(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAtomic() throws Exception {
+        check(ATOMIC);
+    }
+
+    /**
+     * Tests that the processors are rejected by transactional caches.
+     */
+    @Test
+    public void testTransactionalRejected() {
+        IgniteCache<Integer, Object> cache = createCache(TRANSACTIONAL);
+
+        cache.put(1, 1L);
+
+        CacheEntry<Integer, Object> e = cache.getEntry(1);
+
+        GridTestUtils.assertThrowsWithCause(
+            () -> cache.invoke(1, new ReplaceIfVersionEntryProcessor<>(e.version(), 2L)), EntryProcessorException.class);
+
+        GridTestUtils.assertThrowsWithCause(
+            () -> cache.invoke(1, new IncrementFieldEntryProcessor<>(null, 1)), EntryProcessorException.class);
+
+        assertEquals(1L, cache.get(1));
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void check(CacheAtomicityMode atomicityMode) throws Exception {
+        IgniteCache<Integer, Object> cache = createCache(atomicityMode);
+
+        checkReplaceIfVersion(cache);
+        checkIncrementValue(cache);
+        checkIncrementField(grid(SRVS), cache);
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @return Cache created by the client node.
+     */
+    private IgniteCache<Integer, Object> createCache(CacheAtomicityMode atomicityMode) {
+        return grid(SRVS).createCache(new CacheConfiguration<Integer, Object>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(atomicityMode)
+            .setBackups(1));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkReplaceIfVersion(IgniteCache<Integer, Object> cache) {
+        cache.put(1, "a");
+
+        CacheEntry<Integer, Object> e = cache.getEntry(1);
+
+        assertTrue(cache.invoke(1, new ReplaceIfVersionEntryProcessor<>(e.version(), "b")));
+        assertEquals("b", cache.get(1));
+
+        // Version has changed.
+        assertFalse(cache.invoke(1, new ReplaceIfVersionEntryProcessor<>(e.version(), "c")));
+        assertEquals("b", cache.get(1));
+
+        cache.remove(1);
+
+        assertFalse(cache.invoke(1, new ReplaceIfVersionEntryProcessor<>(e.version(), "c")));
+        assertNull(cache.get(1));
+    }
+
+    /**
+     * @param cache Cache.
+     */
+    private void checkIncrementValue(IgniteCache<Integer, Object> cache) {
+        assertNull(cache.invoke(2, new IncrementFieldEntryProcessor<>(null, 1)));
+        assertNull(cache.get(2));
+
+        cache.put(2, 5L);
+
+        assertEquals(8L, (long)cache.invoke(2, new IncrementFieldEntryProcessor<>(null, 3)));
+        assertEquals(8L, cache.get(2));
+
+        cache.put(2, Integer.MAX_VALUE);
+
+        GridTestUtils.assertThrowsWithCause(() -> cache.invoke(2, new IncrementFieldEntryProcessor<>(null, 1)),
+            EntryProcessorException.class);
+
+        assertEquals(Integer.MAX_VALUE, cache.get(2));
+    }
+
+    /**
+     * @param client Client node.
+     * @param cache Cache.
+     * @throws Exception If failed.
+     */
+    private void checkIncrementField(IgniteEx client, IgniteCache<Integer, Object> cache) throws Exception {
+        IgniteCache<Integer, BinaryObject> binCache = cache.withKeepBinary();
+
+        binCache.put(3, client.binary().builder("Counter")
+            .setField("name", "page")
+            .setField("hits", 0L)
+            .setField("errors", 0)
+            .build());
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = 0; i < INCREMENTS; i++) {
+                cache.invoke(3, new IncrementFieldEntryProcessor<>("hits", 1));
+                binCache.invoke(3, new IncrementFieldEntryProcessor<>("errors", 2));
+            }
+        }, THREADS, "increment");
+
+        BinaryObject expected = client.binary().builder("Counter")
+            .setField("name", "page")
+            .setField("hits", (long)THREADS * INCREMENTS)
+            .setField("errors", THREADS * INCREMENTS * 2)
+            .build();
+
+        BinaryObject val = binCache.get(3);
+
+        assertEquals(expected, val);
+        assertEquals(expected.hashCode(), val.hashCode());
+
+        assertNull(cache.invoke(3, new IncrementFieldEntryProcessor<>("missing", 1)));
+
+        GridTestUtils.assertThrowsWithCause(() -> cache.invoke(3, new IncrementFieldEntryProcessor<>("name", 1)),
+            EntryProcessorException.class);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import javax.cache.CacheException;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheKeyConfiguration;
+import org.apache.ignite.cache.CachePeekMode;
+import org.apache.ignite.cache.store.CacheStoreAdapter;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_CACHE_STREAM_CHUNK_SIZE;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.internal.processors.cache.CacheChunkedValues.streamsCacheName;
+import static org.apache.ignite.testframework.GridTestUtils.assertThrows;
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * Tests values written to caches as streams.
+ */
+@WithSystemProperty(key = IGNITE_CACHE_STREAM_CHUNK_SIZE, value = "" + IgniteCacheStreamValuesTest.CHUNK_SIZE)
+public class IgniteCacheStreamValuesTest extends GridCommonAbstractTest {
+    /** */
+    static final int CHUNK_SIZE = 1000;
+
+    /** Number of writes to {@link TestStore}. */
+    private static final AtomicInteger storeWrites = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(2);
+
+        startClientGrid(2);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPutGetRemove() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(
+            new CacheConfiguration<Integer, Object>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        byte[] val = bytes(CHUNK_SIZE * 10 + 17);
+
+        cache.putStream(1, new ByteArrayInputStream(val));
+
+        // Header and 11 chunks are not seen by the cache.
+        assertEquals(12, streamsSize());
+        assertEquals(0, cache.size());
+        assertFalse(cache.iterator().hasNext());
+
+        for (int i = 0; i < 3; i++)
+            assertArrayEquals(val, read(grid(i).<Integer, Object>cache(DEFAULT_CACHE_NAME).getStream(1)));
+
+        byte[] val2 = bytes(CHUNK_SIZE * 2);
+
+        cache.putStream(1, new ByteArrayInputStream(val2));
+
+        assertEquals(3, streamsSize());
+        assertArrayEquals(val2, read(cache.getStream(1)));
+
+        assertTrue(cache.removeStream(1));
+
+        assertEquals(0, streamsSize());
+        assertNull(cache.getStream(1));
+        assertFalse(cache.removeStream(1));
+
+        cache.putStream(2, new ByteArrayInputStream(new byte[0]));
+
+        assertEquals(1, streamsSize());
+        assertEquals(-1, cache.getStream(2).read());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentUpdate() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(DEFAULT_CACHE_NAME);
+
+        byte[] val = bytes(CHUNK_SIZE * 3);
+
+        cache.putStream(1, new ByteArrayInputStream(val));
+
+        InputStream in = cache.getStream(1);
+
+        assertEquals(val[0], (byte)in.read());
+
+        cache.putStream(1, new ByteArrayInputStream(bytes(CHUNK_SIZE)));
+
+        assertThrows(log, () -> read(in), IOException.class, "Value was concurrently updated or removed");
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOtherValues() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(DEFAULT_CACHE_NAME);
+
+        assertNull(cache.getStream(1));
+        assertFalse(cache.removeStream(1));
+
+        cache.put(1, bytes(100));
+        cache.put(2, "value");
+
+        assertNull(cache.getStream(1));
+
+        byte[] val = bytes(CHUNK_SIZE + 1);
+
+        cache.putStream(2, new ByteArrayInputStream(val));
+
+        assertEquals("value", cache.get(2));
+        assertArrayEquals(val, read(cache.getStream(2)));
+        assertArrayEquals(val, read(cache.withKeepBinary().getStream(2)));
+
+        cache.remove(2);
+
+        assertArrayEquals(val, read(cache.getStream(2)));
+
+        assertTrue(cache.removeStream(2));
+        assertFalse(cache.removeStream(2));
+        assertNotNull(cache.get(1));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testStoreAndExpiry() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(new CacheConfiguration<Integer, Object>(DEFAULT_CACHE_NAME)
+            .setCacheStoreFactory(FactoryBuilder.factoryOf(TestStore.class))
+            .setWriteThrough(true)
+            .setReadThrough(true)
+            .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MILLISECONDS, 100))));
+
+        storeWrites.set(0);
+
+        byte[] val = bytes(CHUNK_SIZE * 3);
+
+        cache.putStream(1, new ByteArrayInputStream(val));
+
+        doSleep(500);
+
+        assertArrayEquals(val, read(cache.getStream(1)));
+
+        assertTrue(cache.removeStream(1));
+
+        assertEquals(0, storeWrites.get());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAffinityKey() throws Exception {
+        IgniteCache<TestKey, Object> cache = grid(2).createCache(new CacheConfiguration<TestKey, Object>(DEFAULT_CACHE_NAME)
+            .setKeyConfiguration(new CacheKeyConfiguration(TestKey.class.getName(), "affKey")));
+
+        for (int affKey = 0; affKey < 4; affKey++) {
+            TestKey key = new TestKey(affKey * 100, affKey);
+
+            cache.putStream(key, new ByteArrayInputStream(bytes(CHUNK_SIZE * 10)));
+
+            for (int i = 0; i < 2; i++) {
+                IgniteEx ignite = grid(i);
+
+                boolean primary = ignite.affinity(DEFAULT_CACHE_NAME).isPrimary(ignite.localNode(), key);
+
+                // Header and 10 chunks are stored on the node storing the key.
+                assertEquals(primary ? 11 : 0, ignite.cachex(streamsCacheName(DEFAULT_CACHE_NAME))
+                    .localSize(new CachePeekMode[] {CachePeekMode.PRIMARY}));
+            }
+
+            assertTrue(cache.removeStream(key));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDestroy() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(DEFAULT_CACHE_NAME);
+
+        cache.putStream(1, new ByteArrayInputStream(bytes(CHUNK_SIZE * 3)));
+
+        grid(2).destroyCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < 3; i++)
+            assertNull(grid(i).context().cache().cacheDescriptor(streamsCacheName(DEFAULT_CACHE_NAME)));
+
+        cache = grid(2).createCache(DEFAULT_CACHE_NAME);
+
+        assertNull(cache.getStream(1));
+
+        assertThrows(log, () -> grid(2).createCache(streamsCacheName("other")), CacheException.class, null);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTransactional() throws Exception {
+        IgniteCache<Integer, Object> cache = grid(2).createCache(new CacheConfiguration<Integer, Object>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setBackups(1));
+
+        byte[] val = bytes(CHUNK_SIZE * 3);
+
+        cache.putStream(1, new ByteArrayInputStream(val));
+
+        try (Transaction ignored = grid(2).transactions().txStart()) {
+            assertThrows(log, () -> {
+                cache.putStream(1, new ByteArrayInputStream(bytes(10)));
+
+                return null;
+            }, CacheException.class, "within a transaction");
+
+            assertThrows(log, () -> cache.removeStream(1), CacheException.class, "within a transaction");
+        }
+
+        assertArrayEquals(val, read(cache.getStream(1)));
+
+        assertTrue(cache.removeStream(1));
+        assertEquals(0, streamsSize());
+    }
+
+    /**
+     * @return Number of entries of the internal cache storing streamed values.
+     * @throws Exception If failed.
+     */
+    private int streamsSize() throws Exception {
+        return grid(0).cachex(streamsCacheName(DEFAULT_CACHE_NAME)).size(new CachePeekMode[] {CachePeekMode.PRIMARY});
+    }
+
+    /**
+     * @param len Length.
+     * @return Random bytes.
+     */
+    private static byte[] bytes(int len) {
+        byte[] res = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(res);
+
+        return res;
+    }
+
+    /**
+     * @param in Stream.
+     * @return Bytes read from the stream.
+     * @throws IOException If failed.
+     */
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        byte[] buf = new byte[CHUNK_SIZE / 3];
+
+        int read;
+
+        while ((read = in.read(buf)) >= 0)
+            out.write(buf, 0, read);
+
+        return out.toByteArray();
+    }
+
+    /** */
+    private static class TestKey {
+        /** */
+        private final int id;
+
+        /** */
+        private final int affKey;
+
+        /**
+         * @param id ID.
+         * @param affKey Affinity key.
+         */
+        TestKey(int id, int affKey) {
+            this.id = id;
+            this.affKey = affKey;
+        }
+    }
+
+    /** */
+    public static class TestStore extends CacheStoreAdapter<Object, Object> {
+        /** {@inheritDoc} */
+        @Override public Object load(Object key) {
+            return null;
+        }
+
+        /** {@inheritDoc} */
+        @Override public void write(Cache.Entry<?, ?> entry) {
+            storeWrites.incrementAndGet();
+        }
+
+        /** {@inheritDoc} */
+        @Override public void delete(Object key) {
+            storeWrites.incrementAndGet();
+        }
+    }
+}
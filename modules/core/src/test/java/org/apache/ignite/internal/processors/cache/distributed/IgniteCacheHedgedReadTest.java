@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cluster.ClusterNode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.TestRecordingCommunicationSpi;
+import org.apache.ignite.internal.processors.cache.distributed.dht.HedgedReads;
+import org.apache.ignite.internal.processors.cache.distributed.near.GridNearSingleGetRequest;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HEDGED_READS_ENABLED;
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.FULL_SYNC;
+import static org.apache.ignite.cache.CacheWriteSynchronizationMode.PRIMARY_SYNC;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.READ_COMMITTED;
+
+/**
+ * Tests hedged reads to backup nodes.
+ */
+@WithSystemProperty(key = IGNITE_HEDGED_READS_ENABLED, value = "true")
+public class IgniteCacheHedgedReadTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 3;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setCommunicationSpi(new TestRecordingCommunicationSpi());
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        TestRecordingCommunicationSpi.spi(grid(SRVS)).stopBlock();
+
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAtomicGet() throws Exception {
+        checkGetFromBackup(ATOMIC, false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTxGet() throws Exception {
+        checkGetFromBackup(TRANSACTIONAL, false);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReadCommittedTxGet() throws Exception {
+        checkGetFromBackup(TRANSACTIONAL, true);
+    }
+
+    /**
+     * Tests that reads are not hedged for caches without full synchronous backups.
+     */
+    @Test
+    public void testPrimarySyncCacheNotHedged() {
+        IgniteEx client = grid(SRVS);
+
+        client.createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setBackups(1)
+            .setWriteSynchronizationMode(PRIMARY_SYNC));
+
+        assertNull(hedgedReads(client));
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @param inTx Whether to read in a transaction.
+     * @throws Exception If failed.
+     */
+    private void checkGetFromBackup(CacheAtomicityMode atomicityMode, boolean inTx) throws Exception {
+        IgniteEx client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(atomicityMode)
+            .setBackups(1)
+            .setWriteSynchronizationMode(FULL_SYNC));
+
+        Integer key = primaryKey(grid(0).cache(DEFAULT_CACHE_NAME));
+
+        cache.put(key, 1);
+
+        assertEquals(1, (int)cache.get(key));
+
+        HedgedReads hedgedReads = hedgedReads(client);
+
+        assertNotNull(hedgedReads);
+
+        long hedged = hedgedReads.hedged();
+        long wins = hedgedReads.wins();
+
+        ClusterNode primary = grid(0).localNode();
+
+        TestRecordingCommunicationSpi.spi(client).blockMessages((node, msg) ->
+            msg instanceof GridNearSingleGetRequest && node.equals(primary));
+
+        if (inTx) {
+            try (Transaction tx = client.transactions().txStart(OPTIMISTIC, READ_COMMITTED)) {
+                assertEquals(1, (int)cache.get(key));
+
+                tx.commit();
+            }
+        }
+        else
+            assertEquals(1, (int)cache.get(key));
+
+        assertTrue(hedgedReads.hedged() > hedged);
+        assertTrue(hedgedReads.wins() > wins);
+
+        // Late answer of the primary node is ignored.
+        TestRecordingCommunicationSpi.spi(client).stopBlock();
+
+        cache.put(key, 2);
+
+        assertEquals(2, (int)cache.get(key));
+    }
+
+    /**
+     * @param client Client node.
+     * @return Hedged reads of the cache.
+     */
+    private static HedgedReads hedgedReads(IgniteEx client) {
+        return client.context().cache().internalCache(DEFAULT_CACHE_NAME).context().dht().hedgedReads();
+    }
+}
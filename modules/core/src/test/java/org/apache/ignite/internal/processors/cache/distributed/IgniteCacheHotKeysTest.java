@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.spi.systemview.view.HotKeyView;
+import org.apache.ignite.spi.systemview.view.SystemView;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_COUNT;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_HOT_KEYS_TRACKING_ENABLED;
+import static org.apache.ignite.internal.processors.cache.GridCacheProcessor.HOT_KEYS_VIEW;
+
+/**
+ * Tests tracking of hot keys.
+ */
+@WithSystemProperty(key = IGNITE_HOT_KEYS_TRACKING_ENABLED, value = "true")
+@WithSystemProperty(key = IGNITE_HOT_KEYS_COUNT, value = "4")
+public class IgniteCacheHotKeysTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 2;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testHotKeysView() throws Exception {
+        IgniteEx client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+
+        List<Integer> keys = primaryKeys(grid(0).cache(DEFAULT_CACHE_NAME), 100);
+
+        for (Integer key : keys)
+            cache.put(key, key);
+
+        Integer hotKey = keys.get(0);
+
+        for (int i = 0; i < 2_000; i++) {
+            cache.get(hotKey);
+
+            cache.get(keys.get(1 + i % (keys.size() - 1)));
+        }
+
+        SystemView<HotKeyView> view = grid(0).context().systemView().view(HOT_KEYS_VIEW);
+
+        List<HotKeyView> rows = new ArrayList<>();
+
+        view.forEach(rows::add);
+
+        assertFalse(rows.isEmpty());
+        assertTrue(rows.size() <= 4);
+
+        HotKeyView top = rows.get(0);
+
+        assertEquals(DEFAULT_CACHE_NAME, top.cacheName());
+        assertEquals(hotKey.hashCode(), top.keyHashCode());
+        assertEquals(hotKey.toString(), top.key());
+        assertEquals(grid(0).affinity(DEFAULT_CACHE_NAME).partition(hotKey), top.partitionId());
+        assertTrue(top.reads() > 1_000);
+
+        // Keys are not read from other nodes.
+        assertEquals(0, grid(1).context().systemView().view(HOT_KEYS_VIEW).size());
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.distributed;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.CacheObject;
+import org.apache.ignite.internal.processors.cache.GridCacheContext;
+import org.apache.ignite.internal.processors.cache.distributed.dht.ReadSnapshots;
+import org.apache.ignite.internal.processors.cache.distributed.dht.ReadSnapshots.ReadSnapshot;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+
+/**
+ * Tests read-only snapshots of local cache data.
+ */
+public class IgniteCacheReadSnapshotsTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 10;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testAtomic() throws Exception {
+        checkSnapshot(ATOMIC);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTransactional() throws Exception {
+        checkSnapshot(TRANSACTIONAL);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testVacuum() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        GridCacheContext<?, ?> cctx = grid(0).cachex(DEFAULT_CACHE_NAME).context();
+
+        ReadSnapshots snapshots = cctx.dht().readSnapshots();
+
+        cache.put(0, 1);
+
+        ReadSnapshot s1 = snapshots.open();
+
+        cache.put(0, 2);
+
+        ReadSnapshot s2 = snapshots.open();
+
+        cache.put(0, 3);
+
+        assertEquals(1, value(cctx, s1, 0));
+        assertEquals(2, value(cctx, s2, 0));
+
+        s1.close();
+
+        assertEquals(2, value(cctx, s2, 0));
+        assertEquals(1, snapshots.historySize());
+
+        s2.close();
+
+        assertEquals(0, snapshots.openSnapshots());
+        assertEquals(0, snapshots.historySize());
+
+        // History is not retained without open snapshots.
+        cache.put(0, 4);
+
+        assertEquals(0, snapshots.historySize());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testVacuumRemovesKeys() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        GridCacheContext<?, ?> cctx = grid(0).cachex(DEFAULT_CACHE_NAME).context();
+
+        ReadSnapshots snapshots = cctx.dht().readSnapshots();
+
+        cache.put(0, 1);
+        cache.put(1, 1);
+
+        ReadSnapshot s1 = snapshots.open();
+
+        cache.put(0, 2);
+
+        ReadSnapshot s2 = snapshots.open();
+
+        cache.put(1, 2);
+
+        assertEquals(2, snapshots.historySize());
+        assertEquals(2, snapshots.historyRecords());
+
+        // Key 0 was updated before the oldest open snapshot, none of its previous versions are needed anymore.
+        s1.close();
+
+        assertEquals(1, snapshots.historySize());
+        assertEquals(1, snapshots.historyRecords());
+
+        assertEquals(2, value(cctx, s2, 0));
+        assertEquals(1, value(cctx, s2, 1));
+
+        s2.close();
+
+        assertEquals(0, snapshots.historyRecords());
+    }
+
+    /**
+     * Checks updates of backup entries which were not read from the off-heap storage before the update.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testBackupEntries() throws Exception {
+        startGrid(1);
+
+        try {
+            grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(TRANSACTIONAL)
+                .setBackups(1));
+
+            IgniteCache<Integer, Integer> cache = grid(1).cache(DEFAULT_CACHE_NAME);
+
+            List<Integer> keys = primaryKeys(cache, KEYS);
+
+            for (Integer key : keys)
+                cache.put(key, key);
+
+            GridCacheContext<?, ?> cctx = grid(0).cachex(DEFAULT_CACHE_NAME).context();
+
+            cache.localEvict(keys);
+            grid(0).cache(DEFAULT_CACHE_NAME).localEvict(keys);
+
+            try (ReadSnapshot snapshot = cctx.dht().readSnapshots().open()) {
+                for (Integer key : keys) {
+                    if (key % 2 == 0)
+                        cache.put(key, key + 1);
+                    else
+                        cache.remove(key);
+                }
+
+                for (Integer key : keys)
+                    assertEquals((int)key, value(cctx, snapshot, key));
+            }
+        }
+        finally {
+            stopGrid(1);
+        }
+    }
+
+    /**
+     * Checks snapshots opened while transactions move a value between keys.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOpenConcurrentCommits() throws Exception {
+        checkOpenConcurrentUpdates(TRANSACTIONAL);
+    }
+
+    /**
+     * Checks snapshots opened while atomic updates are in progress.
+     *
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOpenConcurrentAtomicUpdates() throws Exception {
+        checkOpenConcurrentUpdates(ATOMIC);
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void checkOpenConcurrentUpdates(CacheAtomicityMode atomicityMode) throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(atomicityMode));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, 100);
+
+        GridCacheContext<?, ?> cctx = grid(0).cachex(DEFAULT_CACHE_NAME).context();
+
+        AtomicBoolean stop = new AtomicBoolean();
+
+        IgniteInternalFuture<?> fut = GridTestUtils.runMultiThreadedAsync(() -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+            while (!stop.get()) {
+                int key = rnd.nextInt(KEYS);
+
+                if (atomicityMode == TRANSACTIONAL) {
+                    // Keys are locked in the same order by all transactions.
+                    int key1 = Math.min(key, (key + 1) % KEYS);
+                    int key2 = Math.max(key, (key + 1) % KEYS);
+
+                    int delta = rnd.nextBoolean() ? 1 : -1;
+
+                    try (Transaction tx = grid(0).transactions().txStart()) {
+                        cache.put(key1, cache.get(key1) - delta);
+                        cache.put(key2, cache.get(key2) + delta);
+
+                        tx.commit();
+                    }
+                }
+                else
+                    cache.put(key, rnd.nextInt());
+            }
+        }, 4, "updater");
+
+        try {
+            for (int i = 0; i < 200; i++) {
+                try (ReadSnapshot snapshot = cctx.dht().readSnapshots().open()) {
+                    int[] vals = new int[KEYS];
+                    int sum = 0;
+
+                    for (int k = 0; k < KEYS; k++)
+                        sum += vals[k] = value(cctx, snapshot, k);
+
+                    if (atomicityMode == TRANSACTIONAL)
+                        assertEquals(KEYS * 100, sum);
+
+                    // Updates with versions lower than the snapshot version are not seen later.
+                    for (int k = 0; k < KEYS; k++)
+                        assertEquals(vals[k], value(cctx, snapshot, k));
+                }
+            }
+        }
+        finally {
+            stop.set(true);
+
+            fut.get();
+        }
+    }
+
+    /**
+     * @param atomicityMode Atomicity mode.
+     * @throws Exception If failed.
+     */
+    private void checkSnapshot(CacheAtomicityMode atomicityMode) throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(atomicityMode));
+
+        for (int i = 0; i < KEYS; i++)
+            cache.put(i, i);
+
+        GridCacheContext<?, ?> cctx = grid(0).cachex(DEFAULT_CACHE_NAME).context();
+
+        try (ReadSnapshot snapshot = cctx.dht().readSnapshots().open()) {
+            if (atomicityMode == TRANSACTIONAL) {
+                try (Transaction tx = grid(0).transactions().txStart()) {
+                    for (int i = 0; i < KEYS; i++)
+                        cache.put(i, i + 1);
+
+                    tx.commit();
+                }
+            }
+            else {
+                for (int i = 0; i < KEYS; i++)
+                    cache.put(i, i + 1);
+            }
+
+            cache.remove(0);
+            cache.put(KEYS, KEYS);
+
+            for (int i = 1; i < KEYS; i++) {
+                assertEquals(i, value(cctx, snapshot, i));
+                assertEquals(i + 1, (int)cache.get(i));
+            }
+
+            assertEquals(0, value(cctx, snapshot, 0));
+            assertNull(cache.get(0));
+
+            assertNull(snapshot.get(cctx.toCacheKeyObject(KEYS)));
+            assertEquals(KEYS, (int)cache.get(KEYS));
+        }
+
+        assertEquals(0, cctx.dht().readSnapshots().historySize());
+    }
+
+    /**
+     * @param cctx Cache context.
+     * @param snapshot Snapshot.
+     * @param key Key.
+     * @return Value of the key in the snapshot.
+     * @throws Exception If failed.
+     */
+    private static int value(GridCacheContext<?, ?> cctx, ReadSnapshot snapshot, int key) throws Exception {
+        CacheObject val = snapshot.get(cctx.toCacheKeyObject(key));
+
+        assertNotNull(val);
+
+        return val.value(cctx.cacheObjectContext(), false);
+    }
+}
@@ -57,7 +57,9 @@ import org.junit.runners.Suite;
 
     IgniteCacheExpireWhileRebalanceTest.class,
 
-    ExpiryPolicyInfoLoggingTest.class
+    ExpiryPolicyInfoLoggingTest.class,
+    IgniteCacheReadNoEntryExpiryTest.class,
+    IgniteCacheTtlCleanupBatchTest.class
 })
 public class IgniteCacheExpiryPolicyTestSuite {
 }
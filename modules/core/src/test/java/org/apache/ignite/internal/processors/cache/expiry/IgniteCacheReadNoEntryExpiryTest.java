@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.expiry;
+
+import java.util.concurrent.TimeUnit;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.TouchedExpiryPolicy;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteInternalFuture;
+import org.apache.ignite.internal.processors.cache.GridCacheEntryEx;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+
+/**
+ * Tests that gets from caches with expiry policies which do not change TTL on access read data without cache entries.
+ */
+public class IgniteCacheReadNoEntryExpiryTest extends GridCommonAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGrid(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testCreatedExpiryPolicyReadsWithoutEntry() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache();
+
+        cache.put(1, 1);
+
+        GridCacheEntryEx entry = grid(0).context().cache().internalCache(DEFAULT_CACHE_NAME).entryEx(1);
+
+        entry.lockEntry();
+
+        try {
+            // Get does not wait for the entry lock.
+            IgniteInternalFuture<Integer> fut = GridTestUtils.runAsync(() -> cache.get(1));
+
+            assertEquals(1, (int)fut.get(getTestTimeout(), TimeUnit.MILLISECONDS));
+        }
+        finally {
+            entry.unlockEntry();
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testTouchedExpiryPolicyUpdatesTtl() throws Exception {
+        IgniteCache<Integer, Integer> cache = createCache()
+            .withExpiryPolicy(new TouchedExpiryPolicy(new Duration(TimeUnit.MINUTES, 10)));
+
+        cache.put(1, 1);
+
+        GridCacheEntryEx entry = grid(0).context().cache().internalCache(DEFAULT_CACHE_NAME).entryEx(1);
+
+        entry.unswap();
+
+        long expireTime = entry.expireTime();
+
+        entry.touch();
+
+        doSleep(100);
+
+        assertEquals(1, (int)cache.get(1));
+
+        entry = grid(0).context().cache().internalCache(DEFAULT_CACHE_NAME).entryEx(1);
+
+        entry.unswap();
+
+        assertTrue(entry.expireTime() > expireTime);
+
+        entry.touch();
+    }
+
+    /**
+     * @return Cache with created expiry policy.
+     */
+    private IgniteCache<Integer, Integer> createCache() {
+        return grid(0).createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(ATOMIC)
+            .setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.MINUTES, 10))));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.persistence.db.wal;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheEntryProcessor;
+import org.apache.ignite.cache.affinity.rendezvous.RendezvousAffinityFunction;
+import org.apache.ignite.cluster.ClusterState;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.DataRegionConfiguration;
+import org.apache.ignite.configuration.DataStorageConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.pagemem.wal.IgniteWriteAheadLogManager;
+import org.apache.ignite.internal.pagemem.wal.WALIterator;
+import org.apache.ignite.internal.pagemem.wal.record.DataRecord;
+import org.apache.ignite.internal.pagemem.wal.record.WALRecord;
+import org.apache.ignite.internal.processors.cache.persistence.wal.WALPointer;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.cache.CacheAtomicityMode.ATOMIC;
+import static org.apache.ignite.internal.pagemem.wal.record.WALRecord.RecordType.DATA_RECORD_V2;
+
+/**
+ * Tests that multi-key updates of ATOMIC caches are logged with batched data records and recovered from them.
+ */
+public class WalAtomicBatchUpdateTest extends GridCommonAbstractTest {
+    /** */
+    private static final int KEYS = 1_000;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setDataStorageConfiguration(new DataStorageConfiguration()
+                .setDefaultDataRegionConfiguration(new DataRegionConfiguration().setPersistenceEnabled(true)))
+            .setCacheConfiguration(new CacheConfiguration<>(DEFAULT_CACHE_NAME)
+                .setAtomicityMode(ATOMIC)
+                .setAffinity(new RendezvousAffinityFunction(false, 32)));
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTest() throws Exception {
+        super.beforeTest();
+
+        stopAllGrids();
+
+        cleanPersistenceDir();
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        cleanPersistenceDir();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testRecoveryFromBatchedRecords() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        forceCheckpoint();
+
+        IgniteWriteAheadLogManager wal = ignite.context().cache().context().wal();
+
+        WALPointer start = wal.lastWritePointer();
+
+        dbMgr(ignite).enableCheckpoints(false).get();
+
+        IgniteCache<Integer, Integer> cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        Map<Integer, Integer> vals = new HashMap<>();
+        Set<Integer> rmvKeys = new HashSet<>();
+
+        for (int i = 0; i < KEYS; i++) {
+            vals.put(i, i);
+
+            if (i % 3 == 0)
+                rmvKeys.add(i);
+        }
+
+        cache.putAll(vals);
+
+        Map<Integer, EntryProcessorResult<Integer>> res = cache.invokeAll(vals.keySet(), new IncrementProcessor());
+
+        assertEquals(KEYS, res.size());
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i + 1, (int)res.get(i).get());
+
+        cache.removeAll(rmvKeys);
+
+        int maxEntries = 0;
+
+        try (WALIterator it = wal.replay(start)) {
+            while (it.hasNext()) {
+                WALRecord rec = it.next().get2();
+
+                if (rec.type() == DATA_RECORD_V2)
+                    maxEntries = Math.max(maxEntries, ((DataRecord)rec).entryCount());
+            }
+        }
+
+        assertTrue("Updates were not batched: " + maxEntries, maxEntries > 1);
+
+        stopGrid(0, true);
+
+        ignite = startGrid(0);
+
+        ignite.cluster().state(ClusterState.ACTIVE);
+
+        cache = ignite.cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++) {
+            if (rmvKeys.contains(i))
+                assertNull(cache.get(i));
+            else
+                assertEquals(i + 1, (int)cache.get(i));
+        }
+    }
+
+    /** */
+    private static class IncrementProcessor implements CacheEntryProcessor<Integer, Integer, Integer> {
+        /** {@inheritDoc} */
+        @Override public Integer process(MutableEntry<Integer, Integer> entry, Object... args) {
+            int val = entry.getValue() + 1;
+
+            entry.setValue(val);
+
+            return val;
+        }
+    }
+}
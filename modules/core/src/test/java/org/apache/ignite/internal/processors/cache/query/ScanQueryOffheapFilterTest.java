@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.processors.cache.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.cache.Cache;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.binary.BinaryObject;
+import org.apache.ignite.cache.query.ScanQuery;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.binary.BinaryObjectImpl;
+import org.apache.ignite.lang.IgniteBiPredicate;
+import org.apache.ignite.resources.IgniteInstanceResource;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_SCAN_QUERY_OFFHEAP_FILTER;
+import static org.apache.ignite.configuration.DataStorageConfiguration.DFLT_PAGE_SIZE;
+
+/**
+ * Tests scan query filters applied to rows of the cache data tree copied to a reused buffer.
+ */
+@WithSystemProperty(key = IGNITE_SCAN_QUERY_OFFHEAP_FILTER, value = "true")
+public class ScanQueryOffheapFilterTest extends GridCommonAbstractTest {
+    /** */
+    private static final int NODES_CNT = 2;
+
+    /** */
+    private static final int KEYS_CNT = 1000;
+
+    /** Number of values passed to filters as binary objects backed by the buffer of rows. */
+    private static final AtomicInteger BUF_VALS = new AtomicInteger();
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(NODES_CNT);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCaches(grid(0).cacheNames());
+
+        BUF_VALS.set(0);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilter() throws Exception {
+        checkFilter(new CacheConfiguration<>(DEFAULT_CACHE_NAME));
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilterSharedGroup() throws Exception {
+        IgniteCache<Integer, Integer> other = grid(0).createCache(
+            new CacheConfiguration<Integer, Integer>("other").setGroupName("grp").setBackups(1));
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            other.put(i, i);
+
+        checkFilter(new CacheConfiguration<Integer, Person>(DEFAULT_CACHE_NAME).setGroupName("grp"));
+    }
+
+    /**
+     * @param ccfg Cache configuration.
+     * @throws Exception If failed.
+     */
+    private void checkFilter(CacheConfiguration<Integer, Person> ccfg) throws Exception {
+        IgniteEx ignite = grid(0);
+
+        IgniteCache<Integer, Person> cache = ignite.createCache(ccfg.setBackups(1));
+
+        Set<Integer> exp = new HashSet<>();
+
+        for (int i = 0; i < KEYS_CNT; i++) {
+            // Every tenth value spans several data pages.
+            String name = i % 10 == 0 ? GridTestUtils.randomString(ThreadLocalRandom.current(), 2 * DFLT_PAGE_SIZE) : "p" + i;
+
+            cache.put(i, new Person(name, i % 50));
+
+            if (i % 50 == 7)
+                exp.add(i);
+        }
+
+        List<Cache.Entry<Integer, Person>> res = cache.query(
+            new ScanQuery<Integer, Person>((k, v) -> v.age == 7)).getAll();
+
+        assertEquals(exp.size(), res.size());
+
+        for (Cache.Entry<Integer, Person> e : res) {
+            assertTrue(exp.contains(e.getKey()));
+            assertEquals(7, e.getValue().age);
+        }
+
+        IgniteBiPredicate<Integer, BinaryObject> binFilter = (k, v) -> {
+            if (v instanceof BinaryObjectImpl && !((BinaryObjectImpl)v).detached())
+                BUF_VALS.incrementAndGet();
+
+            return v.<Integer>field("age") == 7;
+        };
+
+        List<Cache.Entry<Integer, BinaryObject>> binRes = cache.<Integer, BinaryObject>withKeepBinary()
+            .query(new ScanQuery<>(binFilter)).getAll();
+
+        assertEquals(exp.size(), binRes.size());
+
+        for (Cache.Entry<Integer, BinaryObject> e : binRes) {
+            assertTrue(exp.contains(e.getKey()));
+            assertTrue(((BinaryObjectImpl)e.getValue()).detached());
+            assertEquals(7, e.getValue().<Person>deserialize().age);
+        }
+
+        assertTrue(BUF_VALS.get() > 0);
+
+        int part = ignite.affinity(DEFAULT_CACHE_NAME).partition(7);
+
+        for (Cache.Entry<Integer, Person> e : cache.query(
+            new ScanQuery<Integer, Person>((k, v) -> v.age == 7).setPartition(part)).getAll()) {
+            assertEquals(part, ignite.affinity(DEFAULT_CACHE_NAME).partition(e.getKey()));
+            assertEquals(7, e.getValue().age);
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilterPrimitiveValues() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        List<Cache.Entry<Integer, Integer>> res = cache.query(
+            new ScanQuery<Integer, Integer>((k, v) -> v % 100 == 0)).getAll();
+
+        assertEquals(KEYS_CNT / 100, res.size());
+
+        for (Cache.Entry<Integer, Integer> e : res)
+            assertEquals(e.getKey(), e.getValue());
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFilterUpdatesCache() throws Exception {
+        IgniteCache<Integer, Integer> cache = grid(0).createCache(
+            new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME).setBackups(1));
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            cache.put(i, i);
+
+        // Page locks are not held by the filter, so it may update the scanned partitions.
+        List<Cache.Entry<Integer, Integer>> res = cache.query(new ScanQuery<>(new UpdatingFilter())).getAll();
+
+        assertEquals(KEYS_CNT / 100, res.size());
+
+        for (Cache.Entry<Integer, Integer> e : res)
+            assertEquals(0, e.getKey() % 100);
+
+        for (int i = 0; i < KEYS_CNT; i++)
+            assertEquals((Integer)i, cache.get(KEYS_CNT + i));
+    }
+
+    /** Filter copying the scanned entries to other keys of the cache. */
+    private static class UpdatingFilter implements IgniteBiPredicate<Integer, Integer> {
+        /** */
+        @IgniteInstanceResource
+        private Ignite ignite;
+
+        /** {@inheritDoc} */
+        @Override public boolean apply(Integer key, Integer val) {
+            if (key >= KEYS_CNT)
+                return false;
+
+            ignite.<Integer, Integer>cache(DEFAULT_CACHE_NAME).put(KEYS_CNT + key, val);
+
+            return val % 100 == 0;
+        }
+    }
+
+    /** */
+    private static class Person {
+        /** */
+        private final String name;
+
+        /** */
+        private final int age;
+
+        /**
+         * @param name Name.
+         * @param age Age.
+         */
+        private Person(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+    }
+}
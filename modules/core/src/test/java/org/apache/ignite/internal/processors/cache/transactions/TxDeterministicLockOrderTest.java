@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.processors.cache.transactions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.apache.ignite.transactions.Transaction;
+import org.apache.ignite.transactions.TransactionConcurrency;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_TX_DETERMINISTIC_LOCK_ORDER;
+import static org.apache.ignite.cache.CacheAtomicityMode.TRANSACTIONAL;
+import static org.apache.ignite.transactions.TransactionConcurrency.OPTIMISTIC;
+import static org.apache.ignite.transactions.TransactionConcurrency.PESSIMISTIC;
+import static org.apache.ignite.transactions.TransactionIsolation.REPEATABLE_READ;
+
+/**
+ * Tests that transactions locking the same keys in different orders do not deadlock with deterministic lock order.
+ */
+@WithSystemProperty(key = IGNITE_TX_DETERMINISTIC_LOCK_ORDER, value = "true")
+public class TxDeterministicLockOrderTest extends GridCommonAbstractTest {
+    /** */
+    private static final int SRVS = 3;
+
+    /** */
+    private static final int KEYS = 30;
+
+    /** */
+    private static final int KEYS_PER_TX = 10;
+
+    /** */
+    private static final int THREADS = 8;
+
+    /** */
+    private static final int TXS_PER_THREAD = 100;
+
+    /** */
+    private static final long TX_TIMEOUT = 10_000L;
+
+    /** {@inheritDoc} */
+    @Override protected void beforeTestsStarted() throws Exception {
+        super.beforeTestsStarted();
+
+        startGridsMultiThreaded(SRVS);
+
+        startClientGrid(SRVS);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        grid(0).destroyCache(DEFAULT_CACHE_NAME);
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testPessimistic() throws Exception {
+        checkNoDeadlocks(PESSIMISTIC);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testOptimistic() throws Exception {
+        checkNoDeadlocks(OPTIMISTIC);
+    }
+
+    /**
+     * @param concurrency Transaction concurrency.
+     * @throws Exception If failed.
+     */
+    private void checkNoDeadlocks(TransactionConcurrency concurrency) throws Exception {
+        IgniteEx client = grid(SRVS);
+
+        IgniteCache<Integer, Integer> cache = client.createCache(new CacheConfiguration<Integer, Integer>(DEFAULT_CACHE_NAME)
+            .setAtomicityMode(TRANSACTIONAL)
+            .setBackups(1));
+
+        assertTrue(client.context().cache().context().tm().deterministicLockOrder());
+
+        GridTestUtils.runMultiThreaded(() -> {
+            List<Integer> keys = new ArrayList<>();
+
+            for (int i = 0; i < KEYS; i++)
+                keys.add(i);
+
+            for (int i = 0; i < TXS_PER_THREAD; i++) {
+                Collections.shuffle(keys, ThreadLocalRandom.current());
+
+                // Keys are put in random order of an unsorted map.
+                Map<Integer, Integer> vals = new LinkedHashMap<>();
+
+                for (Integer key : keys.subList(0, KEYS_PER_TX))
+                    vals.put(key, i);
+
+                try (Transaction tx = client.transactions().txStart(concurrency, REPEATABLE_READ, TX_TIMEOUT, 0)) {
+                    cache.putAll(vals);
+
+                    tx.commit();
+                }
+            }
+        }, THREADS, "tx");
+
+        for (int i = 0; i < KEYS; i++)
+            assertNotNull(cache.get(i));
+    }
+}
@@ -317,7 +317,7 @@ public class DataStreamProcessorSelfTest extends GridCommonAbstractTest {
     public void testPartitionedIsolated() throws Exception {
         mode = PARTITIONED;
 
-        checkIsolatedDataStreamer();
+        checkIsolatedDataStreamer(false);
     }
 
     /**
@@ -327,13 +327,34 @@ public class DataStreamProcessorSelfTest extends GridCommonAbstractTest {
     public void testReplicatedIsolated() throws Exception {
         mode = REPLICATED;
 
-        checkIsolatedDataStreamer();
+        checkIsolatedDataStreamer(false);
     }
 
     /**
      * @throws Exception If failed.
      */
-    private void checkIsolatedDataStreamer() throws Exception {
+    @Test
+    public void testPartitionedBulkLoad() throws Exception {
+        mode = PARTITIONED;
+
+        checkIsolatedDataStreamer(true);
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testReplicatedBulkLoad() throws Exception {
+        mode = REPLICATED;
+
+        checkIsolatedDataStreamer(true);
+    }
+
+    /**
+     * @param bulkLoad Bulk load flag.
+     * @throws Exception If failed.
+     */
+    private void checkIsolatedDataStreamer(boolean bulkLoad) throws Exception {
         try {
             useCache = true;
 
@@ -350,6 +371,11 @@ public class DataStreamProcessorSelfTest extends GridCommonAbstractTest {
             final int threads = 10;
 
             try (final IgniteDataStreamer<Integer, Integer> ldr = g1.dataStreamer(DEFAULT_CACHE_NAME)) {
+                ldr.bulkLoad(bulkLoad);
+
+                assertEquals(bulkLoad, ldr.bulkLoad());
+                assertFalse(ldr.allowOverwrite());
+
                 final AtomicInteger idxGen = new AtomicInteger();
 
                 IgniteInternalFuture<?> f1 = multithreadedAsync(new Callable<Object>() {
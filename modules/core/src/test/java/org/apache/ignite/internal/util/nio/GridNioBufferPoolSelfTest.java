@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.util.nio;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+/**
+ * Test for {@link GridNioBufferPool}.
+ */
+public class GridNioBufferPoolSelfTest extends GridCommonAbstractTest {
+    /** */
+    @Test
+    public void testSlabSize() {
+        assertEquals(GridNioBufferPool.MIN_SLAB_SIZE, GridNioBufferPool.slabSize(1));
+        assertEquals(GridNioBufferPool.MIN_SLAB_SIZE, GridNioBufferPool.slabSize(GridNioBufferPool.MIN_SLAB_SIZE));
+        assertEquals(64 << 10, GridNioBufferPool.slabSize((32 << 10) + 1));
+        assertEquals(64 << 10, GridNioBufferPool.slabSize(64 << 10));
+
+        int big = GridNioBufferPool.MAX_SLAB_SIZE + 1;
+
+        assertEquals(big, GridNioBufferPool.slabSize(big));
+    }
+
+    /** */
+    @Test
+    public void testReuse() {
+        GridNioBufferPool pool = new GridNioBufferPool(true, ByteOrder.LITTLE_ENDIAN, 1 << 20, null);
+
+        ByteBuffer buf = pool.acquire(10_000);
+
+        assertTrue(buf.isDirect());
+        assertEquals(16 << 10, buf.capacity());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, buf.order());
+        assertEquals(16 << 10, pool.acquiredBytes());
+
+        buf.putLong(1L);
+
+        pool.release(buf);
+
+        assertEquals(0, pool.acquiredBytes());
+        assertEquals(16 << 10, pool.pooledBytes());
+
+        ByteBuffer buf0 = pool.acquire(9_000);
+
+        assertSame(buf, buf0);
+        assertEquals(0, buf0.position());
+        assertEquals(buf0.capacity(), buf0.limit());
+        assertEquals(0, pool.pooledBytes());
+
+        pool.release(buf0);
+        pool.clear();
+
+        assertEquals(0, pool.pooledBytes());
+    }
+
+    /** */
+    @Test
+    public void testPoolLimit() {
+        GridNioBufferPool pool = new GridNioBufferPool(false, ByteOrder.BIG_ENDIAN, 8 << 10, null);
+
+        ByteBuffer buf1 = pool.acquire(4 << 10);
+        ByteBuffer buf2 = pool.acquire(4 << 10);
+        ByteBuffer buf3 = pool.acquire(4 << 10);
+
+        pool.release(buf1);
+        pool.release(buf2);
+        pool.release(buf3);
+
+        assertEquals(8 << 10, pool.pooledBytes());
+
+        ByteBuffer big = pool.acquire(GridNioBufferPool.MAX_SLAB_SIZE + 1);
+
+        pool.release(big);
+
+        assertEquals(8 << 10, pool.pooledBytes());
+        assertEquals(0, pool.acquiredBytes());
+    }
+
+    /** */
+    @Test
+    public void testClosedSession() {
+        GridNioBufferPool pool = new GridNioBufferPool(false, ByteOrder.BIG_ENDIAN, 1 << 20, null);
+
+        GridNioWorker worker = new GridNioWorker() {
+            @Override public void offer(GridNioServer.SessionChangeRequest req) {
+                // No-op.
+            }
+
+            @Override public void offer(Collection<GridNioServer.SessionChangeRequest> reqs) {
+                // No-op.
+            }
+
+            @Override public List<GridNioServer.SessionChangeRequest> clearSessionRequests(GridNioSession ses) {
+                return null;
+            }
+
+            @Override public void registerWrite(GridSelectorNioSessionImpl ses) {
+                // No-op.
+            }
+        };
+
+        InetSocketAddress addr = new InetSocketAddress(0);
+
+        GridSelectorNioSessionImpl ses = new GridSelectorNioSessionImpl(log(), worker, null, addr, addr, false, 0, null,
+            pool, 4 << 10, 4 << 10);
+
+        assertNotNull(ses.readBuffer());
+        assertNotNull(ses.writeBuffer());
+        assertEquals(8 << 10, pool.acquiredBytes());
+
+        assertTrue(ses.setClosed());
+
+        ses.releaseBuffers();
+
+        assertEquals(0, pool.acquiredBytes());
+
+        // Buffers acquired after the session is closed must be returned to the pool.
+        assertNull(ses.readBuffer());
+        assertNull(ses.writeBuffer());
+
+        assertEquals(0, pool.acquiredBytes());
+        assertEquals(8 << 10, pool.pooledBytes());
+    }
+}
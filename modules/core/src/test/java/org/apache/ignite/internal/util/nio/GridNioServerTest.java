@@ -19,10 +19,18 @@ package org.apache.ignite.internal.util.nio;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.ProtocolFamily;
 import java.net.Socket;
 import java.net.UnknownHostException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.Pipe;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.channels.spi.AbstractSelector;
+import java.nio.channels.spi.SelectorProvider;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.ignite.IgniteCheckedException;
 import org.apache.ignite.testframework.ListeningTestLogger;
 import org.junit.Test;
@@ -34,6 +42,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Unit tests for {@link GridNioServer}.
@@ -63,6 +73,38 @@ public class GridNioServerTest {
         assertThat(logMessages, not(hasItem(containsString("ClosedChannelException"))));
     }
 
+    /***/
+    @Test
+    public void shouldUseConfiguredSelectorProvider() throws Exception {
+        CountingSelectorProvider provider = new CountingSelectorProvider();
+
+        GridNioServer<Object> server = GridNioServer.builder()
+            .address(InetAddress.getLocalHost())
+            .port(PORT)
+            .selectorCount(2)
+            .listener(noOpListener)
+            .logger(logMessagesCollector())
+            .selectorProvider(provider)
+            .build();
+
+        try {
+            server.start();
+
+            assertSame(provider, server.selectorProvider());
+
+            // Acceptor and two workers.
+            assertEquals(3, provider.selectors.get());
+            assertEquals(1, provider.srvChannels.get());
+
+            server.openSocketChannel().close();
+
+            assertEquals(1, provider.channels.get());
+        }
+        finally {
+            server.stop();
+        }
+    }
+
     /***/
     private GridNioServer<Object> startServerCollectingLogMessages() throws IgniteCheckedException,
         UnknownHostException {
@@ -92,4 +134,55 @@ public class GridNioServerTest {
     private Socket openSocketTo(GridNioServer<Object> server) throws IOException {
         return new Socket(server.localAddress().getAddress(), server.port());
     }
+
+    /** Selector provider counting opened selectors and channels. */
+    private static class CountingSelectorProvider extends SelectorProvider {
+        /** */
+        private final SelectorProvider delegate = SelectorProvider.provider();
+
+        /** */
+        private final AtomicInteger selectors = new AtomicInteger();
+
+        /** */
+        private final AtomicInteger srvChannels = new AtomicInteger();
+
+        /** */
+        private final AtomicInteger channels = new AtomicInteger();
+
+        /** {@inheritDoc} */
+        @Override public DatagramChannel openDatagramChannel() throws IOException {
+            return delegate.openDatagramChannel();
+        }
+
+        /** {@inheritDoc} */
+        @Override public DatagramChannel openDatagramChannel(ProtocolFamily family) throws IOException {
+            return delegate.openDatagramChannel(family);
+        }
+
+        /** {@inheritDoc} */
+        @Override public Pipe openPipe() throws IOException {
+            return delegate.openPipe();
+        }
+
+        /** {@inheritDoc} */
+        @Override public AbstractSelector openSelector() throws IOException {
+            selectors.incrementAndGet();
+
+            return delegate.openSelector();
+        }
+
+        /** {@inheritDoc} */
+        @Override public ServerSocketChannel openServerSocketChannel() throws IOException {
+            srvChannels.incrementAndGet();
+
+            return delegate.openServerSocketChannel();
+        }
+
+        /** {@inheritDoc} */
+        @Override public SocketChannel openSocketChannel() throws IOException {
+            channels.incrementAndGet();
+
+            return delegate.openSocketChannel();
+        }
+    }
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.spi.GridSpiTest;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_BYTES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_WINDOW;
+
+/**
+ * Runs communication SPI tests with enabled write coalescing.
+ */
+@GridSpiTest(spi = TcpCommunicationSpi.class, group = "Communication SPI")
+@WithSystemProperty(key = IGNITE_IO_WRITE_COALESCING_WINDOW, value = "50")
+@WithSystemProperty(key = IGNITE_IO_WRITE_COALESCING_BYTES, value = "4096")
+public class GridTcpCommunicationSpiWriteCoalescingSelfTest extends GridTcpCommunicationSpiAbstractTest {
+    /** {@inheritDoc} */
+    @Override protected boolean tcpNoDelay() {
+        return true;
+    }
+}
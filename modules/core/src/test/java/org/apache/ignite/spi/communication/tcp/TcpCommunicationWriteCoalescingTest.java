@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.communication.tcp;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.processors.metric.impl.LongAdderMetric;
+import org.apache.ignite.testframework.GridTestUtils;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_BYTES;
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_IO_WRITE_COALESCING_WINDOW;
+import static org.apache.ignite.internal.util.nio.GridNioServer.COALESCED_MESSAGES_METRIC_NAME;
+import static org.apache.ignite.spi.communication.tcp.TcpCommunicationSpi.COMMUNICATION_METRICS_GROUP_NAME;
+
+/**
+ * Tests that messages of concurrent cache updates are coalesced into common socket writes.
+ */
+@WithSystemProperty(key = IGNITE_IO_WRITE_COALESCING_WINDOW, value = "5000")
+@WithSystemProperty(key = IGNITE_IO_WRITE_COALESCING_BYTES, value = "65536")
+public class TcpCommunicationWriteCoalescingTest extends GridCommonAbstractTest {
+    /** */
+    private static final int THREADS = 16;
+
+    /** */
+    private static final int KEYS = 1000;
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testConcurrentUpdatesCoalesced() throws Exception {
+        IgniteEx srv0 = startGrids(2);
+
+        IgniteCache<Integer, Integer> cache = srv0.createCache(DEFAULT_CACHE_NAME);
+
+        List<Integer> keys = primaryKeys(grid(1).cache(DEFAULT_CACHE_NAME), KEYS);
+
+        LongAdderMetric coalesced = srv0.context().metric().registry(COMMUNICATION_METRICS_GROUP_NAME)
+            .findMetric(COALESCED_MESSAGES_METRIC_NAME);
+
+        assertNotNull(coalesced);
+
+        long before = coalesced.value();
+
+        AtomicInteger idx = new AtomicInteger();
+
+        GridTestUtils.runMultiThreaded(() -> {
+            for (int i = idx.getAndIncrement(); i < KEYS; i = idx.getAndIncrement())
+                cache.put(keys.get(i), i);
+        }, THREADS, "put");
+
+        assertTrue("Messages were not coalesced", coalesced.value() > before);
+
+        IgniteCache<Integer, Integer> cache1 = grid(1).cache(DEFAULT_CACHE_NAME);
+
+        for (int i = 0; i < KEYS; i++)
+            assertEquals(i, (int)cache1.localPeek(keys.get(i)));
+    }
+}
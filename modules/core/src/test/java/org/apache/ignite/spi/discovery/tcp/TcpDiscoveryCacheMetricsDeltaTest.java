@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.spi.discovery.tcp;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheMetrics;
+import org.apache.ignite.configuration.CacheConfiguration;
+import org.apache.ignite.configuration.IgniteConfiguration;
+import org.apache.ignite.internal.IgniteEx;
+import org.apache.ignite.internal.util.typedef.internal.CU;
+import org.apache.ignite.lang.IgniteUuid;
+import org.apache.ignite.spi.discovery.tcp.internal.CacheMetricsUpdateTracker;
+import org.apache.ignite.spi.discovery.tcp.internal.TcpDiscoveryNode;
+import org.apache.ignite.testframework.junits.WithSystemProperty;
+import org.apache.ignite.testframework.junits.common.GridCommonAbstractTest;
+import org.junit.Test;
+
+import static org.apache.ignite.IgniteSystemProperties.IGNITE_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY;
+import static org.apache.ignite.testframework.GridTestUtils.waitForCondition;
+
+/**
+ * Checks that delta updates of cache metrics keep metrics of unchanged caches on remote nodes.
+ */
+@WithSystemProperty(key = IGNITE_DISCOVERY_CACHE_METRICS_FULL_UPDATE_FREQUENCY, value = "1000")
+public class TcpDiscoveryCacheMetricsDeltaTest extends GridCommonAbstractTest {
+    /** */
+    private static final int CACHES_CNT = 3;
+
+    /** */
+    private static final long TIMEOUT = 10_000L;
+
+    /** {@inheritDoc} */
+    @Override protected IgniteConfiguration getConfiguration(String igniteInstanceName) throws Exception {
+        return super.getConfiguration(igniteInstanceName)
+            .setMetricsUpdateFrequency(200L);
+    }
+
+    /** {@inheritDoc} */
+    @Override protected void afterTest() throws Exception {
+        stopAllGrids();
+
+        super.afterTest();
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testDeltaUpdates() throws Exception {
+        IgniteEx ignite0 = startGrid(0);
+
+        startGrid(1);
+
+        IgniteEx client = startClientGrid(2);
+
+        for (int i = 0; i < CACHES_CNT; i++) {
+            IgniteCache<Integer, Integer> cache = ignite0.getOrCreateCache(
+                new CacheConfiguration<Integer, Integer>(cacheName(i)).setStatisticsEnabled(true));
+
+            for (int k = 0; k < 10; k++)
+                cache.put(k, k);
+        }
+
+        UUID nodeId = grid(1).localNode().id();
+
+        for (int i = 0; i < CACHES_CNT; i++)
+            assertTrue(waitForPuts(ignite0, nodeId, i, 1));
+
+        long puts = cacheMetrics(ignite0, nodeId).get(CU.cacheId(cacheName(0))).getCachePuts();
+
+        IgniteCache<Integer, Integer> cache = client.cache(cacheName(0));
+
+        for (int k = 0; k < 1000; k++)
+            cache.put(k, k);
+
+        // Only the first cache changes, metrics of the other caches must not be lost with delta updates.
+        assertTrue(waitForPuts(ignite0, nodeId, 0, puts + 1));
+        assertTrue(waitForPuts(client, nodeId, 0, puts + 1));
+
+        for (int i = 1; i < CACHES_CNT; i++) {
+            assertTrue(cacheMetrics(ignite0, nodeId).containsKey(CU.cacheId(cacheName(i))));
+            assertTrue(cacheMetrics(client, nodeId).containsKey(CU.cacheId(cacheName(i))));
+        }
+    }
+
+    /**
+     * @throws Exception If failed.
+     */
+    @Test
+    public void testFullUpdateAfterLostUpdate() throws Exception {
+        IgniteEx ignite = startGrid(0);
+
+        IgniteCache<Integer, Integer> cache0 = ignite.getOrCreateCache(
+            new CacheConfiguration<Integer, Integer>(cacheName(0)).setStatisticsEnabled(true));
+
+        ignite.getOrCreateCache(new CacheConfiguration<Integer, Integer>(cacheName(1)).setStatisticsEnabled(true));
+
+        CacheMetricsUpdateTracker tracker = new CacheMetricsUpdateTracker(1000);
+
+        IgniteUuid msg0 = IgniteUuid.randomUuid();
+
+        assertEquals(2, tracker.update(localMetrics(ignite), true, msg0).size());
+        assertFalse(tracker.lastUpdateDelta());
+
+        tracker.onDelivered(msg0);
+
+        IgniteUuid msg1 = IgniteUuid.randomUuid();
+
+        assertTrue(tracker.update(localMetrics(ignite), true, msg1).isEmpty());
+        assertTrue(tracker.lastUpdateDelta());
+
+        cache0.put(1, 1);
+
+        IgniteUuid msg2 = IgniteUuid.randomUuid();
+
+        Map<Integer, CacheMetrics> delta = tracker.update(localMetrics(ignite), true, msg2);
+
+        assertTrue(tracker.lastUpdateDelta());
+        assertEquals(1, delta.size());
+        assertTrue(delta.containsKey(CU.cacheId(cacheName(0))));
+
+        // The message with the changed metrics is dropped, the next one is delivered.
+        IgniteUuid msg3 = IgniteUuid.randomUuid();
+
+        assertTrue(tracker.update(localMetrics(ignite), true, msg3).isEmpty());
+
+        tracker.onDelivered(msg1);
+        tracker.onDelivered(msg3);
+
+        assertEquals(2, tracker.update(localMetrics(ignite), true, IgniteUuid.randomUuid()).size());
+        assertFalse(tracker.lastUpdateDelta());
+    }
+
+    /**
+     * @param ignite Node.
+     * @return Snapshots of the local cache metrics of the node.
+     */
+    private static Map<Integer, CacheMetrics> localMetrics(IgniteEx ignite) {
+        Map<Integer, CacheMetrics> res = new HashMap<>();
+
+        for (int i = 0; i < 2; i++)
+            res.put(CU.cacheId(cacheName(i)), ignite.cache(cacheName(i)).localMetrics());
+
+        return res;
+    }
+
+    /**
+     * @param ignite Node to check metrics on.
+     * @param nodeId ID of the node which metrics are checked.
+     * @param cacheIdx Cache index.
+     * @param expPuts Minimal expected number of puts.
+     * @return {@code True} if metrics were received.
+     * @throws Exception If failed.
+     */
+    private boolean waitForPuts(IgniteEx ignite, UUID nodeId, int cacheIdx, long expPuts) throws Exception {
+        return waitForCondition(() -> {
+            CacheMetrics metrics = cacheMetrics(ignite, nodeId).get(CU.cacheId(cacheName(cacheIdx)));
+
+            return metrics != null && metrics.getCachePuts() >= expPuts;
+        }, TIMEOUT);
+    }
+
+    /**
+     * @param ignite Node to check metrics on.
+     * @param nodeId ID of the node which metrics are checked.
+     * @return Cache metrics of the node.
+     */
+    private static Map<Integer, CacheMetrics> cacheMetrics(IgniteEx ignite, UUID nodeId) {
+        return ((TcpDiscoveryNode)ignite.cluster().node(nodeId)).cacheMetrics();
+    }
+
+    /**
+     * @param idx Cache index.
+     * @return Cache name.
+     */
+    private static String cacheName(int idx) {
+        return DEFAULT_CACHE_NAME + idx;
+    }
+}
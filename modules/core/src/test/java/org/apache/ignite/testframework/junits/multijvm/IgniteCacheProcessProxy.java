@@ -17,6 +17,7 @@
 
 package org.apache.ignite.testframework.junits.multijvm;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -396,6 +397,21 @@ public class IgniteCacheProcessProxy<K, V> implements IgniteCache<K, V> {
         return compute.callAsync(new GetAndPutTask<>(cacheName, isAsync, key, val));
     }
 
+    /** {@inheritDoc} */
+    @Override public void putStream(K key, InputStream in) {
+        throw new UnsupportedOperationException("Method should be supported.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public InputStream getStream(K key) {
+        throw new UnsupportedOperationException("Method should be supported.");
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean removeStream(K key) {
+        throw new UnsupportedOperationException("Method should be supported.");
+    }
+
     /** {@inheritDoc} */
     @Override public void putAll(Map<? extends K, ? extends V> map) {
         compute.call(new PutAllTask<>(cacheName, isAsync, map));
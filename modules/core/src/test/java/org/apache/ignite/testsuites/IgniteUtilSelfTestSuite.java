@@ -33,6 +33,7 @@ import org.apache.ignite.internal.util.IgniteExceptionRegistrySelfTest;
 import org.apache.ignite.internal.util.IgniteUtilsSelfTest;
 import org.apache.ignite.internal.util.IgniteUtilsUnitTest;
 import org.apache.ignite.internal.util.lang.GridFuncSelfTest;
+import org.apache.ignite.internal.util.nio.GridNioBufferPoolSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioDelimitedBufferSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioSelfTest;
 import org.apache.ignite.internal.util.nio.GridNioServerTest;
@@ -135,6 +136,7 @@ import org.junit.runners.Suite;
 
     // NIO.
     GridNioSessionMetaKeySelfTest.class,
+    GridNioBufferPoolSelfTest.class,
     GridNioSelfTest.class,
     GridNioServerTest.class,
     GridNioFilterChainSelfTest.class,
@@ -24,6 +24,7 @@ import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetect
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetectionTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockDetectionUnmasrhalErrorsTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxDeadlockOnEntryToStringTest;
+import org.apache.ignite.internal.processors.cache.transactions.TxDeterministicLockOrderTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticDeadlockDetectionCrossCacheTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxOptimisticDeadlockDetectionTest;
 import org.apache.ignite.internal.processors.cache.transactions.TxPessimisticDeadlockDetectionCrossCacheTest;
@@ -46,7 +47,8 @@ import org.junit.runners.Suite;
     TxDeadlockDetectionNoHangsTest.class,
     TxDeadlockDetectionUnmasrhalErrorsTest.class,
     TxDeadlockDetectionMessageMarshallingTest.class,
-    TxDeadlockOnEntryToStringTest.class
+    TxDeadlockOnEntryToStringTest.class,
+    TxDeterministicLockOrderTest.class
 })
 public class TxDeadlockDetectionTestSuite {
 }
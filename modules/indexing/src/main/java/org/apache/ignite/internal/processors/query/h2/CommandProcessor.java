@@ -108,6 +108,10 @@ public class CommandProcessor extends SqlCommandProcessor {
     private static final boolean handleUuidAsByte =
             IgniteSystemProperties.getBoolean(IgniteSystemProperties.IGNITE_SQL_UUID_DDL_BYTE_FORMAT, false);
 
+    /** Number of threads processing records of a batch of COPY command input. */
+    private static final int bulkLoadThreads = IgniteSystemProperties.getInteger(
+        IgniteSystemProperties.IGNITE_BULK_LOAD_THREADS, Runtime.getRuntime().availableProcessors());
+
     /**
      * Constructor.
      *
@@ -663,7 +667,7 @@ public class CommandProcessor extends SqlCommandProcessor {
         BulkLoadParser inputParser = BulkLoadParser.createParser(cmd.inputFormat());
 
         BulkLoadProcessor proc = new BulkLoadProcessor(inputParser, dataConverter, outputWriter,
-            idx.runningQueryManager(), qryId, ctx.tracing());
+            idx.runningQueryManager(), qryId, ctx.tracing(), ctx.pools().getQueryExecutorService(), bulkLoadThreads);
 
         BulkLoadAckClientParameters params = new BulkLoadAckClientParameters(cmd.localFileName(), cmd.packetSize());
 
@@ -21,11 +21,13 @@ import org.apache.ignite.internal.client.thin.AffinityMetricsTest;
 import org.apache.ignite.internal.client.thin.AtomicLongTest;
 import org.apache.ignite.internal.client.thin.CacheAsyncTest;
 import org.apache.ignite.internal.client.thin.CacheEntryListenersTest;
+import org.apache.ignite.internal.client.thin.ClientNearCacheTest;
 import org.apache.ignite.internal.client.thin.ClusterApiTest;
 import org.apache.ignite.internal.client.thin.ClusterGroupClusterRestartTest;
 import org.apache.ignite.internal.client.thin.ClusterGroupTest;
 import org.apache.ignite.internal.client.thin.ComputeTaskTest;
 import org.apache.ignite.internal.client.thin.DataReplicationOperationsTest;
+import org.apache.ignite.internal.client.thin.DataStreamerTest;
 import org.apache.ignite.internal.client.thin.FunctionalTest;
 import org.apache.ignite.internal.client.thin.IgniteSetTest;
 import org.apache.ignite.internal.client.thin.InactiveClusterCacheRequestTest;
@@ -79,6 +81,7 @@ import org.junit.runners.Suite;
     ThinClientPartitionAwarenessBalancingTest.class,
     ReliableChannelTest.class,
     CacheAsyncTest.class,
+    ClientNearCacheTest.class,
     TimeoutTest.class,
     OptimizedMarshallerClassesCachedTest.class,
     AtomicLongTest.class,
@@ -91,7 +94,8 @@ import org.junit.runners.Suite;
     ThinClientEnpointsDiscoveryTest.class,
     InactiveClusterCacheRequestTest.class,
     AffinityMetricsTest.class,
-    ClusterGroupClusterRestartTest.class
+    ClusterGroupClusterRestartTest.class,
+    DataStreamerTest.class
 })
 public class ClientTestSuite {
     // No-op.
@@ -29,6 +29,8 @@ import org.apache.ignite.client.ClientCluster;
 import org.apache.ignite.client.ClientClusterGroup;
 import org.apache.ignite.client.ClientCollectionConfiguration;
 import org.apache.ignite.client.ClientCompute;
+import org.apache.ignite.client.ClientDataStreamer;
+import org.apache.ignite.client.ClientDataStreamerConfiguration;
 import org.apache.ignite.client.ClientException;
 import org.apache.ignite.client.ClientIgniteSet;
 import org.apache.ignite.client.ClientServices;
@@ -248,6 +250,19 @@ public class IgniteClientSpringBean implements IgniteClient, SmartLifecycle {
         return cli.set(name, cfg);
     }
 
+    /** {@inheritDoc} */
+    @Override public <K, V> ClientDataStreamer<K, V> dataStreamer(String cacheName) {
+        return cli.dataStreamer(cacheName);
+    }
+
+    /** {@inheritDoc} */
+    @Override public <K, V> ClientDataStreamer<K, V> dataStreamer(
+        String cacheName,
+        @Nullable ClientDataStreamerConfiguration cfg
+    ) {
+        return cli.dataStreamer(cacheName, cfg);
+    }
+
     /** {@inheritDoc} */
     @Override public void close() {
         cli.close();